@@ -278,6 +278,15 @@ public static final void gluDeleteTess(GLUtessellator tessellator) {
  *   side of the edge the vertex lies on.  Two edges are merged only when both
  *   endpoints are identical.
  * </UL>
+ * <BR><b>GLU_TESS_REUSE_MESH_STORAGE</b>
+ * <UL>
+ *   JOGL-specific boolean value.  When set to GL_TRUE, the vertices, edges and
+ *   faces of the internal mesh are kept after each polygon and reused for the
+ *   following ones, avoiding the allocation of mesh elements when many large
+ *   polygons are tessellated.  The storage is retained until this property is
+ *   set to GL_FALSE or the tessellator is deleted.  The initial value is
+ *   GL_FALSE.
+ * </UL>
  *
  * @param tessellator
  *        Specifies the tessellation object created with
@@ -858,6 +867,53 @@ public static final void gluTessEndPolygon(GLUtessellator tessellator) {
     tess.gluTessEndPolygon();
 }
 
+/*****************************************************************************
+ * <b>gluTessTriangulate</b> is a JOGL-specific bulk variant of a complete
+ * {@link #gluTessBeginPolygon gluTessBeginPolygon} ...
+ * {@link #gluTessEndPolygon gluTessEndPolygon} sequence.  Instead of invoking
+ * the begin, vertex, edge flag and end callbacks per vertex, the vertex indices
+ * of the resulting triangles are written to <i>indices</i>.<P>
+ *
+ * The n-th vertex is defined by the three coordinates starting at position
+ * <i>3*n</i> relative to the current position of <i>coords</i>.  Each element
+ * of <i>contourCounts</i> specifies the number of consecutive vertices of one
+ * contour.  Vertices created at contour intersections are appended to
+ * <i>combinedCoords</i> and receive the indices following the last input
+ * vertex.  If there is no room for them, <b>GLU_TESS_NEED_COMBINE_CALLBACK</b>
+ * is reported through the error callback and no triangles are written.<P>
+ *
+ * The tessellation properties and the error callback apply as usual,
+ * <b>GLU_TESS_BOUNDARY_ONLY</b> is ignored.  In combination with
+ * <b>GLU_TESS_REUSE_MESH_STORAGE</b> repeated calls do not allocate mesh
+ * elements once the tessellator has processed a polygon of similar size.<P>
+ *
+ * Optional, throws GLException if not available in profile
+ *
+ * @param tessellator
+ *        Specifies the tessellation object (created with
+ *        {@link #gluNewTess gluNewTess}).
+ * @param coords
+ *        Specifies the vertex coordinates as x, y, z triples.
+ * @param contourCounts
+ *        Specifies the vertex count of each contour, consumed up to its limit.
+ * @param indices
+ *        Receives three vertex indices per triangle at its current position.
+ * @param combinedCoords
+ *        Receives the coordinates of intersection vertices, may be null.
+ *
+ * @return The number of triangles written to <i>indices</i>, or -1 if
+ *        <i>indices</i> is too small or an error occurred.
+ *
+ * @see #gluTessProperty gluTessProperty
+ * @see #gluTessCallback gluTessCallback
+ ****************************************************************************/
+public static final int gluTessTriangulate(GLUtessellator tessellator, java.nio.DoubleBuffer coords, java.nio.IntBuffer contourCounts,
+                                           java.nio.IntBuffer indices, java.nio.DoubleBuffer combinedCoords) {
+    validateGLUtessellatorImpl();
+    GLUtessellatorImpl tess = (GLUtessellatorImpl) tessellator;
+    return tess.gluTessTriangulate(coords, contourCounts, indices, combinedCoords);
+}
+
 /*****************************************************************************
 
  * <b>gluBeginPolygon</b> and {@link #gluEndPolygon gluEndPolygon}
@@ -1178,6 +1234,8 @@ public static final int GLU_TESS_BOUNDARY_ONLY = 100141;
 public static final int GLU_TESS_TOLERANCE = 100142;
 // JOGL-specific boolean property, false by default, that may improve the tessellation
 public static final int GLU_TESS_AVOID_DEGENERATE_TRIANGLES = 100149;
+// JOGL-specific boolean property, false by default, retaining the mesh storage for subsequent polygons
+public static final int GLU_TESS_REUSE_MESH_STORAGE = 100148;
 
 // TessError
 public static final int GLU_TESS_ERROR1 = 100151;
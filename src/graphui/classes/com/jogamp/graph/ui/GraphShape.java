@@ -115,6 +115,11 @@ public abstract class GraphShape extends Shape {
         return Region.hasColorChannel(renderModes) || Region.hasColorTexture(renderModes);
     }
 
+    @Override
+    int getPendingUploadCount() {
+        return null != region && region.isShapeDirty() ? region.getVertexCount() : 0;
+    }
+
     private final void clearDirtyRegions(final GL2ES2 gl) {
         for(final GLRegion r : dirtyRegions) {
             r.destroy(gl);
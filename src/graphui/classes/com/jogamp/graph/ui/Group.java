@@ -32,6 +32,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import com.jogamp.graph.curve.Region;
 import com.jogamp.graph.curve.opengl.GLRegion;
@@ -211,7 +213,7 @@ public class Group extends Shape implements Container {
         final int shapeCount = shapesS.length;
         for(int i=0; i<shapeCount; i++) {
             final Shape shape = (Shape) shapesS[i];
-            if( shape.isEnabled() ) {
+            if( shape.isEnabled() && !shape.isValidationPending() ) {
                 pmv.glPushMatrix();
                 shape.setTransform(pmv);
 
@@ -234,28 +236,73 @@ public class Group extends Shape implements Container {
         }
     }
 
+    @Override
+    boolean consumeDamage() {
+        boolean r = super.consumeDamage();
+        if( null != border ) {
+            r = border.consumeDamage() || r;
+        }
+        for(int i=0; i<shapes.size(); ++i) {
+            r = shapes.get(i).consumeDamage() || r;
+        }
+        return r;
+    }
+
+    @Override
+    int getPendingUploadCount() {
+        int count = null != border ? border.getPendingUploadCount() : 0;
+        for(int i=0; i<shapes.size(); ++i) {
+            count += shapes.get(i).getPendingUploadCount();
+        }
+        return count;
+    }
+
+    /**
+     * Validates all {@link #getShapes() shapes} of this group.
+     * <p>
+     * If validating w/o a current {@link GL2ES2} object from within a {@link java.util.concurrent.ForkJoinPool},
+     * e.g. via {@link Scene#setValidationPool(java.util.concurrent.ForkJoinPool)},
+     * the shapes are validated in parallel.
+     * </p>
+     */
+    private void validateShapes(final GLProfile glp, final GL2ES2 gl) {
+        final int shapeCount = shapes.size();
+        if( null == gl && 1 < shapeCount && ForkJoinTask.inForkJoinPool() ) {
+            final List<RecursiveAction> tasks = new ArrayList<RecursiveAction>(shapeCount);
+            for(int i=0; i<shapeCount; ++i) {
+                final Shape s = shapes.get(i);
+                tasks.add(new RecursiveAction() {
+                    private static final long serialVersionUID = 1L;
+                    @Override
+                    protected void compute() {
+                        s.validate(glp);
+                    }
+                });
+            }
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            for(int i=0; i<shapeCount; ++i) {
+                final Shape s = shapes.get(i);
+                if( null != gl ) {
+                    s.validate(gl);
+                } else {
+                    s.validate(glp);
+                }
+            }
+        }
+    }
+
     @Override
     protected void validateImpl(final GLProfile glp, final GL2ES2 gl) {
         if( isShapeDirty() ) {
             // box has been reset
             final PMVMatrix pmv = new PMVMatrix();
+            validateShapes(glp, gl);
             if( null != layouter ) {
-                for(final Shape s : shapes) {
-                    if( null != gl ) {
-                        s.validate(gl);
-                    } else {
-                        s.validate(glp);
-                    }
-                }
                 layouter.layout(this, box, pmv);
             } else {
                 final AABBox tsbox = new AABBox();
                 for(final Shape s : shapes) {
-                    if( null != gl ) {
-                        s.validate(gl);
-                    } else {
-                        s.validate(glp);
-                    }
                     pmv.glPushMatrix();
                     s.setTransform(pmv);
                     s.getBounds().transformMv(pmv, tsbox);
@@ -35,12 +35,15 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.jogamp.opengl.FPSCounter;
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES2;
 import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLCapabilitiesImmutable;
+import com.jogamp.opengl.GLDrawable;
 import com.jogamp.opengl.GLEventListener;
 import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLProfile;
@@ -133,6 +136,25 @@ public final class Scene implements Container, GLEventListener {
 
     private GLAutoDrawable cDrawable = null;
 
+    private ForkJoinPool validationPool = null;
+    /** First failure of an asynchronous validation, rethrown on the GL thread */
+    private final AtomicReference<Throwable> validationError = new AtomicReference<Throwable>();
+    private int uploadBudget = 0;
+    private Shape pendingPlaceholder = null;
+    private int lastPendingCount = 0;
+    private int lastDeferredCount = 0;
+
+    private boolean renderOnDemand = false;
+    private boolean swapPreservesBuffer = false;
+    private boolean fullDamage = true;
+    private final AABBox damageBox = new AABBox();
+    private final AABBox prevDamageBox = new AABBox();
+    private final AABBox redrawBox = new AABBox();
+    private final Recti redrawRect = new Recti();
+    private long skippedFrameCount = 0;
+    private long redrawnFrameCount = 0;
+    private long redrawnPixelCount = 0;
+
     private static RegionRenderer createRenderer() {
         return RegionRenderer.create(RegionRenderer.defaultBlendEnable, RegionRenderer.defaultBlendDisable);
     }
@@ -175,7 +197,7 @@ public final class Scene implements Container, GLEventListener {
      * @param clearColor {@link GL#glClearColor(float, float, float, float) glClearColor(..)} arguments
      * @param clearMask {@link GL#glClear(int) glClear(..)} mask, default is {@link GL#GL_COLOR_BUFFER_BIT} | {@link GL#GL_DEPTH_BUFFER_BIT}
      */
-    public final void setClearParams(final float[] clearColor, final int clearMask) { this.clearColor = clearColor; this.clearMask = clearMask; }
+    public final void setClearParams(final float[] clearColor, final int clearMask) { this.clearColor = clearColor; this.clearMask = clearMask; fullDamage = true; }
 
     /** Returns the {@link GL#glClearColor(float, float, float, float) glClearColor(..)} arguments, see {@link #setClearParams(float[], int)}. */
     public final float[] getClearColor() { return clearColor; }
@@ -223,16 +245,19 @@ public final class Scene implements Container, GLEventListener {
     @Override
     public Shape removeShape(final Shape s) {
         s.setBorder(0f);
+        fullDamage = true;
         return shapes.remove(s) ? s : null;
     }
     @Override
     public Shape removeShape(final int idx) {
+        fullDamage = true;
         return shapes.remove(idx);
     }
 
     /** Removes given shape and destroy it. */
     public void removeShape(final GL2ES2 gl, final Shape s) {
         s.setBorder(0f);
+        fullDamage = true;
         shapes.remove(s);
         s.destroy(gl, renderer);
     }
@@ -256,6 +281,7 @@ public final class Scene implements Container, GLEventListener {
     }
     @Override
     public void removeAllShapes() {
+        fullDamage = true;
         shapes.clear();
     }
     /** Removes all given shapes and destroys them. */
@@ -325,9 +351,241 @@ public final class Scene implements Container, GLEventListener {
         }
     }
 
+    /**
+     * Sets the {@link ForkJoinPool} used to validate dirty {@link Shape}s off the GL thread, default is `null`.
+     * <p>
+     * If not `null`, {@link #display(GLAutoDrawable)} schedules {@link Shape#validate(GLProfile)}
+     * of all dirty top-level shapes on the given pool, building their outlines, triangulation and vertex data on the CPU.
+     * {@link Group}s validate their children in parallel within the pool.
+     * Text shapes sharing a {@link com.jogamp.graph.font.Font}, e.g. {@link com.jogamp.graph.ui.shapes.Label}s,
+     * serialize their validation on the font, as its glyph shapes are shared.
+     * The GL thread only uploads the finished buffers at {@link Shape#draw(GL2ES2, RegionRenderer, int[]) draw(..)},
+     * limited by the {@link #setUploadBudget(int) upload budget}.
+     * </p>
+     * <p>
+     * Shapes whose validation is {@link Shape#isValidationPending() pending} are skipped
+     * or represented by the optional {@link #setPendingPlaceholder(Shape) placeholder}.
+     * </p>
+     * <p>
+     * An exception thrown by an asynchronous validation is rethrown on the GL thread
+     * with the next {@link #display(GLAutoDrawable)} as a {@link GLException}.
+     * </p>
+     * <p>
+     * If `null`, all shapes are validated on the GL thread at {@link Shape#draw(GL2ES2, RegionRenderer, int[]) draw(..)}.
+     * </p>
+     * @param pool the {@link ForkJoinPool} to use, e.g. {@link ForkJoinPool#commonPool()}, or `null` to disable
+     */
+    public final void setValidationPool(final ForkJoinPool pool) { validationPool = pool; }
+
+    /** Returns the {@link ForkJoinPool} used to validate shapes off the GL thread, may be `null`. See {@link #setValidationPool(ForkJoinPool)}. */
+    public final ForkJoinPool getValidationPool() { return validationPool; }
+
+    /**
+     * Sets the maximum number of vertices uploaded to the GPU per {@link #display(GLAutoDrawable)} frame, default is zero for no limit.
+     * <p>
+     * Shapes exceeding the budget are not drawn and their upload is deferred to the next frame.
+     * At least one shape is uploaded each frame.
+     * </p>
+     * @param vertexCount maximum number of vertices to upload per frame, zero for no limit
+     * @see #getDeferredUploadCount()
+     */
+    public final void setUploadBudget(final int vertexCount) { uploadBudget = Math.max(0, vertexCount); }
+
+    /** Returns the per-frame upload budget in vertices, zero for no limit. See {@link #setUploadBudget(int)}. */
+    public final int getUploadBudget() { return uploadBudget; }
+
+    /**
+     * Sets an optional {@link Shape} drawn in place of shapes whose asynchronous validation is {@link Shape#isValidationPending() pending},
+     * using the pending shape's transformation. Default is `null`, i.e. pending shapes are skipped.
+     * <p>
+     * The placeholder is validated on the GL thread and destroyed with this scene.
+     * </p>
+     */
+    public final void setPendingPlaceholder(final Shape s) { pendingPlaceholder = s; }
+
+    /** Returns the optional placeholder {@link Shape} for pending shapes, may be `null`. See {@link #setPendingPlaceholder(Shape)}. */
+    public final Shape getPendingPlaceholder() { return pendingPlaceholder; }
+
+    /** Returns the number of shapes skipped during the last {@link #display(GLAutoDrawable)} frame due to their {@link Shape#isValidationPending() pending} validation. */
+    public final int getPendingShapeCount() { return lastPendingCount; }
+
+    /** Returns the number of shapes deferred during the last {@link #display(GLAutoDrawable)} frame due to the exhausted {@link #setUploadBudget(int) upload budget}. */
+    public final int getDeferredUploadCount() { return lastDeferredCount; }
+
+    /**
+     * Enables or disables render-on-demand mode, default is disabled.
+     * <p>
+     * In render-on-demand mode {@link #display(GLAutoDrawable)} only redraws the window region damaged since the last frame,
+     * using a scissor rectangle and only drawing the shapes intersecting it.
+     * If nothing has been damaged, the frame is skipped entirely.
+     * </p>
+     * <p>
+     * A {@link Shape} is damaged by its state setter, {@link Shape#markShapeDirty()}, {@link Shape#markStateDirty()},
+     * {@link Shape#markDamaged()} and by input events dispatched to it.
+     * Its previous and current window bounds are added to the damage region.
+     * Adding and removing shapes, {@link #reshape(GLAutoDrawable, int, int, int, int) reshape}
+     * or changing the {@link #setClearParams(float[], int) clear parameter} damages the whole viewport.
+     * </p>
+     * <p>
+     * The region redrawn is the union of the current and the previous frame's damage,
+     * allowing double-buffered drawables to swap buffers while skipping or partially redrawing frames.
+     * This requires the swap to preserve the buffer content, i.e. to not leave the back buffer undefined,
+     * see {@link #isPartialRedrawAvailable(GLDrawable)}. Otherwise each frame is fully redrawn.
+     * </p>
+     * <p>
+     * User shall not modify the framebuffer outside of this scene's display while enabled.
+     * </p>
+     * @see #getSkippedFrameCount()
+     * @see #getRedrawnPixelCount()
+     */
+    public final void setRenderOnDemand(final boolean v) {
+        renderOnDemand = v;
+        fullDamage = true;
+    }
+
+    /** Returns true if render-on-demand mode is enabled, see {@link #setRenderOnDemand(boolean)}. */
+    public final boolean isRenderOnDemand() { return renderOnDemand; }
+
+    /**
+     * Declares whether the buffer swap of a double-buffered drawable preserves the color buffer content,
+     * e.g. by exchanging the buffers or via <code>EGL_BUFFER_PRESERVED</code> swap behavior. Default is false.
+     * <p>
+     * Swap behavior is not queryable in general, hence the user shall only enable this if known to hold for the used platform.
+     * </p>
+     * @see #isPartialRedrawAvailable(GLDrawable)
+     */
+    public final void setSwapPreservesBuffer(final boolean v) {
+        swapPreservesBuffer = v;
+        fullDamage = true;
+    }
+
+    /** Returns true if the buffer swap is declared to preserve the color buffer content, see {@link #setSwapPreservesBuffer(boolean)}. */
+    public final boolean getSwapPreservesBuffer() { return swapPreservesBuffer; }
+
+    /**
+     * Returns true if the given drawable allows {@link #setRenderOnDemand(boolean) render-on-demand} mode
+     * to skip frames and redraw damaged regions only,
+     * i.e. if it is single-buffered or its buffer swap {@link #setSwapPreservesBuffer(boolean) preserves the buffer content}.
+     * Otherwise frames are fully redrawn.
+     */
+    public final boolean isPartialRedrawAvailable(final GLDrawable drawable) {
+        return swapPreservesBuffer || !drawable.getChosenGLCapabilities().getDoubleBuffered();
+    }
+
+    /** Damages the whole viewport, causing a full redraw with the next frame in {@link #setRenderOnDemand(boolean) render-on-demand} mode. */
+    public final void markAllDamaged() { fullDamage = true; }
+
+    /** Returns the number of frames skipped in {@link #setRenderOnDemand(boolean) render-on-demand} mode since the last {@link #resetDamageCounter()}. */
+    public final long getSkippedFrameCount() { return skippedFrameCount; }
+
+    /** Returns the number of frames fully or partially redrawn in {@link #setRenderOnDemand(boolean) render-on-demand} mode since the last {@link #resetDamageCounter()}. */
+    public final long getRedrawnFrameCount() { return redrawnFrameCount; }
+
+    /** Returns the number of pixels redrawn, i.e. the accumulated area of all redrawn scissor rectangles, in {@link #setRenderOnDemand(boolean) render-on-demand} mode since the last {@link #resetDamageCounter()}. */
+    public final long getRedrawnPixelCount() { return redrawnPixelCount; }
+
+    /** Resets the {@link #getSkippedFrameCount()}, {@link #getRedrawnFrameCount()} and {@link #getRedrawnPixelCount()} counter. */
+    public final void resetDamageCounter() {
+        skippedFrameCount = 0;
+        redrawnFrameCount = 0;
+        redrawnPixelCount = 0;
+    }
+
+    /**
+     * Collects the window-space damage of all given shapes, updating their last drawn window bounds.
+     * <p>
+     * The resulting {@link #redrawRect} covers the union of this and the previous frame's damage, clipped to the viewport.
+     * </p>
+     * @return true if a region has to be redrawn, otherwise false
+     */
+    private boolean collectDamage(final GL2ES2 gl, final Object[] shapes, final PMVMatrix pmv, final Recti viewport) {
+        final boolean full = fullDamage;
+        fullDamage = false;
+        damageBox.reset();
+        for(int i=0; i<shapes.length; i++) {
+            final Shape shape = (Shape)shapes[i];
+            if( shape.isValidationPending() ) {
+                continue; // damaged once validated
+            }
+            if( !shape.consumeDamage() && !full ) {
+                continue;
+            }
+            if( !isEmpty(shape.drawnWinBox) ) {
+                damageBox.resize(shape.drawnWinBox);
+            }
+            if( shape.isEnabled() ) {
+                shape.validate(gl);
+                pmv.glPushMatrix();
+                shape.setTransform(pmv);
+                shape.getBounds().mapToWindow(shape.drawnWinBox, pmv.getPMvMat(), viewport, false);
+                pmv.glPopMatrix();
+                damageBox.resize(shape.drawnWinBox);
+            } else {
+                shape.drawnWinBox.reset();
+            }
+        }
+        if( full ) {
+            damageBox.resize(viewport.x(), viewport.y(), 0f);
+            damageBox.resize(viewport.x() + viewport.width(), viewport.y() + viewport.height(), 0f);
+        }
+        // redraw the union of this and the previous frame's damage
+        final boolean hasDamage = !isEmpty(damageBox);
+        final boolean hasPrevDamage = !isEmpty(prevDamageBox);
+        redrawBox.reset();
+        if( hasDamage ) {
+            redrawBox.resize(damageBox);
+        }
+        if( hasPrevDamage ) {
+            redrawBox.resize(prevDamageBox);
+        }
+        prevDamageBox.reset();
+        if( hasDamage ) {
+            prevDamageBox.resize(damageBox);
+        }
+        if( !hasDamage && !hasPrevDamage ) {
+            return false;
+        }
+        final int x0 = Math.max(viewport.x(), (int)Math.floor(redrawBox.getMinX()));
+        final int y0 = Math.max(viewport.y(), (int)Math.floor(redrawBox.getMinY()));
+        final int x1 = Math.min(viewport.x() + viewport.width(), (int)Math.ceil(redrawBox.getMaxX()));
+        final int y1 = Math.min(viewport.y() + viewport.height(), (int)Math.ceil(redrawBox.getMaxY()));
+        if( x1 <= x0 || y1 <= y0 ) {
+            return false;
+        }
+        redrawRect.set(x0, y0, x1 - x0, y1 - y0);
+        return true;
+    }
+
+    private static boolean isEmpty(final AABBox box) {
+        return box.getMinX() > box.getMaxX() || box.getMinY() > box.getMaxY();
+    }
+
+    private void scheduleValidation(final GLProfile glp, final Object[] shapes) {
+        final ForkJoinPool pool = validationPool;
+        for(int i=0; i<shapes.length; i++) {
+            final Shape shape = (Shape)shapes[i];
+            if( shape.isEnabled() && shape.setValidationPending() ) {
+                pool.execute( () -> {
+                    try {
+                        shape.validate(glp);
+                    } catch(final Throwable t) {
+                        if( DEBUG ) {
+                            System.err.println("Caught exception while validating "+shape);
+                            t.printStackTrace();
+                        }
+                        validationError.compareAndSet(null, t);
+                    } finally {
+                        shape.clearValidationPending();
+                    }
+                } );
+            }
+        }
+    }
+
     @Override
     public void init(final GLAutoDrawable drawable) {
         cDrawable = drawable;
+        fullDamage = true;
         renderer.init(drawable.getGL().getGL2ES2());
     }
 
@@ -345,6 +603,7 @@ public final class Scene implements Container, GLEventListener {
     @Override
     public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) {
         renderer.reshapeNotify(x, y, width, height);
+        fullDamage = true;
 
         setupMatrix(renderer.getMatrix(), renderer.getViewport());
         pmvMatrixSetup.setPlaneBox(planeBox, renderer.getMatrix(), renderer.getViewport());
@@ -364,6 +623,45 @@ public final class Scene implements Container, GLEventListener {
     private void display(final GLAutoDrawable drawable, final Object[] shapes, final boolean glSelect) {
         final GL2ES2 gl = drawable.getGL().getGL2ES2();
 
+        final PMVMatrix pmv = renderer.getMatrix();
+        pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+
+        if( !glSelect && null != validationPool ) {
+            final Throwable t = validationError.getAndSet(null);
+            if( null != t ) {
+                throw new GLException("Asynchronous shape validation failed", t);
+            }
+            scheduleValidation(gl.getGLProfile(), shapes);
+        }
+        final boolean scissor;
+        if( glSelect ) {
+            fullDamage = true; // back buffer content destroyed
+            scissor = false;
+        } else if( renderOnDemand && isPartialRedrawAvailable(drawable) ) {
+            final Recti viewport = renderer.getViewport();
+            if( !collectDamage(gl, shapes, pmv, viewport) ) {
+                ++skippedFrameCount;
+                notifyDisplayedOnce();
+                return;
+            }
+            ++redrawnFrameCount;
+            redrawnPixelCount += (long)redrawRect.width() * (long)redrawRect.height();
+            scissor = !redrawRect.isEqual(viewport);
+            if( scissor ) {
+                gl.glEnable(GL.GL_SCISSOR_TEST);
+                gl.glScissor(redrawRect.x(), redrawRect.y(), redrawRect.width(), redrawRect.height());
+            }
+        } else {
+            if( renderOnDemand ) {
+                // back buffer content undefined after swap: full redraw
+                final Recti viewport = renderer.getViewport();
+                ++redrawnFrameCount;
+                redrawnPixelCount += (long)viewport.width() * (long)viewport.height();
+                fullDamage = true;
+            }
+            scissor = false;
+        }
+
         final int[] sampleCount0;
         if( glSelect ) {
             gl.glClearColor(0f, 0f, 0f, 1f);
@@ -377,15 +675,14 @@ public final class Scene implements Container, GLEventListener {
             sampleCount0 = sampleCount;
         }
 
-        final PMVMatrix pmv = renderer.getMatrix();
-        pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
-
         if( glSelect ) {
             renderer.enable(gl, true, RegionRenderer.defaultBlendDisable, RegionRenderer.defaultBlendDisable);
         } else {
             renderer.enable(gl, true);
         }
 
+        int pendingCount = 0, deferredCount = 0, uploadCount = 0;
+
         //final int shapeCount = shapes.size();
         final int shapeCount = shapes.length;
         for(int i=0; i<shapeCount; i++) {
@@ -393,8 +690,36 @@ public final class Scene implements Container, GLEventListener {
             final Shape shape = (Shape)shapes[i];
             // System.err.println("Id "+i+": "+uiShape);
             if( shape.isEnabled() ) {
+                if( shape.isValidationPending() ) {
+                    ++pendingCount;
+                    if( !glSelect && null != pendingPlaceholder ) {
+                        pmv.glPushMatrix();
+                        shape.setTransform(pmv);
+                        pendingPlaceholder.draw(gl, renderer, sampleCount0);
+                        pmv.glPopMatrix();
+                    }
+                    continue;
+                }
                 pmv.glPushMatrix();
                 shape.setTransform(pmv);
+                if( scissor ) {
+                    // refresh window bounds of non damaged shapes as well, they are only collected for damaged ones
+                    shape.getBounds().mapToWindow(shape.drawnWinBox, pmv.getPMvMat(), renderer.getViewport(), false);
+                    if( !shape.drawnWinBox.intersects2DRegion(redrawRect.x(), redrawRect.y(), redrawRect.width(), redrawRect.height()) ) {
+                        pmv.glPopMatrix();
+                        continue;
+                    }
+                }
+                if( !glSelect && 0 < uploadBudget ) {
+                    final int shapeUploadCount = shape.getPendingUploadCount();
+                    if( 0 < shapeUploadCount && 0 < uploadCount && uploadBudget < uploadCount + shapeUploadCount ) {
+                        ++deferredCount;
+                        shape.markDamaged(); // redraw with next frame
+                        pmv.glPopMatrix();
+                        continue;
+                    }
+                    uploadCount += shapeUploadCount;
+                }
 
                 if( !doFrustumCulling || !pmv.getFrustum().isAABBoxOutside( shape.getBounds() ) ) {
                     if( glSelect ) {
@@ -410,11 +735,22 @@ public final class Scene implements Container, GLEventListener {
                 pmv.glPopMatrix();
             }
         }
+        if( !glSelect ) {
+            lastPendingCount = pendingCount;
+            lastDeferredCount = deferredCount;
+        }
         if( glSelect ) {
             renderer.enable(gl, false, RegionRenderer.defaultBlendDisable, RegionRenderer.defaultBlendDisable);
         } else {
             renderer.enable(gl, false);
         }
+        if( scissor ) {
+            gl.glDisable(GL.GL_SCISSOR_TEST);
+        }
+        notifyDisplayedOnce();
+    }
+
+    private void notifyDisplayedOnce() {
         synchronized ( syncDisplayedOnce ) {
             displayedOnce = true;
             syncDisplayedOnce.notifyAll();
@@ -460,6 +796,9 @@ public final class Scene implements Container, GLEventListener {
             shapes.get(i).destroy(gl, renderer);
         }
         shapes.clear();
+        if( null != pendingPlaceholder ) {
+            pendingPlaceholder.destroy(gl, renderer);
+        }
         cDrawable = null;
         renderer.destroy(gl);
         screenshot.dispose(gl);
@@ -736,7 +1075,7 @@ public final class Scene implements Container, GLEventListener {
     public final PMVMatrixSetup getPMVMatrixSetup() { return pmvMatrixSetup; }
 
     /** Set a custom {@link PMVMatrixSetup}. */
-    public final void setPMVMatrixSetup(final PMVMatrixSetup setup) { pmvMatrixSetup = setup; }
+    public final void setPMVMatrixSetup(final PMVMatrixSetup setup) { pmvMatrixSetup = setup; fullDamage = true; }
 
     /** Return the default {@link PMVMatrixSetup}. */
     public static PMVMatrixSetup getDefaultPMVMatrixSetup() { return defaultPMVMatrixSetup; }
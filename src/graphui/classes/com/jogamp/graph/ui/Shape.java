@@ -134,6 +134,10 @@ public abstract class Shape {
 
     private volatile int dirty = DIRTY_SHAPE | DIRTY_STATE;
     private final Object dirtySync = new Object();
+    private volatile boolean validationPending = false;
+    private volatile boolean damaged = true;
+    /** Window-space bounds as last drawn by {@link Scene} in {@link Scene#setRenderOnDemand(boolean) render-on-demand} mode. */
+    /* pp */ final AABBox drawnWinBox = new AABBox();
 
     /** Default base-color w/o color channel, will be modulated w/ pressed- and toggle color */
     protected final Vec4f rgbaColor             = new Vec4f(0.60f, 0.60f, 0.60f, 1.0f);
@@ -178,7 +182,7 @@ public abstract class Shape {
     /** Returns true if this shape is enabled and hence visible, otherwise false. */
     public final boolean isEnabled() { return enabled; }
     /** Enable or disable this shape, i.e. its visibility. */
-    public final Shape setEnabled(final boolean v) { enabled = v; return this; }
+    public final Shape setEnabled(final boolean v) { enabled = v; damaged = true; return this; }
 
     /**
      * Sets the padding for this shape, which is included in {@link #getBounds()B} and also includes the border. Default is zero.
@@ -274,6 +278,7 @@ public abstract class Shape {
     /** Move to scaled position. Position ends up in PMVMatrix unmodified. */
     public final Shape moveTo(final float tx, final float ty, final float tz) {
         position.set(tx, ty, tz);
+        damaged = true;
         if( null != onMoveListener ) {
             onMoveListener.run(this);
         }
@@ -283,6 +288,7 @@ public abstract class Shape {
     /** Move to scaled position. Position ends up in PMVMatrix unmodified. */
     public final Shape moveTo(final Vec3f t) {
         position.set(t);
+        damaged = true;
         if( null != onMoveListener ) {
             onMoveListener.run(this);
         }
@@ -292,6 +298,7 @@ public abstract class Shape {
     /** Move about scaled distance. Position ends up in PMVMatrix unmodified. */
     public final Shape move(final float dtx, final float dty, final float dtz) {
         position.add(dtx, dty, dtz);
+        damaged = true;
         if( null != onMoveListener ) {
             onMoveListener.run(this);
         }
@@ -301,6 +308,7 @@ public abstract class Shape {
     /** Move about scaled distance. Position ends up in PMVMatrix unmodified. */
     public final Shape move(final Vec3f dt) {
         position.add(dt);
+        damaged = true;
         if( null != onMoveListener ) {
             onMoveListener.run(this);
         }
@@ -320,6 +328,7 @@ public abstract class Shape {
      */
     public final Shape setRotationPivot(final float px, final float py, final float pz) {
         rotPivot = new Vec3f(px, py, pz);
+        damaged = true;
         return this;
     }
     /**
@@ -329,6 +338,7 @@ public abstract class Shape {
      */
     public final Shape setRotationPivot(final Vec3f pivot) {
         rotPivot = new Vec3f(pivot);
+        damaged = true;
         return this;
     }
 
@@ -339,6 +349,7 @@ public abstract class Shape {
      */
     public final Shape setScale(final float sx, final float sy, final float sz) {
         scale.set(sx, sy, sz);
+        damaged = true;
         return this;
     }
     /**
@@ -348,6 +359,7 @@ public abstract class Shape {
      */
     public final Shape scale(final float sx, final float sy, final float sz) {
         scale.scale(sx, sy, sz);
+        damaged = true;
         return this;
     }
     /**
@@ -364,6 +376,7 @@ public abstract class Shape {
     public final void markShapeDirty() {
         synchronized ( dirtySync ) {
             dirty |= DIRTY_SHAPE;
+            damaged = true;
         }
     }
 
@@ -374,6 +387,7 @@ public abstract class Shape {
     public final void markStateDirty() {
         synchronized ( dirtySync ) {
             dirty |= DIRTY_STATE;
+            damaged = true;
         }
     }
 
@@ -384,6 +398,72 @@ public abstract class Shape {
         return 0 != ( dirty & DIRTY_STATE ) ;
     }
 
+    /**
+     * Marks this shape damaged, causing {@link Scene} in {@link Scene#setRenderOnDemand(boolean) render-on-demand} mode
+     * to redraw this shape's window region with the next frame.
+     * <p>
+     * All state setter of this class, {@link #markShapeDirty()}, {@link #markStateDirty()} and dispatched input events
+     * mark the shape damaged. User shall call this method after modifying state directly,
+     * e.g. the {@link Quaternion} returned by {@link #getRotation()}.
+     * </p>
+     * @return this shape for chaining
+     */
+    public final Shape markDamaged() {
+        damaged = true;
+        return this;
+    }
+
+    /**
+     * Returns true if this shape has been {@link #markDamaged() damaged} since the last call and clears the state.
+     * <p>
+     * Called by {@link Scene} before drawing, hence damages caused while drawing, e.g. by animated shapes, are kept for the next frame.
+     * </p>
+     */
+    /* pp */ boolean consumeDamage() {
+        final boolean r = damaged;
+        damaged = false;
+        return r;
+    }
+
+    /**
+     * Returns true if an asynchronous {@link #validate(GLProfile)} of this shape
+     * has been scheduled off the GL thread and is not yet completed.
+     * <p>
+     * While pending, {@link Scene} and {@link Group} skip drawing this shape
+     * to not block the GL thread on the shape's validation lock.
+     * </p>
+     * @see Scene#setValidationPool(java.util.concurrent.ForkJoinPool)
+     */
+    public final boolean isValidationPending() { return validationPending; }
+
+    /**
+     * Marks this shape's asynchronous validation pending, see {@link #isValidationPending()}.
+     * @return true if this shape is dirty and was not pending before, i.e. the caller shall schedule {@link #validate(GLProfile)}.
+     */
+    final boolean setValidationPending() {
+        synchronized ( dirtySync ) {
+            if( validationPending || !isShapeDirty() ) {
+                return false;
+            }
+            validationPending = true;
+            return true;
+        }
+    }
+
+    /** Clears the {@link #isValidationPending()} state, called after the asynchronous {@link #validate(GLProfile)} completed. */
+    final void clearValidationPending() {
+        validationPending = false;
+    }
+
+    /**
+     * Returns the number of vertices validated on the CPU but not yet uploaded to the GPU,
+     * i.e. the amount of work the GL thread performs with the next {@link #draw(GL2ES2, RegionRenderer, int[]) draw(..)}.
+     * <p>
+     * Used by {@link Scene} to enforce its per-frame {@link Scene#setUploadBudget(int) upload budget}.
+     * </p>
+     */
+    int getPendingUploadCount() { return 0; }
+
     /**
      * Returns the unscaled bounding {@link AABBox} for this shape, borrowing internal instance.
      *
@@ -848,6 +928,7 @@ public abstract class Shape {
      */
     public final Shape setColor(final float r, final float g, final float b, final float a) {
         this.rgbaColor.set(r, g, b, a);
+        damaged = true;
         return this;
     }
 
@@ -859,6 +940,7 @@ public abstract class Shape {
      */
     public final Shape setColor(final Vec4f c) {
         this.rgbaColor.set(c);
+        damaged = true;
         return this;
     }
 
@@ -870,6 +952,7 @@ public abstract class Shape {
      */
     public final Shape setPressedColorMod(final float r, final float g, final float b, final float a) {
         this.pressedRGBAModulate.set(r, g, b, a);
+        damaged = true;
         return this;
     }
 
@@ -881,6 +964,7 @@ public abstract class Shape {
      */
     public final Shape setToggleOnColorMod(final float r, final float g, final float b, final float a) {
         this.toggleOnRGBAModulate.set(r, g, b, a);
+        damaged = true;
         return this;
     }
 
@@ -892,6 +976,7 @@ public abstract class Shape {
      */
     public final Shape setToggleOffColorMod(final float r, final float g, final float b, final float a) {
         this.toggleOffRGBAModulate.set(r, g, b, a);
+        damaged = true;
         return this;
     }
 
@@ -900,12 +985,14 @@ public abstract class Shape {
     /** Set border color. */
     public final Shape setBorderColor(final float r, final float g, final float b, final float a) {
         this.borderColor.set(r, g, b, a);
+        damaged = true;
         return this;
     }
 
     /** Set border color. */
     public final Shape setBorderColor(final Vec4f c) {
         this.borderColor.set(c);
+        damaged = true;
         return this;
     }
 
@@ -1151,6 +1238,7 @@ public abstract class Shape {
      * @param objPos object position of mouse event relative to this shape
      */
     /* pp */ final void dispatchMouseEvent(final MouseEvent e, final int glWinX, final int glWinY, final Vec3f objPos) {
+        damaged = true; // input may change any state, e.g. rotation
         final Shape.EventInfo shapeEvent = new EventInfo(glWinX, glWinY, this, objPos);
 
         final short eventType = e.getEventType();
@@ -1317,6 +1405,7 @@ public abstract class Shape {
      * @param objPos object position of mouse event relative to this shape
      */
     /* pp */ final void dispatchGestureEvent(final GestureEvent e, final int glWinX, final int glWinY, final PMVMatrix pmv, final Recti viewport, final Vec3f objPos) {
+        damaged = true; // input may change any state, e.g. scale
         if( interactive && resizable && e instanceof PinchToZoomGesture.ZoomEvent ) {
             final PinchToZoomGesture.ZoomEvent ze = (PinchToZoomGesture.ZoomEvent) e;
             final float pixels = ze.getDelta() * ze.getScale(); //
@@ -180,8 +180,21 @@ public class GlyphShape extends GraphShape {
         return font.processString(fgv, null, text, new AffineTransform(), new AffineTransform());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Synchronized on the {@link Font}, since the glyph's shared {@link OutlineShape} is triangulated lazily,
+     * see {@link Label#addShapeToRegion(GLProfile, GL2ES2)}.
+     * </p>
+     */
     @Override
     protected void addShapeToRegion(final GLProfile glp, final GL2ES2 gl) {
+        synchronized( glyph.getFont() ) {
+            addGlyphToRegion(glp, gl);
+        }
+    }
+
+    private void addGlyphToRegion(final GLProfile glp, final GL2ES2 gl) {
         final OutlineShape shape = glyph.getShape();
         box.reset();
         if( null != shape ) {
@@ -202,17 +202,26 @@ public class Label extends GraphShape {
         }
     };
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Synchronized on the {@link Font}, since its shared glyph {@link OutlineShape}s are triangulated lazily,
+     * e.g. while shapes are validated in parallel via {@link com.jogamp.graph.ui.Scene#setValidationPool(java.util.concurrent.ForkJoinPool)}.
+     * </p>
+     */
     @Override
     protected void addShapeToRegion(final GLProfile glp, final GL2ES2 gl) {
-        final int[] vertIndCount = TextRegionUtil.countStringRegion(font, text, new int[2]);
-        resetGLRegion(glp, gl, null, vertIndCount[0], vertIndCount[1]);
-
-        AABBox fbox = font.getGlyphBounds(text, tempT2, tempT3);
-        tempT1.setToScale(fontScale, fontScale);
-        tempT1.translate(-fbox.getMinX(), -fbox.getMinY(), tempT2); // enforce bottom-left origin @ 0/0 for good drag-zoom experience
-        fbox = font.processString(glyphVisitor, tempT1, text, tempT2, tempT3);
-        setRotationPivot( fbox.getCenter() );
-        box.copy(fbox);
+        synchronized( font ) {
+            final int[] vertIndCount = TextRegionUtil.countStringRegion(font, text, new int[2]);
+            resetGLRegion(glp, gl, null, vertIndCount[0], vertIndCount[1]);
+
+            AABBox fbox = font.getGlyphBounds(text, tempT2, tempT3);
+            tempT1.setToScale(fontScale, fontScale);
+            tempT1.translate(-fbox.getMinX(), -fbox.getMinY(), tempT2); // enforce bottom-left origin @ 0/0 for good drag-zoom experience
+            fbox = font.processString(glyphVisitor, tempT1, text, tempT2, tempT3);
+            setRotationPivot( fbox.getCenter() );
+            box.copy(fbox);
+        }
     }
 
     @Override
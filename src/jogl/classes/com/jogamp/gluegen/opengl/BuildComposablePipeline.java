@@ -85,6 +85,18 @@ public class BuildComposablePipeline {
      * <p>Default: false</p>
      */
     public static final int GEN_GL_IDENTITY_BY_ASSIGNABLE_CLASS = 1 << 4;
+    /**
+     * Generates the <code>ProfileGL*</code> pipeline, counting calls per entry point,
+     * upload bytes, draw calls and state binds into a <code>com.jogamp.opengl.GLCallCounters</code> instance.
+     * <p>Default: true</p>
+     */
+    public static final int GEN_PROFILE = 1 << 5;
+    /**
+     * Generates the <code>StateCacheGL*</code> pipeline, dropping calls setting already current state
+     * shadowed by a <code>com.jogamp.opengl.GLStateCache</code> instance.
+     * <p>Default: true</p>
+     */
+    public static final int GEN_STATE_CACHE = 1 << 6;
 
     private static final HashMap<String, String> addedGLHooks = new HashMap<String, String>();
     private static final String[] addedGLHookMethodNames = new String[] {
@@ -158,7 +170,7 @@ public class BuildComposablePipeline {
             outputName = null; // TBD ..
             classPrologOpt = null;
             classDownstream = classToComposeAround;
-            mode = GEN_DEBUG | GEN_TRACE ;
+            mode = GEN_DEBUG | GEN_TRACE | GEN_PROFILE | GEN_STATE_CACHE ;
         }
 
         final BuildComposablePipeline composer =
@@ -241,6 +253,12 @@ public class BuildComposablePipeline {
         if (0 != (mode & GEN_TRACE)) {
             (new TracePipeline(outputDir, outputPackage, classToComposeAround, classDownstream)).emit(publicMethodsPlainSorted.iterator());
         }
+        if (0 != (mode & GEN_PROFILE)) {
+            (new ProfilePipeline(outputDir, outputPackage, classToComposeAround, classDownstream)).emit(publicMethodsPlainSorted.iterator());
+        }
+        if (0 != (mode & GEN_STATE_CACHE)) {
+            (new StateCachePipeline(outputDir, outputPackage, classToComposeAround, classDownstream)).emit(publicMethodsPlainSorted.iterator());
+        }
         if (0 != (mode & GEN_CUSTOM)) {
             (new CustomPipeline(mode, outputDir, outputPackage, outputName, classToComposeAround, classPrologOpt, classDownstream)).emit(publicMethodsPlainSorted.iterator());
         }
@@ -1179,6 +1197,394 @@ public class BuildComposablePipeline {
         }
     } // end class TracePipeline
 
+    //-------------------------------------------------------
+    protected class ProfilePipeline extends PipelineEmitter {
+
+        String className;
+        /** Method names indexed by method ID, in order of emission */
+        final ArrayList<String> methodNames = new ArrayList<String>();
+        /** Method ID of the currently emitted method */
+        int currentID = -1;
+
+        ProfilePipeline(final String outputDir, final String outputPackage, final Class<?> baseInterfaceClass, final Class<?> downstreamClass) {
+            super(outputDir, outputPackage, baseInterfaceClass, null, downstreamClass);
+            className = "Profile" + getBaseInterfaceName();
+        }
+
+        @Override
+        protected String getOutputName() {
+            return className;
+        }
+
+        @Override
+        protected int getMode() {
+            return 0;
+        }
+
+        @Override
+        protected boolean emptyMethodAllowed() {
+            return false;
+        }
+
+        @Override
+        protected boolean emptyDownstreamAllowed() {
+            return false;
+        }
+
+        @Override
+        protected void constructorHook(final PrintWriter output) {
+            output.print("  public " + getOutputName() + "(");
+            output.println(downstreamName + " " + getDownstreamObjectName() + ", GLCallCounters " + getCountersName() + ")");
+            output.println("  {");
+            output.println("    if (" + getDownstreamObjectName() + " == null) {");
+            output.println("      throw new IllegalArgumentException(\"null " + getDownstreamObjectName() + "\");");
+            output.println("    }");
+            output.println("    if (" + getCountersName() + " == null) {");
+            output.println("      throw new IllegalArgumentException(\"null " + getCountersName() + "\");");
+            output.println("    }");
+            output.print("    this." + getDownstreamObjectName());
+            output.println(" = " + getDownstreamObjectName() + ";");
+            output.print("    this." + getCountersName());
+            output.println(" = " + getCountersName() + ";");
+            output.println("    " + getCountersName() + ".attach(METHOD_NAMES);");
+            output.println("  }");
+            output.println();
+            output.println("  /** Returns the {@link GLCallCounters} of this pipeline. */");
+            output.println("  public final GLCallCounters getCallCounters() {");
+            output.println("    return " + getCountersName() + ";");
+            output.println("  }");
+            output.println();
+        }
+
+        @Override
+        protected void postMethodEmissionHook(final PrintWriter output) {
+            super.postMethodEmissionHook(output);
+            output.println("  private final GLCallCounters " + getCountersName() + ";");
+            output.println();
+            output.println("  /** Method names indexed by method ID, see {@link GLCallCounters#getMethodName(int)}. */");
+            output.println("  private static final String[] METHOD_NAMES = new String[] {");
+            for (int i = 0; i < methodNames.size(); i++) {
+                output.println("    \"" + methodNames.get(i) + "\"" + ( i < methodNames.size() - 1 ? "," : "" ) + " // " + i);
+            }
+            output.println("  };");
+        }
+
+        @Override
+        protected void emitClassDocComment(final PrintWriter output) {
+            output.println("/**");
+            output.println(" * <p>");
+            output.println(" * Composable pipeline which wraps an underlying {@link GL} implementation,");
+            output.println(" * counting calls per OpenGL entry point, bytes passed to buffer and texture uploads,");
+            output.println(" * draw calls and state binds into a user-specified {@link GLCallCounters} instance.");
+            output.println(" * Draw calls, uploads and synchronizing calls are timed in nanoseconds.");
+            output.println(" * </p>");
+            output.println(" * <p>");
+            output.println(" * Sample code which installs this pipeline:");
+            output.println(" * <pre>");
+            output.println(" *   gl = drawable.setGL(new ProfileGL(drawable.getGL(), counters));");
+            output.println(" * </pre>");
+            output.println(" * For automatic instantiation see {@link GLPipelineFactory#create(String, Class, GL, Object[])}");
+            output.println(" * </p>");
+            output.println(" */");
+        }
+
+        @Override
+        protected boolean hasPreDownstreamCallHook(final PlainMethod pm) {
+            return !pm.isSynthetic();
+        }
+
+        @Override
+        protected void preDownstreamCallHook(final PrintWriter output, final PlainMethod pm) {
+            final Method m = pm.getWrappedMethod();
+            final String name = m.getName();
+            currentID = methodNames.size();
+            methodNames.add(name);
+
+            final String counters = getCountersName();
+            output.println("    " + counters + ".calls[" + currentID + "]++;");
+            output.println("    " + counters + ".frameCalls++;");
+            if (isDrawCall(name)) {
+                output.println("    " + counters + ".frameDrawCalls++;");
+            }
+            if (isBind(name)) {
+                output.println("    " + counters + ".frameBinds++;");
+            }
+            final String uploadBytes = getUploadBytesExpr(m);
+            if (null != uploadBytes) {
+                output.println("    " + counters + ".frameUploadBytes += " + uploadBytes + ";");
+            }
+            if (isTimed(m)) {
+                output.println("    final long _t0 = System.nanoTime();");
+            }
+        }
+
+        @Override
+        protected boolean hasPostDownstreamCallHook(final PlainMethod pm) {
+            return !pm.isSynthetic() && isTimed(pm.getWrappedMethod());
+        }
+
+        @Override
+        protected void postDownstreamCallHook(final PrintWriter output, final PlainMethod pm) {
+            output.println("    " + getCountersName() + ".addNanos(" + currentID + ", System.nanoTime() - _t0);");
+        }
+
+        private boolean isDrawCall(final String name) {
+            return ( name.startsWith("glDraw") && !name.startsWith("glDrawBuffer") ) ||
+                   name.startsWith("glMultiDraw");
+        }
+
+        private boolean isBind(final String name) {
+            return name.startsWith("glBind") || name.equals("glUseProgram");
+        }
+
+        private boolean isBufferUpload(final String name) {
+            return name.matches("gl(Named)?Buffer(Sub)?Data(ARB|EXT)?") ||
+                   name.matches("gl(Named)?BufferStorage(EXT)?");
+        }
+
+        private boolean isTextureUpload(final String name) {
+            return name.matches("gl(Compressed)?Tex(ture)?(Sub)?Image[123]D(ARB|EXT|OES)?");
+        }
+
+        private boolean isTimed(final Method m) {
+            final String name = m.getName();
+            return isDrawCall(name) || null != getUploadBytesExpr(m) ||
+                   name.equals("glClear") || name.equals("glFinish") || name.equals("glFlush") ||
+                   name.equals("glReadPixels") || name.equals("glClientWaitSync") ||
+                   name.equals("glGenerateMipmap") || name.equals("glBlitFramebuffer") ||
+                   addedGLHooks.containsKey(name);
+        }
+
+        /**
+         * Returns the expression of uploaded bytes for buffer and texture uploads passing a {@link Buffer},
+         * otherwise null.
+         */
+        private String getUploadBytesExpr(final Method m) {
+            final String name = m.getName();
+            final boolean bufferUpload = isBufferUpload(name);
+            final boolean textureUpload = !bufferUpload && isTextureUpload(name);
+            if (!bufferUpload && !textureUpload) {
+                return null;
+            }
+            final Class<?>[] params = m.getParameterTypes();
+            int bufferIdx = -1;
+            for (int i = 0; i < params.length && 0 > bufferIdx; i++) {
+                if (Buffer.class.isAssignableFrom(params[i])) {
+                    bufferIdx = i;
+                }
+            }
+            if (0 > bufferIdx) {
+                return null; // e.g. bound pixel buffer object offset variant
+            }
+            if (textureUpload) {
+                return "GLCallCounters.sizeOf(arg" + bufferIdx + ")";
+            }
+            // buffer data: the size argument is the last long argument before the data argument
+            for (int i = bufferIdx - 1; i >= 0; i--) {
+                if (params[i] == Long.TYPE) {
+                    return "arg" + i;
+                }
+            }
+            return null;
+        }
+
+        private String getCountersName() {
+            return "counters";
+        }
+    } // end class ProfilePipeline
+
+    //-------------------------------------------------------
+    protected class StateCachePipeline extends PipelineEmitter {
+
+        String className;
+
+        StateCachePipeline(final String outputDir, final String outputPackage, final Class<?> baseInterfaceClass, final Class<?> downstreamClass) {
+            super(outputDir, outputPackage, baseInterfaceClass, null, downstreamClass);
+            className = "StateCache" + getBaseInterfaceName();
+        }
+
+        @Override
+        protected String getOutputName() {
+            return className;
+        }
+
+        @Override
+        protected int getMode() {
+            return 0;
+        }
+
+        @Override
+        protected boolean emptyMethodAllowed() {
+            return false;
+        }
+
+        @Override
+        protected boolean emptyDownstreamAllowed() {
+            return false;
+        }
+
+        @Override
+        protected void constructorHook(final PrintWriter output) {
+            output.print("  public " + getOutputName() + "(");
+            output.println(downstreamName + " " + getDownstreamObjectName() + ")");
+            output.println("  {");
+            output.println("    if (" + getDownstreamObjectName() + " == null) {");
+            output.println("      throw new IllegalArgumentException(\"null " + getDownstreamObjectName() + "\");");
+            output.println("    }");
+            output.print("    this." + getDownstreamObjectName());
+            output.println(" = " + getDownstreamObjectName() + ";");
+            output.println("    this." + getCacheName() + " = new GLStateCache(" + getDownstreamObjectName() + ");");
+            output.println("  }");
+            output.println();
+            output.println("  /** Returns the {@link GLStateCache} of this pipeline, e.g. to query the number of elided calls. */");
+            output.println("  public final GLStateCache getStateCache() {");
+            output.println("    return " + getCacheName() + ";");
+            output.println("  }");
+            output.println();
+        }
+
+        @Override
+        protected void postMethodEmissionHook(final PrintWriter output) {
+            super.postMethodEmissionHook(output);
+            output.println("  private final GLStateCache " + getCacheName() + ";");
+        }
+
+        @Override
+        protected void emitClassDocComment(final PrintWriter output) {
+            output.println("/**");
+            output.println(" * <p>");
+            output.println(" * Composable pipeline which wraps an underlying {@link GL} implementation,");
+            output.println(" * dropping calls which set already current bindable state, i.e. program, texture, buffer");
+            output.println(" * and vertex array bindings, enable state and blend function, see {@link GLStateCache}.");
+            output.println(" * </p>");
+            output.println(" * <p>");
+            output.println(" * Sample code which installs this pipeline:");
+            output.println(" * <pre>");
+            output.println(" *   gl = drawable.setGL(new StateCacheGL(drawable.getGL()));");
+            output.println(" * </pre>");
+            output.println(" * For automatic instantiation see {@link GLPipelineFactory#create(String, Class, GL, Object[])}");
+            output.println(" * </p>");
+            output.println(" */");
+        }
+
+        @Override
+        protected void emitBody(final PrintWriter output, final PlainMethod pm) {
+            final Method m = pm.getWrappedMethod();
+            final String filter = pm.runHooks() && !pm.isSynthetic() ? getFilterExpr(m) : null;
+            if (null == filter) {
+                super.emitBody(output, pm);
+                return;
+            }
+            output.println("  {");
+            output.println("    if( " + filter + " ) {");
+            output.print("      " + getDownstreamObjectName() + "." + m.getName() + "(");
+            output.print(getArgListAsString(m, false, true));
+            output.println(");");
+            output.println("    }");
+            output.println("  }");
+        }
+
+        @Override
+        protected boolean hasPreDownstreamCallHook(final PlainMethod pm) {
+            return false;
+        }
+
+        @Override
+        protected void preDownstreamCallHook(final PrintWriter output, final PlainMethod pm) {
+        }
+
+        @Override
+        protected boolean hasPostDownstreamCallHook(final PlainMethod pm) {
+            return !pm.isSynthetic() && null != getInvalidateExpr(pm.getWrappedMethod());
+        }
+
+        @Override
+        protected void postDownstreamCallHook(final PrintWriter output, final PlainMethod pm) {
+            output.println("    " + getInvalidateExpr(pm.getWrappedMethod()) + ";");
+        }
+
+        private boolean hasIntArgs(final Method m, final int count) {
+            final Class<?>[] params = m.getParameterTypes();
+            if (params.length != count || m.getReturnType() != Void.TYPE) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (params[i] != Integer.TYPE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the boolean expression whether the filtered call shall be passed downstream, or null if not filtered.
+         */
+        private String getFilterExpr(final Method m) {
+            final String name = m.getName();
+            final String cache = getCacheName();
+            if (name.equals("glUseProgram") && hasIntArgs(m, 1)) {
+                return cache + ".useProgram(arg0)";
+            } else if (name.equals("glActiveTexture") && hasIntArgs(m, 1)) {
+                return cache + ".activeTexture(arg0)";
+            } else if (name.equals("glBindTexture") && hasIntArgs(m, 2)) {
+                return cache + ".bindTexture(arg0, arg1)";
+            } else if (name.equals("glBindBuffer") && hasIntArgs(m, 2)) {
+                return cache + ".bindBuffer(arg0, arg1)";
+            } else if (name.equals("glBindVertexArray") && hasIntArgs(m, 1)) {
+                return cache + ".bindVertexArray(arg0)";
+            } else if (name.equals("glEnable") && hasIntArgs(m, 1)) {
+                return cache + ".enable(arg0, true)";
+            } else if (name.equals("glDisable") && hasIntArgs(m, 1)) {
+                return cache + ".enable(arg0, false)";
+            } else if (name.equals("glBlendFunc") && hasIntArgs(m, 2)) {
+                return cache + ".blendFuncSeparate(arg0, arg1, arg0, arg1)";
+            } else if (name.equals("glBlendFuncSeparate") && hasIntArgs(m, 4)) {
+                return cache + ".blendFuncSeparate(arg0, arg1, arg2, arg3)";
+            }
+            return null;
+        }
+
+        /**
+         * Returns the statement dropping shadowed state changed indirectly by the given call, or null if none.
+         */
+        private String getInvalidateExpr(final Method m) {
+            final String name = m.getName();
+            final String cache = getCacheName();
+            if (null != getFilterExpr(m)) {
+                return null;
+            }
+            if (name.equals("glNewList")) {
+                return cache + ".beginList()";
+            } else if (name.equals("glEndList")) {
+                return cache + ".endList()";
+            } else if (name.startsWith("glPopAttrib") || name.startsWith("glPopClientAttrib") ||
+                       name.startsWith("glCallList")) {
+                return cache + ".invalidate()";
+            } else if (name.startsWith("glDeleteProgram") || name.startsWith("glUseProgram")) {
+                return cache + ".invalidateProgram()";
+            } else if (name.startsWith("glDeleteTextures") || name.startsWith("glBindTexture") ||
+                       name.startsWith("glBindMultiTexture") || name.startsWith("glActiveTexture")) {
+                return cache + ".invalidateTextures()";
+            } else if (name.startsWith("glDeleteBuffers") || name.startsWith("glDeleteVertexArrays") ||
+                       name.startsWith("glBindVertexArray")) {
+                return cache + ".invalidateBuffers()";
+            } else if (name.startsWith("glBindBuffer") && 0 < m.getParameterTypes().length && m.getParameterTypes()[0] == Integer.TYPE) {
+                return cache + ".invalidateBuffer(arg0)";
+            } else if ((name.startsWith("glEnable") || name.startsWith("glDisable")) &&
+                       !name.contains("ClientState") && !name.contains("VertexAttrib") &&
+                       0 < m.getParameterTypes().length && m.getParameterTypes()[0] == Integer.TYPE) {
+                return cache + ".invalidateCap(arg0)";
+            } else if (name.startsWith("glBlendFunc")) {
+                return cache + ".invalidateBlendFunc()";
+            }
+            return null;
+        }
+
+        private String getCacheName() {
+            return "stateCache";
+        }
+    } // end class StateCachePipeline
+
     public static final void printFunctionCallString(final PrintWriter output, final Method m) {
         final Class<?>[] params = m.getParameterTypes();
         output.print("    \"" + m.getName() + "(\"");
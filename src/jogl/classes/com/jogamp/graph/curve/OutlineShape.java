@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 
+import com.jogamp.graph.curve.tess.TriangleIndexSink;
 import com.jogamp.graph.curve.tess.Triangulation;
 import com.jogamp.graph.curve.tess.Triangulator;
 import com.jogamp.graph.geom.Outline;
@@ -149,10 +150,21 @@ public final class OutlineShape implements Comparable<OutlineShape> {
     /* pp */ final ArrayList<Outline> outlines;
 
     private final AABBox bbox;
+    private final TriangleIndexSink triangleIndices;
     private final ArrayList<Triangle> triangles;
+    /** True if {@link #triangles} reflects {@link #triangleIndices} */
+    private boolean trianglesValid;
     private final ArrayList<Vertex> vertices;
     private int addedVerticeCount;
 
+    /** Per thread triangulator, reusing its internal storage across shapes. */
+    private static final ThreadLocal<Triangulator> triangulator = new ThreadLocal<Triangulator>() {
+        @Override
+        protected Triangulator initialValue() {
+            return Triangulation.create();
+        }
+    };
+
     private VerticesState outlineState;
 
     /** dirty bits DIRTY_BOUNDS */
@@ -172,7 +184,9 @@ public final class OutlineShape implements Comparable<OutlineShape> {
         this.outlines.add(new Outline());
         this.outlineState = VerticesState.UNDEFINED;
         this.bbox = new AABBox();
+        this.triangleIndices = new TriangleIndexSink();
         this.triangles = new ArrayList<Triangle>();
+        this.trianglesValid = false;
         this.vertices = new ArrayList<Vertex>();
         this.addedVerticeCount = 0;
         this.dirtyBits = 0;
@@ -206,15 +220,19 @@ public final class OutlineShape implements Comparable<OutlineShape> {
         outlineState = VerticesState.UNDEFINED;
         bbox.reset();
         vertices.clear();
+        triangleIndices.reset(0);
         triangles.clear();
+        trianglesValid = false;
         addedVerticeCount = 0;
         dirtyBits = 0;
     }
 
-    /** Clears cached triangulated data, i.e. {@link #getTriangles(VerticesState)} and {@link #getVertices()}.  */
+    /** Clears cached triangulated data, i.e. {@link #getTriangles(VerticesState)}, {@link #getTriangleIndices(VerticesState)} and {@link #getVertices()}.  */
     public final void clearCache() {
         vertices.clear();
+        triangleIndices.reset(0);
         triangles.clear();
+        trianglesValid = false;
         dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
     }
 
@@ -978,31 +996,40 @@ public final class OutlineShape implements Comparable<OutlineShape> {
     }
 
     private void triangulateImpl() {
+        triangles.clear();
+        trianglesValid = false;
         if( 0 < outlines.size() ) {
             sortOutlines();
-            generateVertexIds();
+            final int vertexCount = generateVertexIds();
 
-            triangles.clear();
-            final Triangulator triangulator2d = Triangulation.create();
+            triangleIndices.reset(vertexCount);
+            final Triangulator triangulator2d = triangulator.get();
             for(int index = 0; index<outlines.size(); index++) {
-                triangulator2d.addCurve(triangles, outlines.get(index), sharpness);
+                triangulator2d.addCurve(triangleIndices, outlines.get(index), sharpness);
             }
-            triangulator2d.generate(triangles);
+            triangulator2d.generate(triangleIndices);
             addedVerticeCount += triangulator2d.getAddedVerticeCount();
             triangulator2d.reset();
+        } else {
+            triangleIndices.reset(0);
         }
     }
 
     /**
-     * Triangulate the {@link OutlineShape} generating a list of triangles,
+     * Triangulate the {@link OutlineShape} into the returned reusable {@link TriangleIndexSink},
      * while {@link #transformOutlines(VerticesState)} beforehand.
      * <p>
-     * Triangles are cached until marked dirty.
+     * Indices below {@link TriangleIndexSink#getBaseVertexCount()} refer to {@link #getVertices()},
+     * all others to the {@link TriangleIndexSink#getAddedVertexCount() added vertices} of the sink.
+     * Unlike {@link #getTriangles(VerticesState)} no {@link Triangle} or {@link Vertex} objects are created.
      * </p>
-     * @return an arraylist of triangles representing the filled region
+     * <p>
+     * Triangulation is cached until marked dirty.
+     * </p>
+     * @return the triangle indices representing the filled region
      * which is produced by the combination of the outlines
      */
-    public final ArrayList<Triangle> getTriangles(final VerticesState destinationType) {
+    public final TriangleIndexSink getTriangleIndices(final VerticesState destinationType) {
         final boolean updated;
         if(destinationType != VerticesState.QUADRATIC_NURBS) {
             throw new IllegalStateException("destinationType "+destinationType.name()+" not supported (currently "+outlineState.name()+")");
@@ -1017,7 +1044,51 @@ public final class OutlineShape implements Comparable<OutlineShape> {
             updated = false;
         }
         if(Region.DEBUG_INSTANCE) {
-            System.err.println("OutlineShape.getTriangles().X: "+triangles.size()+", updated "+updated);
+            System.err.println("OutlineShape.getTriangleIndices().X: "+triangleIndices+", updated "+updated);
+        }
+        return triangleIndices;
+    }
+
+    /**
+     * Triangulate the {@link OutlineShape} generating a list of triangles,
+     * while {@link #transformOutlines(VerticesState)} beforehand.
+     * <p>
+     * The list is derived from {@link #getTriangleIndices(VerticesState)},
+     * creating new {@link Vertex} instances for the vertices added by the triangulation.
+     * </p>
+     * <p>
+     * Triangles are cached until marked dirty.
+     * </p>
+     * @return an arraylist of triangles representing the filled region
+     * which is produced by the combination of the outlines
+     */
+    public final ArrayList<Triangle> getTriangles(final VerticesState destinationType) {
+        final TriangleIndexSink sink = getTriangleIndices(destinationType);
+        if( !trianglesValid ) {
+            triangles.clear();
+            final ArrayList<Vertex> verts = getVertices();
+            final int addedCount = sink.getAddedVertexCount();
+            final int base = sink.getBaseVertexCount();
+            final Vertex[] added = new Vertex[addedCount];
+            for(int i=0; i<addedCount; i++) {
+                final Vertex v = new Vertex(sink.getAddedCoord(base+i, new Vec3f()), sink.isAddedOnCurve(base+i));
+                v.setTexCoord(sink.getAddedTexCoord(base+i, new Vec3f()));
+                added[i] = v;
+            }
+            final int triCount = sink.getTriangleCount();
+            for(int i=0; i<triCount; i++) {
+                final Vertex[] tv = new Vertex[3];
+                final boolean[] boundary = new boolean[3];
+                for(int j=0; j<3; j++) {
+                    final int idx = sink.getIndex(3*i+j);
+                    tv[j] = sink.isAddedVertex(idx) ? added[idx-base] : verts.get(idx);
+                    boundary[j] = sink.isBoundaryVertex(i, j);
+                }
+                final Triangle t = new Triangle(tv[0], tv[1], tv[2], boundary);
+                t.setId(i);
+                triangles.add(t);
+            }
+            trianglesValid = true;
         }
         return triangles;
     }
@@ -1,16 +1,81 @@
 package com.jogamp.graph.curve;
 
+import com.jogamp.graph.geom.PackedOutlines;
 import com.jogamp.graph.geom.plane.AffineTransform;
+import com.jogamp.opengl.math.Vec3f;
+import com.jogamp.opengl.math.geom.AABBox;
 
+/**
+ * An {@link OutlineShape} or {@link PackedOutlines} source with an {@link AffineTransform}.
+ */
 public class OutlineShapeXForm {
+    /** The {@link OutlineShape} source, <code>null</code> if using {@link #packed}. */
     public final OutlineShape shape;
+    /** The {@link PackedOutlines} source, <code>null</code> if using {@link #shape}. */
+    public final PackedOutlines packed;
     private AffineTransform t;
 
     public OutlineShapeXForm(final OutlineShape shape, final AffineTransform t) {
         this.shape = shape;
+        this.packed = null;
+        this.t = t;
+    }
+
+    public OutlineShapeXForm(final PackedOutlines packed, final AffineTransform t) {
+        this.shape = null;
+        this.packed = packed;
         this.t = t;
     }
 
     public final AffineTransform getTransform() { return t; }
     public final void setTransform(final AffineTransform t) { this.t = t; }
-}
\ No newline at end of file
+
+    /**
+     * Stores the bounding box of the transformed source into <code>dst</code>.
+     * <p>
+     * The bounds of {@link #packed} are exact and computed over its coordinate arrays,
+     * the bounds of {@link #shape} are its transformed bounding box.
+     * </p>
+     * @return dst for chaining
+     */
+    public final AABBox getBounds(final AABBox dst) {
+        dst.reset();
+        if( null != packed ) {
+            final float[] xy = packed.getCoordsXY();
+            final float[] z = packed.getCoordsZ();
+            final int n = packed.getVertexCount();
+            final float m00 = t.getScaleX(), m01 = t.getShearX(), m02 = t.getTranslateX();
+            final float m10 = t.getShearY(), m11 = t.getScaleY(), m12 = t.getTranslateY();
+            for(int i=0; i<n; i++) {
+                final float x = xy[2*i], y = xy[2*i+1];
+                dst.resize(x * m00 + y * m01 + m02, x * m10 + y * m11 + m12, z[i]);
+            }
+        } else {
+            dst.resize(shape.getBounds(), t, new Vec3f());
+        }
+        return dst;
+    }
+
+    /**
+     * Returns the transformed {@link PackedOutlines} of the source.
+     * @param dst destination, may be <code>null</code> for a new instance
+     * @return dst for chaining
+     */
+    public final PackedOutlines getTransformedPacked(final PackedOutlines dst) {
+        if( null != packed ) {
+            return packed.transform(t, dst);
+        }
+        final PackedOutlines p = new PackedOutlines(shape);
+        return p.transform(t, null != dst ? dst : p);
+    }
+
+    /**
+     * Returns a new transformed {@link OutlineShape} of the source, e.g. for triangulation.
+     */
+    public final OutlineShape getTransformedShape() {
+        if( null != packed ) {
+            return packed.transform(t, null).toOutlineShape();
+        }
+        return shape.transform(t);
+    }
+}
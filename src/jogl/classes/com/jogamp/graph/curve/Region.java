@@ -38,7 +38,7 @@ import java.util.concurrent.TimeUnit;
 
 import jogamp.opengl.Debug;
 
-import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.curve.tess.TriangleIndexSink;
 import com.jogamp.graph.geom.Vertex;
 import com.jogamp.graph.geom.plane.AffineTransform;
 import com.jogamp.common.nio.Buffers;
@@ -345,7 +345,7 @@ public abstract class Region {
 
     private void pushNewVertexImpl(final Vertex vertIn, final AffineTransform transform, final Vec4f rgba) {
         if( null != transform ) {
-            final Vec3f coordsEx1 = transform.transform(vertIn.getCoord(), new Vec3f());
+            final Vec3f coordsEx1 = transform.transform(vertIn.getCoord(), tmpCoordT);
             box.resize(coordsEx1);
             pushVertex(coordsEx1, vertIn.getTexCoord(), rgba);
         } else {
@@ -385,6 +385,25 @@ public abstract class Region {
         pushNewVerticesImpl(vertIn1, vertIn2, vertIn3, transform, rgba);
     }
 
+    /** Pushes the {@link OutlineShape#getVertices() shape vertex} or {@link TriangleIndexSink#isAddedVertex(int) added vertex} of the given sink index. */
+    private void pushNewSinkVertexImpl(final TriangleIndexSink sink, final ArrayList<Vertex> vertsIn, final int idx, final AffineTransform transform, final Vec4f rgba) {
+        if( !sink.isAddedVertex(idx) ) {
+            pushNewVertexImpl(vertsIn.get(idx), transform, rgba);
+        } else {
+            sink.getAddedCoord(idx, tmpCoord);
+            sink.getAddedTexCoord(idx, tmpTexCoord);
+            if( null != transform ) {
+                final Vec3f coordsEx = transform.transform(tmpCoord, tmpCoordT);
+                box.resize(coordsEx);
+                pushVertex(coordsEx, tmpTexCoord, rgba);
+            } else {
+                box.resize(tmpCoord);
+                pushVertex(tmpCoord, tmpTexCoord, rgba);
+            }
+            numVertices++;
+        }
+    }
+
     protected static void put3i(final IntBuffer b, final int v1, final int v2, final int v3) {
         b.put(v1); b.put(v2); b.put(v3);
     }
@@ -402,6 +421,9 @@ public abstract class Region {
     }
 
     private final AABBox tmpBox = new AABBox();
+    private final Vec3f tmpCoord = new Vec3f();
+    private final Vec3f tmpTexCoord = new Vec3f();
+    private final Vec3f tmpCoordT = new Vec3f();
 
     protected static final int GL_UINT16_MAX = 0xffff; // 65,535
     protected static final int GL_INT32_MAX = 0x7fffffff; // 2,147,483,647
@@ -500,11 +522,11 @@ public abstract class Region {
         if( null == shape ) {
             return vertIndexCount;
         }
-        final List<Triangle> trisIn = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        final TriangleIndexSink trisIn = shape.getTriangleIndices(OutlineShape.VerticesState.QUADRATIC_NURBS);
         final ArrayList<Vertex> vertsIn = shape.getVertices();
         {
             vertIndexCount[0] += vertsIn.size() + shape.getAddedVerticeCount(); // verticesCount
-            vertIndexCount[1] += trisIn.size() * 3; // indicesCount
+            vertIndexCount[1] += trisIn.getIndexCount(); // indicesCount
         }
         return vertIndexCount;
     }
@@ -565,11 +587,11 @@ public abstract class Region {
         markShapeDirty();
     }
     private final void addOutlineShape0(final OutlineShape shape, final AffineTransform t, final Vec4f rgbaColor) {
-        final List<Triangle> trisIn = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        final TriangleIndexSink trisIn = shape.getTriangleIndices(OutlineShape.VerticesState.QUADRATIC_NURBS);
         final ArrayList<Vertex> vertsIn = shape.getVertices();
         {
             final int verticeCount = vertsIn.size() + shape.getAddedVerticeCount();
-            final int indexCount = trisIn.size() * 3;
+            final int indexCount = trisIn.getIndexCount();
             growBuffer(verticeCount, indexCount);
         }
 
@@ -581,22 +603,24 @@ public abstract class Region {
             for(int i=0; i<vertsIn.size(); i++) {
                 pushNewVertexImpl(vertsIn.get(i), t, rgbaColor);
             }
-            final int trisIn_sz = trisIn.size();
-            for(int i=0; i < trisIn_sz; ++i) {
-                final Triangle triIn = trisIn.get(i);
-                // triEx.addVertexIndicesOffset(idxOffset);
-                // triangles.add( triEx );
-                final Vertex[] triInVertices = triIn.getVertices();
-                final int tv0Idx = triInVertices[0].getId();
-
-                if ( max_indices - idxOffset > tv0Idx ) {
-                    // valid 'known' idx - move by offset
-                    pushIndices(tv0Idx+idxOffset,
-                                triInVertices[1].getId()+idxOffset,
-                                triInVertices[2].getId()+idxOffset);
-                } else {
-                    // FIXME: If exceeding max_indices, we would need to generate a new buffer w/ indices
-                    pushNewVerticesIdxImpl(triInVertices[0], triInVertices[1], triInVertices[2], t, rgbaColor);
+            final int[] idxIn = trisIn.getIndices();
+            final int idxIn_sz = trisIn.getIndexCount();
+            final int maxIdx = trisIn.getBaseVertexCount() + trisIn.getAddedVertexCount();
+            if ( max_indices - idxOffset > maxIdx ) {
+                // valid 'known' idx - move by offset
+                for(int i=trisIn.getBaseVertexCount(); i<maxIdx; ++i) {
+                    pushNewSinkVertexImpl(trisIn, vertsIn, i, t, rgbaColor);
+                }
+                for(int i=0; i < idxIn_sz; i+=3) {
+                    pushIndices(idxIn[i]+idxOffset, idxIn[i+1]+idxOffset, idxIn[i+2]+idxOffset);
+                }
+            } else {
+                // FIXME: If exceeding max_indices, we would need to generate a new buffer w/ indices
+                for(int i=0; i < idxIn_sz; i+=3) {
+                    pushIndices(numVertices, numVertices+1, numVertices+2);
+                    pushNewSinkVertexImpl(trisIn, vertsIn, idxIn[i],   t, rgbaColor);
+                    pushNewSinkVertexImpl(trisIn, vertsIn, idxIn[i+1], t, rgbaColor);
+                    pushNewSinkVertexImpl(trisIn, vertsIn, idxIn[i+2], t, rgbaColor);
                 }
             }
         }
@@ -604,14 +628,14 @@ public abstract class Region {
     private final void addOutlineShape1(final OutlineShape shape, final AffineTransform t, final Vec4f rgbaColor) {
         ++perf.count;
         final long t0 = Clock.currentNanos();
-        final List<Triangle> trisIn = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        final TriangleIndexSink trisIn = shape.getTriangleIndices(OutlineShape.VerticesState.QUADRATIC_NURBS);
         final ArrayList<Vertex> vertsIn = shape.getVertices();
         {
             final int addedVerticeCount = shape.getAddedVerticeCount();
             final int verticeCount = vertsIn.size() + addedVerticeCount;
-            final int indexCount = trisIn.size() * 3;
+            final int indexCount = trisIn.getIndexCount();
             if(DEBUG_INSTANCE) {
-                System.err.println("Region.addOutlineShape().0: tris: "+trisIn.size()+", verts "+vertsIn.size()+", transform "+t);
+                System.err.println("Region.addOutlineShape().0: tris: "+trisIn.getTriangleCount()+", verts "+vertsIn.size()+", transform "+t);
                 System.err.println("Region.addOutlineShape().0: VerticeCount "+vertsIn.size()+" + "+addedVerticeCount+" = "+verticeCount);
                 System.err.println("Region.addOutlineShape().0: IndexCount "+indexCount);
             }
@@ -634,41 +658,39 @@ public abstract class Region {
             // if(DEBUG_INSTANCE) {
             //    System.err.println("Region.addOutlineShape(): Processing Triangles");
             // }
-            final int trisIn_sz = trisIn.size();
-            for(int i=0; i < trisIn_sz; ++i) {
-                final Triangle triIn = trisIn.get(i);
-                final long t2 = Clock.currentNanos();
-                // if(Region.DEBUG_INSTANCE) {
-                //     System.err.println("T["+i+"]: "+triIn);
-                // }
-                // triEx.addVertexIndicesOffset(idxOffset);
-                // triangles.add( triEx );
-                final Vertex[] triInVertices = triIn.getVertices();
-                final int tv0Idx = triInVertices[0].getId();
-
-                perf.td_tri_misc += Clock.currentNanos() - t2;
-                if ( max_indices - idxOffset > tv0Idx ) {
-                    // valid 'known' idx - move by offset
-                    // if(Region.DEBUG_INSTANCE) {
-                    //     System.err.println("T["+i+"]: Moved "+tv0Idx+" + "+idxOffset+" -> "+(tv0Idx+idxOffset));
-                    // }
-                    final long tpi = Clock.currentNanos();
-                    pushIndices(tv0Idx+idxOffset,
-                                triInVertices[1].getId()+idxOffset,
-                                triInVertices[2].getId()+idxOffset);
-                    perf.td_tri_push_idx += Clock.currentNanos() - tpi;
+            final int[] idxIn = trisIn.getIndices();
+            final int idxIn_sz = trisIn.getIndexCount();
+            final int maxIdx = trisIn.getBaseVertexCount() + trisIn.getAddedVertexCount();
+            if ( max_indices - idxOffset > maxIdx ) {
+                // valid 'known' idx - move by offset
+                final long tpv = Clock.currentNanos();
+                for(int i=trisIn.getBaseVertexCount(); i<maxIdx; ++i) {
+                    pushNewSinkVertexImpl(trisIn, vertsIn, i, t, rgbaColor);
+                    vertsTNewIdxCount++;
+                }
+                final long tpi = Clock.currentNanos();
+                perf.td_tri_push_vertidx += tpi - tpv;
+                for(int i=0; i < idxIn_sz; i+=3) {
+                    pushIndices(idxIn[i]+idxOffset, idxIn[i+1]+idxOffset, idxIn[i+2]+idxOffset);
                     vertsTMovIdxCount+=3;
-                } else {
-                    // FIXME: If exceeding max_indices, we would need to generate a new buffer w/ indices
-                    // if( Region.DEBUG_INSTANCE) {
-                    //    System.err.println("T["+i+"]: New Idx "+numVertices);
-                    // }
-                    final long tpvi = Clock.currentNanos();
-                    pushNewVerticesIdxImpl(triInVertices[0], triInVertices[1], triInVertices[2], t, rgbaColor);
-                    perf.td_tri_push_vertidx += Clock.currentNanos() - tpvi;
+                    tris++;
+                }
+                perf.td_tri_push_idx += Clock.currentNanos() - tpi;
+            } else {
+                // FIXME: If exceeding max_indices, we would need to generate a new buffer w/ indices
+                // if( Region.DEBUG_INSTANCE) {
+                //    System.err.println("T["+i+"]: New Idx "+numVertices);
+                // }
+                final long tpvi = Clock.currentNanos();
+                for(int i=0; i < idxIn_sz; i+=3) {
+                    pushIndices(numVertices, numVertices+1, numVertices+2);
+                    pushNewSinkVertexImpl(trisIn, vertsIn, idxIn[i],   t, rgbaColor);
+                    pushNewSinkVertexImpl(trisIn, vertsIn, idxIn[i+1], t, rgbaColor);
+                    pushNewSinkVertexImpl(trisIn, vertsIn, idxIn[i+2], t, rgbaColor);
                     vertsTNewIdxCount+=3;
+                    tris++;
                 }
-                tris++;
+                perf.td_tri_push_vertidx += Clock.currentNanos() - tpvi;
             }
             final long ttriX = Clock.currentNanos();
             perf.td_tri_total += ttriX - t1;
@@ -37,6 +37,7 @@ import com.jogamp.opengl.util.GLArrayDataWrapper;
 import com.jogamp.opengl.GLProfile;
 import com.jogamp.opengl.math.Vec3f;
 import com.jogamp.opengl.math.Vec4f;
+import com.jogamp.opengl.math.geom.AABBox;
 
 import jogamp.graph.curve.opengl.VBORegion2PMSAAES2;
 import jogamp.graph.curve.opengl.VBORegion2PVBAAES2;
@@ -46,6 +47,7 @@ import jogamp.opengl.Debug;
 
 import com.jogamp.opengl.util.PMVMatrix;
 import com.jogamp.opengl.util.glsl.ShaderProgram;
+import com.jogamp.opengl.util.texture.TextureCoords;
 import com.jogamp.opengl.util.texture.TextureSequence;
 import com.jogamp.graph.curve.Region;
 import com.jogamp.graph.font.Font;
@@ -294,6 +296,16 @@ public abstract class GLRegion extends Region {
         return grown;
     }
 
+    /** Returns the number of vertices pushed to this region, i.e. to be uploaded with the next {@link #draw(GL2ES2, RegionRenderer, int[]) draw(..)} if {@link #isShapeDirty()}. */
+    public final int getVertexCount() {
+        return null != vpc_ileave ? vpc_ileave.getElemCount() : 0;
+    }
+
+    /** Returns the number of triangle index triples pushed to this region. */
+    public final int getIndexCount() {
+        return null != indicesBuffer ? indicesBuffer.getElemCount() : 0;
+    }
+
     @Override
     public final void printBufferStats(final PrintStream out) {
         final int[] size= { 0 }, capacity= { 0 };
@@ -517,6 +529,26 @@ public abstract class GLRegion extends Region {
     }
     private int lastRenderModes = 0;
 
+    /**
+     * Sets the color texture bounding box uniform value, mapping the given shape bounding box
+     * to the given sub-image texture coordinates, e.g. of a {@link com.jogamp.opengl.util.texture.TextureAtlas.SubImage}.
+     * <p>
+     * The shader computes <code>texCoord = ( vertex - bbox.xy ) / ( bbox.zw - bbox.xy )</code>,
+     * hence the bounding box is extended to cover the whole texture.
+     * </p>
+     * @param box the shape's bounding box
+     * @param tc the sub-image texture coordinates, {@link TextureCoords#bottom()} greater than {@link TextureCoords#top()} if vertically flipped
+     * @param colorTexBBox the destination
+     */
+    protected static void setColorTexBBox(final AABBox box, final TextureCoords tc, final float[] colorTexBBox) {
+        final float dX = ( box.getMaxX() - box.getMinX() ) / ( tc.right() - tc.left() );
+        final float dY = ( box.getMaxY() - box.getMinY() ) / ( tc.top() - tc.bottom() );
+        colorTexBBox[0] = box.getMinX() - tc.left() * dX;
+        colorTexBBox[1] = box.getMinY() - tc.bottom() * dY;
+        colorTexBBox[2] = colorTexBBox[0] + dX;
+        colorTexBBox[3] = colorTexBBox[1] + dY;
+    }
+
     /**
      * Updates a graph region by updating the ogl related
      * objects for use in rendering if {@link #isShapeDirty()}.
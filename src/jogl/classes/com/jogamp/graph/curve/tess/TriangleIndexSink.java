@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.graph.curve.tess;
+
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.math.Vec3f;
+
+/**
+ * Reusable primitive sink of a {@link Triangulator} result.
+ * <p>
+ * Triangles are stored as three vertex indices each.
+ * An index below {@link #getBaseVertexCount()} refers to the input vertex with the same {@link Vertex#getId() id},
+ * i.e. its position within the concatenated {@link com.jogamp.graph.geom.Outline} vertices.
+ * All other indices refer to vertices added by the triangulation,
+ * stored here as coordinates and texture coordinates, see {@link #getAddedVertexCount()}.
+ * </p>
+ * <p>
+ * Storage only grows, hence after warm-up {@link #reset(int)} followed by a triangulation
+ * does not allocate.
+ * </p>
+ */
+public final class TriangleIndexSink {
+    private int baseVertexCount;
+
+    private int[] indices;
+    private byte[] boundary;
+    private int triangleCount;
+
+    private float[] coords;
+    private float[] texCoords;
+    private boolean[] onCurve;
+    private int addedVertexCount;
+
+    public TriangleIndexSink() {
+        indices = new int[3*32];
+        boundary = new byte[32];
+        coords = new float[3*16];
+        texCoords = new float[3*16];
+        onCurve = new boolean[16];
+        reset(0);
+    }
+
+    /**
+     * Clears all triangles and added vertices.
+     * @param baseVertexCount number of input vertices, i.e. the index of the first added vertex
+     */
+    public void reset(final int baseVertexCount) {
+        this.baseVertexCount = baseVertexCount;
+        triangleCount = 0;
+        addedVertexCount = 0;
+    }
+
+    /** Returns the number of input vertices, i.e. the index of the first added vertex. */
+    public int getBaseVertexCount() { return baseVertexCount; }
+
+    /** Returns the number of triangles. */
+    public int getTriangleCount() { return triangleCount; }
+
+    /** Returns the number of indices, i.e. <code>3 * {@link #getTriangleCount()}</code>. */
+    public int getIndexCount() { return 3 * triangleCount; }
+
+    /** Returns the index at position <code>i</code>, with <code>0 &le; i &lt; {@link #getIndexCount()}</code>. */
+    public int getIndex(final int i) { return indices[i]; }
+
+    /**
+     * Returns the backing index array, valid up to {@link #getIndexCount()}.
+     * The array may change after adding triangles.
+     */
+    public int[] getIndices() { return indices; }
+
+    /** Returns true if the given vertex of the given triangle is contained in a curve boundary. */
+    public boolean isBoundaryVertex(final int triangle, final int corner) {
+        return 0 != ( boundary[triangle] & ( 1 << corner ) );
+    }
+
+    /** Returns the number of vertices added by the triangulation. */
+    public int getAddedVertexCount() { return addedVertexCount; }
+
+    /** Returns true if the given index refers to an added vertex. */
+    public boolean isAddedVertex(final int index) { return index >= baseVertexCount; }
+
+    /** Stores the coordinates of the added vertex with the given {@link #getIndex(int) index} in <code>result</code>. */
+    public Vec3f getAddedCoord(final int index, final Vec3f result) {
+        final int o = 3 * ( index - baseVertexCount );
+        return result.set(coords[o], coords[o+1], coords[o+2]);
+    }
+
+    /** Stores the texture coordinates of the added vertex with the given {@link #getIndex(int) index} in <code>result</code>. */
+    public Vec3f getAddedTexCoord(final int index, final Vec3f result) {
+        final int o = 3 * ( index - baseVertexCount );
+        return result.set(texCoords[o], texCoords[o+1], texCoords[o+2]);
+    }
+
+    /** Returns the on-curve flag of the added vertex with the given {@link #getIndex(int) index}. */
+    public boolean isAddedOnCurve(final int index) {
+        return onCurve[index - baseVertexCount];
+    }
+
+    /**
+     * Adds a vertex with the coordinates of <code>src</code> and the given texture coordinates.
+     * @return the index of the added vertex
+     */
+    public int addVertex(final Vertex src, final float s, final float t, final float p) {
+        if( addedVertexCount == onCurve.length ) {
+            final int n = 2 * onCurve.length;
+            coords = copyOf(coords, 3*n);
+            texCoords = copyOf(texCoords, 3*n);
+            final boolean[] o = new boolean[n];
+            System.arraycopy(onCurve, 0, o, 0, addedVertexCount);
+            onCurve = o;
+        }
+        final int o = 3 * addedVertexCount;
+        coords[o] = src.x(); coords[o+1] = src.y(); coords[o+2] = src.z();
+        texCoords[o] = s; texCoords[o+1] = t; texCoords[o+2] = p;
+        onCurve[addedVertexCount] = src.isOnCurve();
+        return baseVertexCount + addedVertexCount++;
+    }
+
+    /** Adds a triangle of the given vertex indices and their boundary flags. */
+    public void addTriangle(final int i0, final int i1, final int i2, final boolean b0, final boolean b1, final boolean b2) {
+        if( triangleCount == boundary.length ) {
+            final int n = 2 * boundary.length;
+            final int[] ni = new int[3*n];
+            System.arraycopy(indices, 0, ni, 0, 3*triangleCount);
+            indices = ni;
+            final byte[] nb = new byte[n];
+            System.arraycopy(boundary, 0, nb, 0, triangleCount);
+            boundary = nb;
+        }
+        final int o = 3 * triangleCount;
+        indices[o] = i0; indices[o+1] = i1; indices[o+2] = i2;
+        boundary[triangleCount] = (byte) ( ( b0 ? 1 : 0 ) | ( b1 ? 2 : 0 ) | ( b2 ? 4 : 0 ) );
+        triangleCount++;
+    }
+
+    private static float[] copyOf(final float[] src, final int n) {
+        final float[] r = new float[n];
+        System.arraycopy(src, 0, r, 0, src.length);
+        return r;
+    }
+
+    @Override
+    public String toString() {
+        return "TriangleIndexSink[triangles "+triangleCount+", base vertices "+baseVertexCount+", added vertices "+addedVertexCount+"]";
+    }
+}
@@ -54,7 +54,8 @@ public interface Triangulator {
      * describing the shape
      * @param sink list where the generated triangles will be added
      * @param outline a bounding {@link Outline}
-     * @param sharpness TODO
+     * @param sharpness the curve sharpness of the shape, see {@link com.jogamp.graph.curve.OutlineShape#getSharpness()},
+     *        encoded into the texture coordinates of the off-curve vertices of the generated curve triangles
      */
     public void addCurve(List<Triangle> sink, Outline outline, float sharpness);
 
@@ -64,9 +65,32 @@ public interface Triangulator {
      */
     public void generate(List<Triangle> sink);
 
+    /**
+     * Add a curve to the list of Outlines
+     * describing the shape, emitting triangles as indices.
+     * <p>
+     * Unlike {@link #addCurve(List, Outline, float)} no {@link Triangle} or {@link com.jogamp.graph.geom.Vertex} objects are created.
+     * The {@link com.jogamp.graph.geom.Vertex#getId() vertex ids} of all outlines must be set
+     * to their position within the concatenated outline vertices
+     * and the sink must be {@link TriangleIndexSink#reset(int) reset} to their count beforehand.
+     * </p>
+     * @param sink reusable index sink where the generated triangles will be added
+     * @param outline a bounding {@link Outline}
+     * @param sharpness the curve sharpness of the shape, see {@link com.jogamp.graph.curve.OutlineShape#getSharpness()},
+     *        encoded into the texture coordinates of the off-curve vertices of the generated curve triangles
+     */
+    public void addCurve(TriangleIndexSink sink, Outline outline, float sharpness);
+
+    /** Generate the triangulation of the provided
+     *  List of {@link Outline}s, emitting triangles as indices.
+     * @param sink reusable index sink where the generated triangles will be added
+     * @see #addCurve(TriangleIndexSink, Outline, float)
+     */
+    public void generate(TriangleIndexSink sink);
+
     /**
      * Reset the triangulation to initial state
-     * Clearing cached data
+     * Clearing cached data, while retaining internal storage for reuse.
      */
     public void reset();
 
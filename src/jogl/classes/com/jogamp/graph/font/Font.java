@@ -415,6 +415,18 @@ public interface Font {
      */
     AABBox getGlyphBounds(final CharSequence string, final AffineTransform tmp1, final AffineTransform tmp2);
 
+    /**
+     * Returns accurate bounding box by taking each glyph's font em-sized bounding box into account,
+     * see {@link #getGlyphBounds(CharSequence, AffineTransform, AffineTransform)}.
+     * <p>
+     * Implementations may cache the layout of recently used strings, rendering this method allocation free.
+     * </p>
+     * @param string string text
+     * @param dest destination bounding box
+     * @return the given {@code dest} bounding box of the string in font em-size [0..1]
+     */
+    AABBox getGlyphBounds(final CharSequence string, final AABBox dest);
+
     /**
      * Try using {@link #getGlyphBoundsFU(CharSequence, AffineTransform, AffineTransform)} to reuse {@link AffineTransform} instances.
      */
@@ -433,6 +445,18 @@ public interface Font {
      */
     AABBox getGlyphBoundsFU(final CharSequence string, final AffineTransform tmp1, final AffineTransform tmp2);
 
+    /**
+     * Returns accurate bounding box by taking each glyph's font-units sized bounding box into account,
+     * see {@link #getGlyphBoundsFU(CharSequence, AffineTransform, AffineTransform)}.
+     * <p>
+     * Implementations may cache the layout of recently used strings, rendering this method allocation free.
+     * </p>
+     * @param string string text
+     * @param dest destination bounding box
+     * @return the given {@code dest} bounding box of the string in font-units
+     */
+    AABBox getGlyphBoundsFU(final CharSequence string, final AABBox dest);
+
     /**
      * Returns accurate bounding box by taking each glyph's font em-sized {@link OutlineShape} into account.
      * <p>
@@ -508,6 +532,26 @@ public interface Font {
      */
     void processString(final Font.GlyphVisitor2 visitor, final CharSequence string);
 
+    /**
+     * Sets the limits of this font's text layout cache, used by string measuring and processing methods
+     * to replay the glyphs, their kerned positions and bounds of recently used strings.
+     * @param maxRuns maximum number of cached strings, zero disables the cache
+     * @param maxChars maximum number of characters of all cached strings
+     */
+    void setLayoutCacheLimits(final int maxRuns, final int maxChars);
+
+    /** Returns the number of strings in the text layout cache, see {@link #setLayoutCacheLimits(int, int)}. */
+    int getLayoutCacheRunCount();
+
+    /** Returns the number of characters of all strings in the text layout cache, see {@link #setLayoutCacheLimits(int, int)}. */
+    int getLayoutCacheCharCount();
+
+    /** Returns the number of text layout cache hits, see {@link #setLayoutCacheLimits(int, int)}. */
+    long getLayoutCacheHitCount();
+
+    /** Returns the number of text layout cache misses, see {@link #setLayoutCacheLimits(int, int)}. */
+    long getLayoutCacheMissCount();
+
     /** Returns {@link #getFullFamilyName()} */
     @Override
     public String toString();
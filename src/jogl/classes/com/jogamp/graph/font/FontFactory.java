@@ -49,6 +49,10 @@ import jogamp.graph.font.UbuntuFontLoader;
  * The optional property <i>jogamp.graph.font.ctor</i>
  * allows user to specify the {@link FontConstructor} implementation.
  * <p>
+ * The optional boolean property <i>jogamp.graph.font.lazy</i>
+ * sets the default loading mode of {@link #get(File)}, see {@link #get(File, boolean)}.
+ * </p>
+ * <p>
  * Default {@link FontConstructor} is {@link jogamp.graph.font.typecast.TypecastFontConstructor},
  * i.e. using our internal <i>typecast</i> branch.
  * </p>
@@ -56,6 +60,7 @@ import jogamp.graph.font.UbuntuFontLoader;
 public class FontFactory {
     private static final String FontConstructorPropKey = "jogamp.graph.font.ctor";
     private static final String DefaultFontConstructor = "jogamp.graph.font.typecast.TypecastFontConstructor";
+    private static final String FontLazyPropKey = "jogamp.graph.font.lazy";
 
     /** Ubuntu is the default font family, {@value} */
     public static final int UBUNTU = 0;
@@ -64,6 +69,7 @@ public class FontFactory {
     public static final int JAVA = 1;
 
     private static final FontConstructor fontConstr;
+    private static final boolean lazyDefault;
 
     static {
         /**
@@ -76,6 +82,7 @@ public class FontFactory {
             fontImplName = DefaultFontConstructor;
         }
         fontConstr = (FontConstructor) ReflectionUtil.createInstance(fontImplName, FontFactory.class.getClassLoader());
+        lazyDefault = PropertyAccess.getBooleanProperty(FontLazyPropKey, true, false);
     }
 
     public static final FontSet getDefault() {
@@ -98,7 +105,23 @@ public class FontFactory {
      * @throws IOException
      */
     public static final Font get(final File file) throws IOException {
-        return fontConstr.create(file);
+        return lazyDefault ? fontConstr.create(file, true) : fontConstr.create(file);
+    }
+
+    /**
+     * Creates a Font instance.
+     * <p>
+     * In lazy mode the font file is memory mapped and only its table directory and required tables
+     * are parsed up-front, glyph descriptions are decoded on first access.
+     * The mapping is shared with all other lazily loaded Font instances of the same file.
+     * </p>
+     * @param file font file
+     * @param lazy {@code true} for lazy mode as described above, otherwise the whole font is read and decoded
+     * @return the new Font instance
+     * @throws IOException
+     */
+    public static final Font get(final File file, final boolean lazy) throws IOException {
+        return fontConstr.create(file, lazy);
     }
 
     /**
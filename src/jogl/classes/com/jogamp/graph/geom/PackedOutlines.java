@@ -0,0 +1,505 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.graph.geom;
+
+import java.util.ArrayList;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.geom.plane.AffineTransform;
+import com.jogamp.graph.geom.plane.Winding;
+import com.jogamp.opengl.math.VectorUtil;
+import com.jogamp.opengl.math.geom.AABBox;
+
+/**
+ * Compact struct-of-arrays representation of a list of {@link Outline}s,
+ * as an alternative to the {@link OutlineShape} object graph for large paths.
+ * <p>
+ * Vertex coordinates are stored as packed x/y pairs in one <code>float[]</code>,
+ * z in a separate <code>float[]</code> and the on-curve flag in a <code>byte[]</code>.
+ * Outline <code>o</code> covers the vertex range [{@link #getOutlineStart(int) getOutlineStart(o)}, {@link #getOutlineEnd(int) getOutlineEnd(o)}).
+ * A vertex index hence addresses all outlines' vertices concatenated, as {@link OutlineShape#getVertices()}.
+ * </p>
+ * <p>
+ * The {@link OutlineShape} construction API is mirrored, i.e. {@link #moveTo(float, float, float)}, {@link #lineTo(float, float, float)},
+ * {@link #quadTo(float, float, float, float, float, float)}, {@link #cubicTo(float, float, float, float, float, float, float, float, float)},
+ * {@link #closePath()} and {@link #addVertex(float, float, float, boolean)}.
+ * Bounds, {@link Winding} and {@link #transform(AffineTransform, PackedOutlines) transformation} operate on the arrays directly.
+ * </p>
+ * <p>
+ * {@link Vertex} and {@link Outline} instances are only created on demand via {@link #getVertex(int, Vertex)},
+ * {@link #getOutline(int)} or {@link #toOutlineShape()}, e.g. for triangulation.
+ * </p>
+ */
+public final class PackedOutlines {
+    /** {@link #getFlags() Flag} bit of an on-curve vertex. */
+    public static final byte FLAG_ON_CURVE = 1 << 0;
+
+    private float[] xy;
+    private float[] z;
+    private byte[] flags;
+    private int vertexCount;
+
+    /** Outline start indices, <code>outlineStart[outlineCount]</code> is kept at <code>vertexCount</code> */
+    private int[] outlineStart;
+    private boolean[] closed;
+    private int outlineCount;
+
+    private final AABBox bbox = new AABBox();
+    private boolean dirtyBounds;
+
+    /** Creates an empty instance with one empty outline. */
+    public PackedOutlines() {
+        this(16, 2);
+    }
+
+    /**
+     * Creates an empty instance with one empty outline.
+     * @param vertexCapacity initial vertex capacity
+     * @param outlineCapacity initial outline capacity
+     */
+    public PackedOutlines(final int vertexCapacity, final int outlineCapacity) {
+        final int vc = Math.max(1, vertexCapacity);
+        final int oc = Math.max(1, outlineCapacity);
+        xy = new float[2*vc];
+        z = new float[vc];
+        flags = new byte[vc];
+        outlineStart = new int[oc+1];
+        closed = new boolean[oc];
+        clear();
+    }
+
+    /** Deep copy ctor */
+    public PackedOutlines(final PackedOutlines src) {
+        xy = src.xy.clone();
+        z = src.z.clone();
+        flags = src.flags.clone();
+        vertexCount = src.vertexCount;
+        outlineStart = src.outlineStart.clone();
+        closed = src.closed.clone();
+        outlineCount = src.outlineCount;
+        bbox.copy(src.bbox);
+        dirtyBounds = src.dirtyBounds;
+    }
+
+    /**
+     * Creates a packed copy of the given {@link OutlineShape}'s outlines.
+     * Texture coordinates and vertex ids are not copied.
+     */
+    public PackedOutlines(final OutlineShape src) {
+        this(src.getVertexCount(), src.getOutlineCount());
+        final int oc = src.getOutlineCount();
+        outlineCount = 0;
+        for(int o=0; o<oc; o++) {
+            final Outline ol = src.getOutline(o);
+            ensureOutlineCapacity(outlineCount+1);
+            closed[outlineCount] = ol.isClosed();
+            outlineStart[outlineCount] = vertexCount;
+            outlineCount++;
+            final int vc = ol.getVertexCount();
+            for(int i=0; i<vc; i++) {
+                final Vertex v = ol.getVertex(i);
+                appendVertex(v.x(), v.y(), v.z(), v.isOnCurve());
+            }
+            outlineStart[outlineCount] = vertexCount;
+        }
+        if( 0 == outlineCount ) {
+            addOutlineImpl();
+        }
+        dirtyBounds = true;
+    }
+
+    /** Removes all vertices and outlines, leaving one empty outline. Retains the storage. */
+    public final void clear() {
+        vertexCount = 0;
+        outlineCount = 0;
+        addOutlineImpl();
+        bbox.reset();
+        dirtyBounds = false;
+    }
+
+    private void ensureVertexCapacity(final int n) {
+        if( n > z.length ) {
+            final int cap = Math.max(n, z.length + ( z.length >> 1 ) + 1);
+            final float[] nxy = new float[2*cap];
+            System.arraycopy(xy, 0, nxy, 0, 2*vertexCount);
+            xy = nxy;
+            final float[] nz = new float[cap];
+            System.arraycopy(z, 0, nz, 0, vertexCount);
+            z = nz;
+            final byte[] nf = new byte[cap];
+            System.arraycopy(flags, 0, nf, 0, vertexCount);
+            flags = nf;
+        }
+    }
+
+    private void ensureOutlineCapacity(final int n) {
+        if( n > closed.length ) {
+            final int cap = Math.max(n, closed.length * 2);
+            final int[] ns = new int[cap+1];
+            System.arraycopy(outlineStart, 0, ns, 0, outlineCount+1);
+            outlineStart = ns;
+            final boolean[] nc = new boolean[cap];
+            System.arraycopy(closed, 0, nc, 0, outlineCount);
+            closed = nc;
+        }
+    }
+
+    private void addOutlineImpl() {
+        ensureOutlineCapacity(outlineCount+1);
+        closed[outlineCount] = false;
+        outlineStart[outlineCount] = vertexCount;
+        outlineCount++;
+        outlineStart[outlineCount] = vertexCount;
+    }
+
+    private void appendVertex(final float x, final float y, final float z, final boolean onCurve) {
+        ensureVertexCapacity(vertexCount+1);
+        xy[2*vertexCount] = x;
+        xy[2*vertexCount+1] = y;
+        this.z[vertexCount] = z;
+        flags[vertexCount] = onCurve ? FLAG_ON_CURVE : 0;
+        vertexCount++;
+    }
+
+    /** Returns the number of outlines, at least one. */
+    public final int getOutlineCount() { return outlineCount; }
+
+    /** Returns the number of vertices of all outlines. */
+    public final int getVertexCount() { return vertexCount; }
+
+    /** Returns the index of the first vertex of the given outline. */
+    public final int getOutlineStart(final int outline) {
+        checkOutline(outline);
+        return outlineStart[outline];
+    }
+
+    /** Returns the index after the last vertex of the given outline. */
+    public final int getOutlineEnd(final int outline) {
+        checkOutline(outline);
+        return outlineStart[outline+1];
+    }
+
+    /** Returns the number of vertices of the given outline. */
+    public final int getVertexCount(final int outline) {
+        checkOutline(outline);
+        return outlineStart[outline+1] - outlineStart[outline];
+    }
+
+    /** Returns true if the given outline has been closed. */
+    public final boolean isClosed(final int outline) {
+        checkOutline(outline);
+        return closed[outline];
+    }
+
+    private void checkOutline(final int outline) throws IndexOutOfBoundsException {
+        if( 0 > outline || outline >= outlineCount ) {
+            throw new IndexOutOfBoundsException("Outline "+outline+" of "+outlineCount);
+        }
+    }
+
+    private void checkVertex(final int index) throws IndexOutOfBoundsException {
+        if( 0 > index || index >= vertexCount ) {
+            throw new IndexOutOfBoundsException("Vertex "+index+" of "+vertexCount);
+        }
+    }
+
+    public final float x(final int index) { checkVertex(index); return xy[2*index]; }
+    public final float y(final int index) { checkVertex(index); return xy[2*index+1]; }
+    public final float z(final int index) { checkVertex(index); return z[index]; }
+    public final boolean isOnCurve(final int index) { checkVertex(index); return 0 != ( flags[index] & FLAG_ON_CURVE ); }
+
+    /**
+     * Returns the backing packed x/y coordinate array, valid for the first {@link #getVertexCount()} pairs.
+     * The array is replaced when growing, i.e. is only valid until the next modification.
+     */
+    public final float[] getCoordsXY() { return xy; }
+
+    /** Returns the backing z coordinate array, see {@link #getCoordsXY()}. */
+    public final float[] getCoordsZ() { return z; }
+
+    /** Returns the backing flags array, see {@link #getCoordsXY()} and {@link #FLAG_ON_CURVE}. */
+    public final byte[] getFlags() { return flags; }
+
+    /**
+     * Sets the coordinates of the given vertex and marks the bounds dirty.
+     */
+    public final void setCoord(final int index, final float x, final float y, final float z) {
+        checkVertex(index);
+        xy[2*index] = x;
+        xy[2*index+1] = y;
+        this.z[index] = z;
+        dirtyBounds = true;
+    }
+
+    /**
+     * Stores the given vertex into <code>dst</code>, i.e. its coordinates and on-curve flag.
+     * @return dst for chaining
+     */
+    public final Vertex getVertex(final int index, final Vertex dst) {
+        checkVertex(index);
+        dst.setCoord(xy[2*index], xy[2*index+1], z[index]);
+        dst.setOnCurve(0 != ( flags[index] & FLAG_ON_CURVE ));
+        return dst;
+    }
+
+    /**
+     * Appends a vertex to the last outline.
+     */
+    public final void addVertex(final float x, final float y, final float z, final boolean onCurve) {
+        appendVertex(x, y, z, onCurve);
+        outlineStart[outlineCount] = vertexCount;
+        if( !dirtyBounds ) {
+            bbox.resize(x, y, z);
+        }
+    }
+
+    /**
+     * Adds an empty outline to the end.
+     * If the last outline is empty already, no new one will be added.
+     * @see OutlineShape#addEmptyOutline()
+     */
+    public final void addEmptyOutline() {
+        if( 0 < getVertexCount(outlineCount-1) ) {
+            addOutlineImpl();
+        }
+    }
+
+    /**
+     * Closes the last outline.
+     * <p>
+     * If its last vertex does not equal the first, either a copy of the first vertex
+     * is appended or a copy of the last vertex prepended, depending on <code>closeTail</code>.
+     * </p>
+     * @return true if a vertex has been added
+     * @see Outline#setClosed(boolean)
+     */
+    public final boolean closeLastOutline(final boolean closeTail) {
+        final int o = outlineCount - 1;
+        closed[o] = true;
+        final int first = outlineStart[o];
+        final int last = vertexCount - 1;
+        if( last < first ) {
+            return false;
+        }
+        if( xy[2*first] == xy[2*last] && xy[2*first+1] == xy[2*last+1] && z[first] == z[last] ) {
+            return false;
+        }
+        if( closeTail ) {
+            addVertex(xy[2*first], xy[2*first+1], z[first], 0 != ( flags[first] & FLAG_ON_CURVE ));
+        } else {
+            final float lx = xy[2*last], ly = xy[2*last+1], lz = z[last];
+            final byte lf = flags[last];
+            ensureVertexCapacity(vertexCount+1);
+            final int n = vertexCount - first;
+            System.arraycopy(xy, 2*first, xy, 2*first+2, 2*n);
+            System.arraycopy(z, first, z, first+1, n);
+            System.arraycopy(flags, first, flags, first+1, n);
+            xy[2*first] = lx;
+            xy[2*first+1] = ly;
+            z[first] = lz;
+            flags[first] = lf;
+            vertexCount++;
+            outlineStart[outlineCount] = vertexCount;
+        }
+        return true;
+    }
+
+    /** @see OutlineShape#moveTo(float, float, float) */
+    public final void moveTo(final float x, final float y, final float z) {
+        if( 0 < getVertexCount(outlineCount-1) ) {
+            closeLastOutline(false);
+            addEmptyOutline();
+        }
+        addVertex(x, y, z, true);
+    }
+
+    /** @see OutlineShape#lineTo(float, float, float) */
+    public final void lineTo(final float x, final float y, final float z) {
+        addVertex(x, y, z, true);
+    }
+
+    /** @see OutlineShape#quadTo(float, float, float, float, float, float) */
+    public final void quadTo(final float x1, final float y1, final float z1, final float x2, final float y2, final float z2) {
+        addVertex(x1, y1, z1, false);
+        addVertex(x2, y2, z2, true);
+    }
+
+    /** @see OutlineShape#cubicTo(float, float, float, float, float, float, float, float, float) */
+    public final void cubicTo(final float x1, final float y1, final float z1, final float x2, final float y2, final float z2, final float x3, final float y3, final float z3) {
+        addVertex(x1, y1, z1, false);
+        addVertex(x2, y2, z2, false);
+        addVertex(x3, y3, z3, true);
+    }
+
+    /** @see OutlineShape#closePath() */
+    public final void closePath() {
+        if( 0 < getVertexCount(outlineCount-1) ) {
+            closeLastOutline(true);
+            addEmptyOutline();
+        }
+    }
+
+    /**
+     * Returns the {@link Winding} of the given outline, using the area over all of its vertices.
+     * Outlines with less than three vertices are {@link Winding#CCW}.
+     * @see Outline#getWinding()
+     */
+    public final Winding getWinding(final int outline) {
+        final int n = getVertexCount(outline);
+        if( 3 > n ) {
+            return Winding.CCW;
+        }
+        return VectorUtil.getWinding(xy, outlineStart[outline], n);
+    }
+
+    /**
+     * Enforces the given {@link Winding} on the given outline, reversing its vertices in place if required.
+     * @see Outline#setWinding(Winding)
+     */
+    public final void setWinding(final int outline, final Winding enforce) {
+        if( enforce != getWinding(outline) ) {
+            for(int i=outlineStart[outline], j=outlineStart[outline+1]-1; i<j; i++, j--) {
+                float t = xy[2*i]; xy[2*i] = xy[2*j]; xy[2*j] = t;
+                t = xy[2*i+1]; xy[2*i+1] = xy[2*j+1]; xy[2*j+1] = t;
+                t = z[i]; z[i] = z[j]; z[j] = t;
+                final byte f = flags[i]; flags[i] = flags[j]; flags[j] = f;
+            }
+        }
+    }
+
+    /** Returns the bounding box of all vertices, validated lazily. */
+    public final AABBox getBounds() {
+        if( dirtyBounds ) {
+            dirtyBounds = false;
+            bbox.reset();
+            for(int i=0; i<vertexCount; i++) {
+                bbox.resize(xy[2*i], xy[2*i+1], z[i]);
+            }
+        }
+        return bbox;
+    }
+
+    /**
+     * Stores the bounding box of the given outline into <code>dst</code>.
+     * @return dst for chaining
+     */
+    public final AABBox getBounds(final int outline, final AABBox dst) {
+        final int end = getOutlineEnd(outline);
+        dst.reset();
+        for(int i=outlineStart[outline]; i<end; i++) {
+            dst.resize(xy[2*i], xy[2*i+1], z[i]);
+        }
+        return dst;
+    }
+
+    /**
+     * Transforms all vertices with the given {@link AffineTransform} into <code>dst</code>.
+     * @param t the transform
+     * @param dst destination, may be <code>this</code> for an in-place transformation or <code>null</code> for a new instance
+     * @return dst for chaining
+     */
+    public final PackedOutlines transform(final AffineTransform t, PackedOutlines dst) {
+        if( null == dst ) {
+            dst = new PackedOutlines(this);
+        } else if( dst != this ) {
+            dst.set(this);
+        }
+        t.transform(xy, 0, dst.xy, 0, vertexCount);
+        dst.dirtyBounds = true;
+        return dst;
+    }
+
+    /** Copies the given source into this instance, reusing its storage if sufficient. */
+    public final void set(final PackedOutlines src) {
+        vertexCount = 0;
+        outlineCount = 0;
+        ensureVertexCapacity(src.vertexCount);
+        ensureOutlineCapacity(src.outlineCount);
+        System.arraycopy(src.xy, 0, xy, 0, 2*src.vertexCount);
+        System.arraycopy(src.z, 0, z, 0, src.vertexCount);
+        System.arraycopy(src.flags, 0, flags, 0, src.vertexCount);
+        System.arraycopy(src.outlineStart, 0, outlineStart, 0, src.outlineCount+1);
+        System.arraycopy(src.closed, 0, closed, 0, src.outlineCount);
+        vertexCount = src.vertexCount;
+        outlineCount = src.outlineCount;
+        bbox.copy(src.bbox);
+        dirtyBounds = src.dirtyBounds;
+    }
+
+    /** Returns a new {@link Outline} of the given outline's vertices. */
+    public final Outline getOutline(final int outline) {
+        final int start = getOutlineStart(outline);
+        final int end = outlineStart[outline+1];
+        final Outline ol = new Outline();
+        for(int i=start; i<end; i++) {
+            ol.addVertex(new Vertex(xy[2*i], xy[2*i+1], z[i], 0 != ( flags[i] & FLAG_ON_CURVE )));
+        }
+        if( closed[outline] ) {
+            ol.setClosed(true); // NOP append, already closed
+        }
+        return ol;
+    }
+
+    /** Returns the vertices of the given outline as new {@link Vertex} list, see {@link Outline#getVertices()}. */
+    public final ArrayList<Vertex> getVertices(final int outline) {
+        final int start = getOutlineStart(outline);
+        final int end = outlineStart[outline+1];
+        final ArrayList<Vertex> res = new ArrayList<Vertex>(end - start);
+        for(int i=start; i<end; i++) {
+            res.add(new Vertex(xy[2*i], xy[2*i+1], z[i], 0 != ( flags[i] & FLAG_ON_CURVE )));
+        }
+        return res;
+    }
+
+    /**
+     * Returns a new {@link OutlineShape} of all outlines, e.g. for triangulation and {@link com.jogamp.graph.curve.Region} usage.
+     */
+    public final OutlineShape toOutlineShape() {
+        final OutlineShape shape = new OutlineShape();
+        for(int o=0; o<outlineCount; o++) {
+            if( 0 < getVertexCount(o) ) {
+                shape.addOutline(getOutline(o));
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Returns the approximate heap size of this instance's arrays in bytes,
+     * excluding object headers.
+     */
+    public final long getArraysByteSize() {
+        return xy.length * 4L + z.length * 4L + flags.length + outlineStart.length * 4L + closed.length;
+    }
+
+    @Override
+    public String toString() {
+        return "PackedOutlines[outlines "+outlineCount+", vertices "+vertexCount+"]";
+    }
+
+}
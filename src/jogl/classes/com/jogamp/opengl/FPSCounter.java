@@ -29,10 +29,16 @@ package com.jogamp.opengl;
 
 import java.io.PrintStream;
 
+import com.jogamp.opengl.util.FrameTimeHistogram;
+
 /**
  * FPSCounter feature.<br>
  * An implementation initially has the FPSCounter feature disabled.<br>
  * Use {@link #setUpdateFPSFrames(int, PrintStream)} to enable and disable the FPSCounter feature.
+ * <p>
+ * Independently, frame time {@link FrameTimeHistogram histograms} may be recorded,
+ * see {@link #setFrameTimeHistograms(boolean, boolean)}.
+ * </p>
  */
 public interface FPSCounter {
     public static final int DEFAULT_FRAMES_PER_INTERVAL = 5*60;
@@ -114,4 +120,36 @@ public interface FPSCounter {
      * @see #resetFPSCounter()
      */
     float getTotalFPS();
+
+    /**
+     * Enables or disables recording of frame time {@link FrameTimeHistogram histograms}, disabled by default.
+     * <p>
+     * Recorded values are cleared via {@link #resetFPSCounter()}.
+     * </p>
+     * @param cpu if true, record the CPU frame time, i.e. the duration between two consecutive frames
+     * @param gpu if true, record the GPU frame time of a {@link GLAutoDrawable}'s display via timer queries if supported,
+     *            see {@link com.jogamp.opengl.util.GPUFrameTimer}. Ignored by implementations not rendering themselves, e.g. animators.
+     * @see #getCPUFrameTimes()
+     * @see #getGPUFrameTimes()
+     */
+    void setFrameTimeHistograms(boolean cpu, boolean gpu);
+
+    /**
+     * Returns a snapshot of the CPU frame time histogram in nanoseconds,
+     * or null if not enabled via {@link #setFrameTimeHistograms(boolean, boolean)}.
+     * <p>
+     * May be called from any thread without blocking rendering.
+     * </p>
+     */
+    FrameTimeHistogram.Snapshot getCPUFrameTimes();
+
+    /**
+     * Returns a snapshot of the GPU frame time histogram in nanoseconds,
+     * or null if not enabled via {@link #setFrameTimeHistograms(boolean, boolean)}
+     * or timer queries are not supported.
+     * <p>
+     * May be called from any thread without blocking rendering.
+     * </p>
+     */
+    FrameTimeHistogram.Snapshot getGPUFrameTimes();
 }
@@ -291,6 +291,17 @@ public interface GLArrayData {
      */
     public int getStride();
 
+    /**
+     * Returns the vertex attribute divisor, i.e. the number of instances sharing one element
+     * of this array when drawing instanced, see {@link GL2ES3#glVertexAttribDivisor(int, int)}.
+     * <p>
+     * Zero (default) denotes a per-vertex attribute.
+     * A non zero divisor is only applicable for {@link #isVertexAttribute() vertex attributes}
+     * and requires a {@link GL2ES3} context.
+     * </p>
+     */
+    public int getVertexAttribDivisor();
+
     @Override
     public String toString();
 
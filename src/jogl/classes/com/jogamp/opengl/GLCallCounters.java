@@ -0,0 +1,251 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl;
+
+import java.nio.Buffer;
+
+import com.jogamp.common.nio.Buffers;
+
+/**
+ * Counters collected by the generated <code>ProfileGL*</code> composable pipelines,
+ * e.g. {@link ProfileGL4bc} or {@link ProfileGLES3}.
+ * <p>
+ * A profile pipeline counts calls per GL entry point in a primitive array indexed by method ID,
+ * sums the bytes passed to buffer and texture uploads, counts draw calls and state binds
+ * and measures the time spent in selected entry points, i.e. draw calls, uploads and synchronizing calls.
+ * </p>
+ * <p>
+ * Sample code which installs the pipeline:
+ * <pre>
+ *   final GLCallCounters counters = new GLCallCounters();
+ *   gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Profile", null, gl, new Object[] { counters } ) );
+ * </pre>
+ * and at the end of each {@link GLEventListener#display(GLAutoDrawable) display}:
+ * <pre>
+ *   final GLCallCounters.Frame frame = counters.endFrame();
+ * </pre>
+ * </p>
+ * <p>
+ * Counting is performed unsynchronized on the GL thread.
+ * The per-frame {@link Frame} snapshot published via {@link #endFrame()}
+ * may be read from any thread via {@link #getLastFrame()}.
+ * </p>
+ */
+public final class GLCallCounters {
+    /** Immutable per-frame snapshot, see {@link GLCallCounters#endFrame()}. */
+    public static final class Frame {
+        /** Frame number, starting with 1 */
+        public final long frameNo;
+        /** Number of GL calls */
+        public final long calls;
+        /** Number of draw calls, i.e. <code>glDraw*</code> and <code>glMultiDraw*</code> */
+        public final long drawCalls;
+        /** Number of state binds, i.e. <code>glBind*</code> and <code>glUseProgram</code> */
+        public final long binds;
+        /** Bytes passed to buffer and texture uploads */
+        public final long uploadBytes;
+        /** Nanoseconds spent in timed entry points */
+        public final long timedNanos;
+
+        Frame(final long frameNo, final long calls, final long drawCalls, final long binds, final long uploadBytes, final long timedNanos) {
+            this.frameNo = frameNo;
+            this.calls = calls;
+            this.drawCalls = drawCalls;
+            this.binds = binds;
+            this.uploadBytes = uploadBytes;
+            this.timedNanos = timedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Frame#"+frameNo+"[calls "+calls+", draws "+drawCalls+", binds "+binds+", upload "+uploadBytes+" bytes, timed "+(timedNanos/1000)+" us]";
+        }
+    }
+
+    private String[] methodNames = null;
+    // package-private, incremented by the ProfileGL* pipelines
+    long[] calls = new long[0];
+    long[] nanos = new long[0];
+    long frameCalls, frameDrawCalls, frameBinds, frameUploadBytes, frameNanos;
+
+    private long frameNo = 0;
+    private long totalDrawCalls, totalBinds, totalUploadBytes;
+    private volatile Frame lastFrame = null;
+
+    /** Creates counters to be passed to a <code>ProfileGL*</code> pipeline's constructor. */
+    public GLCallCounters() { }
+
+    /**
+     * Attaches these counters to a pipeline, sizing the per entry point arrays.
+     * @param names the pipeline's method names indexed by method ID
+     * @throws GLException if already attached to a pipeline with different entry points
+     */
+    void attach(final String[] names) throws GLException {
+        if( null == methodNames ) {
+            methodNames = names;
+            calls = new long[names.length];
+            nanos = new long[names.length];
+        } else if( methodNames != names ) {
+            throw new GLException("GLCallCounters already attached to a different pipeline");
+        }
+    }
+
+    /** Adds the duration of a timed entry point, called by the pipeline. */
+    final void addNanos(final int id, final long dt) {
+        nanos[id] += dt;
+        frameNanos += dt;
+    }
+
+    /** Returns the number of bytes remaining in the given buffer, or zero if null. Called by the pipeline. */
+    static long sizeOf(final Buffer b) {
+        return null != b ? (long)Buffers.sizeOfBufferElem(b) * b.remaining() : 0;
+    }
+
+    /**
+     * Completes the current frame and starts a new one.
+     * <p>
+     * Shall be called on the GL thread, e.g. at the end of {@link GLEventListener#display(GLAutoDrawable)}.
+     * </p>
+     * @return the completed frame's snapshot, also available via {@link #getLastFrame()}
+     */
+    public final Frame endFrame() {
+        final Frame f = new Frame(++frameNo, frameCalls, frameDrawCalls, frameBinds, frameUploadBytes, frameNanos);
+        totalDrawCalls += frameDrawCalls;
+        totalBinds += frameBinds;
+        totalUploadBytes += frameUploadBytes;
+        frameCalls = 0;
+        frameDrawCalls = 0;
+        frameBinds = 0;
+        frameUploadBytes = 0;
+        frameNanos = 0;
+        lastFrame = f;
+        return f;
+    }
+
+    /** Returns the last frame's snapshot published by {@link #endFrame()}, or null if none. May be called from any thread. */
+    public final Frame getLastFrame() { return lastFrame; }
+
+    /** Returns the number of completed frames. */
+    public final long getFrameCount() { return frameNo; }
+
+    /** Returns the number of draw calls of all completed frames. */
+    public final long getTotalDrawCalls() { return totalDrawCalls; }
+
+    /** Returns the number of state binds of all completed frames. */
+    public final long getTotalBinds() { return totalBinds; }
+
+    /** Returns the bytes uploaded in all completed frames. */
+    public final long getTotalUploadBytes() { return totalUploadBytes; }
+
+    /** Returns the number of entry points, i.e. the valid method ID range, or zero if not attached. */
+    public final int getMethodCount() { return calls.length; }
+
+    /** Returns the name of the entry point with the given method ID. */
+    public final String getMethodName(final int id) { return methodNames[id]; }
+
+    /** Returns the method ID of the given entry point name, or -1 if not available. */
+    public final int getMethodID(final String name) {
+        if( null != methodNames ) {
+            for(int i=0; i<methodNames.length; i++) {
+                if( methodNames[i].equals(name) ) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /** Returns the total number of calls of the entry point with the given method ID. */
+    public final long getCallCount(final int id) { return calls[id]; }
+
+    /** Returns the total nanoseconds spent in the entry point with the given method ID, zero if not timed. */
+    public final long getNanos(final int id) { return nanos[id]; }
+
+    /** Returns a copy of the total number of calls per entry point indexed by method ID. */
+    public final long[] getCallCounts() { return calls.clone(); }
+
+    /**
+     * Resets all counters, including the frame number.
+     * <p>
+     * Shall be called on the GL thread.
+     * </p>
+     */
+    public final void reset() {
+        java.util.Arrays.fill(calls, 0);
+        java.util.Arrays.fill(nanos, 0);
+        frameCalls = 0;
+        frameDrawCalls = 0;
+        frameBinds = 0;
+        frameUploadBytes = 0;
+        frameNanos = 0;
+        frameNo = 0;
+        totalDrawCalls = 0;
+        totalBinds = 0;
+        totalUploadBytes = 0;
+        lastFrame = null;
+    }
+
+    /**
+     * Appends the entry points called since the last {@link #reset()}, sorted by call count.
+     * @param sb optional {@link StringBuilder} to append to
+     * @param max maximum number of entry points listed
+     */
+    public final StringBuilder toString(StringBuilder sb, final int max) {
+        if( null == sb ) {
+            sb = new StringBuilder();
+        }
+        final Integer[] ids = new Integer[calls.length];
+        for(int i=0; i<ids.length; i++) {
+            ids[i] = Integer.valueOf(i);
+        }
+        java.util.Arrays.sort(ids, new java.util.Comparator<Integer>() {
+            @Override
+            public int compare(final Integer a, final Integer b) {
+                return Long.compare(calls[b.intValue()], calls[a.intValue()]);
+            } });
+        sb.append("GLCallCounters[frames ").append(frameNo).append(", draws ").append(totalDrawCalls)
+          .append(", binds ").append(totalBinds).append(", upload ").append(totalUploadBytes).append(" bytes");
+        for(int i=0; i<ids.length && i<max; i++) {
+            final int id = ids[i].intValue();
+            if( 0 == calls[id] ) {
+                break;
+            }
+            sb.append(String.format((java.util.Locale)null, "%n  %-40s %10d calls", methodNames[id], calls[id]));
+            if( 0 != nanos[id] ) {
+                sb.append(String.format((java.util.Locale)null, ", %10.3f ms", nanos[id]/1e6));
+            }
+        }
+        sb.append("]");
+        return sb;
+    }
+
+    @Override
+    public final String toString() {
+        return toString(null, 16).toString();
+    }
+}
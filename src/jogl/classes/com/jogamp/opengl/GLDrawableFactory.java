@@ -531,7 +531,9 @@ public abstract class GLDrawableFactory {
    * Returns an array of available GLCapabilities for the device.<br>
    * The list is sorted by the native ID, ascending.<br>
    * The chosen GLProfile statement in the result may not refer to the maximum available profile
-   * due to implementation constraints, ie using the shared resource.
+   * due to implementation constraints, ie using the shared resource.<br>
+   * The enumeration is cached per device until the device is closed or its shared resource released,
+   * the returned list is a copy.
    *
    * @param device which {@link AbstractGraphicsDevice#getConnection() connection} denotes the shared the target device, may be <code>null</code> for the platform's default device.
    * @return A list of {@link com.jogamp.opengl.GLCapabilitiesImmutable}'s, maybe empty if none is available.
@@ -82,6 +82,10 @@ public class GLExtensions {
   public static final String ARB_shader_objects              = "GL_ARB_shader_objects";
   public static final String ARB_geometry_shader4            = "GL_ARB_geometry_shader4";
 
+  public static final String ARB_timer_query                 = "GL_ARB_timer_query";
+  public static final String EXT_timer_query                 = "GL_EXT_timer_query";
+  public static final String EXT_disjoint_timer_query        = "GL_EXT_disjoint_timer_query";
+
   //
   // Aliased GLX/WGL/.. extensions
   //
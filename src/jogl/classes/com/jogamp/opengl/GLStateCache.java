@@ -0,0 +1,314 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl;
+
+import com.jogamp.common.util.IntIntHashMap;
+
+import jogamp.opengl.GLContextImpl;
+import jogamp.opengl.GLStateTracker;
+
+/**
+ * Shadowed bindable state of one {@link GLContext}, used by the generated <code>StateCacheGL*</code>
+ * composable pipelines, e.g. {@link StateCacheGL4bc} or {@link StateCacheGLES3},
+ * to drop calls setting state which is already current.
+ * <p>
+ * Filtered calls are
+ * <code>glUseProgram</code>, <code>glActiveTexture</code>, <code>glBindTexture</code>,
+ * <code>glBindBuffer</code>, <code>glBindVertexArray</code>, <code>glEnable</code>, <code>glDisable</code>,
+ * <code>glBlendFunc</code> and <code>glBlendFuncSeparate</code>.
+ * </p>
+ * <p>
+ * Texture bindings and the per texture unit enable state of fixed function texture targets
+ * and texture coordinate generation are shadowed per active texture unit.
+ * </p>
+ * <p>
+ * All state is initially unknown and the first call of each state always reaches the driver,
+ * hence <code>glGet*</code> queries always pass through and return the true driver state.
+ * Affected shadowed state is dropped by calls changing it indirectly, e.g. <code>glDelete*</code>,
+ * indexed variants, <code>glPopAttrib</code>, display lists and <code>glBindVertexArray</code>
+ * for the <code>GL_ELEMENT_ARRAY_BUFFER</code> binding.
+ * </p>
+ * <p>
+ * All shadowed state is dropped whenever the context has been made current again,
+ * since other code or a shared context may have changed it while released.
+ * Code changing state bypassing the pipeline while the context is current,
+ * e.g. via {@link GL#getDownstreamGL()} or native code,
+ * or modifying shared objects from another context while this context stays current,
+ * must call {@link #invalidate()}.
+ * </p>
+ * <p>
+ * Not thread safe, shall only be used on the thread having the context current.
+ * </p>
+ */
+public final class GLStateCache {
+    private static final int UNKNOWN = -1;
+
+    private final GL gl;
+    private final GLStateTracker tracker;
+    private final int[] tmp = { 0 };
+    private final IntIntHashMap textures = new IntIntHashMap();
+    private final IntIntHashMap buffers = new IntIntHashMap();
+    private final IntIntHashMap caps = new IntIntHashMap();
+    private int madeCurrentCount;
+    private int program, activeTexture, vertexArray;
+    private int blendSrcRGB, blendDstRGB, blendSrcAlpha, blendDstAlpha;
+    private boolean inList = false;
+    private long filteredCalls = 0;
+    private long elidedCalls = 0;
+
+    /**
+     * @param downstream the downstream GL of the pipeline, its context's state is being shadowed
+     */
+    public GLStateCache(final GL downstream) {
+        gl = downstream;
+        final GLContext ctx = downstream.getContext();
+        tracker = ctx instanceof GLContextImpl ? ((GLContextImpl)ctx).getGLStateTracker() : null;
+        textures.setKeyNotFoundValue(UNKNOWN);
+        buffers.setKeyNotFoundValue(UNKNOWN);
+        caps.setKeyNotFoundValue(UNKNOWN);
+        invalidate();
+    }
+
+    /** Drops all shadowed state, i.e. the next call of each filtered state reaches the driver. */
+    public final void invalidate() {
+        textures.clear();
+        buffers.clear();
+        caps.clear();
+        program = UNKNOWN;
+        activeTexture = UNKNOWN;
+        vertexArray = UNKNOWN;
+        invalidateBlendFunc();
+        madeCurrentCount = null != tracker ? tracker.getMadeCurrentCount() : 0;
+    }
+
+    /** Returns the number of examined filterable calls. */
+    public final long getFilteredCallCount() { return filteredCalls; }
+
+    /** Returns the number of dropped calls, which would have set already current state. */
+    public final long getElidedCallCount() { return elidedCalls; }
+
+    /** Resets the {@link #getFilteredCallCount()} and {@link #getElidedCallCount()} counter. */
+    public final void resetCounter() {
+        filteredCalls = 0;
+        elidedCalls = 0;
+    }
+
+    /** Returns true if shadowed state may be used, otherwise drops it if the context was made current in between. */
+    private boolean validate() {
+        filteredCalls++;
+        if( inList ) {
+            return false;
+        }
+        if( null != tracker && tracker.getMadeCurrentCount() != madeCurrentCount ) {
+            invalidate();
+        }
+        return true;
+    }
+
+    private boolean elide() {
+        elidedCalls++;
+        return false;
+    }
+
+    /** Returns true if <code>glUseProgram(program)</code> shall be passed downstream. */
+    public final boolean useProgram(final int program) {
+        if( !validate() ) {
+            return true;
+        }
+        if( this.program == program ) {
+            return elide();
+        }
+        this.program = program;
+        return true;
+    }
+
+    /** Returns true if <code>glActiveTexture(texture)</code> shall be passed downstream. */
+    public final boolean activeTexture(final int texture) {
+        if( !validate() ) {
+            return true;
+        }
+        if( activeTexture == texture ) {
+            return elide();
+        }
+        activeTexture = texture;
+        return true;
+    }
+
+    /** Returns the key of the given target or capability for the active texture unit, queried if unknown. */
+    private int getTextureUnitKey(final int target) {
+        if( UNKNOWN == activeTexture ) {
+            gl.glGetIntegerv(GL.GL_ACTIVE_TEXTURE, tmp, 0);
+            activeTexture = tmp[0];
+        }
+        return ( ( activeTexture - GL.GL_TEXTURE0 ) << 16 ) | ( target & 0xffff );
+    }
+
+    /**
+     * Returns true if the enable state of the given capability is per texture unit,
+     * i.e. fixed function texture targets and texture coordinate generation.
+     */
+    private static boolean isTextureUnitCap(final int cap) {
+        switch( cap ) {
+            case GL2GL3.GL_TEXTURE_1D:
+            case GL.GL_TEXTURE_2D:
+            case GL2ES2.GL_TEXTURE_3D:
+            case GL.GL_TEXTURE_CUBE_MAP:
+            case GL2GL3.GL_TEXTURE_RECTANGLE:
+            case GLES2.GL_TEXTURE_EXTERNAL_OES:
+            case GL2.GL_TEXTURE_GEN_S:
+            case GL2.GL_TEXTURE_GEN_T:
+            case GL2.GL_TEXTURE_GEN_R:
+            case GL2.GL_TEXTURE_GEN_Q:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /** Returns true if <code>glBindTexture(target, texture)</code> shall be passed downstream. */
+    public final boolean bindTexture(final int target, final int texture) {
+        if( !validate() ) {
+            return true;
+        }
+        final int key = getTextureUnitKey(target);
+        if( textures.get(key) == texture ) {
+            return elide();
+        }
+        textures.put(key, texture);
+        return true;
+    }
+
+    /** Returns true if <code>glBindBuffer(target, buffer)</code> shall be passed downstream. */
+    public final boolean bindBuffer(final int target, final int buffer) {
+        if( !validate() ) {
+            return true;
+        }
+        if( buffers.get(target) == buffer ) {
+            return elide();
+        }
+        buffers.put(target, buffer);
+        return true;
+    }
+
+    /** Returns true if <code>glBindVertexArray(array)</code> shall be passed downstream. */
+    public final boolean bindVertexArray(final int array) {
+        if( !validate() ) {
+            return true;
+        }
+        if( vertexArray == array ) {
+            return elide();
+        }
+        vertexArray = array;
+        // element array buffer binding is vertex array state
+        buffers.remove(GL.GL_ELEMENT_ARRAY_BUFFER);
+        return true;
+    }
+
+    /** Returns true if <code>glEnable(cap)</code> or <code>glDisable(cap)</code> shall be passed downstream. */
+    public final boolean enable(final int cap, final boolean enable) {
+        if( !validate() ) {
+            return true;
+        }
+        final int v = enable ? 1 : 0;
+        final int key = isTextureUnitCap(cap) ? getTextureUnitKey(cap) : cap;
+        if( caps.get(key) == v ) {
+            return elide();
+        }
+        caps.put(key, v);
+        return true;
+    }
+
+    /** Returns true if <code>glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha)</code> shall be passed downstream. */
+    public final boolean blendFuncSeparate(final int srcRGB, final int dstRGB, final int srcAlpha, final int dstAlpha) {
+        if( !validate() ) {
+            return true;
+        }
+        if( blendSrcRGB == srcRGB && blendDstRGB == dstRGB && blendSrcAlpha == srcAlpha && blendDstAlpha == dstAlpha ) {
+            return elide();
+        }
+        blendSrcRGB = srcRGB;
+        blendDstRGB = dstRGB;
+        blendSrcAlpha = srcAlpha;
+        blendDstAlpha = dstAlpha;
+        return true;
+    }
+
+    /** Drops the shadowed program, e.g. after <code>glDeleteProgram</code>. */
+    public final void invalidateProgram() {
+        program = UNKNOWN;
+    }
+
+    /** Drops all shadowed texture bindings, e.g. after <code>glDeleteTextures</code> or multi-bind. */
+    public final void invalidateTextures() {
+        textures.clear();
+    }
+
+    /** Drops the shadowed buffer binding of the given target, e.g. after <code>glBindBufferBase</code>. */
+    public final void invalidateBuffer(final int target) {
+        buffers.remove(target);
+    }
+
+    /** Drops all shadowed buffer and vertex array bindings, e.g. after <code>glDeleteBuffers</code>. */
+    public final void invalidateBuffers() {
+        buffers.clear();
+        vertexArray = UNKNOWN;
+    }
+
+    /** Drops the shadowed enable state of the given capability, e.g. after <code>glEnablei</code>. */
+    public final void invalidateCap(final int cap) {
+        if( isTextureUnitCap(cap) ) {
+            caps.clear(); // shadowed for all texture units
+        } else {
+            caps.remove(cap);
+        }
+    }
+
+    /** Drops the shadowed blend function, e.g. after <code>glBlendFunci</code>. */
+    public final void invalidateBlendFunc() {
+        blendSrcRGB = UNKNOWN;
+        blendDstRGB = UNKNOWN;
+        blendSrcAlpha = UNKNOWN;
+        blendDstAlpha = UNKNOWN;
+    }
+
+    /** Disables filtering while compiling a display list, since calls may not be executed or must be recorded. */
+    public final void beginList() {
+        inList = true;
+    }
+
+    /** Resumes filtering after compiling a display list w/ all state dropped. */
+    public final void endList() {
+        inList = false;
+        invalidate();
+    }
+
+    @Override
+    public final String toString() {
+        return "GLStateCache[filtered "+filteredCalls+", elided "+elidedCalls+"]";
+    }
+}
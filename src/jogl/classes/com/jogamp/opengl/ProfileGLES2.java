@@ -0,0 +1,21 @@
+package com.jogamp.opengl;
+
+/**
+ * <p>
+ * Composable pipeline which wraps an underlying {@link GL} implementation,
+ * counting calls per OpenGL entry point, bytes passed to buffer and texture uploads,
+ * draw calls and state binds into a user-specified {@link GLCallCounters} instance.
+ * </p>
+ * <p>
+ * Sample code which installs this pipeline, manual:
+ * <pre>
+ *     gl = drawable.setGL(new ProfileGL(drawable.getGL(), counters));
+ * </pre>
+ * For automatic instantiation see {@link GLPipelineFactory#create(String, Class, GL, Object[])}.
+ * </p>
+ */
+public class ProfileGLES2 extends ProfileGLES3 {
+    public ProfileGLES2(final GLES2 downstream, final GLCallCounters counters) {
+        super((GLES3)downstream, counters);
+    }
+}
@@ -0,0 +1,20 @@
+package com.jogamp.opengl;
+
+/**
+ * <p>
+ * Composable pipeline which wraps an underlying {@link GL} implementation,
+ * dropping calls which set already current bindable state, see {@link GLStateCache}.
+ * </p>
+ * <p>
+ * Sample code which installs this pipeline, manual:
+ * <pre>
+ *     gl = drawable.setGL(new StateCacheGL(drawable.getGL()));
+ * </pre>
+ * For automatic instantiation see {@link GLPipelineFactory#create(String, Class, GL, Object[])}.
+ * </p>
+ */
+public class StateCacheGL4 extends StateCacheGL4bc {
+    public StateCacheGL4(final GL4 downstream) {
+        super((GL4bc)downstream);
+    }
+}
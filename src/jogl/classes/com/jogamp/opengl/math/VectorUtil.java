@@ -541,6 +541,33 @@ public final class VectorUtil {
         return area(vertices) >= 0 ? Winding.CCW : Winding.CW ;
     }
 
+    /**
+     * Computes the area of <code>n</code> vertices stored as packed x/y pairs.
+     * @param xy packed x/y coordinates
+     * @param offset index of the first vertex, i.e. its x coordinate is at <code>xy[2*offset]</code>
+     * @param n number of vertices
+     * @return positive area if ccw else negative area value
+     * @see #area(ArrayList)
+     */
+    public static float area(final float[] xy, final int offset, final int n) {
+        float area = 0.0f;
+        for (int p = n - 1, q = 0; q < n; p = q++) {
+            final int pi = ( offset + p ) * 2;
+            final int qi = ( offset + q ) * 2;
+            area += xy[pi] * xy[qi+1] - xy[qi] * xy[pi+1];
+        }
+        return area;
+    }
+
+    /**
+     * Compute the winding using the {@link #area(float[], int, int)} function over <code>n</code> packed x/y vertices.
+     * @return {@link Winding#CCW} or {@link Winding#CW}
+     * @see #getWinding(ArrayList)
+     */
+    public static Winding getWinding(final float[] xy, final int offset, final int n) {
+        return area(xy, offset, n) >= 0 ? Winding.CCW : Winding.CW ;
+    }
+
     /**
      * Finds the plane equation of a plane given its normal and a point on the plane.
      *
@@ -231,6 +231,7 @@ public class Animator extends AnimatorBase {
                     }
                 }
             }
+            stopImpl();
             boolean flushGLRunnables = false;
             boolean throwCaughtException = false;
             synchronized (Animator.this) {
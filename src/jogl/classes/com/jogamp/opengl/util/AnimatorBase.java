@@ -71,6 +71,29 @@ public abstract class AnimatorBase implements GLAnimatorControl {
      */
     public static final int MODE_EXPECT_AWT_RENDERING_THREAD = 1 << 0;
 
+    /**
+     * If present in <code>modeBits</code> field, implementation displays all {@link GLAutoDrawable}s concurrently,
+     * each on its own display thread, instead of sequentially on the animator thread.
+     * <p>
+     * Drawables with a {@link com.jogamp.opengl.GLContext#isShared() shared context}, as known when first displayed,
+     * share one display thread and are displayed sequentially.
+     * All display threads meet at a frame barrier before swapping buffers, i.e. all drawables present in lockstep.
+     * </p>
+     * <p>
+     * If {@link #setExclusiveContext(boolean) exclusive context} is enabled,
+     * each drawable's context is dedicated to its display thread, see {@link #getDisplayThread(GLAutoDrawable)}.
+     * Only then buffer swaps are deferred to the frame barrier, otherwise each drawable swaps within its display.
+     * A user exclusive context thread set via {@link #setExclusiveContext(Thread)} is not used in this mode.
+     * </p>
+     * <p>
+     * This mode takes precedence over {@link #MODE_EXPECT_AWT_RENDERING_THREAD},
+     * hence is not suitable for AWT lightweight drawables like GLJPanel.
+     * </p>
+     * @see #setModeBits(boolean, int)
+     * @see #getLastDisplayDuration(GLAutoDrawable)
+     */
+    public static final int MODE_PARALLEL_DISPLAY = 1 << 1;
+
 
     @SuppressWarnings("serial")
     public static class UncaughtAnimatorException extends RuntimeException {
@@ -140,6 +163,10 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         return 0 != ( MODE_EXPECT_AWT_RENDERING_THREAD & modeBits ) && null != awtAnimatorImplClazz;
     }
 
+    private static final boolean useParallelAnimatorImpl(final int modeBits) {
+        return 0 != ( MODE_PARALLEL_DISPLAY & modeBits );
+    }
+
     /**
      * Initializes implementation details post setup,
      * invoked at {@link #add(GLAutoDrawable)}, {@link #start()}, ..
@@ -153,7 +180,16 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     protected final synchronized void initImpl(final boolean force) {
         if( force || null == impl ) {
             final String seqSuffix = String.format((Locale)null, "#%02d", seqInstanceNumber++);
-            if( useAWTAnimatorImpl( modeBits ) ) {
+            if( impl instanceof ParallelAnimatorImpl ) {
+                ((ParallelAnimatorImpl)impl).dispose();
+            }
+            impl = null;
+            if( useParallelAnimatorImpl( modeBits ) ) {
+                final ParallelAnimatorImpl pimpl = new ParallelAnimatorImpl();
+                baseName = getBaseName("Parallel")+seqSuffix;
+                pimpl.setThreadBaseName(baseName);
+                impl = pimpl;
+            } else if( useAWTAnimatorImpl( modeBits ) ) {
                 try {
                     impl = (AnimatorImpl) awtAnimatorImplClazz.newInstance();
                     baseName = getBaseName("AWT")+seqSuffix;
@@ -176,8 +212,9 @@ public abstract class AnimatorBase implements GLAnimatorControl {
      * @param enable
      * @param bitValues
      *
-     * @throws GLException if Animator is {@link #isStarted()} and {@link #MODE_EXPECT_AWT_RENDERING_THREAD} about to change
+     * @throws GLException if Animator is {@link #isStarted()} and {@link #MODE_EXPECT_AWT_RENDERING_THREAD} or {@link #MODE_PARALLEL_DISPLAY} about to change
      * @see AnimatorBase#MODE_EXPECT_AWT_RENDERING_THREAD
+     * @see AnimatorBase#MODE_PARALLEL_DISPLAY
      */
     public final synchronized void setModeBits(final boolean enable, final int bitValues) throws GLException {
         final int _oldModeBits = modeBits;
@@ -186,7 +223,8 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         } else {
             modeBits &= ~bitValues;
         }
-        if( useAWTAnimatorImpl( _oldModeBits ) != useAWTAnimatorImpl( modeBits ) ) {
+        if( useAWTAnimatorImpl( _oldModeBits ) != useAWTAnimatorImpl( modeBits ) ||
+            useParallelAnimatorImpl( _oldModeBits ) != useParallelAnimatorImpl( modeBits ) ) {
             if( isStarted() ) {
                 throw new GLException("Animator already started");
             }
@@ -207,7 +245,7 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         initImpl(false);
         pause();
         if( isStarted() ) {
-            drawable.setExclusiveContextThread( exclusiveContext ? getExclusiveContextThread() : null ); // if already running ..
+            drawable.setExclusiveContextThread( exclusiveContext ? getDrawableExclCtxThread(drawable, getExclusiveContextThread()) : null ); // if already running ..
         }
         drawables.add(drawable);
         drawablesEmpty = drawables.size() == 0;
@@ -424,7 +462,8 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         final Thread ect = getExclusiveContextThread();
         for (int i=0; i<drawables.size(); i++) {
             try {
-                drawables.get(i).setExclusiveContextThread( enable ? ect : null );
+                final GLAutoDrawable drawable = drawables.get(i);
+                drawable.setExclusiveContextThread( enable ? getDrawableExclCtxThread(drawable, ect) : null );
             } catch (final RuntimeException e) {
                 e.printStackTrace();
             }
@@ -432,18 +471,61 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     }
     protected final boolean validateDrawablesExclCtxState(final Thread expected) {
         for (int i=0; i<drawables.size(); i++) {
-            if( expected != drawables.get(i).getExclusiveContextThread() ) {
+            final GLAutoDrawable drawable = drawables.get(i);
+            if( getDrawableExclCtxThread(drawable, expected) != drawable.getExclusiveContextThread() ) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the exclusive context thread for the given drawable,
+     * i.e. its {@link #getDisplayThread(GLAutoDrawable) display thread} in {@link #MODE_PARALLEL_DISPLAY} mode
+     * and if <code>ect</code> is not <code>null</code>, otherwise the given <code>ect</code>.
+     */
+    private final Thread getDrawableExclCtxThread(final GLAutoDrawable drawable, final Thread ect) {
+        final AnimatorImpl _impl = impl;
+        if( null != ect && _impl instanceof ParallelAnimatorImpl ) {
+            return ((ParallelAnimatorImpl)_impl).getDisplayThread(drawable);
+        }
+        return ect;
+    }
+
     @Override
     public final synchronized Thread getThread() {
         return animThread;
     }
 
+    /**
+     * Returns the thread displaying the given drawable.
+     * <p>
+     * In {@link #MODE_PARALLEL_DISPLAY} mode this is the drawable's own display thread,
+     * created if not existing, otherwise the {@link #getThread() animator thread}.
+     * </p>
+     */
+    public final synchronized Thread getDisplayThread(final GLAutoDrawable drawable) {
+        if( impl instanceof ParallelAnimatorImpl ) {
+            return ((ParallelAnimatorImpl)impl).getDisplayThread(drawable);
+        }
+        return animThread;
+    }
+
+    /**
+     * Returns the duration of the last {@link GLAutoDrawable#display()} of the given drawable in nanoseconds,
+     * as measured on its display thread in {@link #MODE_PARALLEL_DISPLAY} mode.
+     * <p>
+     * Returns -1 if not yet displayed or not in {@link #MODE_PARALLEL_DISPLAY} mode.
+     * </p>
+     */
+    public final long getLastDisplayDuration(final GLAutoDrawable drawable) {
+        final AnimatorImpl _impl = impl;
+        if( _impl instanceof ParallelAnimatorImpl ) {
+            return ((ParallelAnimatorImpl)_impl).getLastDisplayDuration(drawable);
+        }
+        return -1;
+    }
+
     /** Called every frame to cause redrawing of all of the
         GLAutoDrawables this Animator manages. Subclasses should call
         this to get the most optimized painting behavior for the set of
@@ -504,6 +586,29 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         return fpsCounter.getTotalFPS();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The CPU frame time of an animator is the duration between two consecutive frames of all its drawables.
+     * The <code>gpu</code> flag is ignored, use {@link GLAutoDrawable}'s {@link com.jogamp.opengl.FPSCounter} instead.
+     * </p>
+     */
+    @Override
+    public final void setFrameTimeHistograms(final boolean cpu, final boolean gpu) {
+        fpsCounter.setFrameTimeHistograms(cpu, false);
+    }
+
+    @Override
+    public final FrameTimeHistogram.Snapshot getCPUFrameTimes() {
+        return fpsCounter.getCPUFrameTimes();
+    }
+
+    /** Always returns null, since an animator does not render itself. */
+    @Override
+    public final FrameTimeHistogram.Snapshot getGPUFrameTimes() {
+        return null;
+    }
+
     /** Sets a flag causing this Animator to ignore exceptions produced
     while redrawing the drawables. By default this flag is set to
     false, causing any exception thrown to halt the Animator. */
@@ -559,6 +664,20 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         }
     }
 
+    /**
+     * Shall be called from within the animator thread when stopping,
+     * after the final {@link #display()} propagating the exclusive context release.
+     * <p>
+     * Releases resources of the {@link AnimatorImpl}, i.e. terminates the display threads in {@link #MODE_PARALLEL_DISPLAY} mode.
+     * </p>
+     */
+    protected final void stopImpl() {
+        final AnimatorImpl _impl = impl;
+        if( _impl instanceof ParallelAnimatorImpl ) {
+            ((ParallelAnimatorImpl)_impl).dispose();
+        }
+    }
+
     protected static interface Condition {
         /**
          * @return true if branching (continue waiting, action), otherwise false
@@ -229,6 +229,7 @@ public class FPSAnimator extends AnimatorBase {
                             }
                         }
                     }
+                    stopImpl();
                     boolean flushGLRunnables = false;
                     boolean throwCaughtException = false;
                     synchronized (FPSAnimator.this) {
@@ -0,0 +1,499 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.concurrent.locks.LockSupport;
+
+import com.jogamp.common.ExceptionUtils;
+import com.jogamp.common.util.InterruptSource;
+import com.jogamp.common.util.SourcedInterruptedException;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLException;
+
+/**
+ * An {@link AnimatorBase} implementation pacing {@link GLAutoDrawable#display()} calls
+ * to a target frame duration using nanosecond deadlines.
+ * <p>
+ * In contrast to {@link FPSAnimator}, which uses a {@link java.util.Timer} with millisecond periods,
+ * this animator runs its own thread and waits for each frame deadline
+ * by {@link LockSupport#parkNanos(long) parking} until {@link #setSpinDuration(long) spin duration} before the deadline
+ * and busy-spinning the remaining time. This reduces the scheduling jitter to the spin loop's precision
+ * at the cost of the spin duration's CPU time per frame.
+ * </p>
+ * <p>
+ * Deadlines are advanced by the frame duration on a fixed grid, hence they do not drift.
+ * If a frame completes more than half a frame duration late, the missed deadlines are skipped
+ * and counted, see {@link #getMissedFrameCount()}.
+ * </p>
+ * <p>
+ * If {@link #setRenderTimePrediction(boolean) render time prediction} is enabled,
+ * the deadline denotes the time the rendering shall be completed,
+ * and {@link #display()} starts just in time based on recent frame durations.
+ * This lowers the latency between input sampled during display and its presentation.
+ * </p>
+ * <p>
+ * Pause, resume and exclusive context thread semantics are equal to {@link Animator}.
+ * </p>
+ * <p>
+ * The animator execution thread does not run as a daemon thread,
+ * so it is able to keep an application from terminating.<br>
+ * Call {@link #stop() } to terminate the animation and it's execution thread.
+ * </p>
+ */
+public class FramePacingAnimator extends AnimatorBase {
+    /** Default {@link #setSpinDuration(long) spin duration} of 1ms in nanoseconds. */
+    public static final long DEFAULT_SPIN_DURATION = 1000000L;
+
+    private ThreadGroup threadGroup;
+    private Runnable runnable;
+    private volatile long frameDuration;
+    private volatile long spinDuration = DEFAULT_SPIN_DURATION;
+    private volatile boolean predictRenderTime = false;
+    boolean isAnimating;
+    volatile boolean pauseIssued;
+    volatile boolean stopIssued;
+
+    // animation thread only, published via volatile
+    private long renderTimeAvg = 0;
+    private long renderTimeDev = 0;
+    private volatile long predictedRenderTime = 0;
+    private volatile long lastWakeupLatency = 0;
+    private volatile long missedFrameCount = 0;
+
+    /**
+     * Converts the given frames per second to a frame duration in nanoseconds.
+     * @param fps frames per second, must be &gt; 0
+     */
+    public static long toFrameDuration(final float fps) {
+        if( 0f >= fps ) {
+            throw new IllegalArgumentException("Invalid fps "+fps);
+        }
+        return Math.round( 1000000000.0 / fps );
+    }
+
+    /**
+     * Creates a new, empty animator with the given target frame duration.
+     * @param frameDuration target frame duration in nanoseconds, see {@link #toFrameDuration(float)}
+     */
+    public FramePacingAnimator(final long frameDuration) {
+        this(null, null, frameDuration);
+    }
+
+    /**
+     * Creates a new animator for a particular drawable with the given target frame duration.
+     * @param drawable the initial {@link GLAutoDrawable} to animate, may be null
+     * @param frameDuration target frame duration in nanoseconds, see {@link #toFrameDuration(float)}
+     */
+    public FramePacingAnimator(final GLAutoDrawable drawable, final long frameDuration) {
+        this(null, drawable, frameDuration);
+    }
+
+    /**
+     * Creates a new animator w/ an associated ThreadGroup for a particular drawable with the given target frame duration.
+     * @param tg the {@link ThreadGroup} of the animation thread, may be null
+     * @param drawable the initial {@link GLAutoDrawable} to animate, may be null
+     * @param frameDuration target frame duration in nanoseconds, see {@link #toFrameDuration(float)}
+     */
+    public FramePacingAnimator(final ThreadGroup tg, final GLAutoDrawable drawable, final long frameDuration) {
+        super();
+        setFrameDuration(frameDuration);
+        threadGroup = tg;
+        if( null != drawable ) {
+            add(drawable);
+        }
+        if(DEBUG) {
+            System.err.println("FramePacingAnimator created, frameDuration "+frameDuration+" ns, ThreadGroup: "+threadGroup+" and "+drawable);
+        }
+    }
+
+    @Override
+    protected final String getBaseName(final String prefix) {
+        return "FramePacing" + prefix + "Animator" ;
+    }
+
+    /**
+     * Sets the target frame duration in nanoseconds, which may be changed while animating.
+     * @param nanos target frame duration in nanoseconds, must be &gt; 0
+     * @see #toFrameDuration(float)
+     */
+    public final void setFrameDuration(final long nanos) {
+        if( 0 >= nanos ) {
+            throw new IllegalArgumentException("Invalid frame duration "+nanos);
+        }
+        frameDuration = nanos;
+    }
+
+    /** Returns the target frame duration in nanoseconds. */
+    public final long getFrameDuration() { return frameDuration; }
+
+    /**
+     * Sets the duration in nanoseconds before each deadline to busy-spin instead of parking the thread,
+     * default is {@link #DEFAULT_SPIN_DURATION}.
+     * <p>
+     * The value shall cover the operating system's scheduling latency of {@link LockSupport#parkNanos(long)}.
+     * Zero disables spinning.
+     * </p>
+     * @param nanos spin duration in nanoseconds, &ge; 0
+     */
+    public final void setSpinDuration(final long nanos) {
+        spinDuration = Math.max(0, nanos);
+    }
+
+    /** Returns the spin duration in nanoseconds, see {@link #setSpinDuration(long)}. */
+    public final long getSpinDuration() { return spinDuration; }
+
+    /**
+     * Enables or disables render time prediction, default is disabled.
+     * <p>
+     * If enabled, each frame's {@link #display()} starts the {@link #getPredictedRenderTime() predicted render time}
+     * before its deadline, i.e. rendering is expected to complete at the deadline.
+     * </p>
+     * <p>
+     * The prediction is the moving average of recent frame durations plus twice their moving mean deviation,
+     * limited to the frame duration.
+     * </p>
+     */
+    public final void setRenderTimePrediction(final boolean enable) {
+        predictRenderTime = enable;
+    }
+
+    /** Returns true if render time prediction is enabled, see {@link #setRenderTimePrediction(boolean)}. */
+    public final boolean isRenderTimePredictionEnabled() { return predictRenderTime; }
+
+    /** Returns the predicted render time in nanoseconds, see {@link #setRenderTimePrediction(boolean)}. */
+    public final long getPredictedRenderTime() { return predictedRenderTime; }
+
+    /** Returns the latency of the last wakeup in nanoseconds, i.e. the actual minus the scheduled {@link #display()} start time. */
+    public final long getLastWakeupLatency() { return lastWakeupLatency; }
+
+    /** Returns the number of frame deadlines skipped due to late frames since {@link #start()}. */
+    public final long getMissedFrameCount() { return missedFrameCount; }
+
+    /**
+     * Updates the render time prediction with the given measured frame duration,
+     * using exponential moving averages with a weight of 1/8 for the mean and 1/4 for the mean deviation.
+     */
+    private void updateRenderTime(final long dt) {
+        if( 0 == renderTimeAvg ) {
+            renderTimeAvg = dt;
+            renderTimeDev = dt / 4;
+        } else {
+            final long err = dt - renderTimeAvg;
+            renderTimeAvg += err / 8;
+            renderTimeDev += ( Math.abs(err) - renderTimeDev ) / 4;
+        }
+        predictedRenderTime = Math.min(frameDuration, renderTimeAvg + 2 * renderTimeDev);
+    }
+
+    /**
+     * Waits until the given {@link System#nanoTime()} deadline, parking until {@link #getSpinDuration()} before it
+     * and busy-spinning thereafter.
+     * @return false if a pause or stop has been issued while waiting, otherwise true
+     */
+    private boolean waitUntil(final long deadline) {
+        final long spin = spinDuration;
+        long remaining = deadline - System.nanoTime();
+        while( remaining > spin ) {
+            LockSupport.parkNanos(this, remaining - spin);
+            if( pauseIssued || stopIssued ) {
+                return false;
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        while( deadline - System.nanoTime() > 0 ) {
+            if( pauseIssued || stopIssued ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    class MainLoop implements Runnable {
+        @Override
+        public String toString() {
+            return "[started "+isStarted()+", animating "+isAnimating()+", paused "+isPaused()+", drawable "+drawables.size()+", drawablesEmpty "+drawablesEmpty+
+                   ", frameDuration "+frameDuration+", predicted "+predictedRenderTime+", missed "+missedFrameCount+"]";
+        }
+
+        @Override
+        public void run() {
+            ThreadDeath caughtThreadDeath = null;
+            UncaughtAnimatorException caughtException = null;
+            long deadline = 0;
+            boolean resync = true;
+
+            try {
+                synchronized (FramePacingAnimator.this) {
+                    if(DEBUG) {
+                        System.err.println("FramePacingAnimator start on " + getThreadName() + ": " + toString());
+                    }
+                    fpsCounter.resetFPSCounter();
+                    animThread = Thread.currentThread();
+                    isAnimating = false;
+                    missedFrameCount = 0;
+                    // 'waitForStartedCondition' wake-up is handled below!
+                }
+
+                while (!stopIssued) {
+                    synchronized (FramePacingAnimator.this) {
+                        // Pause; Also don't consume CPU unless there is work to be done and not paused
+                        boolean ectCleared = false;
+                        while ( !stopIssued && ( pauseIssued || drawablesEmpty ) ) {
+                            if( drawablesEmpty ) {
+                                pauseIssued = true;
+                            }
+                            final boolean wasPaused = pauseIssued;
+                            if (DEBUG) {
+                                System.err.println("FramePacingAnimator pause on " + animThread.getName() + ": " + toString());
+                            }
+                            if ( exclusiveContext && !drawablesEmpty && !ectCleared ) {
+                                ectCleared = true;
+                                setDrawablesExclCtxState(false);
+                                try {
+                                    display(); // propagate exclusive context -> off!
+                                } catch (final UncaughtAnimatorException dre) {
+                                    caughtException = dre;
+                                    stopIssued = true;
+                                    break; // end pause loop
+                                }
+                            }
+                            isAnimating = false;
+                            FramePacingAnimator.this.notifyAll();
+                            try {
+                                FramePacingAnimator.this.wait();
+                            } catch (final InterruptedException e) {
+                                caughtException = new UncaughtAnimatorException(null, SourcedInterruptedException.wrap(e));
+                                stopIssued = true;
+                                break; // end pause loop
+                            }
+                            if (wasPaused) {
+                                // resume from pause -> reset counter and deadline
+                                fpsCounter.resetFPSCounter();
+                                resync = true;
+                                if (DEBUG) {
+                                    System.err.println("FramePacingAnimator resume on " + animThread.getName() + ": " + toString());
+                                }
+                            }
+                        }
+                        if (!stopIssued && !isAnimating) {
+                            // Wakes up 'waitForStartedCondition' sync
+                            // - and -
+                            // Resume from pause or drawablesEmpty,
+                            // implies !pauseIssued and !drawablesEmpty
+                            isAnimating = true;
+                            setDrawablesExclCtxState(exclusiveContext); // may re-enable exclusive context
+                            FramePacingAnimator.this.notifyAll();
+                        }
+                    } // sync FramePacingAnimator.this
+                    if ( !pauseIssued && !stopIssued ) {
+                        final long period = frameDuration;
+                        final long lead = predictRenderTime ? predictedRenderTime : 0;
+                        if( resync ) {
+                            resync = false;
+                            deadline = System.nanoTime() + lead;
+                        }
+                        final long startTime = deadline - lead;
+                        if( !waitUntil(startTime) ) {
+                            continue; // pause or stop issued
+                        }
+                        final long t0 = System.nanoTime();
+                        lastWakeupLatency = t0 - startTime;
+                        try {
+                            display();
+                        } catch (final UncaughtAnimatorException dre) {
+                            caughtException = dre;
+                            stopIssued = true;
+                            break; // end animation loop
+                        }
+                        final long t1 = System.nanoTime();
+                        updateRenderTime(t1 - t0);
+
+                        // Advance on the fixed grid, skip deadlines if late by more than half a period
+                        deadline += period;
+                        final long late = t1 + ( predictRenderTime ? predictedRenderTime : 0 ) - deadline;
+                        if( late > period / 2 ) {
+                            final long skipped = late / period + 1;
+                            deadline += skipped * period;
+                            missedFrameCount += skipped;
+                        }
+                    }
+                }
+            } catch(final ThreadDeath td) {
+                if(DEBUG) {
+                    ExceptionUtils.dumpThrowable("", td);
+                }
+                caughtThreadDeath = td;
+            }
+            if( exclusiveContext && !drawablesEmpty ) {
+                setDrawablesExclCtxState(false);
+                try {
+                    display(); // propagate exclusive context -> off!
+                } catch (final UncaughtAnimatorException dre) {
+                    if( null == caughtException ) {
+                        caughtException = dre;
+                    } else {
+                        ExceptionUtils.dumpThrowable("(setExclusiveContextThread)", dre);
+                    }
+                }
+            }
+            stopImpl();
+            boolean flushGLRunnables = false;
+            boolean throwCaughtException = false;
+            synchronized (FramePacingAnimator.this) {
+                if(DEBUG) {
+                    System.err.println("FramePacingAnimator stop on " + animThread.getName() + ": " + toString());
+                    if( null != caughtException ) {
+                        ExceptionUtils.dumpThrowable("", caughtException);
+                    }
+                }
+                stopIssued = false;
+                pauseIssued = false;
+                isAnimating = false;
+                if( null != caughtException ) {
+                    flushGLRunnables = true;
+                    throwCaughtException = !handleUncaughtException(caughtException);
+                }
+                animThread = null;
+                FramePacingAnimator.this.notifyAll();
+            }
+            if( flushGLRunnables ) {
+                flushGLRunnables();
+            }
+            if( throwCaughtException ) {
+                throw caughtException;
+            }
+            if( null != caughtThreadDeath ) {
+                throw caughtThreadDeath;
+            }
+        }
+    }
+
+    @Override
+    public final synchronized boolean isAnimating() {
+        return animThread != null && isAnimating ;
+    }
+
+    @Override
+    public final synchronized boolean isPaused() {
+        return animThread != null && pauseIssued ;
+    }
+
+    /**
+     * Set a {@link ThreadGroup} for the {@link #getThread() animation thread}.
+     *
+     * @param tg the {@link ThreadGroup}
+     * @throws GLException if the animator has already been started
+     */
+    public final synchronized void setThreadGroup(final ThreadGroup tg) throws GLException {
+        if ( isStarted() ) {
+            throw new GLException("Animator already started.");
+        }
+        threadGroup = tg;
+    }
+
+    /** Wakes up the animation thread while waiting for a deadline. */
+    private void unparkAnimThread() {
+        final Thread t = animThread;
+        if( null != t ) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    @Override
+    public final synchronized boolean start() {
+        if ( isStarted() ) {
+            return false;
+        }
+        if (runnable == null) {
+            runnable = new MainLoop();
+        }
+        fpsCounter.resetFPSCounter();
+        renderTimeAvg = 0;
+        renderTimeDev = 0;
+        predictedRenderTime = 0;
+        final Thread thread = new InterruptSource.Thread(threadGroup, runnable, getThreadName()+"-"+baseName);
+        thread.setDaemon(false); // force to be non daemon, regardless of parent thread
+        if(DEBUG) {
+            final Thread ct = Thread.currentThread();
+            System.err.println("FramePacingAnimator "+ct.getName()+"[daemon "+ct.isDaemon()+"]: starting "+thread.getName()+"[daemon "+thread.isDaemon()+"]");
+        }
+        thread.start();
+        return finishLifecycleAction(waitForStartedCondition, 0);
+    }
+    private final Condition waitForStartedCondition = new Condition() {
+        @Override
+        public boolean eval() {
+            return !isStarted() || (!drawablesEmpty && !isAnimating) ;
+        } };
+
+    @Override
+    public final synchronized boolean stop() {
+        if ( !isStarted() ) {
+            return false;
+        }
+        stopIssued = true;
+        unparkAnimThread();
+        return finishLifecycleAction(waitForStoppedCondition, 0);
+    }
+    private final Condition waitForStoppedCondition = new Condition() {
+        @Override
+        public boolean eval() {
+            return isStarted();
+        } };
+
+    @Override
+    public final synchronized boolean pause() {
+        if ( !isStarted() || pauseIssued ) {
+            return false;
+        }
+        pauseIssued = true;
+        unparkAnimThread();
+        return finishLifecycleAction(waitForPausedCondition, 0);
+    }
+    private final Condition waitForPausedCondition = new Condition() {
+        @Override
+        public boolean eval() {
+            // end waiting if stopped as well
+            return isStarted() && isAnimating;
+        } };
+
+    @Override
+    public final synchronized boolean resume() {
+        if ( !isStarted() || !pauseIssued ) {
+            return false;
+        }
+        pauseIssued = false;
+        return finishLifecycleAction(waitForResumeCondition, 0);
+    }
+    private final Condition waitForResumeCondition = new Condition() {
+        @Override
+        public boolean eval() {
+            // end waiting if stopped as well
+            return isStarted() && ( !drawablesEmpty && !isAnimating || drawablesEmpty && !pauseIssued ) ;
+        } };
+}
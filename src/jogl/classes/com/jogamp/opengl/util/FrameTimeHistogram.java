@@ -0,0 +1,233 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of frame times in nanoseconds using logarithmic buckets.
+ * <p>
+ * Each power of two range is split into {@value #SUB_BUCKETS} linear sub-buckets,
+ * i.e. a recorded value is represented with a relative error below 1/{@value #SUB_BUCKETS}.
+ * Values above {@link #getMaxTrackableValue()} are clamped.
+ * </p>
+ * <p>
+ * {@link #record(long)} may be called concurrently by any number of threads
+ * and never blocks, as does {@link #getSnapshot()}, which may be called while recording,
+ * e.g. to export statistics without stopping rendering.
+ * A {@link Snapshot} may hence be slightly inconsistent with concurrently recorded values,
+ * but never misses a value recorded before it was taken.
+ * </p>
+ */
+public final class FrameTimeHistogram {
+    private static final int SUB_BITS = 4;
+    /** Number of linear sub-buckets per power of two, {@value}. */
+    public static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_EXPONENT = 42;
+    private static final int BUCKET_COUNT = ( MAX_EXPONENT - SUB_BITS + 2 ) * SUB_BUCKETS;
+    private static final long MAX_VALUE = ( 1L << ( MAX_EXPONENT + 1 ) ) - 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /** Creates an empty histogram. */
+    public FrameTimeHistogram() { }
+
+    /** Returns the maximum trackable value in nanoseconds, roughly 2.4 hours. Larger values are clamped. */
+    public static long getMaxTrackableValue() { return MAX_VALUE; }
+
+    private static int toIndex(final long v) {
+        if( v < SUB_BUCKETS ) {
+            return (int)v;
+        }
+        final int e = 63 - Long.numberOfLeadingZeros(v);
+        final int sub = (int)( v >>> ( e - SUB_BITS ) ) & ( SUB_BUCKETS - 1 );
+        return ( e - SUB_BITS + 1 ) * SUB_BUCKETS + sub;
+    }
+
+    private static long lowerBound(final int idx) {
+        if( idx < SUB_BUCKETS ) {
+            return idx;
+        }
+        final int e = idx / SUB_BUCKETS + SUB_BITS - 1;
+        final int sub = idx % SUB_BUCKETS;
+        return (long)( SUB_BUCKETS + sub ) << ( e - SUB_BITS );
+    }
+
+    private static long upperBound(final int idx) {
+        if( idx < SUB_BUCKETS ) {
+            return idx;
+        }
+        final int e = idx / SUB_BUCKETS + SUB_BITS - 1;
+        return lowerBound(idx) + ( 1L << ( e - SUB_BITS ) ) - 1;
+    }
+
+    /**
+     * Records the given frame time.
+     * @param durationNS duration in nanoseconds, negative values are ignored
+     */
+    public final void record(final long durationNS) {
+        if( 0 > durationNS ) {
+            return;
+        }
+        final long v = Math.min(durationNS, MAX_VALUE);
+        buckets.incrementAndGet(toIndex(v));
+        sum.addAndGet(v);
+        long m;
+        while( v < ( m = min.get() ) && !min.compareAndSet(m, v) ) { }
+        while( v > ( m = max.get() ) && !max.compareAndSet(m, v) ) { }
+        count.incrementAndGet();
+    }
+
+    /** Returns the number of recorded values. */
+    public final long getCount() { return count.get(); }
+
+    /**
+     * Clears all recorded values.
+     * <p>
+     * Values recorded concurrently may be partially lost.
+     * </p>
+     */
+    public final void reset() {
+        count.set(0);
+        sum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+        for(int i=0; i<BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+    }
+
+    /**
+     * Returns an immutable copy of the current state for percentile queries.
+     * <p>
+     * Taken w/o blocking {@link #record(long)}, hence may be slightly inconsistent with concurrently recorded values.
+     * </p>
+     */
+    public final Snapshot getSnapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for(int i=0; i<BUCKET_COUNT; i++) {
+            final long c = buckets.get(i);
+            counts[i] = c;
+            total += c;
+        }
+        return new Snapshot(counts, total, sum.get(), min.get(), max.get());
+    }
+
+    @Override
+    public final String toString() {
+        return getSnapshot().toString();
+    }
+
+    /**
+     * Immutable copy of a {@link FrameTimeHistogram}'s state.
+     * <p>
+     * All values are in nanoseconds.
+     * </p>
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        private Snapshot(final long[] counts, final long count, final long sum, final long min, final long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = 0 < count ? Math.min(min, max) : 0;
+            this.max = 0 < count ? max : 0;
+        }
+
+        /** Returns the number of recorded values. */
+        public final long getCount() { return count; }
+
+        /** Returns the minimum recorded value, or zero if empty. */
+        public final long getMin() { return min; }
+
+        /** Returns the maximum recorded value, or zero if empty. */
+        public final long getMax() { return max; }
+
+        /** Returns the arithmetic mean of all recorded values, or zero if empty. */
+        public final double getMean() {
+            return 0 < count ? (double)sum / (double)count : 0.0;
+        }
+
+        /**
+         * Returns the value at the given percentile, i.e. the value below or equal which
+         * <code>percentile</code> percent of all recorded values lie, or zero if empty.
+         * <p>
+         * The returned value is the midpoint of the matching bucket, clamped to [{@link #getMin()}..{@link #getMax()}],
+         * while percentiles 0 and 100 return {@link #getMin()} and {@link #getMax()} exactly.
+         * </p>
+         * @param percentile within [0..100]
+         */
+        public final long getPercentile(final double percentile) {
+            if( 0 == count ) {
+                return 0;
+            }
+            if( percentile <= 0.0 ) {
+                return min;
+            } else if( percentile >= 100.0 ) {
+                return max;
+            }
+            final double p = percentile;
+            final long rank = Math.max(1, (long)Math.ceil( p / 100.0 * count ));
+            long acc = 0;
+            for(int i=0; i<counts.length; i++) {
+                acc += counts[i];
+                if( acc >= rank ) {
+                    final long mid = ( lowerBound(i) + upperBound(i) ) / 2;
+                    return Math.max(min, Math.min(max, mid));
+                }
+            }
+            return max;
+        }
+
+        /** Returns the median, see {@link #getPercentile(double)}. */
+        public final long getP50() { return getPercentile(50.0); }
+
+        /** Returns the 99th percentile, see {@link #getPercentile(double)}. */
+        public final long getP99() { return getPercentile(99.0); }
+
+        /** Returns the 99.9th percentile, see {@link #getPercentile(double)}. */
+        public final long getP999() { return getPercentile(99.9); }
+
+        @Override
+        public final String toString() {
+            return String.format((java.util.Locale)null, "%d frames, min %.3f ms, mean %.3f ms, p50 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms",
+                                 count, min/1e6, getMean()/1e6, getP50()/1e6, getP99()/1e6, getP999()/1e6, max/1e6);
+        }
+    }
+}
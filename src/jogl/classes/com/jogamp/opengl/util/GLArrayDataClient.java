@@ -51,6 +51,9 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
   /** Default growth factor using the golden ratio 1.618 */
   public static final float DEFAULT_GROWTH_FACTOR = 1.618f;
 
+  /** Maximum number of disjoint dirty ranges before coalescing them into one, {@value}. */
+  public static final int MAX_DIRTY_RANGES = 8;
+
   /**
    * Create a client side buffer object, using a predefined fixed function array index
    * and starting with a new created Buffer object with initialElementCount size
@@ -170,12 +173,127 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
   @Override
   public final void setVBOWritten(final boolean written) {
       bufferWritten = ( 0 == mappedElemCount ) ? written : true;
+      if( !written ) {
+          fullUploadPending = true;
+      }
+  }
+
+  @Override
+  public void writeVBO(final GL gl) {
+    if( null != buffer ) {
+        final int target = getVBOTarget();
+        final int byteCount = getByteCount();
+        if( !subRangeUpload ) {
+            gl.glBufferData(target, byteCount, buffer, getVBOUsage());
+            vboStorageB = byteCount;
+            uploadedBytes += byteCount;
+            ++uploadCount;
+        } else if( fullUploadPending || vboStorageB < byteCount ) {
+            // allocate the whole capacity, allowing subsequently appended elements to be uploaded as sub-range
+            vboStorageB = buffer.capacity() * bytesPerComp;
+            gl.glBufferData(target, vboStorageB, null, getVBOUsage());
+            gl.glBufferSubData(target, 0, byteCount, buffer);
+            uploadedBytes += byteCount;
+            ++uploadCount;
+        } else {
+            final int pos = buffer.position();
+            final int limit = buffer.limit();
+            for(int i=0; i<dirtyRangeCount; i++) {
+                final int start = Math.min(dirtyRanges[2*i], limit);
+                final int end = Math.min(dirtyRanges[2*i+1], limit);
+                if( start < end ) {
+                    buffer.position(start);
+                    gl.glBufferSubData(target, (long)start * bytesPerComp, ( end - start ) * bytesPerComp, buffer);
+                    uploadedBytes += ( end - start ) * bytesPerComp;
+                    ++uploadCount;
+                }
+            }
+            buffer.position(pos);
+        }
+    }
+    fullUploadPending = false;
+    dirtyRangeCount = 0;
+    setVBOWritten(true);
+  }
+
+  @Override
+  public void setSubRangeUpload(final boolean enable) {
+    subRangeUpload = enable;
+    fullUploadPending = true;
+    bufferWritten = ( 0 == mappedElemCount ) ? false : true;
+  }
+
+  @Override
+  public final boolean getSubRangeUpload() { return subRangeUpload; }
+
+  @Override
+  public void markDirty(final int offset, final int count) {
+    if( 0 > offset || 0 > count ) {
+        throw new IllegalArgumentException("Invalid range offset "+offset+", count "+count+": "+this);
+    }
+    if( subRangeUpload ) {
+        addDirtyRange(offset, offset + count);
+    } else {
+        fullUploadPending = true;
+    }
+    bufferWritten = ( 0 == mappedElemCount ) ? false : true;
+  }
+
+  /** Adds the component range [start, end) to the sorted disjoint dirty ranges, coalescing overlapping and adjacent ranges. */
+  private void addDirtyRange(int start, int end) {
+    if( start >= end ) {
+        return;
+    }
+    int i = 0;
+    while( i < dirtyRangeCount && dirtyRanges[2*i+1] < start ) {
+        ++i;
+    }
+    int j = i;
+    while( j < dirtyRangeCount && dirtyRanges[2*j] <= end ) {
+        start = Math.min(start, dirtyRanges[2*j]);
+        end = Math.max(end, dirtyRanges[2*j+1]);
+        ++j;
+    }
+    final int merged = j - i;
+    if( 0 == merged ) {
+        if( MAX_DIRTY_RANGES == dirtyRangeCount ) {
+            // too fragmented, coalesce all into one range
+            dirtyRanges[0] = Math.min(start, dirtyRanges[0]);
+            dirtyRanges[1] = Math.max(end, dirtyRanges[2*dirtyRangeCount-1]);
+            dirtyRangeCount = 1;
+            return;
+        }
+        System.arraycopy(dirtyRanges, 2*i, dirtyRanges, 2*i+2, 2*(dirtyRangeCount-i));
+        ++dirtyRangeCount;
+    } else if( 1 < merged ) {
+        System.arraycopy(dirtyRanges, 2*j, dirtyRanges, 2*i+2, 2*(dirtyRangeCount-j));
+        dirtyRangeCount -= merged - 1;
+    }
+    dirtyRanges[2*i] = start;
+    dirtyRanges[2*i+1] = end;
+  }
+
+  /** Returns the number of pending disjoint dirty ranges. */
+  public final int getDirtyRangeCount() { return dirtyRangeCount; }
+
+  @Override
+  public final long getUploadedByteCount() { return uploadedBytes; }
+
+  @Override
+  public final int getUploadCount() { return uploadCount; }
+
+  @Override
+  public void resetUploadStats() {
+    uploadedBytes = 0;
+    uploadCount = 0;
   }
 
   @Override
   public void destroy(final GL gl) {
     clear(gl);
     super.destroy(gl);
+    vboStorageB = 0;
+    fullUploadPending = true;
   }
 
   @Override
@@ -230,6 +348,8 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
     sealed = false;
     bufferEnabled = false;
     bufferWritten = ( 0 == mappedElemCount ) ? false : true;
+    appendStart = 0;
+    dirtyRangeCount = 0;
   }
 
   @Override
@@ -240,9 +360,15 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
     bufferWritten = ( 0 == mappedElemCount ) ? false : true;
     if( seal ) {
         if ( null != buffer ) {
+            if( subRangeUpload ) {
+                addDirtyRange(appendStart, buffer.position());
+            } else {
+                fullUploadPending = true;
+            }
             buffer.flip();
         }
     } else if ( null != buffer ) {
+        appendStart = buffer.limit();
         buffer.position(buffer.limit());
         buffer.limit(buffer.capacity());
     }
@@ -416,6 +542,7 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
                        ", "+elemStatsToString()+
                        ", bufferEnabled "+bufferEnabled+
                        ", bufferWritten "+bufferWritten+
+                       ", subRangeUpload "+subRangeUpload+
                        ", buffer "+buffer+
                        ", alive "+alive+
                        "]";
@@ -611,6 +738,12 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
     this.bufferWritten = src.bufferWritten;
     this.enableBufferAlways = src.enableBufferAlways;
     this.shaderState = src.shaderState;
+    this.subRangeUpload = src.subRangeUpload;
+    this.fullUploadPending = src.fullUploadPending;
+    this.vboStorageB = src.vboStorageB;
+    this.appendStart = src.appendStart;
+    this.dirtyRangeCount = src.dirtyRangeCount;
+    System.arraycopy(src.dirtyRanges, 0, this.dirtyRanges, 0, 2*src.dirtyRangeCount);
   }
 
   /**
@@ -648,5 +781,17 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
 
   protected ShaderState shaderState;
 
+  protected boolean subRangeUpload = false;
+  /** Whole buffer shall be uploaded with next {@link #writeVBO(GL)}. */
+  private boolean fullUploadPending = true;
+  /** VBO storage size in bytes allocated by {@link #writeVBO(GL)}. */
+  private int vboStorageB = 0;
+  /** Component position where appending started at {@link #seal(boolean) seal(false)}. */
+  private int appendStart = 0;
+  /** Sorted disjoint dirty component ranges [start, end). */
+  private final int[] dirtyRanges = new int[2*MAX_DIRTY_RANGES];
+  private int dirtyRangeCount = 0;
+  private long uploadedBytes = 0;
+  private int uploadCount = 0;
 }
 
@@ -48,10 +48,62 @@ public interface GLArrayDataEditable extends GLArrayData {
     public boolean isVBOWritten();
 
     /**
-     * Marks the buffer written to the VBO
+     * Marks the buffer written to the VBO,
+     * passing {@code false} enforces uploading the whole buffer.
      */
     public void setVBOWritten(boolean written);
 
+    /**
+     * Writes the buffer data to the currently bound VBO and marks it {@link #isVBOWritten() written}.
+     * <p>
+     * If {@link #getSubRangeUpload() sub-range upload} is enabled and the VBO storage is sufficient,
+     * Otherwise the whole buffer, i.e. {@link #getByteCount()} bytes, is uploaded via <code>glBufferData</code>.
+     * Otherwise the whole buffer is uploaded via <code>glBufferData</code>.
+     * </p>
+     * <p>
+     * Called by the array handler if not {@link #isVBOWritten() written} while binding the VBO.
+     * </p>
+     */
+    public void writeVBO(GL gl);
+
+    /**
+     * Enables or disables sub-range uploads, disabled by default.
+     * <p>
+     * If enabled, the VBO storage is allocated with the buffer's capacity
+     * and only modified ranges are uploaded via <code>glBufferSubData</code>,
+     * i.e. elements appended between {@link #seal(boolean) seal(false)} and {@link #seal(boolean) seal(true)}
+     * and ranges marked via {@link #markDirty(int, int)}.
+     * The whole buffer is only uploaded if the VBO storage is insufficient, e.g. after the buffer has grown.
+     * </p>
+     * <p>
+     * If disabled, the whole buffer is uploaded after each {@link #seal(boolean) seal(true)} or {@link #markDirty(int, int)}.
+     * </p>
+     */
+    public void setSubRangeUpload(boolean enable);
+
+    /** Returns whether sub-range uploads are enabled, see {@link #setSubRangeUpload(boolean)}. */
+    public boolean getSubRangeUpload();
+
+    /**
+     * Marks the given component range as modified, e.g. after altering the buffer content via absolute put operations.
+     * <p>
+     * Overlapping and adjacent ranges are coalesced, too many disjoint ranges are merged into one.
+     * </p>
+     * @param offset component offset
+     * @param count component count
+     * @see #setSubRangeUpload(boolean)
+     */
+    public void markDirty(int offset, int count);
+
+    /** Returns the number of bytes uploaded to the VBO since {@link #resetUploadStats()}. */
+    public long getUploadedByteCount();
+
+    /** Returns the number of upload calls since {@link #resetUploadStats()}. */
+    public int getUploadCount();
+
+    /** Resets the upload counter, e.g. once per frame. */
+    public void resetUploadStats();
+
     //
     // Data and GL state modification ..
     //
@@ -33,9 +33,11 @@ import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
+import java.util.ArrayList;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GLArrayData;
 import com.jogamp.opengl.GLBufferStorage;
 import com.jogamp.opengl.GLException;
@@ -136,6 +138,35 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
                                  DEFAULT_GROWTH_FACTOR, 0 /* mappedElementCount */, true, GLSLArrayHandler.class, 0, 0, vboUsage, GL.GL_ARRAY_BUFFER, true);
   }
 
+  /**
+   * Create a VBO of per-instance data, using a custom GLSL array attribute name
+   * and starting with a new created Buffer object with initialElementCount size.
+   * <p>
+   * The vertex attribute advances once per <code>divisor</code> instances
+   * when drawing instanced, see {@link #setVertexAttribDivisor(int)}, {@link #drawArraysInstanced(GL2ES3, int, int, int, int)}
+   * and {@link #drawElementsInstanced(GL2ES3, int, int)}.
+   * </p>
+   * @param name  The custom name for the GL attribute
+   * @param compsPerElement component count per element
+   * @param dataType The component's OpenGL data type
+   * @param normalized Whether the data shall be normalized
+   * @param initialElementCount
+   * @param vboUsage {@link GL2ES2#GL_STREAM_DRAW}, {@link GL#GL_STATIC_DRAW} or {@link GL#GL_DYNAMIC_DRAW}
+   * @param divisor number of instances sharing one element, must be &gt; 0
+   */
+  public static GLArrayDataServer createGLSLInstanced(final String name, final int compsPerElement,
+                                                      final int dataType, final boolean normalized, final int initialElementCount, final int vboUsage,
+                                                      final int divisor)
+    throws GLException
+  {
+    if( 0 >= divisor ) {
+        throw new GLException("Invalid divisor "+divisor);
+    }
+    final GLArrayDataServer ads = createGLSL(name, compsPerElement, dataType, normalized, initialElementCount, vboUsage);
+    ads.setVertexAttribDivisor(divisor);
+    return ads;
+  }
+
   /**
    * Create a VBO, using a custom GLSL array attribute name
    * intended for GPU buffer storage mapping, see {@link GLBufferStorage}, via {@link #mapStorage(GL, int)} and {@link #mapStorage(GL, long, long, int)}.
@@ -336,6 +367,7 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
       interleavedOffset += comps * getBytesPerComp();
       if(GL.GL_ARRAY_BUFFER == vboTarget) {
           glArrayHandler.addSubHandler(new GLFixedArrayHandlerFlat(ad));
+          subArrays.add(ad);
       }
       return ad;
   }
@@ -359,6 +391,32 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
                                  false, GLSLArrayHandlerInterleaved.class, 0, 0, vboUsage, GL.GL_ARRAY_BUFFER, true);
   }
 
+  /**
+   * Create a VBO for GLSL interleaved per-instance array data
+   * starting with a new created Buffer object with initialElementCount size.
+   * <p>User needs to <i>configure</i> the interleaved segments via {@link #addGLSLSubArray(int, int, int)},
+   * which inherit the given <code>divisor</code>.</p>
+   *
+   * @param compsPerElement The total number of all interleaved components per element.
+   * @param dataType The component's OpenGL data type
+   * @param normalized Whether the data shall be normalized
+   * @param initialElementCount The initial number of all interleaved elements
+   * @param vboUsage {@link GL2ES2#GL_STREAM_DRAW}, {@link GL#GL_STATIC_DRAW} or {@link GL#GL_DYNAMIC_DRAW}
+   * @param divisor number of instances sharing one element, must be &gt; 0
+   * @see #createGLSLInstanced(String, int, int, boolean, int, int, int)
+   */
+  public static GLArrayDataServer createGLSLInterleavedInstanced(final int compsPerElement, final int dataType, final boolean normalized, final int initialElementCount,
+                                                                 final int vboUsage, final int divisor)
+    throws GLException
+  {
+    if( 0 >= divisor ) {
+        throw new GLException("Invalid divisor "+divisor);
+    }
+    final GLArrayDataServer ads = createGLSLInterleaved(compsPerElement, dataType, normalized, initialElementCount, vboUsage);
+    ads.setVertexAttribDivisor(divisor);
+    return ads;
+  }
+
   /**
    * Create a VBO for GLSL interleaved array data
    * intended for GPU buffer storage mapping, see {@link GLBufferStorage}, via {@link #mapStorage(GL, int)} and {@link #mapStorage(GL, long, long, int)}.
@@ -408,6 +466,8 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
    * The memory of the the interleaved array is being used.</p>
    * <p>
    * Must be called before using the array, eg: {@link #seal(boolean)}, {@link #putf(float)}, .. </p>
+   * <p>
+   * A {@link GL#GL_ARRAY_BUFFER} segment inherits this array's {@link #getVertexAttribDivisor() vertex attribute divisor}.</p>
    * @param name  The custom name for the GL attribute, maybe null if vboTarget is {@link GL#GL_ELEMENT_ARRAY_BUFFER}
    * @param comps This interleaved array segment's component count per element
    * @param vboTarget {@link GL#GL_ARRAY_BUFFER} or {@link GL#GL_ELEMENT_ARRAY_BUFFER}
@@ -436,7 +496,9 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
       ad.setVBOEnabled(isVBO());
       interleavedOffset += comps * getBytesPerComp();
       if(GL.GL_ARRAY_BUFFER == vboTarget) {
+          ad.setVertexAttribDivisor(getVertexAttribDivisor());
           glArrayHandler.addSubHandler(new GLSLArrayHandlerFlat(ad));
+          subArrays.add(ad);
       }
       return ad;
   }
@@ -449,6 +511,77 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
     return interleavedOffset;
   }
 
+  /**
+   * Returns the number of interleaved {@link GL#GL_ARRAY_BUFFER} sub-arrays
+   * added via {@link #addFixedSubArray(int, int, int)} or {@link #addGLSLSubArray(String, int, int)}.
+   */
+  public final int getSubArrayCount() {
+    return subArrays.size();
+  }
+
+  /**
+   * Returns the interleaved {@link GL#GL_ARRAY_BUFFER} sub-array at the given index,
+   * see {@link #getSubArrayCount()}.
+   */
+  public final GLArrayData getSubArray(final int i) {
+    return subArrays.get(i);
+  }
+
+  //
+  // Instanced drawing
+  //
+
+  /**
+   * Returns true if the given GL context supports instanced drawing
+   * via {@link GL2ES3#glDrawArraysInstanced(int, int, int, int)}, {@link GL2ES3#glDrawElementsInstanced(int, int, int, long, int)}
+   * and {@link GL2ES3#glVertexAttribDivisor(int, int)}, i.e. a GL3 or GLES3 context.
+   */
+  public static boolean isInstancingAvailable(final GL gl) {
+      return gl.isGL2ES3() &&
+             gl.isFunctionAvailable("glVertexAttribDivisor") &&
+             gl.isFunctionAvailable("glDrawArraysInstanced") &&
+             gl.isFunctionAvailable("glDrawElementsInstanced");
+  }
+
+  /**
+   * Renders <code>instanceCount</code> instances of <code>count</code> vertices starting at <code>first</code>
+   * using {@link GL2ES3#glDrawArraysInstanced(int, int, int, int)}.
+   * <p>
+   * All per-vertex and per-instance arrays must be enabled,
+   * e.g. via {@link #enableBuffer(GL, boolean)}, which also applies their {@link #getVertexAttribDivisor() divisor}.
+   * </p>
+   * @param gl current GL2ES3 context
+   * @param mode primitive mode, e.g. {@link GL#GL_TRIANGLES}
+   * @param first first vertex
+   * @param count number of vertices per instance
+   * @param instanceCount number of instances
+   */
+  public static void drawArraysInstanced(final GL2ES3 gl, final int mode, final int first, final int count, final int instanceCount) {
+      gl.glDrawArraysInstanced(mode, first, count, instanceCount);
+  }
+
+  /**
+   * Renders <code>instanceCount</code> instances of all indices of this {@link GL#GL_ELEMENT_ARRAY_BUFFER}
+   * using {@link GL2ES3#glDrawElementsInstanced(int, int, int, long, int)}.
+   * <p>
+   * This element buffer is bound before and unbound after rendering.
+   * All per-vertex and per-instance arrays must be enabled,
+   * e.g. via {@link #enableBuffer(GL, boolean)}, which also applies their {@link #getVertexAttribDivisor() divisor}.
+   * </p>
+   * @param gl current GL2ES3 context
+   * @param mode primitive mode, e.g. {@link GL#GL_TRIANGLES}
+   * @param instanceCount number of instances
+   * @throws GLException if this instance is not a {@link GL#GL_ELEMENT_ARRAY_BUFFER}
+   */
+  public void drawElementsInstanced(final GL2ES3 gl, final int mode, final int instanceCount) throws GLException {
+      if( GL.GL_ELEMENT_ARRAY_BUFFER != getVBOTarget() ) {
+          throw new GLException("Not an element array buffer: "+this);
+      }
+      bindBuffer(gl, true);
+      gl.glDrawElementsInstanced(mode, getElemCount() * getCompsPerElem(), getCompType(), 0, instanceCount);
+      bindBuffer(gl, false);
+  }
+
   //
   // Data matters GLArrayData
   //
@@ -562,6 +695,7 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
                        ", stride "+strideB+"b "+strideL+"c"+
                        ", initElemCount "+initElemCount+
                        ", mappedElemCount "+mappedElemCount+
+                       ", divisor "+vertexAttribDivisor+
                        ", "+elemStatsToString()+
                        ", mappedStorage "+mappedStorage+
                        ", vboEnabled "+vboEnabled+
@@ -622,5 +756,7 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
 
   private int interleavedOffset = 0;
   private GLBufferStorage mappedStorage = null;
+  /** interleaved {@link GL#GL_ARRAY_BUFFER} sub-arrays, not copied as they are not registered with the copied {@link #glArrayHandler} */
+  private final ArrayList<GLArrayData> subArrays = new ArrayList<GLArrayData>();
 }
 
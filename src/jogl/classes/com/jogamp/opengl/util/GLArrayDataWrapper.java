@@ -357,6 +357,24 @@ public class GLArrayDataWrapper implements GLArrayData {
   @Override
   public final int getStride() { return strideB; }
 
+  @Override
+  public final int getVertexAttribDivisor() { return vertexAttribDivisor; }
+
+  /**
+   * Sets the vertex attribute divisor, see {@link #getVertexAttribDivisor()}.
+   * @param divisor number of instances sharing one element, zero for a per-vertex attribute
+   * @throws GLException if divisor is negative or non zero for a non vertex attribute
+   */
+  public void setVertexAttribDivisor(final int divisor) throws GLException {
+    if( 0 > divisor ) {
+        throw new GLException("Invalid divisor "+divisor);
+    }
+    if( 0 != divisor && !isVertexAttr ) {
+        throw new GLException("Divisor "+divisor+" given for non vertex attribute: "+this);
+    }
+    this.vertexAttribDivisor = divisor;
+  }
+
   public final Class<?> getBufferClass() { return compClazz; }
 
   @Override
@@ -379,6 +397,7 @@ public class GLArrayDataWrapper implements GLArrayData {
                        ", compsPerElem "+compsPerElement+
                        ", stride "+strideB+"b "+strideL+"c"+
                        ", mappedElemCount "+mappedElemCount+
+                       ", divisor "+vertexAttribDivisor+
                        ", "+elemStatsToString()+
                        ", buffer "+buffer+
                        ", vboEnabled "+vboEnabled+
@@ -572,6 +591,7 @@ public class GLArrayDataWrapper implements GLArrayData {
     this.vboUsage = src.vboUsage;
     this.vboTarget = src.vboTarget;
     this.sealed = src.sealed;
+    this.vertexAttribDivisor = src.vertexAttribDivisor;
   }
 
   protected final int compType;
@@ -598,5 +618,6 @@ public class GLArrayDataWrapper implements GLArrayData {
   protected int vboUsage;
   protected int vboTarget;
   protected boolean sealed;
+  protected int vertexAttribDivisor;
 }
 
@@ -0,0 +1,643 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import com.jogamp.common.util.InterruptedRuntimeException;
+import com.jogamp.nativewindow.AbstractGraphicsDevice;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLCapabilitiesImmutable;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+/**
+ * Pool of warm {@link GLOffscreenAutoDrawable}s incl. their {@link GLContext},
+ * sparing the context and framebuffer creation cost of
+ * {@link GLDrawableFactory#createOffscreenAutoDrawable(AbstractGraphicsDevice, GLCapabilitiesImmutable, com.jogamp.opengl.GLCapabilitiesChooser, int, int) createOffscreenAutoDrawable(..)}
+ * for short lived offscreen rendering tasks, e.g. server side image rendering.
+ * <p>
+ * Drawables are FBO based if {@link GLContext#isFBOAvailable(AbstractGraphicsDevice, GLProfile) available},
+ * otherwise pbuffer based. Using the {@link GLDrawableFactory#getEGLFactory() EGL factory},
+ * the FBO's hosting context is surfaceless if <code>EGL_KHR_surfaceless_context</code> is supported,
+ * otherwise it uses a small dummy pbuffer surface.
+ * </p>
+ * <p>
+ * Drawables are kept in size classes, each class covering a power of two range of width and height,
+ * see {@link #getSizeClassDimension(int)}. A {@link Lease} hence receives a drawable
+ * at least as large as requested, with the {@link GL#glViewport(int, int, int, int) viewport}
+ * set to the requested size at origin 0/0.
+ * The total number of drawables is limited; if the limit is reached and no drawable of the
+ * requested size class is idle, the least recently used idle drawable of another size class is destroyed
+ * or the caller waits until one is released.
+ * </p>
+ * <p>
+ * The leasing thread becomes the drawable's {@link GLAutoDrawable#setExclusiveContextThread(Thread) exclusive context thread}
+ * and the context is current on it when {@link #lease(int, int, long)} returns,
+ * i.e. the caller may issue GL commands via {@link Lease#getGL()} directly.
+ * {@link #release(Lease)} must be called on the same thread. It disposes and removes all {@link GLEventListener}s
+ * added during the lease, resets commonly used GL state to its defaults and releases the context.
+ * </p>
+ * <p>
+ * Occupancy and lease wait times are tracked, see {@link #getLeaseWaitTimes()} and {@link #toString()}.
+ * </p>
+ */
+public class GLOffscreenContextPool {
+    /** Smallest size class dimension, {@value}. */
+    public static final int MIN_SIZE_CLASS_DIM = 64;
+
+    private static final int MIN_SIZE_CLASS_EXP = 6;
+
+    /**
+     * A leased drawable, valid until passed to {@link GLOffscreenContextPool#release(Lease)}.
+     */
+    public static final class Lease {
+        private final Entry entry;
+        private final Thread owner;
+        private final int width, height;
+        private final long waitNanos;
+        private final boolean newDrawable;
+        private boolean released;
+
+        private Lease(final Entry entry, final Thread owner, final int width, final int height, final long waitNanos, final boolean newDrawable) {
+            this.entry = entry;
+            this.owner = owner;
+            this.width = width;
+            this.height = height;
+            this.waitNanos = waitNanos;
+            this.newDrawable = newDrawable;
+            this.released = false;
+        }
+
+        /** Returns the leased drawable, its context is current on the leasing thread. */
+        public final GLOffscreenAutoDrawable getDrawable() { return entry.drawable; }
+
+        /** Returns the {@link GL} of the leased drawable's context. */
+        public final GL getGL() { return entry.drawable.getGL(); }
+
+        /** Returns the requested width, the drawable's surface may be larger. */
+        public final int getWidth() { return width; }
+
+        /** Returns the requested height, the drawable's surface may be larger. */
+        public final int getHeight() { return height; }
+
+        /** Returns the time in nanoseconds the lease call took, including waiting and drawable creation. */
+        public final long getWaitNanos() { return waitNanos; }
+
+        /** Returns <code>true</code> if the drawable has been created for this lease, i.e. was not warm. */
+        public final boolean isNewDrawable() { return newDrawable; }
+
+        @Override
+        public final String toString() {
+            return "Lease["+width+"x"+height+" of "+entry.sizeClass.width+"x"+entry.sizeClass.height+
+                   ", wait "+waitNanos/1000+" us, owner "+owner.getName()+", released "+released+"]";
+        }
+    }
+
+    private static final class SizeClass {
+        final int wExp, hExp;
+        final int width, height;
+        /** Idle entries, most recently released first. */
+        final ArrayDeque<Entry> idle = new ArrayDeque<Entry>();
+        int leased;
+        int leaseCount;
+
+        SizeClass(final int wExp, final int hExp) {
+            this.wExp = wExp;
+            this.hExp = hExp;
+            this.width = 1 << wExp;
+            this.height = 1 << hExp;
+        }
+    }
+
+    private static final class Entry {
+        final SizeClass sizeClass;
+        final GLOffscreenAutoDrawable drawable;
+        long releaseTime;
+        int leaseCount;
+        /** <code>true</code> if created on demand by {@link GLOffscreenContextPool#lease(int, int, long)}, cleared on its first lease. */
+        boolean created;
+
+        Entry(final SizeClass sizeClass, final GLOffscreenAutoDrawable drawable, final boolean created) {
+            this.sizeClass = sizeClass;
+            this.drawable = drawable;
+            this.releaseTime = System.nanoTime();
+            this.leaseCount = 0;
+            this.created = created;
+        }
+    }
+
+    private final GLDrawableFactory factory;
+    private final AbstractGraphicsDevice device;
+    private final GLCapabilitiesImmutable caps;
+    private final int maxDrawables;
+    private final int maxSizeClassExp;
+    private final ArrayList<SizeClass> sizeClasses = new ArrayList<SizeClass>();
+    private final FrameTimeHistogram leaseWaitTimes = new FrameTimeHistogram();
+
+    private int drawableCount;
+    private int leasedCount;
+    private int peakLeasedCount;
+    private int waitingCount;
+    private long leaseCount;
+    private long createCount;
+    private long evictCount;
+    private long timeoutCount;
+    private boolean disposed;
+
+    /**
+     * Creates a pool using the {@link GLDrawableFactory#getFactory(GLProfile) factory} of the given capabilities' profile
+     * and its default device.
+     * @param caps the requested capabilities, offscreen and FBO or pbuffer will be set
+     * @param maxDrawables maximum number of drawables, leased and idle, over all size classes
+     * @param maxDimension maximum width and height of a lease
+     * @see #GLOffscreenContextPool(GLDrawableFactory, AbstractGraphicsDevice, GLCapabilitiesImmutable, int, int)
+     */
+    public GLOffscreenContextPool(final GLCapabilitiesImmutable caps, final int maxDrawables, final int maxDimension) {
+        this(GLDrawableFactory.getFactory(caps.getGLProfile()), null, caps, maxDrawables, maxDimension);
+    }
+
+    /**
+     * Creates a pool.
+     * <p>
+     * For headless server side rendering, pass {@link GLDrawableFactory#getEGLFactory()},
+     * allowing surfaceless contexts.
+     * </p>
+     * @param factory the factory used to create the drawables
+     * @param device the shared device to be used, may be <code>null</code> for the factory's default device
+     * @param caps the requested capabilities, offscreen and FBO or pbuffer will be set
+     * @param maxDrawables maximum number of drawables, leased and idle, over all size classes
+     * @param maxDimension maximum width and height of a lease
+     * @throws IllegalArgumentException if <code>maxDrawables</code> or <code>maxDimension</code> is not positive
+     * @throws GLException if neither FBO nor pbuffer is available
+     */
+    public GLOffscreenContextPool(final GLDrawableFactory factory, final AbstractGraphicsDevice device,
+                                  final GLCapabilitiesImmutable caps, final int maxDrawables, final int maxDimension)
+                                  throws IllegalArgumentException, GLException
+    {
+        if( 0 >= maxDrawables || 0 >= maxDimension ) {
+            throw new IllegalArgumentException("Invalid maxDrawables "+maxDrawables+" or maxDimension "+maxDimension);
+        }
+        this.factory = factory;
+        this.device = null != device ? device : factory.getDefaultDevice();
+        final GLProfile glp = caps.getGLProfile();
+        final GLCapabilities c = (GLCapabilities) caps.cloneMutable();
+        c.setOnscreen(false);
+        c.setDoubleBuffered(false);
+        if( GLContext.isFBOAvailable(this.device, glp) ) {
+            c.setFBO(true);
+            c.setPBuffer(false);
+        } else if( factory.canCreateGLPbuffer(this.device, glp) ) {
+            c.setFBO(false);
+            c.setPBuffer(true);
+        } else {
+            throw new GLException("Neither FBO nor pbuffer available on "+this.device+" for "+glp);
+        }
+        this.caps = c;
+        this.maxDrawables = maxDrawables;
+        this.maxSizeClassExp = toSizeClassExp(maxDimension);
+    }
+
+    private static int toSizeClassExp(final int dim) {
+        if( dim <= MIN_SIZE_CLASS_DIM ) {
+            return MIN_SIZE_CLASS_EXP;
+        }
+        return 32 - Integer.numberOfLeadingZeros(dim - 1);
+    }
+
+    /**
+     * Returns the size class dimension for the given requested width or height,
+     * i.e. the next power of two, at least {@link #MIN_SIZE_CLASS_DIM}.
+     */
+    public static int getSizeClassDimension(final int dim) {
+        return 1 << toSizeClassExp(dim);
+    }
+
+    /** Returns the capabilities used to create drawables, i.e. offscreen and FBO or pbuffer. */
+    public final GLCapabilitiesImmutable getRequestedCapabilities() { return caps; }
+
+    /** Returns the maximum number of drawables, leased and idle. */
+    public final int getMaxDrawables() { return maxDrawables; }
+
+    private SizeClass getSizeClass(final int width, final int height) {
+        if( 0 >= width || 0 >= height ) {
+            throw new IllegalArgumentException("Invalid size "+width+"x"+height);
+        }
+        final int wExp = toSizeClassExp(width);
+        final int hExp = toSizeClassExp(height);
+        if( wExp > maxSizeClassExp || hExp > maxSizeClassExp ) {
+            throw new IllegalArgumentException("Size "+width+"x"+height+" exceeds maximum dimension "+(1<<maxSizeClassExp));
+        }
+        for(int i=sizeClasses.size()-1; i>=0; --i) {
+            final SizeClass sc = sizeClasses.get(i);
+            if( sc.wExp == wExp && sc.hExp == hExp ) {
+                return sc;
+            }
+        }
+        final SizeClass sc = new SizeClass(wExp, hExp);
+        sizeClasses.add(sc);
+        return sc;
+    }
+
+    /** Returns the least recently released idle entry of all size classes except <code>exclude</code>, or null. */
+    private Entry removeLRUIdle(final SizeClass exclude) {
+        SizeClass lruClass = null;
+        for(int i=sizeClasses.size()-1; i>=0; --i) {
+            final SizeClass sc = sizeClasses.get(i);
+            if( sc != exclude && !sc.idle.isEmpty() &&
+                ( null == lruClass || sc.idle.peekLast().releaseTime < lruClass.idle.peekLast().releaseTime ) ) {
+                lruClass = sc;
+            }
+        }
+        return null != lruClass ? lruClass.idle.pollLast() : null;
+    }
+
+    private GLOffscreenAutoDrawable createDrawable(final SizeClass sc) throws GLException {
+        final GLOffscreenAutoDrawable d = factory.createOffscreenAutoDrawable(device, caps, null, sc.width, sc.height);
+        d.setAutoSwapBufferMode(false);
+        d.display(); // lazily creates the context
+        if( null == d.getContext() || !d.getContext().isCreated() ) {
+            d.destroy();
+            throw new GLException("Could not create context for "+sc.width+"x"+sc.height+" on "+device);
+        }
+        return d;
+    }
+
+    /**
+     * Creates idle drawables of the size class matching the given size upfront,
+     * until the size class holds <code>count</code> idle drawables or the pool is full.
+     * @return number of created drawables
+     * @throws IllegalArgumentException if the size is invalid or exceeds the maximum dimension
+     * @throws GLException if drawable creation failed
+     */
+    public final int prestart(final int width, final int height, final int count) throws IllegalArgumentException, GLException {
+        int created = 0;
+        while( true ) {
+            final SizeClass sc;
+            synchronized( this ) {
+                sc = getSizeClass(width, height);
+                if( disposed || sc.idle.size() >= count || drawableCount >= maxDrawables ) {
+                    return created;
+                }
+                drawableCount++;
+            }
+            final GLOffscreenAutoDrawable d;
+            try {
+                d = createDrawable(sc);
+            } catch (final GLException e) {
+                synchronized( this ) {
+                    drawableCount--;
+                    notifyAll();
+                }
+                throw e;
+            }
+            synchronized( this ) {
+                createCount++;
+                sc.idle.addFirst(new Entry(sc, d, false));
+                notifyAll();
+            }
+            created++;
+        }
+    }
+
+    /**
+     * Leases a drawable of at least the given size, waiting at most <code>timeoutMS</code>
+     * if the pool is exhausted.
+     * <p>
+     * On return the calling thread is the drawable's {@link GLAutoDrawable#setExclusiveContextThread(Thread) exclusive context thread},
+     * the context is current and the viewport is set to the requested size.
+     * </p>
+     * @param width requested width
+     * @param height requested height
+     * @param timeoutMS maximum time to wait for a drawable in milliseconds, zero to wait infinitely
+     * @return the lease or <code>null</code> if timed out
+     * @throws IllegalArgumentException if the size is invalid or exceeds the maximum dimension
+     * @throws IllegalStateException if the pool has been {@link #dispose() disposed}
+     * @throws GLException if drawable creation failed
+     * @throws InterruptedRuntimeException if interrupted while waiting
+     */
+    public final Lease lease(final int width, final int height, final long timeoutMS)
+            throws IllegalArgumentException, IllegalStateException, GLException, InterruptedRuntimeException
+    {
+        final long t0 = System.nanoTime();
+        final long deadline = 0 < timeoutMS ? t0 + timeoutMS * 1000000L : 0;
+        Entry entry = null;
+        Entry evicted = null;
+        SizeClass sc;
+        synchronized( this ) {
+            sc = getSizeClass(width, height);
+            waitingCount++;
+            try {
+                while( true ) {
+                    if( disposed ) {
+                        throw new IllegalStateException("Pool disposed");
+                    }
+                    entry = sc.idle.pollFirst();
+                    if( null != entry ) {
+                        break;
+                    }
+                    if( drawableCount < maxDrawables ) {
+                        drawableCount++; // reserve, create outside of lock
+                        break;
+                    }
+                    evicted = removeLRUIdle(sc);
+                    if( null != evicted ) {
+                        evictCount++; // replace w/ new drawable of requested class
+                        break;
+                    }
+                    final long waitMS;
+                    if( 0 < deadline ) {
+                        waitMS = ( deadline - System.nanoTime() + 999999L ) / 1000000L;
+                        if( 0 >= waitMS ) {
+                            timeoutCount++;
+                            leaseWaitTimes.record(System.nanoTime() - t0);
+                            return null;
+                        }
+                    } else {
+                        waitMS = 0;
+                    }
+                    try {
+                        wait(waitMS);
+                    } catch (final InterruptedException ie) {
+                        throw new InterruptedRuntimeException(ie);
+                    }
+                }
+                sc.leased++;
+                leasedCount++;
+                if( leasedCount > peakLeasedCount ) {
+                    peakLeasedCount = leasedCount;
+                }
+            } finally {
+                waitingCount--;
+            }
+        }
+        try {
+            if( null != evicted ) {
+                evicted.drawable.destroy();
+            }
+            if( null == entry ) {
+                entry = new Entry(sc, createDrawable(sc), true);
+                synchronized( this ) {
+                    createCount++;
+                }
+            }
+            final GLOffscreenAutoDrawable d = entry.drawable;
+            d.setExclusiveContextThread(Thread.currentThread());
+            d.display(); // claims the context for this thread, keeping it current
+            d.getGL().glViewport(0, 0, width, height);
+        } catch (final RuntimeException e) {
+            synchronized( this ) {
+                sc.leased--;
+                leasedCount--;
+                drawableCount--;
+                notifyAll();
+            }
+            if( null != entry ) {
+                destroyQuietly(entry.drawable);
+            }
+            throw e;
+        }
+        final long waitNanos = System.nanoTime() - t0;
+        leaseWaitTimes.record(waitNanos);
+        final Lease lease = new Lease(entry, Thread.currentThread(), width, height, waitNanos, entry.created);
+        entry.created = false;
+        synchronized( this ) {
+            leaseCount++;
+            sc.leaseCount++;
+        }
+        return lease;
+    }
+
+    /**
+     * Returns the leased drawable to the pool.
+     * <p>
+     * All {@link GLEventListener}s are disposed and removed,
+     * commonly used GL state is reset to its defaults and the context is released from the calling thread.
+     * If the state could not be reset, the drawable is destroyed.
+     * </p>
+     * @throws IllegalStateException if not called on the leasing thread or if already released
+     */
+    public final void release(final Lease lease) throws IllegalStateException {
+        if( lease.released ) {
+            throw new IllegalStateException("Already released: "+lease);
+        }
+        if( lease.owner != Thread.currentThread() ) {
+            throw new IllegalStateException("Not leasing thread "+Thread.currentThread().getName()+": "+lease);
+        }
+        lease.released = true;
+        final Entry entry = lease.entry;
+        final GLOffscreenAutoDrawable d = entry.drawable;
+        boolean reuse;
+        try {
+            for(int i=d.getGLEventListenerCount()-1; i>=0; --i) {
+                d.disposeGLEventListener(d.getGLEventListener(i), true);
+            }
+            if( d.isRealized() && GLContext.getCurrent() == d.getContext() ) {
+                resetState(d.getGL(), entry.sizeClass.width, entry.sizeClass.height);
+                reuse = GL.GL_NO_ERROR == d.getGL().glGetError();
+            } else {
+                reuse = false;
+            }
+            d.setExclusiveContextThread(null);
+            d.display(); // releases the context on this thread
+        } catch (final RuntimeException e) {
+            if( GLContext.DEBUG ) {
+                System.err.println("GLOffscreenContextPool.release: Caught "+e.getMessage());
+                e.printStackTrace();
+            }
+            reuse = false;
+        }
+        entry.leaseCount++;
+        entry.releaseTime = System.nanoTime();
+        boolean destroy = !reuse;
+        synchronized( this ) {
+            entry.sizeClass.leased--;
+            leasedCount--;
+            if( reuse && !disposed ) {
+                entry.sizeClass.idle.addFirst(entry);
+            } else {
+                drawableCount--;
+                destroy = true;
+            }
+            notifyAll();
+        }
+        if( destroy ) {
+            destroyQuietly(d);
+        }
+    }
+
+    private static void resetState(final GL gl, final int width, final int height) {
+        while( GL.GL_NO_ERROR != gl.glGetError() ) { } // clear pending errors of the lessee
+        if( gl.isGL2ES2() ) {
+            final GL2ES2 gl2es2 = gl.getGL2ES2();
+            gl2es2.glUseProgram(0);
+            if( gl.isGL2ES3() ) {
+                gl.getGL2ES3().glBindVertexArray(0);
+            }
+        }
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, 0);
+        gl.glActiveTexture(GL.GL_TEXTURE0);
+        gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+        gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, gl.getDefaultDrawFramebuffer());
+        gl.glDisable(GL.GL_BLEND);
+        gl.glDisable(GL.GL_DEPTH_TEST);
+        gl.glDisable(GL.GL_SCISSOR_TEST);
+        gl.glDisable(GL.GL_CULL_FACE);
+        gl.glDisable(GL.GL_STENCIL_TEST);
+        gl.glBlendFunc(GL.GL_ONE, GL.GL_ZERO);
+        gl.glDepthMask(true);
+        gl.glColorMask(true, true, true, true);
+        gl.glClearColor(0f, 0f, 0f, 0f);
+        gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 4);
+        gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, 4);
+        gl.glViewport(0, 0, width, height);
+    }
+
+    private static void destroyQuietly(final GLAutoDrawable d) {
+        try {
+            d.destroy();
+        } catch (final RuntimeException e) {
+            if( GLContext.DEBUG ) {
+                System.err.println("GLOffscreenContextPool.destroy: Caught "+e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Destroys all idle drawables and rejects further leases.
+     * Drawables still leased are destroyed when {@link #release(Lease) released}.
+     */
+    public final void dispose() {
+        final ArrayList<Entry> idle = new ArrayList<Entry>();
+        synchronized( this ) {
+            disposed = true;
+            for(int i=sizeClasses.size()-1; i>=0; --i) {
+                final Iterator<Entry> it = sizeClasses.get(i).idle.iterator();
+                while( it.hasNext() ) {
+                    idle.add(it.next());
+                    it.remove();
+                    drawableCount--;
+                }
+            }
+            notifyAll();
+        }
+        for(int i=0; i<idle.size(); i++) {
+            destroyQuietly(idle.get(i).drawable);
+        }
+    }
+
+    /** Returns <code>true</code> if {@link #dispose()} has been called. */
+    public final synchronized boolean isDisposed() { return disposed; }
+
+    /** Returns the current number of drawables, leased and idle. */
+    public final synchronized int getDrawableCount() { return drawableCount; }
+
+    /** Returns the current number of leased drawables. */
+    public final synchronized int getLeasedCount() { return leasedCount; }
+
+    /** Returns the current number of idle drawables. */
+    public final synchronized int getIdleCount() {
+        int n = 0;
+        for(int i=sizeClasses.size()-1; i>=0; --i) {
+            n += sizeClasses.get(i).idle.size();
+        }
+        return n;
+    }
+
+    /** Returns the maximum number of concurrently leased drawables. */
+    public final synchronized int getPeakLeasedCount() { return peakLeasedCount; }
+
+    /** Returns the current number of threads waiting in {@link #lease(int, int, long)}. */
+    public final synchronized int getWaitingCount() { return waitingCount; }
+
+    /** Returns the total number of successful leases. */
+    public final synchronized long getLeaseCount() { return leaseCount; }
+
+    /** Returns the total number of created drawables. */
+    public final synchronized long getCreateCount() { return createCount; }
+
+    /** Returns the total number of idle drawables destroyed to make room for another size class. */
+    public final synchronized long getEvictCount() { return evictCount; }
+
+    /** Returns the total number of timed out leases. */
+    public final synchronized long getTimeoutCount() { return timeoutCount; }
+
+    /**
+     * Returns the histogram of {@link Lease#getWaitNanos() lease wait times} in nanoseconds,
+     * including timed out leases.
+     */
+    public final FrameTimeHistogram getLeaseWaitTimes() { return leaseWaitTimes; }
+
+    /** Resets all statistics counter and the {@link #getLeaseWaitTimes() lease wait times}. */
+    public final synchronized void resetStats() {
+        peakLeasedCount = leasedCount;
+        leaseCount = 0;
+        createCount = 0;
+        evictCount = 0;
+        timeoutCount = 0;
+        for(int i=sizeClasses.size()-1; i>=0; --i) {
+            sizeClasses.get(i).leaseCount = 0;
+        }
+        leaseWaitTimes.reset();
+    }
+
+    /** Returns a string with occupancy per size class and statistics. */
+    @Override
+    public final synchronized String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("GLOffscreenContextPool[").append(caps.isFBO() ? "fbo" : "pbuffer")
+          .append(", drawables ").append(drawableCount).append("/").append(maxDrawables)
+          .append(", leased ").append(leasedCount).append(" (peak ").append(peakLeasedCount).append(")")
+          .append(", waiting ").append(waitingCount)
+          .append(", leases ").append(leaseCount).append(", created ").append(createCount)
+          .append(", evicted ").append(evictCount).append(", timeouts ").append(timeoutCount)
+          .append(", wait ").append(leaseWaitTimes.getSnapshot())
+          .append(", classes [");
+        for(int i=0; i<sizeClasses.size(); i++) {
+            final SizeClass sc = sizeClasses.get(i);
+            if( 0 < i ) {
+                sb.append(", ");
+            }
+            sb.append(sc.width).append("x").append(sc.height).append(": idle ").append(sc.idle.size())
+              .append(", leased ").append(sc.leased).append(", leases ").append(sc.leaseCount);
+        }
+        sb.append("]]");
+        return sb.toString();
+    }
+}
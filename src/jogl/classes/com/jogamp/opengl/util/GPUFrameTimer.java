@@ -0,0 +1,208 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLExtensions;
+
+/**
+ * Measures GPU frame times via a ring of asynchronous {@link GL2ES2#GL_TIME_ELAPSED} query objects,
+ * recording results into a {@link FrameTimeHistogram}.
+ * <p>
+ * Requires <code>GL_ARB_timer_query</code>, <code>GL_EXT_timer_query</code>, OpenGL 3.3
+ * or <code>GL_EXT_disjoint_timer_query</code> on OpenGL ES, see {@link #isAvailable(GL)}.
+ * </p>
+ * <p>
+ * Query results are polled without blocking at {@link #beginFrame(GL)},
+ * i.e. a frame's GPU time is recorded a few frames later.
+ * If all queries of the ring are still pending, the frame is not measured and counted as dropped.
+ * Results of a disjoint operation reported via <code>GL_GPU_DISJOINT</code> on OpenGL ES are discarded.
+ * </p>
+ * <p>
+ * Since timer queries cannot be nested, the measured rendering code shall not issue
+ * its own {@link GL2ES2#GL_TIME_ELAPSED} queries.
+ * </p>
+ * <p>
+ * All methods shall be called on the thread having the GL context current.
+ * The timer is bound to the context it was first used with and reinitializes itself
+ * if used with a different context, i.e. after the drawable's context has been recreated.
+ * </p>
+ */
+public class GPUFrameTimer {
+    /** Default number of query objects in flight, {@value}. */
+    public static final int DEFAULT_RING_SIZE = 4;
+
+    private final FrameTimeHistogram histogram;
+    private final int[] queries;
+    private final long[] result = { 0 };
+    private final int[] available = { 0 };
+    private GLContext context = null;
+    private boolean disjointCheck = false;
+    /** Index of oldest pending query */
+    private int tail = 0;
+    /** Number of pending queries, including the active one */
+    private int pending = 0;
+    private boolean active = false;
+    private long droppedFrames = 0;
+
+    /**
+     * Returns true if GPU timer queries are supported by the given GL's context.
+     */
+    public static boolean isAvailable(final GL gl) {
+        if( !gl.isGL2ES2() ) {
+            return false;
+        }
+        if( gl.isGLES() ) {
+            return gl.isExtensionAvailable(GLExtensions.EXT_disjoint_timer_query);
+        }
+        return gl.isExtensionAvailable(GLExtensions.ARB_timer_query) ||
+               gl.isExtensionAvailable(GLExtensions.EXT_timer_query) ||
+               gl.isExtensionAvailable("GL_VERSION_3_3");
+    }
+
+    /**
+     * @param ringSize number of query objects in flight, minimum 2
+     * @param histogram target histogram for GPU frame times in nanoseconds
+     */
+    public GPUFrameTimer(final int ringSize, final FrameTimeHistogram histogram) {
+        this.queries = new int[Math.max(2, ringSize)];
+        this.histogram = histogram;
+    }
+
+    /** Returns the target histogram. */
+    public final FrameTimeHistogram getHistogram() { return histogram; }
+
+    /** Returns the number of frames not measured since all queries were pending. */
+    public final long getDroppedFrames() { return droppedFrames; }
+
+    /**
+     * Returns true if this timer has been initialized with a context supporting timer queries,
+     * i.e. after the first {@link #beginFrame(GL)}.
+     */
+    public final boolean isInitialized() { return null != context; }
+
+    private boolean validate(final GL gl) {
+        final GLContext ctx = gl.getContext();
+        if( context == ctx ) {
+            return true;
+        }
+        // new or recreated context: former query names are gone with the former context
+        context = null;
+        tail = 0;
+        pending = 0;
+        active = false;
+        if( !isAvailable(gl) ) {
+            return false;
+        }
+        gl.getGL2ES2().glGenQueries(queries.length, queries, 0);
+        disjointCheck = gl.isGLES();
+        context = ctx;
+        return true;
+    }
+
+    /**
+     * Polls completed queries w/o blocking and starts measuring the current frame, if a query object is available.
+     * <p>
+     * Does nothing if timer queries are not {@link #isAvailable(GL) available}.
+     * </p>
+     */
+    public final void beginFrame(final GL gl) {
+        if( active || !validate(gl) ) {
+            return;
+        }
+        final GL2ES2 gl2es2 = gl.getGL2ES2();
+        poll(gl2es2);
+        if( pending >= queries.length ) {
+            droppedFrames++;
+            return;
+        }
+        final int idx = ( tail + pending ) % queries.length;
+        gl2es2.glBeginQuery(GL2ES2.GL_TIME_ELAPSED, queries[idx]);
+        pending++;
+        active = true;
+    }
+
+    /**
+     * Ends measuring the current frame, if started via {@link #beginFrame(GL)}.
+     */
+    public final void endFrame(final GL gl) {
+        if( !active ) {
+            return;
+        }
+        active = false;
+        if( context != gl.getContext() ) {
+            return;
+        }
+        gl.getGL2ES2().glEndQuery(GL2ES2.GL_TIME_ELAPSED);
+    }
+
+    private void poll(final GL2ES2 gl) {
+        if( disjointCheck && 0 < pending ) {
+            gl.glGetIntegerv(GL2ES2.GL_GPU_DISJOINT, available, 0);
+            if( 0 != available[0] ) {
+                // results of all pending queries are undefined, drop them.
+                // Queries still executing are implicitly overwritten at reuse.
+                tail = ( tail + pending ) % queries.length;
+                pending = 0;
+                return;
+            }
+        }
+        while( 0 < pending ) {
+            final int id = queries[tail];
+            gl.glGetQueryObjectuiv(id, GL2ES2.GL_QUERY_RESULT_AVAILABLE, available, 0);
+            if( 0 == available[0] ) {
+                break;
+            }
+            gl.glGetQueryObjectui64v(id, GL2ES2.GL_QUERY_RESULT, result, 0);
+            histogram.record(result[0]);
+            tail = ( tail + 1 ) % queries.length;
+            pending--;
+        }
+    }
+
+    /**
+     * Deletes the query objects, if the given GL's context is the one this timer was initialized with.
+     * <p>
+     * The timer may be reused afterwards.
+     * </p>
+     */
+    public final void destroy(final GL gl) {
+        if( null != context && context == gl.getContext() ) {
+            if( active ) {
+                gl.getGL2ES2().glEndQuery(GL2ES2.GL_TIME_ELAPSED);
+            }
+            gl.getGL2ES2().glDeleteQueries(queries.length, queries, 0);
+        }
+        context = null;
+        tail = 0;
+        pending = 0;
+        active = false;
+    }
+}
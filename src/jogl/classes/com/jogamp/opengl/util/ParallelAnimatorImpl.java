@@ -0,0 +1,363 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+
+import com.jogamp.common.util.InterruptSource;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLContext;
+
+import com.jogamp.opengl.util.AnimatorBase.UncaughtAnimatorException;
+
+/**
+ * {@link AnimatorBase.AnimatorImpl} displaying all drawables concurrently,
+ * each on its own display thread, see {@link AnimatorBase#MODE_PARALLEL_DISPLAY}.
+ * <p>
+ * Drawables whose {@link GLContext} {@link GLContext#isShared() is shared} at the time they are
+ * first displayed are assigned to one common display thread and displayed sequentially.
+ * </p>
+ * <p>
+ * All display threads meet at a frame barrier after rendering
+ * and swap the buffers of drawables in {@link GLAutoDrawable#getAutoSwapBufferMode() auto swap mode} thereafter,
+ * i.e. all drawables present in lockstep.
+ * The animator thread waits until all display threads have completed the frame.
+ * </p>
+ * <p>
+ * Swapping is only deferred to the frame barrier for drawables whose
+ * {@link GLAutoDrawable#getExclusiveContextThread() exclusive context thread} is their display thread.
+ * Only then {@link GLAutoDrawable#display()} calls from other threads are no-ops
+ * and cannot observe the temporarily disabled auto swap mode, which is restored right after rendering.
+ * Other drawables swap within their {@link GLAutoDrawable#display()} as usual.
+ * </p>
+ */
+class ParallelAnimatorImpl implements AnimatorBase.AnimatorImpl {
+    private final Object sharedKey = new Object();
+    private final Map<Object, Worker> workers = new IdentityHashMap<Object, Worker>();
+    private final Map<GLAutoDrawable, Worker> drawableWorker = new IdentityHashMap<GLAutoDrawable, Worker>();
+    private final ArrayList<Worker> frameWorkers = new ArrayList<Worker>();
+    private final ArrayList<GLAutoDrawable> frameDrawables = new ArrayList<GLAutoDrawable>();
+    private String threadBaseName = "ParallelAnimator";
+    private CyclicBarrier presentBarrier = null;
+    private int pendingWorkers = 0;
+    private long frameNo = 0;
+    private int workerCount = 0;
+
+    /** Sets the name prefix of the display threads. */
+    synchronized void setThreadBaseName(final String name) { threadBaseName = name; }
+
+    private final class Worker implements Runnable {
+        final ArrayList<GLAutoDrawable> drawables = new ArrayList<GLAutoDrawable>();
+        final ArrayList<GLAutoDrawable> frame = new ArrayList<GLAutoDrawable>();
+        final ArrayList<GLAutoDrawable> swapDeferred = new ArrayList<GLAutoDrawable>();
+        final IdentityHashMap<GLAutoDrawable, long[]> durations = new IdentityHashMap<GLAutoDrawable, long[]>();
+        final Thread thread;
+        private long frameRequested = 0;
+        private long frameDone = 0;
+        private boolean quit = false;
+        private CyclicBarrier barrier;
+        GLAutoDrawable caughtDrawable;
+        Throwable caught;
+
+        Worker(final String name) {
+            thread = new InterruptSource.Thread(null, this, name);
+            thread.setDaemon(true);
+        }
+
+        synchronized void request(final long frameNo, final CyclicBarrier b) {
+            frameRequested = frameNo;
+            barrier = b;
+            notifyAll();
+        }
+
+        synchronized void quit() {
+            quit = true;
+            notifyAll();
+        }
+
+        synchronized long getLastDuration(final GLAutoDrawable d) {
+            final long[] v = durations.get(d);
+            return null != v ? v[0] : -1;
+        }
+
+        @Override
+        public void run() {
+            while( true ) {
+                final CyclicBarrier b;
+                synchronized( this ) {
+                    while( !quit && frameRequested == frameDone ) {
+                        try {
+                            wait();
+                        } catch (final InterruptedException e) {
+                            quit = true;
+                        }
+                    }
+                    if( quit ) {
+                        break;
+                    }
+                    b = barrier;
+                    frame.clear();
+                    frame.addAll(drawables);
+                }
+                displayFrame(b);
+                synchronized( this ) {
+                    frameDone = frameRequested;
+                }
+                workerDone();
+            }
+        }
+
+        private void displayFrame(final CyclicBarrier b) {
+            caught = null;
+            caughtDrawable = null;
+            final int count = frame.size();
+            final boolean lockstep = null != b;
+            // Phase 1: render w/o swapping
+            swapDeferred.clear();
+            for(int i=0; i<count; i++) {
+                final GLAutoDrawable d = frame.get(i);
+                final boolean deferSwap = lockstep && thread == d.getExclusiveContextThread() && d.getAutoSwapBufferMode();
+                final long t0 = System.nanoTime();
+                try {
+                    if( deferSwap ) {
+                        d.setAutoSwapBufferMode(false);
+                        swapDeferred.add(d);
+                    }
+                    d.display();
+                } catch (final Throwable t) {
+                    if( null == caught ) {
+                        caught = t;
+                        caughtDrawable = d;
+                    }
+                } finally {
+                    if( deferSwap ) {
+                        d.setAutoSwapBufferMode(true);
+                    }
+                }
+                final long dt = System.nanoTime() - t0;
+                synchronized( this ) {
+                    long[] v = durations.get(d);
+                    if( null == v ) {
+                        v = new long[1];
+                        durations.put(d, v);
+                    }
+                    v[0] = dt;
+                }
+            }
+            // Frame barrier: all display threads present together
+            if( lockstep ) {
+                try {
+                    b.await();
+                } catch (final InterruptedException e) {
+                    // proceed
+                } catch (final BrokenBarrierException e) {
+                    // proceed
+                }
+            }
+            // Phase 2: swap
+            final int swapCount = swapDeferred.size();
+            for(int i=0; i<swapCount; i++) {
+                final GLAutoDrawable d = swapDeferred.get(i);
+                try {
+                    d.swapBuffers();
+                } catch (final Throwable t) {
+                    if( null == caught ) {
+                        caught = t;
+                        caughtDrawable = d;
+                    }
+                }
+            }
+            swapDeferred.clear();
+        }
+    }
+
+    private synchronized void workerDone() {
+        pendingWorkers--;
+        if( 0 >= pendingWorkers ) {
+            notifyAll();
+        }
+    }
+
+    private static boolean isShared(final GLAutoDrawable d) {
+        final GLContext ctx = d.getContext();
+        return null != ctx && ctx.isShared();
+    }
+
+    /**
+     * Returns the display thread of the given drawable, creating and starting it if required.
+     * <p>
+     * Used as the drawable's exclusive context thread.
+     * </p>
+     */
+    synchronized Thread getDisplayThread(final GLAutoDrawable d) {
+        return getWorker(d).thread;
+    }
+
+    private Worker getWorker(final GLAutoDrawable d) {
+        Worker w = drawableWorker.get(d);
+        if( null == w ) {
+            final Object key = isShared(d) ? sharedKey : d;
+            w = workers.get(key);
+            if( null == w ) {
+                w = new Worker(threadBaseName+"-Display-"+(workerCount++));
+                workers.put(key, w);
+                w.thread.start();
+            }
+            synchronized( w ) {
+                w.drawables.add(d);
+            }
+            drawableWorker.put(d, w);
+        }
+        return w;
+    }
+
+    /** Terminates display threads of drawables no longer animated. */
+    private void removeStaleWorkers(final ArrayList<GLAutoDrawable> drawables) {
+        for(final Iterator<Map.Entry<GLAutoDrawable, Worker>> it = drawableWorker.entrySet().iterator(); it.hasNext(); ) {
+            final Map.Entry<GLAutoDrawable, Worker> e = it.next();
+            final GLAutoDrawable d = e.getKey();
+            if( !drawables.contains(d) ) {
+                final Worker w = e.getValue();
+                it.remove();
+                synchronized( w ) {
+                    w.drawables.remove(d);
+                    w.durations.remove(d);
+                }
+            }
+        }
+        for(final Iterator<Worker> it = workers.values().iterator(); it.hasNext(); ) {
+            final Worker w = it.next();
+            if( w.drawables.isEmpty() ) {
+                it.remove();
+                w.quit();
+            }
+        }
+    }
+
+    /**
+     * Returns the duration of the last {@link GLAutoDrawable#display()} of the given drawable in nanoseconds,
+     * or -1 if not yet displayed.
+     */
+    synchronized long getLastDisplayDuration(final GLAutoDrawable d) {
+        final Worker w = drawableWorker.get(d);
+        return null != w ? w.getLastDuration(d) : -1;
+    }
+
+    /** Returns true if the current thread is one of the display threads. */
+    private synchronized boolean isDisplayThread(final Thread t) {
+        for(final Worker w : workers.values()) {
+            if( w.thread == t ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void display(final ArrayList<GLAutoDrawable> drawables,
+                        final boolean ignoreExceptions,
+                        final boolean printExceptions) throws UncaughtAnimatorException {
+        synchronized( this ) {
+            frameDrawables.clear();
+            for (int i=0; i<drawables.size(); i++) {
+                try {
+                    frameDrawables.add(drawables.get(i));
+                } catch (final IndexOutOfBoundsException e) {
+                    // concurrent pulling of GLAutoDrawables ..
+                    break;
+                }
+            }
+            removeStaleWorkers(frameDrawables);
+            frameWorkers.clear();
+            for (int i=0; i<frameDrawables.size(); i++) {
+                final Worker w = getWorker(frameDrawables.get(i));
+                if( !frameWorkers.contains(w) ) {
+                    frameWorkers.add(w);
+                }
+            }
+            final int parties = frameWorkers.size();
+            if( 0 == parties ) {
+                return;
+            }
+            if( 1 < parties ) {
+                if( null == presentBarrier || presentBarrier.getParties() != parties || presentBarrier.isBroken() ) {
+                    presentBarrier = new CyclicBarrier(parties);
+                }
+            }
+            final CyclicBarrier b = 1 < parties ? presentBarrier : null;
+            frameNo++;
+            pendingWorkers = parties;
+            for (int i=0; i<parties; i++) {
+                frameWorkers.get(i).request(frameNo, b);
+            }
+            while( 0 < pendingWorkers ) {
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    throw new UncaughtAnimatorException(null, e);
+                }
+            }
+        }
+        for (int i=0; i<frameWorkers.size(); i++) {
+            final Worker w = frameWorkers.get(i);
+            final Throwable t = w.caught;
+            if( null != t ) {
+                if (ignoreExceptions) {
+                    if (printExceptions) {
+                        t.printStackTrace();
+                    }
+                } else {
+                    throw new UncaughtAnimatorException(w.caughtDrawable, t);
+                }
+            }
+        }
+    }
+
+    /** Terminates all display threads. */
+    synchronized void dispose() {
+        for(final Worker w : workers.values()) {
+            w.quit();
+        }
+        workers.clear();
+        drawableWorker.clear();
+        frameWorkers.clear();
+        frameDrawables.clear();
+        presentBarrier = null;
+    }
+
+    @Override
+    public boolean blockUntilDone(final Thread thread) {
+        final Thread ct = Thread.currentThread();
+        return ct != thread && !isDisplayThread(ct);
+    }
+}
@@ -0,0 +1,505 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLException;
+
+/**
+ * Per {@link GLContext} cache of indexed triangle meshes for the GLU quadrics and GLUT solids,
+ * keyed by primitive type and tessellation parameters.
+ * <p>
+ * Each {@link Mesh} holds one interleaved VBO, see {@link #VERTEX_COMPONENTS},
+ * and one IBO of {@link GL#GL_TRIANGLES}, both created once.
+ * The geometry matches <code>gluSphere</code>, <code>gluCylinder</code>, <code>gluDisk</code>
+ * in {@link com.jogamp.opengl.glu.GLU#GLU_FILL GLU_FILL}, {@link com.jogamp.opengl.glu.GLU#GLU_SMOOTH GLU_SMOOTH}
+ * and {@link com.jogamp.opengl.glu.GLU#GLU_OUTSIDE GLU_OUTSIDE} mode with texture coordinates,
+ * as well as <code>glutSolidTorus</code> and <code>glutSolidCube</code>.
+ * Spheres and cubes are of unit radius and unit size, scale them via the model or instance transform.
+ * </p>
+ * <p>
+ * {@link #drawInstanced(GL2ES2, Mesh, int, int, int, int, FloatBuffer, int) drawInstanced(..)}
+ * renders many copies of one mesh with a single draw call,
+ * each transformed by its own 4x4 column-major matrix passed as a <code>mat4</code> vertex attribute.
+ * </p>
+ * <p>
+ * Use {@link #get(GL)} to retrieve the instance attached to the current context,
+ * {@link #destroy(GL)} releases all meshes.
+ * </p>
+ */
+public class PrimitiveMeshCache {
+    /** Interleaved vertex components: position[3], normal[3], texCoord[2]. */
+    public static final int VERTEX_COMPONENTS = 8;
+    /** Interleaved vertex stride in bytes. */
+    public static final int VERTEX_STRIDE = VERTEX_COMPONENTS * Buffers.SIZEOF_FLOAT;
+    /** Byte offset of the position in the interleaved vertex. */
+    public static final int POSITION_OFFSET = 0;
+    /** Byte offset of the normal in the interleaved vertex. */
+    public static final int NORMAL_OFFSET = 3 * Buffers.SIZEOF_FLOAT;
+    /** Byte offset of the texture coordinate in the interleaved vertex. */
+    public static final int TEXCOORD_OFFSET = 6 * Buffers.SIZEOF_FLOAT;
+
+    private static final String ATTACHED_NAME = PrimitiveMeshCache.class.getName();
+
+    /**
+     * CPU side triangle mesh, see {@link PrimitiveMeshCache#VERTEX_COMPONENTS} for the vertex layout.
+     */
+    public static class Geometry {
+        /** Interleaved vertices */
+        public final float[] vertices;
+        /** Triangle indices */
+        public final int[] indices;
+
+        public Geometry(final float[] vertices, final int[] indices) {
+            this.vertices = vertices;
+            this.indices = indices;
+        }
+        public final int getVertexCount() { return vertices.length / VERTEX_COMPONENTS; }
+        public final int getTriangleCount() { return indices.length / 3; }
+    }
+
+    /** GPU resident triangle mesh owned by a {@link PrimitiveMeshCache}. */
+    public static class Mesh {
+        private final String key;
+        private final int vertexCount;
+        private final int indexCount;
+        private final int indexType;
+        private final int[] names = { 0, 0 }; // vbo, ibo
+
+        private Mesh(final String key, final int vertexCount, final int indexCount, final int indexType) {
+            this.key = key;
+            this.vertexCount = vertexCount;
+            this.indexCount = indexCount;
+            this.indexType = indexType;
+        }
+        public final String getKey() { return key; }
+        public final int getVertexCount() { return vertexCount; }
+        public final int getIndexCount() { return indexCount; }
+        /** Returns {@link GL#GL_UNSIGNED_SHORT} or {@link GL#GL_UNSIGNED_INT}. */
+        public final int getIndexType() { return indexType; }
+        public final int getVBOName() { return names[0]; }
+        public final int getIBOName() { return names[1]; }
+
+        @Override
+        public String toString() {
+            return "Mesh["+key+", vertices "+vertexCount+", indices "+indexCount+", vbo "+names[0]+", ibo "+names[1]+"]";
+        }
+    }
+
+    private final HashMap<String, Mesh> meshes = new HashMap<String, Mesh>();
+    private final int[] instanceVBO = { 0 };
+    private int instanceVBOSize = 0;
+    private int hitCount = 0;
+    private int missCount = 0;
+
+    /**
+     * Returns the instance attached to the given GL's context, creating and attaching it if required.
+     */
+    public static PrimitiveMeshCache get(final GL gl) {
+        final GLContext ctx = gl.getContext();
+        PrimitiveMeshCache cache = (PrimitiveMeshCache) ctx.getAttachedObject(ATTACHED_NAME);
+        if( null == cache ) {
+            cache = new PrimitiveMeshCache();
+            ctx.attachObject(ATTACHED_NAME, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Releases all meshes and the instance buffer of the instance attached to the given GL's context
+     * and detaches it.
+     */
+    public static void destroy(final GL gl) {
+        final PrimitiveMeshCache cache = (PrimitiveMeshCache) gl.getContext().detachObject(ATTACHED_NAME);
+        if( null != cache ) {
+            cache.clear(gl);
+        }
+    }
+
+    /** Releases all meshes and the instance buffer, the cache may be used again afterwards. */
+    public void clear(final GL gl) {
+        for(final Iterator<Mesh> it = meshes.values().iterator(); it.hasNext(); ) {
+            final Mesh m = it.next();
+            gl.glDeleteBuffers(2, m.names, 0);
+            m.names[0] = 0;
+            m.names[1] = 0;
+        }
+        meshes.clear();
+        if( 0 != instanceVBO[0] ) {
+            gl.glDeleteBuffers(1, instanceVBO, 0);
+            instanceVBO[0] = 0;
+            instanceVBOSize = 0;
+        }
+    }
+
+    public final int getMeshCount() { return meshes.size(); }
+    public final int getHitCount() { return hitCount; }
+    public final int getMissCount() { return missCount; }
+
+    //
+    // Cached meshes
+    //
+
+    /** Unit sphere, see <code>gluSphere</code>. */
+    public Mesh getSphere(final GL gl, final int slices, final int stacks) {
+        final String key = "sphere "+slices+" "+stacks;
+        final Mesh m = lookup(key);
+        return null != m ? m : upload(gl, key, createSphere(slices, stacks));
+    }
+
+    /** Cylinder or cone along +Z, see <code>gluCylinder</code>. */
+    public Mesh getCylinder(final GL gl, final float baseRadius, final float topRadius, final float height, final int slices, final int stacks) {
+        final String key = "cylinder "+baseRadius+" "+topRadius+" "+height+" "+slices+" "+stacks;
+        final Mesh m = lookup(key);
+        return null != m ? m : upload(gl, key, createCylinder(baseRadius, topRadius, height, slices, stacks));
+    }
+
+    /** Disk in the Z=0 plane facing +Z, see <code>gluDisk</code>. */
+    public Mesh getDisk(final GL gl, final float innerRadius, final float outerRadius, final int slices, final int loops) {
+        final String key = "disk "+innerRadius+" "+outerRadius+" "+slices+" "+loops;
+        final Mesh m = lookup(key);
+        return null != m ? m : upload(gl, key, createDisk(innerRadius, outerRadius, slices, loops));
+    }
+
+    /** Torus around the Z axis, see <code>glutSolidTorus</code>. */
+    public Mesh getTorus(final GL gl, final float innerRadius, final float outerRadius, final int nsides, final int rings) {
+        final String key = "torus "+innerRadius+" "+outerRadius+" "+nsides+" "+rings;
+        final Mesh m = lookup(key);
+        return null != m ? m : upload(gl, key, createTorus(innerRadius, outerRadius, nsides, rings));
+    }
+
+    /** Unit cube centered at the origin, see <code>glutSolidCube</code>. */
+    public Mesh getCube(final GL gl) {
+        final String key = "cube";
+        final Mesh m = lookup(key);
+        return null != m ? m : upload(gl, key, createCube());
+    }
+
+    private Mesh lookup(final String key) {
+        final Mesh m = meshes.get(key);
+        if( null != m ) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return m;
+    }
+
+    private Mesh upload(final GL gl, final String key, final Geometry g) {
+        final int vertexCount = g.getVertexCount();
+        final boolean useShort = vertexCount <= 0x10000;
+        final Mesh m = new Mesh(key, vertexCount, g.indices.length, useShort ? GL.GL_UNSIGNED_SHORT : GL.GL_UNSIGNED_INT);
+        gl.glGenBuffers(2, m.names, 0);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, m.names[0]);
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, g.vertices.length * Buffers.SIZEOF_FLOAT,
+                        Buffers.newDirectFloatBuffer(g.vertices), GL.GL_STATIC_DRAW);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+        final Buffer indices;
+        if( useShort ) {
+            final short[] s = new short[g.indices.length];
+            for(int i=0; i<s.length; i++) {
+                s[i] = (short) g.indices[i];
+            }
+            indices = Buffers.newDirectShortBuffer(s);
+        } else {
+            indices = Buffers.newDirectIntBuffer(g.indices);
+        }
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, m.names[1]);
+        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, g.indices.length * ( useShort ? Buffers.SIZEOF_SHORT : Buffers.SIZEOF_INT ),
+                        indices, GL.GL_STATIC_DRAW);
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, 0);
+        meshes.put(key, m);
+        return m;
+    }
+
+    //
+    // Drawing
+    //
+
+    /**
+     * Draws the mesh once.
+     * @param gl the current GL object
+     * @param mesh mesh of this cache
+     * @param positionLoc vertex attribute location of the vec3 position, or -1
+     * @param normalLoc vertex attribute location of the vec3 normal, or -1
+     * @param texCoordLoc vertex attribute location of the vec2 texture coordinate, or -1
+     */
+    public void draw(final GL2ES2 gl, final Mesh mesh, final int positionLoc, final int normalLoc, final int texCoordLoc) {
+        bindMesh(gl, mesh, positionLoc, normalLoc, texCoordLoc);
+        gl.glDrawElements(GL.GL_TRIANGLES, mesh.indexCount, mesh.indexType, 0);
+        unbindMesh(gl, positionLoc, normalLoc, texCoordLoc);
+    }
+
+    /**
+     * Draws <code>instanceCount</code> copies of the mesh with one instanced draw call.
+     * <p>
+     * The per instance 4x4 column-major transform occupies the four consecutive
+     * vertex attribute locations starting at <code>instanceMatrixLoc</code>,
+     * i.e. a <code>mat4</code> vertex attribute.
+     * </p>
+     * @param gl the current GL object, must support <code>glVertexAttribDivisor</code> and <code>glDrawElementsInstanced</code>
+     * @param mesh mesh of this cache
+     * @param positionLoc vertex attribute location of the vec3 position, or -1
+     * @param normalLoc vertex attribute location of the vec3 normal, or -1
+     * @param texCoordLoc vertex attribute location of the vec2 texture coordinate, or -1
+     * @param instanceMatrixLoc vertex attribute location of the mat4 instance transform
+     * @param transforms 16 floats per instance starting at the buffer's position
+     * @param instanceCount number of instances
+     * @throws GLException if instancing is not supported
+     */
+    public void drawInstanced(final GL2ES2 gl, final Mesh mesh, final int positionLoc, final int normalLoc, final int texCoordLoc,
+                              final int instanceMatrixLoc, final FloatBuffer transforms, final int instanceCount) throws GLException {
+        if( !isInstancingAvailable(gl) ) {
+            throw new GLException("Instanced drawing not supported: "+gl);
+        }
+        if( transforms.remaining() < instanceCount * 16 ) {
+            throw new IllegalArgumentException("transforms remaining "+transforms.remaining()+" < "+instanceCount+" * 16");
+        }
+        if( 0 >= instanceCount ) {
+            return;
+        }
+        final GL2ES3 gl3 = gl.getGL2ES3();
+        final int bytes = instanceCount * 16 * Buffers.SIZEOF_FLOAT;
+        if( 0 == instanceVBO[0] ) {
+            gl.glGenBuffers(1, instanceVBO, 0);
+        }
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, instanceVBO[0]);
+        if( bytes > instanceVBOSize ) {
+            instanceVBOSize = Math.max(bytes, instanceVBOSize * 2);
+            gl.glBufferData(GL.GL_ARRAY_BUFFER, instanceVBOSize, null, GL2ES2.GL_STREAM_DRAW);
+        }
+        gl.glBufferSubData(GL.GL_ARRAY_BUFFER, 0, bytes, transforms);
+        for(int c=0; c<4; c++) {
+            gl.glEnableVertexAttribArray(instanceMatrixLoc + c);
+            gl.glVertexAttribPointer(instanceMatrixLoc + c, 4, GL.GL_FLOAT, false, 16 * Buffers.SIZEOF_FLOAT, c * 4 * Buffers.SIZEOF_FLOAT);
+            gl3.glVertexAttribDivisor(instanceMatrixLoc + c, 1);
+        }
+        bindMesh(gl, mesh, positionLoc, normalLoc, texCoordLoc);
+        gl3.glDrawElementsInstanced(GL.GL_TRIANGLES, mesh.indexCount, mesh.indexType, 0, instanceCount);
+        unbindMesh(gl, positionLoc, normalLoc, texCoordLoc);
+        for(int c=0; c<4; c++) {
+            gl3.glVertexAttribDivisor(instanceMatrixLoc + c, 0);
+            gl.glDisableVertexAttribArray(instanceMatrixLoc + c);
+        }
+    }
+
+    /** Returns true if {@link #drawInstanced(GL2ES2, Mesh, int, int, int, int, FloatBuffer, int) drawInstanced(..)} is supported. */
+    public static boolean isInstancingAvailable(final GL gl) {
+        return gl.isGL2ES3() &&
+               gl.isFunctionAvailable("glVertexAttribDivisor") &&
+               gl.isFunctionAvailable("glDrawElementsInstanced");
+    }
+
+    private static void bindMesh(final GL2ES2 gl, final Mesh mesh, final int positionLoc, final int normalLoc, final int texCoordLoc) {
+        if( 0 == mesh.names[0] ) {
+            throw new GLException("Mesh destroyed: "+mesh);
+        }
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, mesh.names[0]);
+        enableAttrib(gl, positionLoc, 3, POSITION_OFFSET);
+        enableAttrib(gl, normalLoc, 3, NORMAL_OFFSET);
+        enableAttrib(gl, texCoordLoc, 2, TEXCOORD_OFFSET);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, mesh.names[1]);
+    }
+
+    private static void unbindMesh(final GL2ES2 gl, final int positionLoc, final int normalLoc, final int texCoordLoc) {
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, 0);
+        if( 0 <= positionLoc ) { gl.glDisableVertexAttribArray(positionLoc); }
+        if( 0 <= normalLoc ) { gl.glDisableVertexAttribArray(normalLoc); }
+        if( 0 <= texCoordLoc ) { gl.glDisableVertexAttribArray(texCoordLoc); }
+    }
+
+    private static void enableAttrib(final GL2ES2 gl, final int loc, final int comps, final int offset) {
+        if( 0 <= loc ) {
+            gl.glEnableVertexAttribArray(loc);
+            gl.glVertexAttribPointer(loc, comps, GL.GL_FLOAT, false, VERTEX_STRIDE, offset);
+        }
+    }
+
+    //
+    // Geometry generation
+    //
+
+    /** Unit sphere geometry, <code>gluSphere</code> layout: poles on the Z axis, <code>t</code> running from +Z (1) to -Z (0). */
+    public static Geometry createSphere(final int slices, final int stacks) {
+        checkTessellation(slices, 3, stacks, 1);
+        final float drho = (float)Math.PI / stacks;
+        final float dtheta = 2f * (float)Math.PI / slices;
+        final float[] v = new float[(stacks+1)*(slices+1)*VERTEX_COMPONENTS];
+        int o = 0;
+        for(int i=0; i<=stacks; i++) {
+            final float rho = i * drho;
+            final float sinRho = (float)Math.sin(rho), cosRho = (float)Math.cos(rho);
+            for(int j=0; j<=slices; j++) {
+                final float theta = j == slices ? 0f : j * dtheta;
+                final float x = -(float)Math.sin(theta) * sinRho;
+                final float y = (float)Math.cos(theta) * sinRho;
+                final float z = cosRho;
+                o = putVertex(v, o, x, y, z, x, y, z, (float)j / slices, 1f - (float)i / stacks);
+            }
+        }
+        return new Geometry(v, gridIndices(stacks, slices));
+    }
+
+    /**
+     * Cylinder geometry along +Z starting at Z=0, <code>gluCylinder</code> layout.
+     * @throws IllegalArgumentException if <code>height</code> is not &gt; 0, <code>slices</code> &lt; 3 or <code>stacks</code> &lt; 1
+     */
+    public static Geometry createCylinder(final float baseRadius, final float topRadius, final float height, final int slices, final int stacks) {
+        checkTessellation(slices, 3, stacks, 1);
+        if( !( height > 0f ) ) {
+            throw new IllegalArgumentException("Invalid cylinder height "+height);
+        }
+        final float da = 2f * (float)Math.PI / slices;
+        final float nz = ( baseRadius - topRadius ) / height;
+        final float[] v = new float[(stacks+1)*(slices+1)*VERTEX_COMPONENTS];
+        int o = 0;
+        for(int j=0; j<=stacks; j++) {
+            final float z = j * height / stacks;
+            final float r = baseRadius + j * ( topRadius - baseRadius ) / stacks;
+            for(int i=0; i<=slices; i++) {
+                final float a = i == slices ? 0f : i * da;
+                final float x = (float)Math.sin(a), y = (float)Math.cos(a);
+                final float nl = (float)Math.sqrt(x*x + y*y + nz*nz);
+                o = putVertex(v, o, x*r, y*r, z, x/nl, y/nl, nz/nl, (float)i / slices, (float)j / stacks);
+            }
+        }
+        return new Geometry(v, gridIndices(stacks, slices));
+    }
+
+    /** Disk geometry in the Z=0 plane facing +Z, <code>gluDisk</code> layout. */
+    public static Geometry createDisk(final float innerRadius, final float outerRadius, final int slices, final int loops) {
+        checkTessellation(slices, 3, loops, 1);
+        final float da = 2f * (float)Math.PI / slices;
+        final float dtc = 2f * outerRadius;
+        final float[] v = new float[(loops+1)*(slices+1)*VERTEX_COMPONENTS];
+        int o = 0;
+        for(int l=0; l<=loops; l++) {
+            // outer ring first, matching the gluDisk strip order
+            final float r = outerRadius - l * ( outerRadius - innerRadius ) / loops;
+            for(int s=0; s<=slices; s++) {
+                final float a = s == slices ? 0f : s * da;
+                final float sa = (float)Math.sin(a), ca = (float)Math.cos(a);
+                o = putVertex(v, o, r*sa, r*ca, 0f, 0f, 0f, 1f, 0.5f + sa * r / dtc, 0.5f + ca * r / dtc);
+            }
+        }
+        return new Geometry(v, gridIndices(loops, slices));
+    }
+
+    /** Torus geometry around the Z axis, <code>glutSolidTorus</code> layout. */
+    public static Geometry createTorus(final float innerRadius, final float outerRadius, final int nsides, final int rings) {
+        checkTessellation(nsides, 3, rings, 3);
+        final float ringDelta = 2f * (float)Math.PI / rings;
+        final float sideDelta = 2f * (float)Math.PI / nsides;
+        final float[] v = new float[(rings+1)*(nsides+1)*VERTEX_COMPONENTS];
+        int o = 0;
+        for(int i=0; i<=rings; i++) {
+            // decreasing theta, matching the glutSolidTorus strip order
+            final float theta = i == rings ? 0f : -i * ringDelta;
+            final float cosTheta = (float)Math.cos(theta), sinTheta = (float)Math.sin(theta);
+            for(int j=0; j<=nsides; j++) {
+                final float phi = j == nsides ? 0f : j * sideDelta;
+                final float cosPhi = (float)Math.cos(phi), sinPhi = (float)Math.sin(phi);
+                final float dist = outerRadius + innerRadius * cosPhi;
+                o = putVertex(v, o, cosTheta * dist, -sinTheta * dist, innerRadius * sinPhi,
+                                    cosTheta * cosPhi, -sinTheta * cosPhi, sinPhi,
+                                    (float)j / nsides, (float)i / rings);
+            }
+        }
+        return new Geometry(v, gridIndices(rings, nsides));
+    }
+
+    private static final float[][] cubeFaceNormals = {
+        { -1f, 0f, 0f }, { 0f, 1f, 0f }, { 1f, 0f, 0f }, { 0f, -1f, 0f }, { 0f, 0f, 1f }, { 0f, 0f, -1f } };
+    private static final int[][] cubeFaces = {
+        { 0, 1, 2, 3 }, { 3, 2, 6, 7 }, { 7, 6, 5, 4 }, { 4, 5, 1, 0 }, { 5, 6, 2, 1 }, { 7, 4, 0, 3 } };
+
+    /** Unit cube geometry centered at the origin, <code>glutSolidCube</code> layout with flat face normals. */
+    public static Geometry createCube() {
+        final float[] v = new float[6*4*VERTEX_COMPONENTS];
+        final int[] idx = new int[6*6];
+        int o = 0, k = 0;
+        for(int f=0; f<6; f++) {
+            final float[] n = cubeFaceNormals[f];
+            for(int c=0; c<4; c++) {
+                final int corner = cubeFaces[f][c];
+                final float x = corner >= 4 ? 0.5f : -0.5f;
+                final float y = ( corner & 3 ) == 2 || ( corner & 3 ) == 3 ? 0.5f : -0.5f;
+                final float z = ( corner & 3 ) == 1 || ( corner & 3 ) == 2 ? 0.5f : -0.5f;
+                o = putVertex(v, o, x, y, z, n[0], n[1], n[2], c == 1 || c == 2 ? 1f : 0f, c >= 2 ? 1f : 0f);
+            }
+            final int b = f*4;
+            idx[k++] = b; idx[k++] = b+1; idx[k++] = b+2;
+            idx[k++] = b; idx[k++] = b+2; idx[k++] = b+3;
+        }
+        return new Geometry(v, idx);
+    }
+
+    private static void checkTessellation(final int a, final int minA, final int b, final int minB) {
+        if( a < minA || b < minB ) {
+            throw new IllegalArgumentException("Invalid tessellation "+a+" x "+b);
+        }
+    }
+
+    private static int putVertex(final float[] v, int o, final float x, final float y, final float z,
+                                 final float nx, final float ny, final float nz, final float s, final float t) {
+        v[o++] = x;  v[o++] = y;  v[o++] = z;
+        v[o++] = nx; v[o++] = ny; v[o++] = nz;
+        v[o++] = s;  v[o++] = t;
+        return o;
+    }
+
+    /**
+     * Triangle indices of a <code>(rows+1) x (cols+1)</code> vertex grid,
+     * each row pair forming a quad strip <code>a<sub>j</sub>, b<sub>j</sub>, a<sub>j+1</sub>, b<sub>j+1</sub></code>
+     * with <code>a</code> being row <code>r</code> and <code>b</code> row <code>r+1</code>.
+     */
+    private static int[] gridIndices(final int rows, final int cols) {
+        final int[] idx = new int[rows*cols*6];
+        final int rowLen = cols + 1;
+        int k = 0;
+        for(int r=0; r<rows; r++) {
+            for(int c=0; c<cols; c++) {
+                final int a0 = r*rowLen + c, a1 = a0 + 1;
+                final int b0 = a0 + rowLen, b1 = b0 + 1;
+                idx[k++] = a0; idx[k++] = b0; idx[k++] = a1;
+                idx[k++] = a1; idx[k++] = b0; idx[k++] = b1;
+            }
+        }
+        return idx;
+    }
+}
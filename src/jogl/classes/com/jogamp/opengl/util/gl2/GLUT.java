@@ -378,6 +378,10 @@ public class GLUT {
   }
 
   public int  glutBitmapWidth    (final int font, final char character) {
+    return bitmapWidth(font, character);
+  }
+
+  static int bitmapWidth(final int font, final char character) {
     final BitmapFontRec fontinfo = getBitmapFont(font);
     final int c = character & 0xFFFF;
     if (c < fontinfo.first || c >= fontinfo.first + fontinfo.num_chars)
@@ -439,6 +443,10 @@ public class GLUT {
   }
 
   public float glutStrokeWidthf   (final int font, final char character) {
+    return strokeWidthf(font, character);
+  }
+
+  static float strokeWidthf(final int font, final char character) {
     final StrokeFontRec fontinfo = getStrokeFont(font);
     final int c = character & 0xFFFF;
     if (c < 0 || c >= fontinfo.num_chars)
@@ -451,6 +459,10 @@ public class GLUT {
   }
 
   public int  glutBitmapLength   (final int font, final String string) {
+    return bitmapLength(font, string);
+  }
+
+  static int bitmapLength(final int font, final CharSequence string) {
     final BitmapFontRec fontinfo = getBitmapFont(font);
     int length = 0;
     final int len = string.length();
@@ -470,6 +482,10 @@ public class GLUT {
   }
 
   public float glutStrokeLengthf  (final int font, final String string) {
+    return strokeLengthf(font, string);
+  }
+
+  static float strokeLengthf(final int font, final CharSequence string) {
     final StrokeFontRec fontinfo = getStrokeFont(font);
     float length = 0;
     final int len = string.length();
@@ -1250,7 +1266,7 @@ public class GLUT {
   private static final BitmapFontRec[] bitmapFonts = new BitmapFontRec[9];
   private static final StrokeFontRec[] strokeFonts = new StrokeFontRec[9];
 
-  private static BitmapFontRec getBitmapFont(final int font) {
+  static BitmapFontRec getBitmapFont(final int font) {
     BitmapFontRec rec = bitmapFonts[font];
     if (rec == null) {
       switch (font) {
@@ -1283,7 +1299,7 @@ public class GLUT {
     return rec;
   }
 
-  private static StrokeFontRec getStrokeFont(final int font) {
+  static StrokeFontRec getStrokeFont(final int font) {
     StrokeFontRec rec = strokeFonts[font];
     if (rec == null) {
       switch (font) {
@@ -0,0 +1,583 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.gl2;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLUniformData;
+import com.jogamp.opengl.util.PMVMatrix;
+import com.jogamp.opengl.util.glsl.ShaderCode;
+import com.jogamp.opengl.util.glsl.ShaderProgram;
+
+/**
+ * Programmable pipeline renderer for the {@link GLUT} stroke and bitmap fonts,
+ * usable on any {@link GL2ES2} profile.
+ * <p>
+ * The GLUT font tables are converted once per font:
+ * stroke glyphs into packed line segments and bitmap glyphs into a texture atlas.
+ * A whole string is then rendered with one draw call.
+ * If <code>glVertexAttribDivisor</code> and <code>glDrawArraysInstanced</code> are available,
+ * each segment or glyph quad is one instance of a shared unit primitive,
+ * otherwise the instances are expanded into a vertex stream of the same layout.
+ * </p>
+ * <p>
+ * Coordinates are given in the current {@link PMVMatrix} space:
+ * stroke fonts use the GLUT font units, bitmap fonts use one unit per pixel,
+ * hence an orthogonal pixel projection reproduces the {@link GLUT#glutBitmapString(int, String) glBitmap} output.
+ * The metrics methods return the same values as their {@link GLUT} counterparts.
+ * </p>
+ * <p>
+ * All methods issuing GL commands shall be called with the same context current
+ * which was used for {@link #init(GL2ES2)}.
+ * </p>
+ */
+public class GLUTTextRenderer {
+    /** Floats per instance: origin[2], axis[4] (u.xy, v.xy), texRect[4]. */
+    private static final int INSTANCE_FLOATS = 10;
+    /** Floats per expanded vertex: corner[2] followed by the instance data. */
+    private static final int VERTEX_FLOATS = 2 + INSTANCE_FLOATS;
+
+    /** Unit corners, first two serve as line, all four as triangle strip. */
+    private static final float[] corners = { 0f, 0f,  1f, 0f,  0f, 1f,  1f, 1f };
+    /** Triangle corners of an expanded quad. */
+    private static final int[] quadCornerIdx = { 0, 1, 2, 2, 1, 3 };
+
+    private static final String vertexShaderSrc =
+        "#if __VERSION__ >= 130\n"+
+        "  #define attribute in\n"+
+        "  #define varying out\n"+
+        "#endif\n"+
+        "uniform   mat4 mgl_PMVMatrix[2];\n"+
+        "attribute vec2 glut_Corner;\n"+
+        "attribute vec2 glut_Origin;\n"+
+        "attribute vec4 glut_Axis;\n"+
+        "attribute vec4 glut_TexRect;\n"+
+        "varying   vec2 glut_TexCoord;\n"+
+        "void main(void) {\n"+
+        "  vec2 p = glut_Origin + glut_Corner.x * glut_Axis.xy + glut_Corner.y * glut_Axis.zw;\n"+
+        "  glut_TexCoord = mix(glut_TexRect.xy, glut_TexRect.zw, glut_Corner);\n"+
+        "  gl_Position = mgl_PMVMatrix[0] * mgl_PMVMatrix[1] * vec4(p, 0.0, 1.0);\n"+
+        "}\n";
+
+    private static final String fragmentShaderSrc =
+        "#if __VERSION__ >= 130\n"+
+        "  #define varying in\n"+
+        "  out vec4 mgl_FragColor;\n"+
+        "  #define texture2D texture\n"+
+        "#else\n"+
+        "  #define mgl_FragColor gl_FragColor\n"+
+        "#endif\n"+
+        "varying vec2      glut_TexCoord;\n"+
+        "uniform vec4      glut_Color;\n"+
+        "uniform float     glut_Textured;\n"+
+        "uniform sampler2D mgl_Texture0;\n"+
+        "void main(void) {\n"+
+        "  if( glut_Textured > 0.5 && texture2D(mgl_Texture0, glut_TexCoord).a < 0.5 ) {\n"+
+        "    discard;\n"+
+        "  }\n"+
+        "  mgl_FragColor = glut_Color;\n"+
+        "}\n";
+
+    /** Stroke font converted to line segments, <code>[x0, y0, x1, y1]</code> per segment. */
+    private static class StrokeTable {
+        final float[] segments;
+        final int[] first;
+        final int[] count;
+
+        StrokeTable(final StrokeFontRec rec) {
+            first = new int[rec.num_chars];
+            count = new int[rec.num_chars];
+            int total = 0;
+            for(int c=0; c<rec.num_chars; c++) {
+                final StrokeCharRec ch = rec.ch[c];
+                if( null != ch ) {
+                    for(int i=0; i<ch.num_strokes; i++) {
+                        total += Math.max(0, ch.stroke[i].num_coords - 1);
+                    }
+                }
+            }
+            segments = new float[total*4];
+            int s = 0;
+            for(int c=0; c<rec.num_chars; c++) {
+                first[c] = s;
+                final StrokeCharRec ch = rec.ch[c];
+                if( null != ch ) {
+                    for(int i=0; i<ch.num_strokes; i++) {
+                        final StrokeRec stroke = ch.stroke[i];
+                        for(int j=1; j<stroke.num_coords; j++) {
+                            final CoordRec c0 = stroke.coord[j-1];
+                            final CoordRec c1 = stroke.coord[j];
+                            segments[s*4+0] = c0.x;
+                            segments[s*4+1] = c0.y;
+                            segments[s*4+2] = c1.x;
+                            segments[s*4+3] = c1.y;
+                            s++;
+                        }
+                    }
+                }
+                count[c] = s - first[c];
+            }
+        }
+    }
+
+    /** Bitmap font packed into an RGBA texture, <code>[x, y, w, h, u0, v0, u1, v1]</code> per glyph. */
+    private static class BitmapAtlas {
+        final int[] texName = { 0 };
+        final float[] quads;
+        final boolean[] present;
+
+        BitmapAtlas(final GL2ES2 gl, final BitmapFontRec rec) {
+            final int n = rec.num_chars;
+            quads = new float[n*8];
+            present = new boolean[n];
+            final int width = 256;
+            final int[] texX = new int[n];
+            final int[] texY = new int[n];
+            // shelf packing, 1 pixel padding
+            int x = 1, y = 1, rowHeight = 0;
+            for(int i=0; i<n; i++) {
+                final BitmapCharRec ch = rec.ch[i];
+                if( null == ch || 0 >= ch.width || 0 >= ch.height ) {
+                    continue;
+                }
+                if( x + ch.width + 1 > width ) {
+                    x = 1;
+                    y += rowHeight + 1;
+                    rowHeight = 0;
+                }
+                texX[i] = x;
+                texY[i] = y;
+                x += ch.width + 1;
+                rowHeight = Math.max(rowHeight, ch.height);
+            }
+            int height = 1;
+            while( height < y + rowHeight + 1 ) {
+                height <<= 1;
+            }
+            final ByteBuffer pixels = Buffers.newDirectByteBuffer(width*height*4);
+            for(int i=0; i<n; i++) {
+                final BitmapCharRec ch = rec.ch[i];
+                if( null == ch || 0 >= ch.width || 0 >= ch.height ) {
+                    continue;
+                }
+                // glBitmap layout: MSB first, byte aligned rows, bottom row first
+                final int rowBytes = ( ch.width + 7 ) / 8;
+                for(int r=0; r<ch.height; r++) {
+                    for(int c=0; c<ch.width; c++) {
+                        final int bit = ( ch.bitmap[r*rowBytes + c/8] >> ( 7 - ( c & 7 ) ) ) & 1;
+                        if( 0 != bit ) {
+                            final int p = ( ( texY[i] + r ) * width + texX[i] + c ) * 4;
+                            pixels.put(p+0, (byte)0xff);
+                            pixels.put(p+1, (byte)0xff);
+                            pixels.put(p+2, (byte)0xff);
+                            pixels.put(p+3, (byte)0xff);
+                        }
+                    }
+                }
+                final int q = i*8;
+                quads[q+0] = -ch.xorig;
+                quads[q+1] = -ch.yorig;
+                quads[q+2] = ch.width;
+                quads[q+3] = ch.height;
+                quads[q+4] = (float)texX[i] / width;
+                quads[q+5] = (float)texY[i] / height;
+                quads[q+6] = (float)( texX[i] + ch.width ) / width;
+                quads[q+7] = (float)( texY[i] + ch.height ) / height;
+                present[i] = true;
+            }
+            gl.glGenTextures(1, texName, 0);
+            gl.glBindTexture(GL.GL_TEXTURE_2D, texName[0]);
+            gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MIN_FILTER, GL.GL_NEAREST);
+            gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MAG_FILTER, GL.GL_NEAREST);
+            gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_WRAP_S, GL.GL_CLAMP_TO_EDGE);
+            gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_WRAP_T, GL.GL_CLAMP_TO_EDGE);
+            gl.glTexImage2D(GL.GL_TEXTURE_2D, 0, GL.GL_RGBA, width, height, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, pixels);
+            gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+        }
+
+        void destroy(final GL2ES2 gl) {
+            if( 0 != texName[0] ) {
+                gl.glDeleteTextures(1, texName, 0);
+                texName[0] = 0;
+            }
+        }
+    }
+
+    private final int textureUnit;
+    private final StrokeTable[] strokeTables = new StrokeTable[9];
+    private final BitmapAtlas[] bitmapAtlases = new BitmapAtlas[9];
+    private final float[] color = { 1f, 1f, 1f, 1f };
+
+    private ShaderProgram sp;
+    private boolean instanced;
+    private int locCorner, locOrigin, locAxis, locTexRect;
+    private GLUniformData pmvMatrixUniform;
+    private GLUniformData colorUniform;
+    private GLUniformData texturedUniform;
+    private GLUniformData activeTexUniform;
+    private final int[] vbos = { 0, 0 };
+    private FloatBuffer stream = Buffers.newDirectFloatBuffer(64*VERTEX_FLOATS);
+    private int lastDrawCount;
+
+    /**
+     * @param textureUnit texture unit used for the bitmap font atlas, i.e. <code>0</code> for {@link GL#GL_TEXTURE0}
+     */
+    public GLUTTextRenderer(final int textureUnit) {
+        this.textureUnit = textureUnit;
+    }
+
+    /** Returns true if strings are drawn with an instanced draw call, valid after {@link #init(GL2ES2)}. */
+    public final boolean isInstanced() { return instanced; }
+
+    /** Returns the number of segments or glyph quads issued by the last draw call. */
+    public final int getLastDrawCount() { return lastDrawCount; }
+
+    /** Sets the RGBA color used for subsequent draw calls. */
+    public final void setColor(final float r, final float g, final float b, final float a) {
+        color[0] = r; color[1] = g; color[2] = b; color[3] = a;
+    }
+
+    /**
+     * Creates the shader program and buffers.
+     * @param gl the current GL object
+     * @throws GLException if the shader program could not be linked
+     */
+    public void init(final GL2ES2 gl) throws GLException {
+        if( null != sp ) {
+            return;
+        }
+        final ShaderCode vp = new ShaderCode(GL2ES2.GL_VERTEX_SHADER, 1,
+                                             new CharSequence[][] { { new StringBuilder(vertexShaderSrc) } });
+        final ShaderCode fp = new ShaderCode(GL2ES2.GL_FRAGMENT_SHADER, 1,
+                                             new CharSequence[][] { { new StringBuilder(fragmentShaderSrc) } });
+        vp.defaultShaderCustomization(gl, true, true);
+        fp.defaultShaderCustomization(gl, true, true);
+        sp = new ShaderProgram();
+        sp.add(vp);
+        sp.add(fp);
+        if( !sp.link(gl, System.err) ) {
+            sp.destroy(gl);
+            sp = null;
+            throw new GLException("Couldn't link program: "+vp+", "+fp);
+        }
+        locCorner = gl.glGetAttribLocation(sp.program(), "glut_Corner");
+        locOrigin = gl.glGetAttribLocation(sp.program(), "glut_Origin");
+        locAxis = gl.glGetAttribLocation(sp.program(), "glut_Axis");
+        locTexRect = gl.glGetAttribLocation(sp.program(), "glut_TexRect");
+
+        pmvMatrixUniform = new GLUniformData("mgl_PMVMatrix", 4, 4, Buffers.newDirectFloatBuffer(2*16));
+        colorUniform = new GLUniformData("glut_Color", 4, Buffers.newDirectFloatBuffer(4));
+        texturedUniform = new GLUniformData("glut_Textured", 0f);
+        activeTexUniform = new GLUniformData("mgl_Texture0", textureUnit);
+        sp.useProgram(gl, true);
+        pmvMatrixUniform.setLocation(gl, sp.program());
+        colorUniform.setLocation(gl, sp.program());
+        texturedUniform.setLocation(gl, sp.program());
+        if( 0 <= activeTexUniform.setLocation(gl, sp.program()) ) {
+            gl.glUniform(activeTexUniform);
+        }
+        sp.useProgram(gl, false);
+
+        instanced = gl.isGL2ES3() &&
+                    gl.isFunctionAvailable("glVertexAttribDivisor") &&
+                    gl.isFunctionAvailable("glDrawArraysInstanced");
+
+        gl.glGenBuffers(2, vbos, 0);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vbos[0]);
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, corners.length*Buffers.SIZEOF_FLOAT,
+                        Buffers.newDirectFloatBuffer(corners), GL.GL_STATIC_DRAW);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+    }
+
+    /** Releases all GL resources, the instance may be {@link #init(GL2ES2) initialized} again. */
+    public void destroy(final GL2ES2 gl) {
+        for(int i=0; i<bitmapAtlases.length; i++) {
+            if( null != bitmapAtlases[i] ) {
+                bitmapAtlases[i].destroy(gl);
+                bitmapAtlases[i] = null;
+            }
+        }
+        if( 0 != vbos[0] ) {
+            gl.glDeleteBuffers(2, vbos, 0);
+            vbos[0] = 0;
+            vbos[1] = 0;
+        }
+        if( null != sp ) {
+            sp.destroy(gl);
+            sp = null;
+        }
+        pmvMatrixUniform = null;
+        colorUniform = null;
+        texturedUniform = null;
+        activeTexUniform = null;
+    }
+
+    //
+    // Metrics, identical to GLUT
+    //
+
+    /** @see GLUT#glutBitmapWidth(int, char) */
+    public static int glutBitmapWidth(final int font, final char character) {
+        return GLUT.bitmapWidth(font, character);
+    }
+
+    /** @see GLUT#glutBitmapLength(int, String) */
+    public static int glutBitmapLength(final int font, final CharSequence string) {
+        return GLUT.bitmapLength(font, string);
+    }
+
+    /** @see GLUT#glutStrokeWidth(int, char) */
+    public static int glutStrokeWidth(final int font, final char character) {
+        return (int) GLUT.strokeWidthf(font, character);
+    }
+
+    /** @see GLUT#glutStrokeWidthf(int, char) */
+    public static float glutStrokeWidthf(final int font, final char character) {
+        return GLUT.strokeWidthf(font, character);
+    }
+
+    /** @see GLUT#glutStrokeLength(int, String) */
+    public static int glutStrokeLength(final int font, final CharSequence string) {
+        return (int) GLUT.strokeLengthf(font, string);
+    }
+
+    /** @see GLUT#glutStrokeLengthf(int, String) */
+    public static float glutStrokeLengthf(final int font, final CharSequence string) {
+        return GLUT.strokeLengthf(font, string);
+    }
+
+    //
+    // Rendering
+    //
+
+    /**
+     * Draws the string with the given stroke font as lines, starting at pen position <code>x</code>/<code>y</code>.
+     * @param gl the current GL object
+     * @param pmv projection and modelview matrix
+     * @param font {@link GLUT#STROKE_ROMAN} or {@link GLUT#STROKE_MONO_ROMAN}
+     * @param x pen position in font units
+     * @param y baseline in font units
+     * @param string the text
+     * @return the pen x position after the last character, i.e. <code>x + {@link #glutStrokeLengthf(int, CharSequence)}</code>
+     */
+    public float drawStrokeString(final GL2ES2 gl, final PMVMatrix pmv, final int font,
+                                  final float x, final float y, final CharSequence string) {
+        final StrokeFontRec rec = GLUT.getStrokeFont(font);
+        StrokeTable table = strokeTables[font];
+        if( null == table ) {
+            table = new StrokeTable(rec);
+            strokeTables[font] = table;
+        }
+        final int len = string.length();
+        int segCount = 0;
+        for(int i=0; i<len; i++) {
+            final int c = string.charAt(i) & 0xFFFF;
+            if( c < rec.num_chars ) {
+                segCount += table.count[c];
+            }
+        }
+        final FloatBuffer buf = beginStream(segCount, 2);
+        float penX = x;
+        for(int i=0; i<len; i++) {
+            final int c = string.charAt(i) & 0xFFFF;
+            if( c >= rec.num_chars || null == rec.ch[c] ) {
+                continue;
+            }
+            final int end = table.first[c] + table.count[c];
+            for(int s=table.first[c]; s<end; s++) {
+                final float x0 = table.segments[s*4+0], y0 = table.segments[s*4+1];
+                final float x1 = table.segments[s*4+2], y1 = table.segments[s*4+3];
+                putInstance(buf, 2, penX + x0, y + y0, x1 - x0, y1 - y0, 0f, 0f, 0f, 0f, 0f, 0f);
+            }
+            penX += rec.ch[c].right;
+        }
+        drawStream(gl, pmv, buf, segCount, GL.GL_LINES, 2, false, 0);
+        return penX;
+    }
+
+    /**
+     * Draws the string with the given bitmap font, starting at pen position <code>x</code>/<code>y</code>.
+     * <p>
+     * As with <code>glBitmap</code>, only the set pixels of each glyph are rendered.
+     * </p>
+     * @param gl the current GL object
+     * @param pmv projection and modelview matrix, one unit per pixel
+     * @param font one of the {@link GLUT} <code>BITMAP_*</code> fonts
+     * @param x pen position in pixels
+     * @param y baseline in pixels
+     * @param string the text
+     * @return the pen x position after the last character, i.e. <code>x + {@link #glutBitmapLength(int, CharSequence)}</code>
+     */
+    public float drawBitmapString(final GL2ES2 gl, final PMVMatrix pmv, final int font,
+                                  final float x, final float y, final CharSequence string) {
+        final BitmapFontRec rec = GLUT.getBitmapFont(font);
+        BitmapAtlas atlas = bitmapAtlases[font];
+        if( null == atlas ) {
+            atlas = new BitmapAtlas(gl, rec);
+            bitmapAtlases[font] = atlas;
+        }
+        final int len = string.length();
+        int quadCount = 0;
+        for(int i=0; i<len; i++) {
+            final int c = ( string.charAt(i) & 0xFFFF ) - rec.first;
+            if( 0 <= c && c < rec.num_chars && atlas.present[c] ) {
+                quadCount++;
+            }
+        }
+        final FloatBuffer buf = beginStream(quadCount, 6);
+        float penX = x;
+        for(int i=0; i<len; i++) {
+            final int c = ( string.charAt(i) & 0xFFFF ) - rec.first;
+            if( 0 > c || c >= rec.num_chars || null == rec.ch[c] ) {
+                continue;
+            }
+            if( atlas.present[c] ) {
+                final float[] q = atlas.quads;
+                final int o = c*8;
+                putInstance(buf, 6, penX + q[o+0], y + q[o+1], q[o+2], 0f, 0f, q[o+3], q[o+4], q[o+5], q[o+6], q[o+7]);
+            }
+            penX += rec.ch[c].advance;
+        }
+        drawStream(gl, pmv, buf, quadCount, GL.GL_TRIANGLE_STRIP, 4, true, atlas.texName[0]);
+        return penX;
+    }
+
+    private FloatBuffer beginStream(final int instanceCount, final int verticesPerInstance) {
+        final int floats = instanced ? instanceCount * INSTANCE_FLOATS : instanceCount * verticesPerInstance * VERTEX_FLOATS;
+        if( stream.capacity() < floats ) {
+            stream = Buffers.newDirectFloatBuffer(Math.max(floats, stream.capacity()*2));
+        }
+        stream.clear();
+        return stream;
+    }
+
+    /**
+     * Appends one instance, or its expanded vertices if not {@link #isInstanced() instanced}.
+     * Expanded lines use corners 0 and 1, expanded quads two triangles.
+     */
+    private void putInstance(final FloatBuffer buf, final int verticesPerInstance,
+                             final float ox, final float oy, final float ux, final float uy, final float vx, final float vy,
+                             final float s0, final float t0, final float s1, final float t1) {
+        if( instanced ) {
+            buf.put(ox).put(oy).put(ux).put(uy).put(vx).put(vy).put(s0).put(t0).put(s1).put(t1);
+        } else {
+            for(int i=0; i<verticesPerInstance; i++) {
+                final int ci = 6 == verticesPerInstance ? quadCornerIdx[i] : i;
+                buf.put(corners[ci*2]).put(corners[ci*2+1]);
+                buf.put(ox).put(oy).put(ux).put(uy).put(vx).put(vy).put(s0).put(t0).put(s1).put(t1);
+            }
+        }
+    }
+
+    private void drawStream(final GL2ES2 gl, final PMVMatrix pmv, final FloatBuffer buf, final int instanceCount,
+                            final int instancedMode, final int instancedVertices, final boolean textured, final int texName) {
+        lastDrawCount = instanceCount;
+        if( null == sp ) {
+            throw new GLException("Not initialized");
+        }
+        if( 0 == instanceCount ) {
+            return;
+        }
+        buf.flip();
+        sp.useProgram(gl, true);
+        pmvMatrixUniform.setData(pmv.getSyncPMvMat()); // synced w/ pmv on glUniform, keeps its buffer position
+        gl.glUniform(pmvMatrixUniform);
+        final FloatBuffer colorData = (FloatBuffer) colorUniform.getBuffer();
+        colorData.clear();
+        colorData.put(color);
+        colorData.rewind();
+        gl.glUniform(colorUniform);
+        texturedUniform.setData(textured ? 1f : 0f);
+        gl.glUniform(texturedUniform);
+        if( textured ) {
+            gl.glActiveTexture(GL.GL_TEXTURE0 + textureUnit);
+            gl.glBindTexture(GL.GL_TEXTURE_2D, texName);
+        }
+
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vbos[1]);
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, buf.remaining()*Buffers.SIZEOF_FLOAT, buf, GL.GL_STREAM_DRAW);
+        final int fsz = Buffers.SIZEOF_FLOAT;
+        if( instanced ) {
+            final GL2ES3 gl3 = gl.getGL2ES3();
+            final int stride = INSTANCE_FLOATS * fsz;
+            enableAttrib(gl, locOrigin, 2, stride, 0);
+            enableAttrib(gl, locAxis, 4, stride, 2*fsz);
+            enableAttrib(gl, locTexRect, 4, stride, 6*fsz);
+            setDivisor(gl3, 1);
+            gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vbos[0]);
+            enableAttrib(gl, locCorner, 2, 2*fsz, 0);
+            gl3.glDrawArraysInstanced(instancedMode, 0, instancedVertices, instanceCount);
+            setDivisor(gl3, 0);
+        } else {
+            final int stride = VERTEX_FLOATS * fsz;
+            enableAttrib(gl, locCorner, 2, stride, 0);
+            enableAttrib(gl, locOrigin, 2, stride, 2*fsz);
+            enableAttrib(gl, locAxis, 4, stride, 4*fsz);
+            enableAttrib(gl, locTexRect, 4, stride, 8*fsz);
+            if( GL.GL_LINES == instancedMode ) {
+                gl.glDrawArrays(GL.GL_LINES, 0, instanceCount*2);
+            } else {
+                gl.glDrawArrays(GL.GL_TRIANGLES, 0, instanceCount*6);
+            }
+        }
+        disableAttrib(gl, locCorner);
+        disableAttrib(gl, locOrigin);
+        disableAttrib(gl, locAxis);
+        disableAttrib(gl, locTexRect);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+        if( textured ) {
+            gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+        }
+        sp.useProgram(gl, false);
+    }
+
+    private void setDivisor(final GL2ES3 gl3, final int divisor) {
+        if( 0 <= locOrigin ) { gl3.glVertexAttribDivisor(locOrigin, divisor); }
+        if( 0 <= locAxis ) { gl3.glVertexAttribDivisor(locAxis, divisor); }
+        if( 0 <= locTexRect ) { gl3.glVertexAttribDivisor(locTexRect, divisor); }
+    }
+
+    private static void enableAttrib(final GL2ES2 gl, final int loc, final int comps, final int stride, final int offset) {
+        if( 0 <= loc ) {
+            gl.glEnableVertexAttribArray(loc);
+            gl.glVertexAttribPointer(loc, comps, GL.GL_FLOAT, false, stride, offset);
+        }
+    }
+
+    private static void disableAttrib(final GL2ES2 gl, final int loc) {
+        if( 0 <= loc ) {
+            gl.glDisableVertexAttribArray(loc);
+        }
+    }
+}
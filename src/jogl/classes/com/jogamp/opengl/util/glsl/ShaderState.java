@@ -39,6 +39,7 @@ import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLUniformData;
 
 import jogamp.opengl.Debug;
+import jogamp.opengl.util.glsl.GLSLArrayHandler;
 
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.os.Platform;
@@ -245,6 +246,7 @@ public final class ShaderState {
                 iter.next().destroy(gl);
             }
         }
+        vertexArrayCache.destroy(gl);
         releaseAllAttributes(gl);
         releaseAllUniforms(gl);
         if(null!=shaderProgram && destroyShaderProgram) {
@@ -531,6 +533,9 @@ public final class ShaderState {
      * Even if the attribute is not found in the current shader,
      * it is marked enabled in this state.
      *
+     * A non zero {@link GLArrayData#getVertexAttribDivisor() vertex attribute divisor} is applied as well,
+     * which requires a {@link GL#isGL2ES3() GL2ES3} context.
+     *
      * @return false, if the name is not found, otherwise true
      *
      * @throws GLException if the program is not linked and no location was cached.
@@ -548,7 +553,11 @@ public final class ShaderState {
             // ensure data is the current bound one
             activeAttribDataMap.put(data.getName(), data);
         }
-        return enableVertexAttribArray(gl, data.getName(), data.getLocation());
+        if( enableVertexAttribArray(gl, data.getName(), data.getLocation()) ) {
+            GLSLArrayHandler.setVertexAttribDivisor(gl, data.getLocation(), data);
+            return true;
+        }
+        return false;
     }
 
     private boolean disableVertexAttribArray(final GL2ES2 gl, final String name, int location) {
@@ -620,6 +629,9 @@ public final class ShaderState {
         if(0 > data.getLocation()) {
             getAttribLocation(gl, data);
         }
+        if( 0 <= data.getLocation() ) {
+            GLSLArrayHandler.resetVertexAttribDivisor(gl, data.getLocation(), data);
+        }
         return disableVertexAttribArray(gl, data.getName(), data.getLocation());
     }
 
@@ -657,6 +669,55 @@ public final class ShaderState {
         return false;
     }
 
+    /**
+     * Returns the {@link VertexArrayCache} of this state,
+     * used by {@link #enableVertexArrays(GL2ES2, GLArrayDataEditable, GLArrayDataEditable[])}.
+     */
+    public final VertexArrayCache getVertexArrayCache() { return vertexArrayCache; }
+
+    /**
+     * Enables the given vertex attribute arrays and binds the given indices for drawing
+     * with the attached program, using a cached vertex array object (VAO) if {@link VertexArrayCache#isAvailable(GL) available}.
+     * <p>
+     * The VAO is created on first use for the combination of program, indices and arrays
+     * and rebuilt if their buffer names or locations change.
+     * Subsequent calls only bind the VAO and upload pending buffer data,
+     * instead of issuing {@link GL#glBindBuffer(int, int) glBindBuffer}, {@link #vertexAttribPointer(GL2ES2, GLArrayData) glVertexAttribPointer}
+     * and {@link #enableVertexAttribArray(GL2ES2, GLArrayData) glEnableVertexAttribArray} for each attribute.
+     * </p>
+     * <p>
+     * Must be followed by {@link #disableVertexArrays(GL2ES2, GLArrayDataEditable, GLArrayDataEditable[])} using the same arguments.
+     * </p>
+     * <p>
+     * Arrays destroyed by the user, i.e. not {@link #ownAttribute(GLArrayData, boolean) owned} by this state,
+     * may be dropped from the cache via {@link VertexArrayCache#invalidate(GL2ES2, GLArrayDataEditable)} beforehand,
+     * otherwise their VAO is dropped with the next uncached combination.
+     * </p>
+     *
+     * @param gl current GL context
+     * @param indices optional {@link GL#GL_ELEMENT_ARRAY_BUFFER}, maybe null
+     * @param arrays the vertex attribute arrays, all {@link GLArrayDataEditable#seal(boolean) sealed}
+     * @return true if a cached VAO is used, otherwise false and the arrays have been enabled individually
+     *
+     * @throws GLException if no program is attached
+     *
+     * @see VertexArrayCache#enable(GL2ES2, int, GLArrayDataEditable, GLArrayDataEditable[])
+     */
+    public boolean enableVertexArrays(final GL2ES2 gl, final GLArrayDataEditable indices, final GLArrayDataEditable[] arrays) throws GLException {
+        if(null==shaderProgram) { throw new GLException("No program is attached"); }
+        return vertexArrayCache.enable(gl, shaderProgram.program(), indices, arrays);
+    }
+
+    /**
+     * Disables the given vertex attribute arrays and unbinds the given indices,
+     * counterpart of {@link #enableVertexArrays(GL2ES2, GLArrayDataEditable, GLArrayDataEditable[])}.
+     *
+     * @see VertexArrayCache#disable(GL2ES2, GLArrayDataEditable, GLArrayDataEditable[])
+     */
+    public void disableVertexArrays(final GL2ES2 gl, final GLArrayDataEditable indices, final GLArrayDataEditable[] arrays) {
+        vertexArrayCache.disable(gl, indices, arrays);
+    }
+
     /**
      * Releases all mapped vertex attribute data,
      * disables all enabled attributes and loses all indices
@@ -727,6 +788,7 @@ public final class ShaderState {
             if(isVertexAttribArrayEnabled(name)) {
                 // enable attrib, VBO and pass location/data
                 gl.glEnableVertexAttribArray(loc);
+                GLSLArrayHandler.setVertexAttribDivisor(gl, loc, attribute);
             }
 
             if( attribute.isVBO() ) {
@@ -783,6 +845,7 @@ public final class ShaderState {
             if(isVertexAttribArrayEnabled(name)) {
                 // enable attrib, VBO and pass location/data
                 gl.glEnableVertexAttribArray(loc);
+                GLSLArrayHandler.setVertexAttribDivisor(gl, loc, attribute);
             }
 
             if( attribute.isVBO() ) {
@@ -1077,6 +1140,7 @@ public final class ShaderState {
     private final HashMap<String, Integer> activeAttribLocationMap = new HashMap<String, Integer>();
     private final HashMap<String, GLArrayData> activeAttribDataMap = new HashMap<String, GLArrayData>();
     private final ArrayList<GLArrayData> managedAttributes = new ArrayList<GLArrayData>();
+    private final VertexArrayCache vertexArrayCache = new VertexArrayCache();
 
     private final HashMap<String, Integer> activeUniformLocationMap = new HashMap<String, Integer>();
     private final HashMap<String, GLUniformData> activeUniformDataMap = new HashMap<String, GLUniformData>();
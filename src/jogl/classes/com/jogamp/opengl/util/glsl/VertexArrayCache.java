@@ -0,0 +1,479 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.glsl;
+
+import java.util.ArrayList;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLContext;
+
+import jogamp.opengl.Debug;
+
+import com.jogamp.common.util.PropertyAccess;
+import com.jogamp.opengl.util.GLArrayDataEditable;
+import com.jogamp.opengl.util.GLArrayDataServer;
+
+/**
+ * Caches vertex array objects (VAO) for a fixed set of {@link GLArrayDataEditable} arrays,
+ * an optional {@link GL#GL_ELEMENT_ARRAY_BUFFER} and a shader program.
+ * <p>
+ * Without VAO, each draw re-issues {@link GL#glBindBuffer(int, int) glBindBuffer},
+ * {@link GL2ES2#glVertexAttribPointer(com.jogamp.opengl.GLArrayData) glVertexAttribPointer}
+ * and {@link GL2ES2#glEnableVertexAttribArray(int) glEnableVertexAttribArray} for all attributes.
+ * With a cached VAO, {@link #enable(GL2ES2, int, GLArrayDataEditable, GLArrayDataEditable[]) enable}
+ * merely binds the VAO and uploads pending buffer data, if any.
+ * </p>
+ * <p>
+ * A VAO is keyed by the {@link GLContext}, the program name, the identity of the indices and all arrays,
+ * since VAOs are not shared between contexts.
+ * It is rebuilt if one of the buffer names or attribute locations has changed,
+ * including the locations of {@link GLArrayDataServer#getSubArray(int) interleaved sub-arrays},
+ * e.g. after buffer reallocation or relocation of the attributes.
+ * </p>
+ * <p>
+ * Entries of destroyed arrays, i.e. whose VBO name has become zero, and of destroyed contexts are dropped
+ * while looking up a missing combination.
+ * Arrays may also be removed explicitly via {@link #invalidate(GL2ES2, GLArrayDataEditable)} when destroyed.
+ * </p>
+ * <p>
+ * If VAOs are not {@link #isAvailable(GL) available} or one of the arrays is not a VBO,
+ * the arrays are enabled and disabled the traditional way.
+ * </p>
+ * <p>
+ * Arrays managed by a cached VAO are only enabled within it,
+ * i.e. their {@link GLArrayDataEditable#enabled()} state remains <code>false</code>.
+ * </p>
+ * <p>
+ * VAO caching can be disabled via the property <code>jogl.glsl.vaocache.disable</code>.
+ * </p>
+ */
+public class VertexArrayCache {
+    public static final boolean DEBUG;
+    private static final boolean DISABLED;
+
+    static {
+        Debug.initSingleton();
+        DEBUG = PropertyAccess.isPropertyDefined("jogl.debug.GLSLState", true);
+        DISABLED = PropertyAccess.isPropertyDefined("jogl.glsl.vaocache.disable", true);
+    }
+
+    /**
+     * Returns true if vertex array objects are available on the given GL context, i.e. a GL3 or GLES3 context,
+     * and VAO caching is not disabled via property <code>jogl.glsl.vaocache.disable</code>.
+     */
+    public static boolean isAvailable(final GL gl) {
+        return !DISABLED && gl.isGL2ES3() && gl.isFunctionAvailable("glBindVertexArray");
+    }
+
+    /** Returns the number of interleaved sub-arrays of the given array, whose locations are captured by the VAO as well. */
+    private static int getSubArrayCount(final GLArrayDataEditable ad) {
+        return ad instanceof GLArrayDataServer ? ((GLArrayDataServer)ad).getSubArrayCount() : 0;
+    }
+
+    private static final class Entry {
+        final GLContext context;
+        final int program;
+        final GLArrayDataEditable indices;
+        final GLArrayDataEditable[] arrays;
+        /**
+         * indices VBO name, followed by VBO name, location, sub-array count
+         * and the sub-array locations of each array
+         */
+        int[] signature;
+        int vao;
+
+        Entry(final GLContext context, final int program, final GLArrayDataEditable indices, final GLArrayDataEditable[] arrays) {
+            this.context = context;
+            this.program = program;
+            this.indices = indices;
+            this.arrays = arrays.clone();
+            this.signature = null;
+            this.vao = 0;
+        }
+
+        boolean matches(final GLContext context, final int program, final GLArrayDataEditable indices, final GLArrayDataEditable[] arrays) {
+            if( this.context != context || this.program != program || this.indices != indices || this.arrays.length != arrays.length ) {
+                return false;
+            }
+            for(int i=0; i<arrays.length; i++) {
+                if( this.arrays[i] != arrays[i] ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void updateSignature() {
+            int len = 1;
+            for(int i=0; i<arrays.length; i++) {
+                len += 3 + getSubArrayCount(arrays[i]);
+            }
+            signature = new int[len];
+            int k = 0;
+            signature[k++] = null != indices ? indices.getVBOName() : 0;
+            for(int i=0; i<arrays.length; i++) {
+                final GLArrayDataEditable ad = arrays[i];
+                final int subCount = getSubArrayCount(ad);
+                signature[k++] = ad.getVBOName();
+                signature[k++] = ad.getLocation();
+                signature[k++] = subCount;
+                for(int j=0; j<subCount; j++) {
+                    signature[k++] = ((GLArrayDataServer)ad).getSubArray(j).getLocation();
+                }
+            }
+        }
+
+        /** Returns true if this entry is built and one of its arrays has been destroyed since, i.e. its VBO name is zero. */
+        boolean isDead() {
+            if( null == signature ) {
+                return false;
+            }
+            if( null != indices && 0 == indices.getVBOName() ) {
+                return true;
+            }
+            for(int i=0; i<arrays.length; i++) {
+                if( 0 == arrays[i].getVBOName() ) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** Returns true if the given array is used by this entry, either as indices or vertex attribute array. */
+        boolean uses(final GLArrayDataEditable array) {
+            if( indices == array ) {
+                return true;
+            }
+            for(int i=0; i<arrays.length; i++) {
+                if( arrays[i] == array ) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isSignatureValid() {
+            if( null == signature ) {
+                return false;
+            }
+            int k = 0;
+            if( signature[k++] != ( null != indices ? indices.getVBOName() : 0 ) ) {
+                return false;
+            }
+            for(int i=0; i<arrays.length; i++) {
+                final GLArrayDataEditable ad = arrays[i];
+                final int subCount = getSubArrayCount(ad);
+                if( signature[k++] != ad.getVBOName() ||
+                    signature[k++] != ad.getLocation() ||
+                    signature[k++] != subCount ) {
+                    return false;
+                }
+                for(int j=0; j<subCount; j++) {
+                    if( signature[k++] != ((GLArrayDataServer)ad).getSubArray(j).getLocation() ) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    private final ArrayList<Entry> entries = new ArrayList<Entry>();
+    private final int[] tempI = new int[1];
+    private Entry bound = null;
+    /** Last found entry, checked first as usually the same combination is drawn repeatedly. */
+    private Entry last = null;
+    private int buildCount = 0;
+
+    public VertexArrayCache() {
+    }
+
+    /** Returns the number of cached vertex array objects. */
+    public final int size() {
+        int n = 0;
+        for(int i=0; i<entries.size(); i++) {
+            if( 0 != entries.get(i).vao ) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /** Returns the number of vertex array objects built so far, including rebuilt ones. */
+    public final int getBuildCount() { return buildCount; }
+
+    /** Returns true if a cached vertex array object is bound via {@link #enable(GL2ES2, int, GLArrayDataEditable, GLArrayDataEditable[])}. */
+    public final boolean isBound() { return null != bound; }
+
+    private static boolean isCacheable(final GLArrayDataEditable indices, final GLArrayDataEditable[] arrays) {
+        if( null != indices && !indices.isVBO() ) {
+            return false;
+        }
+        for(int i=0; i<arrays.length; i++) {
+            if( !arrays[i].isVBO() ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Entry find(final GL2ES3 gl3, final GLContext context, final int program, final GLArrayDataEditable indices, final GLArrayDataEditable[] arrays) {
+        if( null != last && last.matches(context, program, indices, arrays) ) {
+            return last;
+        }
+        for(int i=0; i<entries.size(); i++) {
+            final Entry e = entries.get(i);
+            if( e.matches(context, program, indices, arrays) ) {
+                last = e;
+                return e;
+            }
+        }
+        prune(gl3, context);
+        return null;
+    }
+
+    /**
+     * Drops entries of destroyed arrays, deleting their vertex array objects if owned by the current context,
+     * as well as entries of destroyed contexts, whose vertex array objects have been released with their context.
+     */
+    private void prune(final GL2ES3 gl3, final GLContext context) {
+        for(int i=entries.size()-1; i>=0; i--) {
+            final Entry e = entries.get(i);
+            if( e.context == context ) {
+                if( e.isDead() ) {
+                    if( DEBUG ) {
+                        System.err.println("VertexArrayCache: Drop VAO "+e.vao+" of destroyed arrays, program "+e.program);
+                    }
+                    if( 0 != e.vao ) {
+                        deleteVAO(gl3, e);
+                    }
+                    removeEntry(i);
+                }
+            } else if( !e.context.isCreated() ) {
+                removeEntry(i);
+            }
+        }
+    }
+
+    private void removeEntry(final int i) {
+        final Entry e = entries.remove(i);
+        if( last == e ) {
+            last = null;
+        }
+    }
+
+    /**
+     * Enables the given arrays and binds the given indices for drawing.
+     * <p>
+     * If VAOs are {@link #isAvailable(GL) available} and all arrays are VBOs,
+     * the cached VAO for the given combination and the current {@link GLContext} is bound,
+     * or created if not cached or outdated.
+     * Pending buffer data, i.e. not {@link GLArrayDataEditable#isVBOWritten() written}, is uploaded.
+     * </p>
+     * <p>
+     * Otherwise all arrays are {@link GLArrayDataEditable#enableBuffer(GL, boolean) enabled}
+     * and the indices are {@link GLArrayDataEditable#bindBuffer(GL, boolean) bound} the traditional way.
+     * </p>
+     * <p>
+     * Must be followed by {@link #disable(GL2ES2, GLArrayDataEditable, GLArrayDataEditable[])} using the same arguments.
+     * </p>
+     * @param gl current GL context
+     * @param program the name of the shader program in use, see {@link ShaderProgram#program()}
+     * @param indices optional {@link GL#GL_ELEMENT_ARRAY_BUFFER}, maybe null
+     * @param arrays the vertex attribute arrays, all {@link GLArrayDataEditable#seal(boolean) sealed}
+     * @return true if a cached VAO is used, otherwise false
+     */
+    public final boolean enable(final GL2ES2 gl, final int program, final GLArrayDataEditable indices, final GLArrayDataEditable[] arrays) {
+        if( !isAvailable(gl) || !isCacheable(indices, arrays) ) {
+            for(int i=0; i<arrays.length; i++) {
+                arrays[i].enableBuffer(gl, true);
+            }
+            if( null != indices ) {
+                indices.bindBuffer(gl, true);
+            }
+            return false;
+        }
+        final GL2ES3 gl3 = gl.getGL2ES3();
+        final GLContext context = gl.getContext();
+        Entry e = find(gl3, context, program, indices, arrays);
+        if( null == e ) {
+            e = new Entry(context, program, indices, arrays);
+            entries.add(e);
+            last = e;
+        } else if( 0 != e.vao && !e.isSignatureValid() ) {
+            if( DEBUG ) {
+                System.err.println("VertexArrayCache: Invalidate VAO "+e.vao+", program "+program);
+            }
+            deleteVAO(gl3, e);
+        }
+        if( 0 == e.vao ) {
+            build(gl3, e);
+        } else {
+            gl3.glBindVertexArray(e.vao);
+            for(int i=0; i<arrays.length; i++) {
+                final GLArrayDataEditable ad = arrays[i];
+                if( !ad.isVBOWritten() ) {
+                    gl3.glBindBuffer(ad.getVBOTarget(), ad.getVBOName());
+                    ad.writeVBO(gl3);
+                    gl3.glBindBuffer(ad.getVBOTarget(), 0);
+                }
+            }
+            if( null != indices && !indices.isVBOWritten() ) {
+                // rebinding the same element buffer keeps the VAO state
+                gl3.glBindBuffer(indices.getVBOTarget(), indices.getVBOName());
+                indices.writeVBO(gl3);
+            }
+        }
+        bound = e;
+        return true;
+    }
+
+    /**
+     * Disables the given arrays and unbinds the given indices, counterpart of
+     * {@link #enable(GL2ES2, int, GLArrayDataEditable, GLArrayDataEditable[])}.
+     * <p>
+     * If a cached VAO is bound, the {@link com.jogamp.opengl.GLContext#getDefaultVAO() default VAO} is restored.
+     * </p>
+     */
+    public final void disable(final GL2ES2 gl, final GLArrayDataEditable indices, final GLArrayDataEditable[] arrays) {
+        if( null != bound ) {
+            gl.getGL2ES3().glBindVertexArray(gl.getContext().getDefaultVAO());
+            bound = null;
+        } else {
+            if( null != indices ) {
+                indices.bindBuffer(gl, false);
+            }
+            for(int i=0; i<arrays.length; i++) {
+                arrays[i].enableBuffer(gl, false);
+            }
+        }
+    }
+
+    private void build(final GL2ES3 gl3, final Entry e) {
+        final GLArrayDataEditable[] arrays = e.arrays;
+        // enabled arrays would skip their setup within the new VAO
+        for(int i=0; i<arrays.length; i++) {
+            if( arrays[i].enabled() ) {
+                arrays[i].enableBuffer(gl3, false);
+            }
+        }
+        gl3.glGenVertexArrays(1, tempI, 0);
+        e.vao = tempI[0];
+        gl3.glBindVertexArray(e.vao);
+        for(int i=0; i<arrays.length; i++) {
+            arrays[i].enableBuffer(gl3, true);
+        }
+        if( null != e.indices ) {
+            e.indices.bindBuffer(gl3, true); // captured by the VAO
+        }
+        // reset the enabled state of the arrays outside of the VAO
+        gl3.glBindVertexArray(gl3.getContext().getDefaultVAO());
+        for(int i=0; i<arrays.length; i++) {
+            arrays[i].enableBuffer(gl3, false);
+        }
+        e.updateSignature();
+        buildCount++;
+        if( DEBUG ) {
+            System.err.println("VertexArrayCache: Build VAO "+e.vao+", program "+e.program+", arrays "+arrays.length+", indices "+(null != e.indices));
+        }
+        gl3.glBindVertexArray(e.vao);
+    }
+
+    private void deleteVAO(final GL2ES3 gl3, final Entry e) {
+        tempI[0] = e.vao;
+        gl3.glDeleteVertexArrays(1, tempI, 0);
+        e.vao = 0;
+    }
+
+    /**
+     * Deletes all cached vertex array objects of the current {@link GLContext} using the given program name,
+     * e.g. if the program has been released.
+     */
+    public final void invalidate(final GL2ES2 gl, final int program) {
+        final GLContext context = gl.getContext();
+        for(int i=entries.size()-1; i>=0; i--) {
+            final Entry e = entries.get(i);
+            if( e.context == context && e.program == program ) {
+                if( 0 != e.vao ) {
+                    deleteVAO(gl.getGL2ES3(), e);
+                }
+                removeEntry(i);
+            }
+        }
+    }
+
+    /**
+     * Drops all cached vertex array objects using the given array, either as indices or vertex attribute array,
+     * e.g. before the array gets {@link GLArrayDataEditable#destroy(GL) destroyed}.
+     * <p>
+     * Vertex array objects of the current {@link GLContext} are deleted,
+     * those of other contexts are released with their context.
+     * </p>
+     */
+    public final void invalidate(final GL2ES2 gl, final GLArrayDataEditable array) {
+        final GLContext context = gl.getContext();
+        for(int i=entries.size()-1; i>=0; i--) {
+            final Entry e = entries.get(i);
+            if( e.uses(array) ) {
+                if( e.context == context && 0 != e.vao ) {
+                    deleteVAO(gl.getGL2ES3(), e);
+                }
+                removeEntry(i);
+            }
+        }
+    }
+
+    /**
+     * Deletes all cached vertex array objects of the current {@link GLContext}.
+     * <p>
+     * Entries of other contexts are dropped, their vertex array objects are released with their context.
+     * </p>
+     */
+    public final void destroy(final GL2ES2 gl) {
+        final GLContext context = gl.getContext();
+        if( null != bound ) {
+            gl.getGL2ES3().glBindVertexArray(context.getDefaultVAO());
+            bound = null;
+        }
+        for(int i=0; i<entries.size(); i++) {
+            final Entry e = entries.get(i);
+            if( e.context == context && 0 != e.vao ) {
+                deleteVAO(gl.getGL2ES3(), e);
+            }
+        }
+        entries.clear();
+        last = null;
+    }
+
+    @Override
+    public String toString() {
+        return "VertexArrayCache[entries "+entries.size()+", vao "+size()+", builds "+buildCount+", bound "+(null != bound)+"]";
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.stereo;
+
+import com.jogamp.opengl.GLAutoDrawable;
+
+/**
+ * {@link StereoGLEventListener} supporting single-pass stereo rendering,
+ * i.e. rendering all eyes with one scene traversal using instanced draw calls, see {@link StereoSinglePass}.
+ * <p>
+ * If {@link StereoClientRenderer#setSinglePass(boolean) enabled} and supported,
+ * the {@link StereoClientRenderer} calls {@link #reshapeForEyes(GLAutoDrawable, int, int, int, int, StereoSinglePass)}
+ * followed by one {@link #display(GLAutoDrawable, int)} per frame,
+ * otherwise the per eye {@link #reshapeForEye(GLAutoDrawable, int, int, int, int, EyeParameter, ViewerPose)} path is used.
+ * </p>
+ */
+public interface SinglePassStereoGLEventListener extends StereoGLEventListener {
+    /**
+     * Single-pass stereo specialization of {@link #reshapeForEye(GLAutoDrawable, int, int, int, int, EyeParameter, ViewerPose)}
+     * for all eyes.
+     * <p>
+     * The client shall update the {@link StereoSinglePass} uniform arrays, e.g. via {@link StereoSinglePass#setPMV(float, float)},
+     * pass them to its shader program using {@link StereoSinglePass#getVertexShaderCode()}
+     * and issue its draw calls instanced via {@link StereoSinglePass#glDrawArrays(com.jogamp.opengl.GL2ES3, int, int, int)}
+     * or {@link StereoSinglePass#glDrawElements(com.jogamp.opengl.GL2ES3, int, int, int, long)}.
+     * </p>
+     * <p>
+     * For efficiency the GL viewport has already been updated
+     * via <code>glViewport(x, y, width, height)</code> spanning all eyes when this method is called.
+     * </p>
+     *
+     * @param drawable the triggering {@link GLAutoDrawable}
+     * @param x viewport x-coord in pixel units
+     * @param y viewport y-coord in pixel units
+     * @param width viewport width in pixel units
+     * @param height viewport height in pixel units
+     * @param eyes per frame single-pass stereo state of all eyes
+     */
+    public void reshapeForEyes(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height,
+                               final StereoSinglePass eyes);
+}
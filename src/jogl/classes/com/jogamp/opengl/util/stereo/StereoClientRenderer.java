@@ -31,6 +31,7 @@ import com.jogamp.nativewindow.util.DimensionImmutable;
 import com.jogamp.nativewindow.util.RectangleImmutable;
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2GL3;
 import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLEventListener;
 
@@ -52,6 +53,13 @@ import com.jogamp.opengl.util.CustomGLEventListener;
  * Implementation renders {@link StereoGLEventListener}
  * using one or more {@link FBObject} according to {@link StereoDeviceRenderer#getTextureCount()}.
  * </p>
+ * <p>
+ * If {@link #setSinglePass(boolean) single-pass} stereo is enabled, at most one {@link FBObject} is used,
+ * the GL {@link StereoSinglePass#isSupported(com.jogamp.opengl.GL) supports} it
+ * and all listener implement {@link SinglePassStereoGLEventListener},
+ * all eyes are rendered within one traversal via instanced draw calls, see {@link StereoSinglePass}.
+ * Otherwise each listener is called once per eye.
+ * </p>
  */
 public class StereoClientRenderer implements GLEventListener {
     private final GLDrawableHelper helper;
@@ -64,6 +72,10 @@ public class StereoClientRenderer implements GLEventListener {
     private int numSamples;
     private final TextureAttachment[] fboTexs;
 
+    private boolean singlePass;
+    private boolean singlePassActive;
+    private StereoSinglePass singlePassState;
+
     public StereoClientRenderer(final StereoDeviceRenderer deviceRenderer, final boolean ownsDevice,
                                 final int magFilter, final int minFilter, final int numSamples) {
         final int fboCount = deviceRenderer.getTextureCount();
@@ -83,6 +95,9 @@ public class StereoClientRenderer implements GLEventListener {
             this.fbos[i] = new FBObject();
         }
         this.fboTexs = new TextureAttachment[fboCount];
+        this.singlePass = false;
+        this.singlePassActive = false;
+        this.singlePassState = null;
     }
 
     private void initFBOs(final GL gl, final DimensionImmutable[] sizes) {
@@ -133,6 +148,36 @@ public class StereoClientRenderer implements GLEventListener {
 
     public final StereoDeviceRenderer getStereoDeviceRenderer() { return deviceRenderer; }
 
+    /**
+     * Enables or disables single-pass stereo rendering, disabled by default.
+     * <p>
+     * Single-pass stereo is only used if at most one {@link FBObject} is required,
+     * the GL {@link StereoSinglePass#isSupported(com.jogamp.opengl.GL) supports} it
+     * and all listener implement {@link SinglePassStereoGLEventListener}.
+     * </p>
+     * @see #isSinglePassActive()
+     */
+    public final void setSinglePass(final boolean enable) { singlePass = enable; }
+
+    /** Returns whether single-pass stereo rendering is enabled, see {@link #setSinglePass(boolean)}. */
+    public final boolean getSinglePass() { return singlePass; }
+
+    /** Returns whether the last frame has been rendered using single-pass stereo. */
+    public final boolean isSinglePassActive() { return singlePassActive; }
+
+    private boolean canUseSinglePass(final GL gl) {
+        if( !singlePass || 1 < fbos.length || !StereoSinglePass.isSupported(gl) ) {
+            return false;
+        }
+        final int count = helper.getGLEventListenerCount();
+        for(int i=0; i<count; i++) {
+            if( !( helper.getGLEventListener(i) instanceof SinglePassStereoGLEventListener ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public final void addGLEventListener(final StereoGLEventListener l) {
         helper.addGLEventListener(l);
     }
@@ -195,28 +240,55 @@ public class StereoClientRenderer implements GLEventListener {
             fbos[0].bind(gl);
         }
 
-        for(int eyeNum=0; eyeNum<eyeCount; eyeNum++) {
-            final int eyeName = eyeOrder[eyeNum];
-            if( 1 < fboCount ) {
-                fbos[eyeName].bind(gl);
+        singlePassActive = canUseSinglePass(gl);
+        if( singlePassActive ) {
+            if( null == singlePassState || singlePassState.getEyeCount() != eyeCount ) {
+                singlePassState = new StereoSinglePass(eyeCount);
             }
-
-            final StereoDeviceRenderer.Eye eye = deviceRenderer.getEye(eyeName);
-            final RectangleImmutable viewport = eye.getViewport();
-            gl.glViewport(viewport.getX(), viewport.getY(), viewport.getWidth(), viewport.getHeight());
-
-            final int displayFlags = eyeNum > 0 ? CustomGLEventListener.DISPLAY_REPEAT | displayRepeatFlags : 0;
+            singlePassState.update(deviceRenderer, viewerPose);
+            final DimensionImmutable totalSize = deviceRenderer.getTotalSurfaceSize();
+            final int width = totalSize.getWidth();
+            final int height = totalSize.getHeight();
+            gl.glViewport(0, 0, width, height);
+            // GL_EXT_clip_cull_distance uses the same enum values
+            for(int i=0; i<StereoSinglePass.CLIP_DISTANCE_COUNT; i++) {
+                gl.glEnable(GL2GL3.GL_CLIP_DISTANCE0 + i);
+            }
+            final StereoSinglePass eyes = singlePassState;
             final GLEventListenerAction reshapeDisplayAction = new GLEventListenerAction() {
                 public void run(final GLAutoDrawable drawable, final GLEventListener listener) {
-                    final StereoGLEventListener sl = (StereoGLEventListener) listener;
-                    sl.reshapeForEye(drawable, viewport.getX(), viewport.getY(), viewport.getWidth(), viewport.getHeight(),
-                                     eye.getEyeParameter(), viewerPose);
-                    sl.display(drawable, displayFlags);
+                    final SinglePassStereoGLEventListener sl = (SinglePassStereoGLEventListener) listener;
+                    sl.reshapeForEyes(drawable, 0, 0, width, height, eyes);
+                    sl.display(drawable, 0);
                 }  };
             helper.runForAllGLEventListener(drawable, reshapeDisplayAction);
+            for(int i=0; i<StereoSinglePass.CLIP_DISTANCE_COUNT; i++) {
+                gl.glDisable(GL2GL3.GL_CLIP_DISTANCE0 + i);
+            }
+        } else {
+            for(int eyeNum=0; eyeNum<eyeCount; eyeNum++) {
+                final int eyeName = eyeOrder[eyeNum];
+                if( 1 < fboCount ) {
+                    fbos[eyeName].bind(gl);
+                }
 
-            if( 1 < fboCount ) {
-                fbos[eyeName].unbind(gl);
+                final StereoDeviceRenderer.Eye eye = deviceRenderer.getEye(eyeName);
+                final RectangleImmutable viewport = eye.getViewport();
+                gl.glViewport(viewport.getX(), viewport.getY(), viewport.getWidth(), viewport.getHeight());
+
+                final int displayFlags = eyeNum > 0 ? CustomGLEventListener.DISPLAY_REPEAT | displayRepeatFlags : 0;
+                final GLEventListenerAction reshapeDisplayAction = new GLEventListenerAction() {
+                    public void run(final GLAutoDrawable drawable, final GLEventListener listener) {
+                        final StereoGLEventListener sl = (StereoGLEventListener) listener;
+                        sl.reshapeForEye(drawable, viewport.getX(), viewport.getY(), viewport.getWidth(), viewport.getHeight(),
+                                         eye.getEyeParameter(), viewerPose);
+                        sl.display(drawable, displayFlags);
+                    }  };
+                helper.runForAllGLEventListener(drawable, reshapeDisplayAction);
+
+                if( 1 < fboCount ) {
+                    fbos[eyeName].unbind(gl);
+                }
             }
         }
 
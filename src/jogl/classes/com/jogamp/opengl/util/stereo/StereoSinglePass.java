@@ -0,0 +1,222 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.stereo;
+
+import java.nio.FloatBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.nativewindow.util.DimensionImmutable;
+import com.jogamp.nativewindow.util.RectangleImmutable;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLUniformData;
+import com.jogamp.opengl.math.Matrix4f;
+
+/**
+ * Per frame state of single-pass stereo rendering as passed to
+ * {@link SinglePassStereoGLEventListener#reshapeForEyes(com.jogamp.opengl.GLAutoDrawable, int, int, int, int, StereoSinglePass)}.
+ * <p>
+ * Single-pass stereo renders all eyes with one scene traversal into the side-by-side surface,
+ * issuing each draw call instanced {@link #getEyeCount()} times.
+ * The vertex shader selects the eye's matrices and viewport transform by <code>gl_InstanceID</code>
+ * from the uniform arrays {@link #getProjectionUniform()}, {@link #getModelviewUniform()} and {@link #getViewportUniform()},
+ * see {@link #getVertexShaderCode(int)}.
+ * </p>
+ * <p>
+ * The eye's viewport is mapped to normalized device coordinates and clipped via <code>gl_ClipDistance[0..3]</code>,
+ * which are enabled by the {@link StereoClientRenderer} in single-pass mode.
+ * </p>
+ */
+public final class StereoSinglePass {
+    /** Uniform name of the <code>mat4</code> projection matrix array, one per eye. */
+    public static final String UNIFORM_PROJECTION = "stereo_Projection";
+    /** Uniform name of the <code>mat4</code> modelview matrix array, one per eye. */
+    public static final String UNIFORM_MODELVIEW = "stereo_Modelview";
+    /** Uniform name of the <code>vec4</code> viewport transform array, one per eye holding NDC scale x/y and offset x/y. */
+    public static final String UNIFORM_VIEWPORT = "stereo_Viewport";
+
+    /**
+     * Returns GLSL vertex shader code declaring the uniform arrays sized for the given number of eyes and the function
+     * <code>vec4 stereoPosition(in vec4 vertex)</code>, transforming the given vertex in world coordinates
+     * into clip coordinates of the eye selected by <code>gl_InstanceID</code>.
+     * <p>
+     * Requires GLSL 1.40 or GLSL ES 3.00 with extension <code>GL_EXT_clip_cull_distance</code>.
+     * </p>
+     * @param eyeCount number of eyes, i.e. the uniform array size
+     * @see #getVertexShaderCode()
+     */
+    public static String getVertexShaderCode(final int eyeCount) {
+        return
+            "uniform mat4 "+UNIFORM_PROJECTION+"["+eyeCount+"];\n"+
+            "uniform mat4 "+UNIFORM_MODELVIEW+"["+eyeCount+"];\n"+
+            "uniform vec4 "+UNIFORM_VIEWPORT+"["+eyeCount+"];\n"+
+            "\n"+
+            "vec4 stereoPosition(in vec4 vertex) {\n"+
+            "  vec4 p = "+UNIFORM_PROJECTION+"[gl_InstanceID] * "+UNIFORM_MODELVIEW+"[gl_InstanceID] * vertex;\n"+
+            "  vec4 vp = "+UNIFORM_VIEWPORT+"[gl_InstanceID];\n"+
+            "  p.xy = p.xy * vp.xy + vp.zw * p.w;\n"+
+            "  gl_ClipDistance[0] = p.x - ( vp.z - vp.x ) * p.w;\n"+
+            "  gl_ClipDistance[1] = ( vp.z + vp.x ) * p.w - p.x;\n"+
+            "  gl_ClipDistance[2] = p.y - ( vp.w - vp.y ) * p.w;\n"+
+            "  gl_ClipDistance[3] = ( vp.w + vp.y ) * p.w - p.y;\n"+
+            "  return p;\n"+
+            "}\n\n";
+    }
+
+    /** Number of clip distances written by the {@link #getVertexShaderCode(int) vertex shader code}, {@value}. */
+    public static final int CLIP_DISTANCE_COUNT = 4;
+
+    private final int eyeCount;
+    private final StereoDeviceRenderer.Eye[] eyes;
+    private final EyeParameter[] eyeParams;
+    private ViewerPose viewerPose;
+    private final FloatBuffer projections;
+    private final FloatBuffer modelviews;
+    private final FloatBuffer viewports;
+    private final GLUniformData projectionUniform;
+    private final GLUniformData modelviewUniform;
+    private final GLUniformData viewportUniform;
+    private final Matrix4f mat4Projection = new Matrix4f();
+    private final Matrix4f mat4Modelview = new Matrix4f();
+
+    /* pp */ StereoSinglePass(final int eyeCount) throws IllegalArgumentException {
+        if( 1 > eyeCount ) {
+            throw new IllegalArgumentException("Invalid eye count "+eyeCount);
+        }
+        this.eyeCount = eyeCount;
+        this.eyes = new StereoDeviceRenderer.Eye[eyeCount];
+        this.eyeParams = new EyeParameter[eyeCount];
+        this.projections = Buffers.newDirectFloatBuffer(16 * eyeCount);
+        this.modelviews = Buffers.newDirectFloatBuffer(16 * eyeCount);
+        this.viewports = Buffers.newDirectFloatBuffer(4 * eyeCount);
+        this.projectionUniform = new GLUniformData(UNIFORM_PROJECTION, 4, 4, projections);
+        this.modelviewUniform = new GLUniformData(UNIFORM_MODELVIEW, 4, 4, modelviews);
+        this.viewportUniform = new GLUniformData(UNIFORM_VIEWPORT, 4, viewports);
+    }
+
+    /**
+     * Returns {@code true} if the given GL supports single-pass stereo, i.e. instancing, <code>gl_InstanceID</code> and <code>gl_ClipDistance</code>.
+     * <p>
+     * Requires a GL3 context with GLSL 1.40, i.e. excluding OpenGL 3.0 where <code>gl_InstanceID</code> is only available via
+     * <code>GL_ARB_draw_instanced</code> as <code>gl_InstanceIDARB</code>,
+     * or an ES3 context with extension <code>GL_EXT_clip_cull_distance</code>.
+     * </p>
+     */
+    public static boolean isSupported(final GL gl) {
+        if( gl.isGL3() ) {
+            return 0 <= gl.getContext().getGLSLVersionNumber().compareTo(GLContext.Version1_40);
+        }
+        return gl.isGLES3() && gl.isExtensionAvailable("GL_EXT_clip_cull_distance");
+    }
+
+    /** Updates the eyes, their viewport transform and the current {@link ViewerPose} of this frame. */
+    /* pp */ void update(final StereoDeviceRenderer deviceRenderer, final ViewerPose viewerPose) {
+        final DimensionImmutable total = deviceRenderer.getTotalSurfaceSize();
+        final float tw = total.getWidth();
+        final float th = total.getHeight();
+        this.viewerPose = viewerPose;
+        viewports.clear();
+        for(int i=0; i<eyeCount; i++) {
+            final StereoDeviceRenderer.Eye eye = deviceRenderer.getEye(i);
+            final RectangleImmutable vp = eye.getViewport();
+            eyes[i] = eye;
+            eyeParams[i] = eye.getEyeParameter();
+            viewports.put( vp.getWidth() / tw );
+            viewports.put( vp.getHeight() / th );
+            viewports.put( ( 2f * vp.getX() + vp.getWidth() ) / tw - 1f );
+            viewports.put( ( 2f * vp.getY() + vp.getHeight() ) / th - 1f );
+        }
+        viewports.rewind();
+    }
+
+    /** Returns the number of eyes, i.e. the instance count per draw call. */
+    public int getEyeCount() { return eyeCount; }
+
+    /** Returns the {@link #getVertexShaderCode(int) vertex shader code} for this instance's {@link #getEyeCount() eye count}. */
+    public String getVertexShaderCode() { return getVertexShaderCode(eyeCount); }
+
+    /** Returns the constant {@link EyeParameter} of the given eye. */
+    public EyeParameter getEyeParameter(final int eyeNum) { return eyeParams[eyeNum]; }
+
+    /** Returns the current {@link ViewerPose}. */
+    public ViewerPose getViewerPose() { return viewerPose; }
+
+    /**
+     * Computes the projection- and modelview matrices of all eyes
+     * via {@link StereoUtil#getSBSUpstreamPMV(ViewerPose, StereoDeviceRenderer.Eye, float, float, Matrix4f, Matrix4f)}
+     * into the uniform arrays.
+     * @param zNear frustum near value
+     * @param zFar frustum far value
+     */
+    public void setPMV(final float zNear, final float zFar) {
+        projections.clear();
+        modelviews.clear();
+        for(int i=0; i<eyeCount; i++) {
+            StereoUtil.getSBSUpstreamPMV(viewerPose, eyes[i], zNear, zFar, mat4Projection, mat4Modelview);
+            mat4Projection.get(projections);
+            mat4Modelview.get(modelviews);
+        }
+        projections.rewind();
+        modelviews.rewind();
+    }
+
+    /** Sets the projection- and modelview matrix of the given eye, e.g. if not using {@link #setPMV(float, float)}. */
+    public void setPMV(final int eyeNum, final Matrix4f projection, final Matrix4f modelview) {
+        projections.position(16 * eyeNum);
+        modelviews.position(16 * eyeNum);
+        projection.get(projections);
+        modelview.get(modelviews);
+        projections.rewind();
+        modelviews.rewind();
+    }
+
+    /** Returns the {@link #UNIFORM_PROJECTION} uniform, backed by this instance's data. */
+    public GLUniformData getProjectionUniform() { return projectionUniform; }
+
+    /** Returns the {@link #UNIFORM_MODELVIEW} uniform, backed by this instance's data. */
+    public GLUniformData getModelviewUniform() { return modelviewUniform; }
+
+    /** Returns the {@link #UNIFORM_VIEWPORT} uniform, backed by this instance's data. */
+    public GLUniformData getViewportUniform() { return viewportUniform; }
+
+    /** Issues {@link GL2ES3#glDrawArraysInstanced(int, int, int, int)} for all eyes. */
+    public void glDrawArrays(final GL2ES3 gl, final int mode, final int first, final int count) {
+        gl.glDrawArraysInstanced(mode, first, count, eyeCount);
+    }
+
+    /** Issues {@link GL2ES3#glDrawElementsInstanced(int, int, int, long, int)} for all eyes. */
+    public void glDrawElements(final GL2ES3 gl, final int mode, final int count, final int type, final long indicesOffset) {
+        gl.glDrawElementsInstanced(mode, count, type, indicesOffset, eyeCount);
+    }
+
+    @Override
+    public String toString() {
+        return "StereoSinglePass[eyes "+eyeCount+", "+viewerPose+"]";
+    }
+}
@@ -0,0 +1,403 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLProfile;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.common.util.InterruptSource;
+
+/**
+ * Streaming {@link TextureSequence} implementation, replaying
+ * {@link #addFrame(Class, String, String) image streams} as {@link TextureSequence.TextureFrame frames}
+ * while only keeping a window of decoded and uploaded frames around the play head.
+ * <p>
+ * In contrast to {@link ImageSequence}, frames are not loaded up front.
+ * Upcoming frames within the {@link #getWindowSize() window} are decoded via {@link TextureIO}
+ * on a pool of worker threads and uploaded on the GL thread when they are due.
+ * The window owns a fixed pool of {@link Texture}s, which are recycled for the following frames,
+ * hence the VRAM footprint is bound by the window size and not by the number of frames.
+ * </p>
+ * <p>
+ * All methods but {@link #addFrame(Class, String, String) adding frames} shall be called
+ * on the GL thread with the OpenGL context being current.
+ * </p>
+ */
+public class StreamingImageSequence implements TextureSequence {
+    /** Frame source, opened and decoded on a worker thread. */
+    private static class FrameSource {
+        final Class<?> context;
+        final String imageResourcePath;
+        final String imageSuffix;
+        FrameSource(final Class<?> context, final String imageResourcePath, final String imageSuffix) {
+            this.context = context;
+            this.imageResourcePath = imageResourcePath;
+            this.imageSuffix = imageSuffix;
+        }
+    }
+    /** Window slot owning one pooled texture. */
+    private static class Slot {
+        final TextureSequence.TextureFrame frame;
+        /** Frame index uploaded to the texture, -1 if none. */
+        int frameIdx = -1;
+        /** Frame index being decoded for this slot, -1 if none. */
+        int pendingIdx = -1;
+        Future<TextureData> pending = null;
+        Slot(final Texture tex) {
+            frame = new TextureSequence.TextureFrame(tex);
+        }
+        /** Returns the decoded frame index, or the frame index being decoded if none. */
+        int key() { return 0 <= frameIdx ? frameIdx : pendingIdx; }
+        boolean holds(final int idx) { return frameIdx == idx || pendingIdx == idx; }
+    }
+
+    private final int textureUnit;
+    private final boolean useBuildInTexLookup;
+    private final GLProfile glp;
+    private final List<FrameSource> sources = new ArrayList<FrameSource>();
+    private final Slot[] slots;
+    private final ExecutorService decoder;
+    private final int[] texMinMagFilter = { GL.GL_NEAREST, GL.GL_NEAREST };
+    private final int[] texWrapST = { GL.GL_CLAMP_TO_EDGE, GL.GL_CLAMP_TO_EDGE };
+    private volatile int frameIdx = 0;
+    private volatile boolean manualStepping = false;
+    private Slot lastSlot = null;
+    private int textureFragmentShaderHashCode = 0;
+
+    /**
+     * @param textureUnit the texture unit used to render the frames
+     * @param useBuildInTexLookup pass {@code true} to use the build-in {@code texture2D} lookup function
+     * @param windowSize number of frames decoded and resident as textures around the play head, at least 2
+     * @param decodeThreads number of worker threads decoding upcoming frames, at least 1
+     */
+    public StreamingImageSequence(final int textureUnit, final boolean useBuildInTexLookup, final int windowSize, final int decodeThreads) {
+        if( 2 > windowSize || 1 > decodeThreads ) {
+            throw new IllegalArgumentException("windowSize "+windowSize+" < 2 or decodeThreads "+decodeThreads+" < 1");
+        }
+        this.textureUnit = textureUnit;
+        this.useBuildInTexLookup = useBuildInTexLookup;
+        this.glp = GLProfile.getGL2ES2();
+        this.slots = new Slot[windowSize];
+        for(int i=0; i<windowSize; i++) {
+            slots[i] = new Slot(new Texture(getTextureTarget()));
+        }
+        final AtomicInteger threadNum = new AtomicInteger(0);
+        this.decoder = Executors.newFixedThreadPool(decodeThreads, new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = new InterruptSource.Thread(null, r, "StreamingImageSequence-Decoder-"+threadNum.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    public void setParams(final int magFilter, final int minFilter, final int wrapS, final int wrapT) {
+        texMinMagFilter[0] = minFilter;
+        texMinMagFilter[1] = magFilter;
+        texWrapST[0] = wrapS;
+        texWrapST[1] = wrapT;
+    }
+
+    /**
+     * Appends a frame, which image resource will be decoded when the play head approaches it.
+     * <p>
+     * The resource is not validated here, a missing resource causes a {@link GLException} when its frame is due.
+     * </p>
+     */
+    public final void addFrame(final Class<?> context, final String imageResourcePath, final String imageSuffix) {
+        synchronized( sources ) {
+            sources.add(new FrameSource(context, imageResourcePath, imageSuffix));
+        }
+    }
+    public final int getFrameCount() {
+        synchronized( sources ) {
+            return sources.size();
+        }
+    }
+    /** Returns the number of frames decoded and resident as textures around the play head. */
+    public final int getWindowSize() { return slots.length; }
+    public final int getCurrentIdx() { return frameIdx; }
+    public final void setCurrentIdx(final int idx) throws IndexOutOfBoundsException {
+        final int frameCount = getFrameCount();
+        if( 0 > idx || idx >= frameCount ) {
+            throw new IndexOutOfBoundsException("idx shall be within 0 <= "+idx+" < "+frameCount);
+        }
+        frameIdx=idx;
+    }
+    public final void setManualStepping(final boolean v) { manualStepping = v; }
+    public final boolean getManualStepping() { return manualStepping; }
+
+    /**
+     * Returns the given frame, decoding and uploading it if not yet resident.
+     * Upcoming frames within the window are scheduled for decoding.
+     */
+    public final TextureSequence.TextureFrame getFrame(final GL gl, final int idx) throws GLException {
+        final Slot slot = requestFrame(idx, idx);
+        if( slot.frameIdx != idx ) {
+            upload(gl, slot, awaitDecoded(slot));
+        }
+        lastSlot = slot;
+        prefetch(idx);
+        return slot.frame;
+    }
+
+    public void destroy(final GL gl) throws GLException {
+        decoder.shutdownNow();
+        for(int i=0; i<slots.length; i++) {
+            final Slot slot = slots[i];
+            discardPending(slot);
+            slot.frame.getTexture().destroy(gl);
+            slot.frameIdx = -1;
+        }
+        lastSlot = null;
+    }
+
+    /**
+     * Returns the slot holding or decoding the given frame, scheduling its decoding if required.
+     * Returns {@code null} if all slots hold frames closer to the play head.
+     */
+    private Slot requestFrame(final int idx, final int playIdx) {
+        for(int i=0; i<slots.length; i++) {
+            if( slots[i].holds(idx) ) {
+                return slots[i];
+            }
+        }
+        final int frameCount = getFrameCount();
+        final Slot slot = evictableSlot(playIdx, ( idx - playIdx + frameCount ) % frameCount);
+        if( null != slot ) {
+            discardPending(slot);
+            slot.frameIdx = -1;
+            final FrameSource src;
+            synchronized( sources ) {
+                src = sources.get(idx);
+            }
+            slot.pendingIdx = idx;
+            slot.pending = decoder.submit(new Callable<TextureData>() {
+                @Override
+                public TextureData call() throws IOException {
+                    return decode(src);
+                }
+            });
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the slot holding the frame farthest ahead of the play head, beyond the given distance,
+     * or {@code null} if all slots hold closer frames. The slot of the displayed frame is never evicted,
+     * unless the play head itself is requested.
+     */
+    private Slot evictableSlot(final int playIdx, final int distance) {
+        final int frameCount = getFrameCount();
+        Slot best = null;
+        int bestDistance = distance;
+        for(int i=0; i<slots.length; i++) {
+            final Slot slot = slots[i];
+            if( slot == lastSlot && 0 < distance ) {
+                continue;
+            }
+            final int key = slot.key();
+            final int d = 0 > key ? Integer.MAX_VALUE : ( key - playIdx + frameCount ) % frameCount;
+            if( null == best || d > bestDistance ) {
+                best = slot;
+                bestDistance = d;
+            }
+        }
+        return 0 == distance || bestDistance > distance ? best : null;
+    }
+
+    private void prefetch(final int playIdx) {
+        final int frameCount = getFrameCount();
+        final int ahead = Math.min(slots.length, frameCount);
+        for(int k=1; k<ahead; k++) {
+            requestFrame( ( playIdx + k ) % frameCount, playIdx );
+        }
+    }
+
+    private TextureData decode(final FrameSource src) throws IOException {
+        final URLConnection urlConn = IOUtil.getResource(src.imageResourcePath, src.context.getClassLoader(), src.context);
+        if( null == urlConn ) {
+            throw new IOException("Resource not found: "+src.imageResourcePath);
+        }
+        final InputStream in = urlConn.getInputStream();
+        try {
+            return TextureIO.newTextureData(glp, in, false, src.imageSuffix);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static TextureData awaitDecoded(final Slot slot) throws GLException {
+        try {
+            return slot.pending.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GLException("Interrupted while decoding frame "+slot.pendingIdx, e);
+        } catch (final ExecutionException e) {
+            throw new GLException("Failed to decode frame "+slot.pendingIdx, e.getCause());
+        } finally {
+            slot.pending = null;
+        }
+    }
+
+    private void upload(final GL gl, final Slot slot, final TextureData texData) {
+        final Texture tex = slot.frame.getTexture();
+        tex.updateImage(gl, texData);
+        tex.bind(gl);
+        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_MIN_FILTER, texMinMagFilter[0]);
+        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_MAG_FILTER, texMinMagFilter[1]);
+        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_WRAP_S, texWrapST[0]);
+        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_WRAP_T, texWrapST[1]);
+        texData.flush();
+        slot.frameIdx = slot.pendingIdx;
+        slot.pendingIdx = -1;
+    }
+
+    private static void discardPending(final Slot slot) {
+        final Future<TextureData> f = slot.pending;
+        if( null != f ) {
+            if( !f.cancel(true) && f.isDone() ) {
+                try {
+                    f.get().flush();
+                } catch (final Exception e) { /* ignore, not used */ }
+            }
+            slot.pending = null;
+        }
+        if( 0 <= slot.pendingIdx ) {
+            slot.pendingIdx = -1;
+        }
+    }
+
+    @Override
+    public int getTextureTarget() {
+        return GL.GL_TEXTURE_2D;
+    }
+
+    @Override
+    public int getTextureUnit() {
+        return textureUnit;
+    }
+
+    @Override
+    public int[] getTextureMinMagFilter() {
+        return texMinMagFilter;
+    }
+
+    @Override
+    public int[] getTextureWrapST() {
+        return texWrapST;
+    }
+
+    @Override
+    public boolean isTextureAvailable() { return getFrameCount() > 0; }
+
+    @Override
+    public TextureSequence.TextureFrame getLastTexture() throws IllegalStateException {
+        return null != lastSlot ? lastSlot.frame : slots[0].frame; // content may be undefined
+    }
+
+    @Override
+    public TextureSequence.TextureFrame getNextTexture(final GL gl) throws IllegalStateException {
+        final int frameCount = getFrameCount();
+        if( 0 == frameCount ) {
+            return null;
+        }
+        if( !manualStepping ) {
+            frameIdx = ( frameIdx + 1 ) % frameCount;
+        }
+        return getFrame(gl, frameIdx);
+    }
+
+    @Override
+    public String getRequiredExtensionsShaderStub() throws IllegalStateException {
+        return "// StreamingImageSequence: No extensions required\n";
+    }
+
+    @Override
+    public String getTextureSampler2DType() throws IllegalStateException {
+        return "sampler2D" ;
+    }
+
+    private String textureLookupFunctionName = "myTexture2D";
+
+    @Override
+    public String setTextureLookupFunctionName(final String texLookupFuncName) throws IllegalStateException {
+        if(useBuildInTexLookup) {
+            textureLookupFunctionName = "texture2D";
+        } else if(null != texLookupFuncName && texLookupFuncName.length()>0) {
+            textureLookupFunctionName = texLookupFuncName;
+        }
+        return textureLookupFunctionName;
+    }
+
+    @Override
+    public String getTextureLookupFunctionName() throws IllegalStateException {
+        return textureLookupFunctionName;
+    }
+
+    @Override
+    public String getTextureLookupFragmentShaderImpl() throws IllegalStateException {
+        if(useBuildInTexLookup) {
+          return "";
+        }
+        return
+          "\n"+
+          "vec4 "+textureLookupFunctionName+"(in "+getTextureSampler2DType()+" image, in vec2 texCoord) {\n"+
+          "  return texture2D(image, texCoord);\n"+
+          "}\n\n";
+    }
+
+    @Override
+    public int getTextureFragmentShaderHashCode() {
+        if( !isTextureAvailable() ) {
+            textureFragmentShaderHashCode = 0;
+            return 0;
+        } else if( 0 == textureFragmentShaderHashCode ) {
+            int hash = 31 + getTextureLookupFragmentShaderImpl().hashCode();
+            hash = ((hash << 5) - hash) + getTextureSampler2DType().hashCode();
+            textureFragmentShaderHashCode = hash;
+        }
+        return textureFragmentShaderHashCode;
+    }
+}
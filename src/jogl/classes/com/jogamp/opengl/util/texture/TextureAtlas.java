@@ -0,0 +1,538 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.util.GLBuffers;
+import com.jogamp.opengl.util.packrect.BackingStoreManager;
+import com.jogamp.opengl.util.packrect.Rect;
+import com.jogamp.opengl.util.packrect.RectanglePacker;
+
+import com.jogamp.common.nio.Buffers;
+
+/**
+ * Packs many small images into a few {@link GL#GL_TEXTURE_2D} atlas pages,
+ * allowing e.g. icon heavy scenes to bind one texture instead of one per image.
+ * <p>
+ * Each added {@link TextureData} is placed via a {@link RectanglePacker} on a page
+ * with a gutter of {@link #getPadding() padding} pixels around it, filled by replicating the image's edge pixels.
+ * The gutter avoids bleeding of neighboring images with linear filtering
+ * and with mipmapping up to level <code>log2(padding)</code>, hence the page's {@link GL2ES3#GL_TEXTURE_MAX_LEVEL} is clamped to it.
+ * </p>
+ * <p>
+ * Mipmaps are generated via {@link GL#glGenerateMipmap(int)} when {@link #validate(GL) validated}.
+ * Since ES2 lacks {@link GL2ES3#GL_TEXTURE_MAX_LEVEL}, as well as with a padding below 2 pixels,
+ * mipmapping is not used and pages are filtered linearly.
+ * </p>
+ * <p>
+ * The atlas grows by adding pages up to {@link #getMaxPages() maxPages}.
+ * If all pages are full, the least recently used page is evicted, i.e. all its {@link SubImage}s become {@link SubImage#isValid() invalid}.
+ * A {@link SubImage} is used via {@link #get(Object)}, {@link #touch(SubImage)} or when rendered via its {@link Sequence}.
+ * </p>
+ * <p>
+ * All pages use {@link GL#GL_RGBA} and {@link GL#GL_UNSIGNED_BYTE}, added {@link TextureData} must be uncompressed,
+ * of the same pixel format and type and its buffer a {@link ByteBuffer}.
+ * </p>
+ * <p>
+ * Instances are not thread safe and shall be used on the GL thread only.
+ * </p>
+ */
+public class TextureAtlas {
+    /** Default page width and height in pixels, {@value}. */
+    public static final int DEFAULT_PAGE_SIZE = 1024;
+    /** Default padding in pixels around each sub-image, {@value}. */
+    public static final int DEFAULT_PADDING = 2;
+
+    /**
+     * A sub-image of a {@link TextureAtlas} page, i.e. a {@link TextureSequence.TextureFrame}
+     * referencing the page's {@link Texture} and this sub-image's {@link #getTexCoords() texture coordinates}.
+     */
+    public static class SubImage extends TextureSequence.TextureFrame {
+        private final TextureAtlas atlas;
+        private final Object key;
+        private final int width, height;
+        private final boolean mustFlipVertically;
+        private Page page;
+        private Rect rect;
+        private TextureCoords coords;
+        private long lastUse;
+
+        private SubImage(final TextureAtlas atlas, final Object key, final Page page, final Rect rect,
+                         final int width, final int height, final boolean mustFlipVertically) {
+            super(page.texture);
+            this.atlas = atlas;
+            this.key = key;
+            this.page = page;
+            this.rect = rect;
+            this.width = width;
+            this.height = height;
+            this.mustFlipVertically = mustFlipVertically;
+            final float pw = page.texture.getWidth();
+            final float ph = page.texture.getHeight();
+            final int x0 = rect.x() + atlas.padding;
+            final int y0 = rect.y() + atlas.padding;
+            if( mustFlipVertically ) {
+                coords = new TextureCoords(x0 / pw, ( y0 + height ) / ph, ( x0 + width ) / pw, y0 / ph);
+            } else {
+                coords = new TextureCoords(x0 / pw, y0 / ph, ( x0 + width ) / pw, ( y0 + height ) / ph);
+            }
+        }
+
+        public final TextureAtlas getAtlas() { return atlas; }
+        public final Object getKey() { return key; }
+        /** Returns the image width in pixels, excluding padding. */
+        public final int getWidth() { return width; }
+        /** Returns the image height in pixels, excluding padding. */
+        public final int getHeight() { return height; }
+        /** Returns whether the source {@link TextureData#getMustFlipVertically()}, already considered in {@link #getTexCoords()}. */
+        public final boolean getMustFlipVertically() { return mustFlipVertically; }
+        /** Returns the texture coordinates of this sub-image within its page {@link #getTexture() texture}. */
+        public final TextureCoords getTexCoords() { return coords; }
+        /** Returns {@code true} if this sub-image is still held by its atlas, i.e. neither removed nor evicted. */
+        public final boolean isValid() { return null != page; }
+
+        @Override
+        public String toString() {
+            return "SubImage['"+key+"', "+width+"x"+height+", valid "+isValid()+", "+coords+", texID "+texture.getTextureObject()+"]";
+        }
+    }
+
+    /**
+     * {@link TextureSequence} of one {@link SubImage}, sharing the fragment shader code with all other instances,
+     * hence all sequences of one atlas may use the same shader program.
+     */
+    public static class Sequence implements TextureSequence {
+        private final SubImage image;
+        private final int textureUnit;
+        private String textureLookupFunctionName = "myTexture2D";
+
+        public Sequence(final SubImage image, final int textureUnit) {
+            this.image = image;
+            this.textureUnit = textureUnit;
+        }
+
+        public final SubImage getSubImage() { return image; }
+
+        @Override
+        public int getTextureTarget() { return GL.GL_TEXTURE_2D; }
+
+        @Override
+        public int getTextureUnit() { return textureUnit; }
+
+        @Override
+        public int[] getTextureMinMagFilter() { return image.atlas.texMinMagFilter; }
+
+        @Override
+        public int[] getTextureWrapST() { return image.atlas.texWrapST; }
+
+        @Override
+        public boolean isTextureAvailable() { return image.isValid(); }
+
+        @Override
+        public TextureSequence.TextureFrame getLastTexture() throws IllegalStateException {
+            return image;
+        }
+
+        @Override
+        public TextureSequence.TextureFrame getNextTexture(final GL gl) throws IllegalStateException {
+            image.atlas.touch(image);
+            image.atlas.validate(gl);
+            return image;
+        }
+
+        @Override
+        public String getRequiredExtensionsShaderStub() throws IllegalStateException {
+            return "// TextureAtlas: No extensions required\n";
+        }
+
+        @Override
+        public String getTextureSampler2DType() throws IllegalStateException {
+            return "sampler2D" ;
+        }
+
+        @Override
+        public String setTextureLookupFunctionName(final String texLookupFuncName) throws IllegalStateException {
+            if(null != texLookupFuncName && texLookupFuncName.length()>0) {
+                textureLookupFunctionName = texLookupFuncName;
+            }
+            return textureLookupFunctionName;
+        }
+
+        @Override
+        public String getTextureLookupFunctionName() throws IllegalStateException {
+            return textureLookupFunctionName;
+        }
+
+        @Override
+        public String getTextureLookupFragmentShaderImpl() throws IllegalStateException {
+            return
+              "\n"+
+              "vec4 "+textureLookupFunctionName+"(in "+getTextureSampler2DType()+" image, in vec2 texCoord) {\n"+
+              "  return texture2D(image, texCoord);\n"+
+              "}\n\n";
+        }
+
+        @Override
+        public int getTextureFragmentShaderHashCode() {
+            if( !isTextureAvailable() ) {
+                return 0;
+            }
+            int hash = 31 + getTextureLookupFragmentShaderImpl().hashCode();
+            hash = ((hash << 5) - hash) + getTextureSampler2DType().hashCode();
+            return hash;
+        }
+    }
+
+    /** An atlas page, its backing store is the page texture, which is neither compacted nor expanded. */
+    private final class Page implements BackingStoreManager {
+        final Texture texture;
+        final RectanglePacker packer;
+        final ArrayList<SubImage> images = new ArrayList<SubImage>();
+        long lastUse = 0;
+        boolean mipmapDirty = false;
+
+        Page(final GL gl) {
+            // Only allocate level 0, as a null buffer cannot be mipmapped on upload, e.g. on ES2.
+            // The mipmap levels are generated by validate(GL).
+            final TextureData data = new TextureData(gl.getGLProfile(), GL.GL_RGBA, pageWidth, pageHeight, 0,
+                                                     GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, false, false, false, null, null);
+            texture = new Texture(gl, data);
+            if( usesMipmap ) {
+                texture.setTexParameteri(gl, GL2ES3.GL_TEXTURE_MAX_LEVEL, maxMipmapLevel);
+            }
+            texture.setTexParameteri(gl, GL.GL_TEXTURE_MIN_FILTER, texMinMagFilter[0]);
+            texture.setTexParameteri(gl, GL.GL_TEXTURE_MAG_FILTER, texMinMagFilter[1]);
+            texture.setTexParameteri(gl, GL.GL_TEXTURE_WRAP_S, texWrapST[0]);
+            texture.setTexParameteri(gl, GL.GL_TEXTURE_WRAP_T, texWrapST[1]);
+            packer = new RectanglePacker(this, pageWidth, pageHeight);
+            packer.setMaxSize(pageWidth, pageHeight);
+        }
+
+        /** Returns {@code true} if the given rectangle has been placed on this page. */
+        boolean add(final Rect rect) {
+            try {
+                packer.add(rect);
+                return true;
+            } catch (final RuntimeException e) {
+                // RectanglePacker signals a failed addition w/o compaction support via RuntimeException
+                return false;
+            }
+        }
+
+        @Override
+        public Object allocateBackingStore(final int w, final int h) { return texture; }
+        @Override
+        public void deleteBackingStore(final Object backingStore) { }
+        @Override
+        public boolean canCompact() { return false; }
+        @Override
+        public boolean preExpand(final Rect cause, final int attemptNumber) { return false; }
+        @Override
+        public boolean additionFailed(final Rect cause, final int attemptNumber) { return false; }
+        @Override
+        public void beginMovement(final Object oldBackingStore, final Object newBackingStore) { }
+        @Override
+        public void move(final Object oldBackingStore, final Rect oldLocation, final Object newBackingStore, final Rect newLocation) { }
+        @Override
+        public void endMovement(final Object oldBackingStore, final Object newBackingStore) { }
+    }
+
+    private final int pageWidth, pageHeight;
+    private final int maxPages;
+    private final int padding;
+    private final boolean mipmap;
+    /** Maximum mipmap level not bleeding over the padding, i.e. <code>floor(log2(padding))</code>. */
+    private final int maxMipmapLevel;
+    /** Whether pages use mipmaps, determined by the GL when allocating a page, see {@link #validateMipmapUsage(GL)}. */
+    private boolean usesMipmap;
+    private final int[] texMinMagFilter;
+    private final int[] texWrapST = { GL.GL_CLAMP_TO_EDGE, GL.GL_CLAMP_TO_EDGE };
+    private final ArrayList<Page> pages = new ArrayList<Page>();
+    private final HashMap<Object, SubImage> images = new HashMap<Object, SubImage>();
+    private long useTick = 0;
+    private long evictedPageCount = 0;
+    private long evictedImageCount = 0;
+
+    /**
+     * Creates a texture atlas using {@link #DEFAULT_PAGE_SIZE} and {@link #DEFAULT_PADDING}.
+     * @param maxPages maximum number of pages before evicting the least recently used page
+     * @param mipmap if {@code true}, pages use mipmaps
+     */
+    public TextureAtlas(final int maxPages, final boolean mipmap) {
+        this(DEFAULT_PAGE_SIZE, DEFAULT_PAGE_SIZE, maxPages, DEFAULT_PADDING, mipmap);
+    }
+
+    /**
+     * Creates a texture atlas.
+     * @param pageWidth page texture width in pixels
+     * @param pageHeight page texture height in pixels
+     * @param maxPages maximum number of pages before evicting the least recently used page
+     * @param padding gutter in pixels around each sub-image
+     * @param mipmap if {@code true}, pages use mipmaps
+     */
+    public TextureAtlas(final int pageWidth, final int pageHeight, final int maxPages, final int padding, final boolean mipmap) {
+        if( 0 >= pageWidth || 0 >= pageHeight || 0 >= maxPages || 0 > padding ) {
+            throw new IllegalArgumentException("Invalid atlas parameter: page "+pageWidth+"x"+pageHeight+", maxPages "+maxPages+", padding "+padding);
+        }
+        this.pageWidth = pageWidth;
+        this.pageHeight = pageHeight;
+        this.maxPages = maxPages;
+        this.padding = padding;
+        this.mipmap = mipmap;
+        this.maxMipmapLevel = 0 < padding ? 31 - Integer.numberOfLeadingZeros(padding) : 0;
+        this.usesMipmap = mipmap && 0 < maxMipmapLevel;
+        this.texMinMagFilter = new int[] { usesMipmap ? GL.GL_LINEAR_MIPMAP_LINEAR : GL.GL_LINEAR, GL.GL_LINEAR };
+    }
+
+    /** Disables mipmapping if unsupported by the given GL, i.e. lacking {@link GL2ES3#GL_TEXTURE_MAX_LEVEL} on ES2. */
+    private void validateMipmapUsage(final GL gl) {
+        usesMipmap = mipmap && 0 < maxMipmapLevel && gl.isGL2ES3();
+        texMinMagFilter[0] = usesMipmap ? GL.GL_LINEAR_MIPMAP_LINEAR : GL.GL_LINEAR;
+    }
+
+    public final int getPageWidth() { return pageWidth; }
+    public final int getPageHeight() { return pageHeight; }
+    public final int getMaxPages() { return maxPages; }
+    public final int getPadding() { return padding; }
+    /** Returns whether mipmaps have been requested, see {@link #usesMipmap()}. */
+    public final boolean getMipmap() { return mipmap; }
+    /**
+     * Returns whether pages actually use mipmaps, i.e. if {@link #getMipmap() requested},
+     * the padding allows at least one mipmap level and the GL of the last allocated page supports {@link GL2ES3#GL_TEXTURE_MAX_LEVEL}.
+     */
+    public final boolean usesMipmap() { return usesMipmap; }
+    /** Returns the maximum mipmap level, i.e. <code>floor(log2(padding))</code>. */
+    public final int getMaxMipmapLevel() { return maxMipmapLevel; }
+    /** Returns the number of allocated pages. */
+    public final int getPageCount() { return pages.size(); }
+    /** Returns the page texture of the given index. */
+    public final Texture getPageTexture(final int idx) { return pages.get(idx).texture; }
+    /** Returns the number of held sub-images. */
+    public final int getSubImageCount() { return images.size(); }
+    /** Returns the number of evicted pages. */
+    public final long getEvictedPageCount() { return evictedPageCount; }
+    /** Returns the number of sub-images invalidated by evicted pages. */
+    public final long getEvictedImageCount() { return evictedImageCount; }
+
+    /**
+     * Adds the given image data to this atlas, replacing a previous sub-image of the same key.
+     * <p>
+     * A new page is allocated if no existing page has room for the image,
+     * or if {@link #getMaxPages()} has been reached, the least recently used page is evicted and reused.
+     * </p>
+     * @param gl current GL
+     * @param key the sub-image key
+     * @param data the uncompressed {@link GL#GL_RGBA} {@link GL#GL_UNSIGNED_BYTE} image data backed by a {@link ByteBuffer}
+     * @return the new sub-image
+     * @throws IllegalArgumentException if the data is not supported or exceeds the page size incl. padding
+     */
+    public SubImage add(final GL gl, final Object key, final TextureData data) throws IllegalArgumentException, GLException {
+        if( data.isDataCompressed() || GL.GL_RGBA != data.getPixelFormat() || GL.GL_UNSIGNED_BYTE != data.getPixelType() ||
+            !( data.getBuffer() instanceof ByteBuffer ) ) {
+            throw new IllegalArgumentException("Unsupported TextureData, requires uncompressed RGBA/UNSIGNED_BYTE in a ByteBuffer: "+data);
+        }
+        final int w = data.getWidth() + 2 * padding;
+        final int h = data.getHeight() + 2 * padding;
+        if( w > pageWidth || h > pageHeight ) {
+            throw new IllegalArgumentException("Image "+data.getWidth()+"x"+data.getHeight()+" incl. padding "+padding+" exceeds page "+pageWidth+"x"+pageHeight);
+        }
+        remove(key);
+
+        final Rect rect = new Rect(0, 0, w, h, null);
+        Page page = null;
+        for(int i=pages.size()-1; null == page && i>=0; i--) {
+            final Page p = pages.get(i);
+            if( p.add(rect) ) {
+                page = p;
+            }
+        }
+        if( null == page ) {
+            if( pages.size() < maxPages ) {
+                validateMipmapUsage(gl);
+                page = new Page(gl);
+                pages.add(page);
+            } else {
+                page = evictLRUPage();
+            }
+            if( !page.add(rect) ) {
+                throw new InternalError("Failed to add "+w+"x"+h+" to empty page "+pageWidth+"x"+pageHeight);
+            }
+        }
+        final SubImage img = new SubImage(this, key, page, rect, data.getWidth(), data.getHeight(), data.getMustFlipVertically());
+        rect.setUserData(img);
+        page.images.add(img);
+        images.put(key, img);
+        touch(img);
+
+        final TextureData padded = new TextureData(gl.getGLProfile(), GL.GL_RGBA, w, h, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE,
+                                                   false, false, false, createPaddedBuffer(data, padding), null);
+        page.texture.updateSubImage(gl, padded, 0, rect.x(), rect.y());
+        page.mipmapDirty = usesMipmap;
+        return img;
+    }
+
+    /**
+     * Returns a new buffer of the given image data with a gutter of {@code padding} pixels,
+     * replicating the image's edge pixels.
+     */
+    static ByteBuffer createPaddedBuffer(final TextureData data, final int padding) {
+        final int bpp = GLBuffers.bytesPerPixel(data.getPixelFormat(), data.getPixelType());
+        final int sw = data.getWidth();
+        final int sh = data.getHeight();
+        final int align = Math.max(1, data.getAlignment());
+        final int srcRowBytes = ( ( ( 0 < data.getRowLength() ? data.getRowLength() : sw ) * bpp + align - 1 ) / align ) * align;
+        final int dw = sw + 2 * padding;
+        final int dh = sh + 2 * padding;
+        final int dstRowBytes = dw * bpp;
+        final ByteBuffer src = (ByteBuffer) data.getBuffer();
+        final int srcPos = src.position();
+        final ByteBuffer dst = Buffers.newDirectByteBuffer(dstRowBytes * dh);
+        final byte[] row = new byte[dstRowBytes];
+        for(int y=0; y<dh; y++) {
+            final int sy = Math.min(sh - 1, Math.max(0, y - padding));
+            final int srow = srcPos + sy * srcRowBytes;
+            for(int i=0; i<sw*bpp; i++) {
+                row[padding*bpp + i] = src.get(srow + i);
+            }
+            for(int x=0; x<padding; x++) {
+                for(int c=0; c<bpp; c++) {
+                    row[x*bpp + c] = row[padding*bpp + c];
+                    row[(padding+sw+x)*bpp + c] = row[(padding+sw-1)*bpp + c];
+                }
+            }
+            dst.put(row);
+        }
+        dst.flip();
+        return dst;
+    }
+
+    private Page evictLRUPage() {
+        Page lru = null;
+        for(int i=0; i<pages.size(); i++) {
+            final Page p = pages.get(i);
+            if( null == lru || p.lastUse < lru.lastUse ) {
+                lru = p;
+            }
+        }
+        for(int i=0; i<lru.images.size(); i++) {
+            final SubImage img = lru.images.get(i);
+            images.remove(img.key);
+            img.page = null;
+            img.rect = null;
+        }
+        evictedImageCount += lru.images.size();
+        ++evictedPageCount;
+        lru.images.clear();
+        lru.packer.clear();
+        lru.lastUse = 0;
+        return lru;
+    }
+
+    /** Returns the sub-image of the given key and marks it used, or {@code null} if not held. */
+    public SubImage get(final Object key) {
+        final SubImage img = images.get(key);
+        if( null != img ) {
+            touch(img);
+        }
+        return img;
+    }
+
+    /** Marks the given sub-image and its page as most recently used. */
+    public void touch(final SubImage img) {
+        if( img.isValid() ) {
+            img.lastUse = ++useTick;
+            img.page.lastUse = img.lastUse;
+        }
+    }
+
+    /** Removes the sub-image of the given key, returns {@code true} if it was held. */
+    public boolean remove(final Object key) {
+        final SubImage img = images.remove(key);
+        if( null == img ) {
+            return false;
+        }
+        img.page.packer.remove(img.rect);
+        img.page.images.remove(img);
+        img.page = null;
+        img.rect = null;
+        return true;
+    }
+
+    /**
+     * Generates the mipmaps of all pages modified since last call, if {@link #usesMipmap()}.
+     * <p>
+     * Called by {@link Sequence#getNextTexture(GL)}.
+     * </p>
+     */
+    public void validate(final GL gl) {
+        for(int i=0; i<pages.size(); i++) {
+            final Page p = pages.get(i);
+            if( p.mipmapDirty ) {
+                p.texture.bind(gl);
+                gl.glGenerateMipmap(GL.GL_TEXTURE_2D);
+                p.mipmapDirty = false;
+            }
+        }
+    }
+
+    /** Returns a new {@link Sequence} of the given sub-image, e.g. to be used by a GraphUI shape. */
+    public Sequence createSequence(final SubImage img, final int textureUnit) {
+        return new Sequence(img, textureUnit);
+    }
+
+    /** Destroys all pages and invalidates all sub-images. */
+    public void destroy(final GL gl) {
+        for(final Iterator<SubImage> it = images.values().iterator(); it.hasNext(); ) {
+            final SubImage img = it.next();
+            img.page = null;
+            img.rect = null;
+        }
+        images.clear();
+        for(int i=0; i<pages.size(); i++) {
+            final Page p = pages.get(i);
+            p.packer.dispose();
+            p.texture.destroy(gl);
+        }
+        pages.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "TextureAtlas[pages "+pages.size()+"/"+maxPages+" of "+pageWidth+"x"+pageHeight+", padding "+padding+", mipmap "+mipmap+"/"+usesMipmap+
+               " (max level "+maxMipmapLevel+")"+
+               ", images "+images.size()+", evicted pages "+evictedPageCount+", images "+evictedImageCount+"]";
+    }
+}
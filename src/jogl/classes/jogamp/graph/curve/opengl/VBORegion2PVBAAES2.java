@@ -53,6 +53,7 @@ import com.jogamp.opengl.util.GLArrayDataServer;
 import com.jogamp.opengl.util.SyncMatrices4f16;
 import com.jogamp.opengl.util.glsl.ShaderProgram;
 import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureAtlas;
 import com.jogamp.opengl.util.texture.TextureCoords;
 import com.jogamp.opengl.util.texture.TextureSequence;
 
@@ -236,19 +237,23 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
         vpc_ileave.enableBuffer(gl, false);
         if( hasColorTexture && null != gcu_ColorTexUnit && colorTexSeq.isTextureAvailable() ) {
             final TextureSequence.TextureFrame frame = colorTexSeq.getLastTexture();
-            final Texture tex = frame.getTexture();
-            final TextureCoords tc = tex.getImageTexCoords();
-            final float tcSx = 1f / ( tc.right() - tc.left() );
-            colorTexBBox[0] = box.getMinX() * tcSx;
-            colorTexBBox[2] = box.getMaxX() * tcSx;
-            if( tex.getMustFlipVertically() ) {
-                final float tcSy = 1f / ( tc.bottom() - tc.top() );
-                colorTexBBox[1] = box.getMaxY() * tcSy;
-                colorTexBBox[3] = box.getMinY() * tcSy;
+            if( frame instanceof TextureAtlas.SubImage ) {
+                setColorTexBBox(box, ((TextureAtlas.SubImage)frame).getTexCoords(), colorTexBBox);
             } else {
-                final float tcSy = 1f / ( tc.top() - tc.bottom() );
-                colorTexBBox[1] = box.getMinY() * tcSy;
-                colorTexBBox[3] = box.getMaxY() * tcSy;
+                final Texture tex = frame.getTexture();
+                final TextureCoords tc = tex.getImageTexCoords();
+                final float tcSx = 1f / ( tc.right() - tc.left() );
+                colorTexBBox[0] = box.getMinX() * tcSx;
+                colorTexBBox[2] = box.getMaxX() * tcSx;
+                if( tex.getMustFlipVertically() ) {
+                    final float tcSy = 1f / ( tc.bottom() - tc.top() );
+                    colorTexBBox[1] = box.getMaxY() * tcSy;
+                    colorTexBBox[3] = box.getMinY() * tcSy;
+                } else {
+                    final float tcSy = 1f / ( tc.top() - tc.bottom() );
+                    colorTexBBox[1] = box.getMinY() * tcSy;
+                    colorTexBBox[3] = box.getMaxY() * tcSy;
+                }
             }
         }
         gca_FboVerticesAttr.seal(gl, false);
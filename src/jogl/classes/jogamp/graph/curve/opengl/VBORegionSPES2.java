@@ -40,8 +40,11 @@ import com.jogamp.graph.curve.Region;
 import com.jogamp.graph.curve.opengl.GLRegion;
 import com.jogamp.graph.curve.opengl.RegionRenderer;
 import com.jogamp.graph.curve.opengl.RenderState;
+import com.jogamp.opengl.util.GLArrayDataEditable;
 import com.jogamp.opengl.util.glsl.ShaderProgram;
+import com.jogamp.opengl.util.glsl.VertexArrayCache;
 import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureAtlas;
 import com.jogamp.opengl.util.texture.TextureCoords;
 import com.jogamp.opengl.util.texture.TextureSequence;
 
@@ -54,6 +57,9 @@ public final class VBORegionSPES2 extends GLRegion {
     private final GLUniformData gcu_ColorTexBBox;
     private ShaderProgram spPass1 = null;
 
+    private final VertexArrayCache vaoCache;
+    private final GLArrayDataEditable[] vaoArrays;
+
     public VBORegionSPES2(final GLProfile glp, final int renderModes, final TextureSequence colorTexSeq,
                           final int initialVerticesCount, final int initialIndicesCount)
     {
@@ -62,6 +68,8 @@ public final class VBORegionSPES2 extends GLRegion {
         rsLocal = new RenderState.ProgramLocal();
 
         initBuffer(initialVerticesCount, initialIndicesCount);
+        vaoCache = new VertexArrayCache();
+        vaoArrays = new GLArrayDataEditable[] { vpc_ileave };
 
         if( hasColorTexture() ) {
             gcu_ColorTexUnit = new GLUniformData(UniformNames.gcu_ColorTexUnit, colorTexSeq.getTextureUnit());
@@ -87,20 +95,24 @@ public final class VBORegionSPES2 extends GLRegion {
         vpc_ileave.enableBuffer(gl, false);
         if( hasColorTexture && null != gcu_ColorTexUnit && colorTexSeq.isTextureAvailable() ) {
             final TextureSequence.TextureFrame frame = colorTexSeq.getLastTexture();
-            final Texture tex = frame.getTexture();
-            final TextureCoords tc = tex.getImageTexCoords();
-            final float tcSx = 1f / ( tc.right() - tc.left() );
-            colorTexBBox[0] = box.getMinX() * tcSx;
-            colorTexBBox[2] = box.getMaxX() * tcSx;
-            final float tcSy;
-            if( tex.getMustFlipVertically() ) {
-                tcSy = 1f / ( tc.bottom() - tc.top() );
-                colorTexBBox[1] = box.getMaxY() * tcSy;
-                colorTexBBox[3] = box.getMinY() * tcSy;
+            if( frame instanceof TextureAtlas.SubImage ) {
+                setColorTexBBox(box, ((TextureAtlas.SubImage)frame).getTexCoords(), colorTexBBox);
             } else {
-                tcSy = 1f / ( tc.top() - tc.bottom() );
-                colorTexBBox[1] = box.getMinY() * tcSy;
-                colorTexBBox[3] = box.getMaxY() * tcSy;
+                final Texture tex = frame.getTexture();
+                final TextureCoords tc = tex.getImageTexCoords();
+                final float tcSx = 1f / ( tc.right() - tc.left() );
+                colorTexBBox[0] = box.getMinX() * tcSx;
+                colorTexBBox[2] = box.getMaxX() * tcSx;
+                final float tcSy;
+                if( tex.getMustFlipVertically() ) {
+                    tcSy = 1f / ( tc.bottom() - tc.top() );
+                    colorTexBBox[1] = box.getMaxY() * tcSy;
+                    colorTexBBox[3] = box.getMinY() * tcSy;
+                } else {
+                    tcSy = 1f / ( tc.top() - tc.bottom() );
+                    colorTexBBox[1] = box.getMinY() * tcSy;
+                    colorTexBBox[3] = box.getMaxY() * tcSy;
+                }
             }
         }
         indicesBuffer.seal(gl, true);
@@ -163,8 +175,8 @@ public final class VBORegionSPES2 extends GLRegion {
             }
             return; // empty!
         }
-        vpc_ileave.enableBuffer(gl, true);
-        indicesBuffer.bindBuffer(gl, true); // keeps VBO binding
+        // binds the cached VAO if available, otherwise enables vpc_ileave and keeps the indices VBO binding
+        vaoCache.enable(gl, spPass1.program(), indicesBuffer, vaoArrays);
 
         if( renderer.getRenderState().isHintMaskSet(RenderState.BITHINT_BLENDING_ENABLED) ) {
             gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
@@ -187,8 +199,7 @@ public final class VBORegionSPES2 extends GLRegion {
             // gl.glDrawElements(GL.GL_LINE_STRIP, indicesBuffer.getElementCount() * indicesBuffer.getComponentCount(), gl_idx_type, 0);
         }
 
-        indicesBuffer.bindBuffer(gl, false);
-        vpc_ileave.enableBuffer(gl, false);
+        vaoCache.disable(gl, indicesBuffer, vaoArrays);
     }
 
     @Override
@@ -196,6 +207,7 @@ public final class VBORegionSPES2 extends GLRegion {
         if(DEBUG_INSTANCE) {
             System.err.println("VBORegionSPES2 Destroy: " + this);
         }
+        vaoCache.destroy(gl);
         spPass1 = null; // owned by RegionRenderer
     }
 }
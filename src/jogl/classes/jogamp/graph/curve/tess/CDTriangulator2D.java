@@ -31,6 +31,7 @@ package jogamp.graph.curve.tess;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.jogamp.graph.curve.tess.TriangleIndexSink;
 import com.jogamp.graph.curve.tess.Triangulator;
 import com.jogamp.graph.geom.Outline;
 import com.jogamp.graph.geom.Triangle;
@@ -45,6 +46,11 @@ import jogamp.opengl.Debug;
  * Constrained Delaunay Triangulation
  * implementation of a list of Outlines that define a set of
  * Closed Regions with optional n holes.
+ * <p>
+ * The graph objects are allocated from an internal {@link GraphPool},
+ * which is rewound by {@link #reset()}. Hence a reused instance emitting into a
+ * {@link TriangleIndexSink} does not allocate after warm-up.
+ * </p>
  */
 public class CDTriangulator2D implements Triangulator {
 
@@ -54,6 +60,7 @@ public class CDTriangulator2D implements Triangulator {
     private static final boolean TEST_MARK_LINE = Debug.debug("graph.curve.triangulation.MARK_AA");
     private static final boolean TEST_ENABLED = TEST_LINE_AA || TEST_MARK_LINE;
 
+    private final GraphPool pool = new GraphPool();
     private final ArrayList<Loop> loops = new ArrayList<Loop>();
 
     private int addedVerticeCount;
@@ -71,6 +78,7 @@ public class CDTriangulator2D implements Triangulator {
         maxTriID = 0;
         addedVerticeCount = 0;
         loops.clear();
+        pool.reset();
     }
 
     @Override
@@ -81,16 +89,25 @@ public class CDTriangulator2D implements Triangulator {
 
     @Override
     public final void addCurve(final List<Triangle> sink, final Outline polyline, final float sharpness) {
+        addCurveImpl(sink, null, polyline, sharpness);
+    }
+
+    @Override
+    public final void addCurve(final TriangleIndexSink sink, final Outline polyline, final float sharpness) {
+        addCurveImpl(null, sink, polyline, sharpness);
+    }
+
+    private void addCurveImpl(final List<Triangle> tSink, final TriangleIndexSink iSink, final Outline polyline, final float sharpness) {
         Loop loop = getContainerLoop(polyline);
 
         if(loop == null) {
             final Winding winding = Winding.CCW; // -> HEdge.BOUNDARY
             // Too late: polyline.setWinding(winding);
-            final GraphOutline outline = new GraphOutline(polyline); // , winding);
-            final GraphOutline innerPoly = extractBoundaryTriangles(sink, outline, false, sharpness);
+            final GraphOutline outline = pool.newGraphOutline(polyline); // , winding);
+            final GraphOutline innerPoly = extractBoundaryTriangles(tSink, iSink, outline, false, sharpness);
             // vertices.addAll(polyline.getVertices());
             if( innerPoly.getGraphPoint().size() >= 3 ) {
-                loop = new Loop(innerPoly, winding);
+                loop = pool.newLoop(innerPoly, winding);
                 loops.add(loop);
             } else if( DEBUG ) {
                 /*
@@ -114,7 +131,7 @@ public class CDTriangulator2D implements Triangulator {
                    at com.jogamp.graph.ui.shapes.GlyphShape.<init>(GlyphShape.java:77)
                  */
                 System.err.println("Drop innerPoly ctrlpts < 3");
-                System.err.println("- innerPo[vertices "+innerPoly.getOutline().getVertexCount()+", ctrlpts "+innerPoly.getGraphPoint().size()+"] < 3");
+                System.err.println("- innerPo[ctrlpts "+innerPoly.getGraphPoint().size()+"] < 3");
                 System.err.println("- outline[vertices "+outline.getOutline().getVertexCount()+", ctrlpts "+outline.getGraphPoint().size()+"]");
                 System.err.println("-   Input[vertices "+polyline.getVertexCount()+"]");
                 Thread.dumpStack();
@@ -122,8 +139,8 @@ public class CDTriangulator2D implements Triangulator {
         } else {
             // final Winding winding = Winding.CW; // -> HEdge.HOLE
             // Not required, handled in Loop.initFromPolyline(): polyline.setWinding(winding);
-            final GraphOutline outline = new GraphOutline(polyline); // , winding);
-            final GraphOutline innerPoly = extractBoundaryTriangles(sink, outline, true, sharpness);
+            final GraphOutline outline = pool.newGraphOutline(polyline); // , winding);
+            final GraphOutline innerPoly = extractBoundaryTriangles(tSink, iSink, outline, true, sharpness);
             // vertices.addAll(innerPoly.getVertices());
             loop.addConstraintCurve(innerPoly);
         }
@@ -131,13 +148,39 @@ public class CDTriangulator2D implements Triangulator {
 
     @Override
     public final void generate(final List<Triangle> sink) {
+        generateImpl(sink, null);
+        if( TEST_ENABLED ) {
+            final Vec2f tempV2 = new Vec2f();
+            final CDTriangulator2DExpAddOn addOn = new CDTriangulator2DExpAddOn();
+            final int sinkSize = sink.size();
+            if( TEST_MARK_LINE ) {
+                for(int i=0; i<sinkSize; i++) {
+                    final Triangle t0 = sink.get(i);
+                    addOn.markLineInTriangle(t0);
+                }
+            } else if ( TEST_LINE_AA ){
+                for(int i=0; i<sinkSize-1; i+=2) {
+                    final Triangle t0 = sink.get(i);
+                    final Triangle t1 = sink.get(i+1);
+                    /* final float[] rect =  */ addOn.processLineAA(i, t0, t1, tempV2);
+                }
+            }
+        }
+    }
+
+    @Override
+    public final void generate(final TriangleIndexSink sink) {
+        generateImpl(null, sink);
+    }
+
+    private void generateImpl(final List<Triangle> tSink, final TriangleIndexSink iSink) {
         final int loopsSize = loops.size();
         for(int i=0;i<loopsSize;i++) {
             final Loop loop = loops.get(i);
             int numTries = 0;
             int size = loop.computeLoopSize();
             while(!loop.isSimplex()){
-                final Triangle tri;
+                final HEdge tri;
                 final boolean delauny;
                 if(numTries > size){
                     tri = loop.cut(false);
@@ -150,10 +193,9 @@ public class CDTriangulator2D implements Triangulator {
                 numTries++;
 
                 if(tri != null) {
-                    tri.setId(maxTriID++);
-                    sink.add(tri);
+                    emitTriangle(tSink, iSink, tri, true);
                     if(DEBUG){
-                        System.err.println("CDTri.gen["+i+"].0: delauny "+delauny+", tries "+numTries+", size "+size+", "+tri);
+                        System.err.println("CDTri.gen["+i+"].0: delauny "+delauny+", tries "+numTries+", size "+size+", "+toString(tri));
                     }
                     numTries = 0;
                     size--;
@@ -165,35 +207,43 @@ public class CDTriangulator2D implements Triangulator {
                     break;
                 }
             }
-            final Triangle tri = loop.cut(true);
+            final HEdge tri = loop.cut(true);
             if(tri != null) {
-                sink.add(tri);
+                emitTriangle(tSink, iSink, tri, false);
                 if(DEBUG){
-                    System.err.println("CDTri.gen["+i+"].1: "+tri);
+                    System.err.println("CDTri.gen["+i+"].1: "+toString(tri));
                 }
             }
         }
-        if( TEST_ENABLED ) {
-            final Vec2f tempV2 = new Vec2f();
-            final CDTriangulator2DExpAddOn addOn = new CDTriangulator2DExpAddOn();
-            final int sinkSize = sink.size();
-            if( TEST_MARK_LINE ) {
-                for(int i=0; i<sinkSize; i++) {
-                    final Triangle t0 = sink.get(i);
-                    addOn.markLineInTriangle(t0);
-                }
-            } else if ( TEST_LINE_AA ){
-                for(int i=0; i<sinkSize-1; i+=2) {
-                    final Triangle t0 = sink.get(i);
-                    final Triangle t1 = sink.get(i+1);
-                    /* final float[] rect =  */ addOn.processLineAA(i, t0, t1, tempV2);
-                }
+    }
+
+    /** Emits the {@link Loop#cut(boolean) cut} triangle <code>e, e.next, e.next.next</code> into either sink. */
+    private void emitTriangle(final List<Triangle> tSink, final TriangleIndexSink iSink, final HEdge e, final boolean setId) {
+        if( null != tSink ) {
+            final Triangle t = Loop.toTriangle(e);
+            if( setId ) {
+                t.setId(maxTriID++);
+            }
+            tSink.add(t);
+        } else {
+            final GraphVertex gv0 = e.getGraphPoint();
+            final GraphVertex gv1 = e.getNext().getGraphPoint();
+            final GraphVertex gv2 = e.getNext().getNext().getGraphPoint();
+            iSink.addTriangle(gv0.getPoint().getId(), gv1.getPoint().getId(), gv2.getPoint().getId(),
+                              gv0.isBoundaryContained(), gv1.isBoundaryContained(), gv2.isBoundaryContained());
+            if( setId ) {
+                maxTriID++;
             }
         }
     }
 
-    private GraphOutline extractBoundaryTriangles(final List<Triangle> sink, final GraphOutline outline, final boolean hole, final float sharpness) {
-        final GraphOutline innerOutline = new GraphOutline();
+    private static String toString(final HEdge e) {
+        return "Tri["+e.getGraphPoint()+", "+e.getNext().getGraphPoint()+", "+e.getNext().getNext().getGraphPoint()+"]";
+    }
+
+    private GraphOutline extractBoundaryTriangles(final List<Triangle> tSink, final TriangleIndexSink iSink,
+                                                  final GraphOutline outline, final boolean hole, final float sharpness) {
+        final GraphOutline innerOutline = pool.newGraphOutline(null);
         final ArrayList<GraphVertex> outVertices = outline.getGraphPoint();
         final int size = outVertices.size();
         for(int i=0; i < size; i++) {
@@ -202,42 +252,49 @@ public class CDTriangulator2D implements Triangulator {
             final GraphVertex gv2 = outVertices.get((i+1)%size);      // +1
 
             if( !gv1.getPoint().isOnCurve() ) {
-                final Vertex v0 = gv0.getPoint().clone();
-                final Vertex v2 = gv2.getPoint().clone();
-                final Vertex v1 = gv1.getPoint().clone();
                 addedVerticeCount += 3;
-                final boolean[] boundaryVertices = { true, true, true };
 
                 gv0.setBoundaryContained(true);
                 gv1.setBoundaryContained(true);
                 gv2.setBoundaryContained(true);
 
-                final Triangle t;
-                final boolean holeLike;
-                if(VectorUtil.isCCW(v0,v1,v2)) {
-                    holeLike = false;
-                    t = new Triangle(v0, v1, v2, boundaryVertices);
+                final boolean holeLike = !VectorUtil.isCCW(gv0.getPoint(), gv1.getPoint(), gv2.getPoint());
+                final float tSign = ( hole || holeLike ) ? -1f : 1f;
+                if( null != tSink ) {
+                    final Vertex v0 = gv0.getPoint().clone();
+                    final Vertex v2 = gv2.getPoint().clone();
+                    final Vertex v1 = gv1.getPoint().clone();
+                    final boolean[] boundaryVertices = { true, true, true };
+                    final Triangle t;
+                    if( !holeLike ) {
+                        t = new Triangle(v0, v1, v2, boundaryVertices);
+                    } else {
+                        t = new Triangle(v2, v1, v0, boundaryVertices);
+                    }
+                    v0.setTexCoord(0.0f,                   tSign * 0.1f, 0f);
+                    v2.setTexCoord(1.0f,                   tSign * 0.1f, 0f);
+                    v1.setTexCoord(0.5f, tSign * ( sharpness + 0.1f ), 0f);
+                    t.setId(maxTriID++);
+                    tSink.add(t);
+                    if(DEBUG){
+                        System.err.println(t);
+                    }
                 } else {
-                    holeLike = true;
-                    t = new Triangle(v2, v1, v0, boundaryVertices);
-                }
-                t.setId(maxTriID++);
-                sink.add(t);
-                if(DEBUG){
-                    System.err.println(t);
+                    final int i0 = iSink.addVertex(gv0.getPoint(), 0.0f,                   tSign * 0.1f, 0f);
+                    final int i1 = iSink.addVertex(gv1.getPoint(), 0.5f, tSign * ( sharpness + 0.1f ), 0f);
+                    final int i2 = iSink.addVertex(gv2.getPoint(), 1.0f,                   tSign * 0.1f, 0f);
+                    if( !holeLike ) {
+                        iSink.addTriangle(i0, i1, i2, true, true, true);
+                    } else {
+                        iSink.addTriangle(i2, i1, i0, true, true, true);
+                    }
+                    maxTriID++;
                 }
                 if( hole || holeLike ) {
-                    v0.setTexCoord(0.0f,           -0.1f, 0f);
-                    v2.setTexCoord(1.0f,           -0.1f, 0f);
-                    v1.setTexCoord(0.5f, -sharpness-0.1f, 0f);
                     innerOutline.addVertex(gv1);
-                } else {
-                    v0.setTexCoord(0.0f,            0.1f, 0f);
-                    v2.setTexCoord(1.0f,            0.1f, 0f);
-                    v1.setTexCoord(0.5f,  sharpness+0.1f, 0f);
                 }
                 if(DEBUG) {
-                    System.err.println("CDTri.ebt["+i+"].0: hole "+(hole || holeLike)+" "+gv1+", "+t);
+                    System.err.println("CDTri.ebt["+i+"].0: hole "+(hole || holeLike)+" "+gv1);
                 }
             } else {
                 if( !gv2.getPoint().isOnCurve() || !gv0.getPoint().isOnCurve() ) {
@@ -34,7 +34,7 @@ import com.jogamp.graph.geom.Vertex;
 import com.jogamp.graph.geom.plane.Winding;
 
 public class GraphOutline {
-    final private Outline outline;
+    private Outline outline;
     final private ArrayList<GraphVertex> controlpoints = new ArrayList<GraphVertex>(3);
 
     public GraphOutline(){
@@ -56,6 +56,23 @@ public class GraphOutline {
         }
     }
 
+    /**
+     * Re-initializes this instance for reuse, see {@link GraphPool}.
+     * @param ol the source {@link Outline} creating its control vertices from <code>pool</code>,
+     *           or <code>null</code> for an empty control polyline without backing {@link Outline}
+     */
+    final void reset(final Outline ol, final GraphPool pool) {
+        this.outline = ol;
+        controlpoints.clear();
+        if( null != ol ) {
+            final ArrayList<Vertex> vertices = ol.getVertices();
+            for(int i = 0; i< vertices.size(); i++){
+                this.controlpoints.add(pool.newGraphVertex(vertices.get(i)));
+            }
+        }
+    }
+
+    /** Returns the backing {@link Outline}, may be <code>null</code> for pooled inner control polylines. */
     public Outline getOutline() {
         return outline;
     }
@@ -70,7 +87,9 @@ public class GraphOutline {
 
     public void addVertex(final GraphVertex v) {
         controlpoints.add(v);
-        outline.addVertex(v.getPoint());
+        if( null != outline ) {
+            outline.addVertex(v.getPoint());
+        }
     }
 
 }
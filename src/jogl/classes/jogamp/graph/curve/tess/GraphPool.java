@@ -0,0 +1,130 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.curve.tess;
+
+import java.util.ArrayList;
+
+import com.jogamp.graph.geom.Outline;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.graph.geom.plane.Winding;
+
+/**
+ * Arena of the {@link CDTriangulator2D} graph objects,
+ * i.e. {@link HEdge}, {@link GraphVertex}, {@link GraphOutline} and {@link Loop}.
+ * <p>
+ * Objects are handed out sequentially and stay valid until {@link #reset()},
+ * which rewinds the arena for the next triangulation while retaining all instances.
+ * </p>
+ */
+final class GraphPool {
+    private final ArrayList<HEdge> edges = new ArrayList<HEdge>();
+    private final ArrayList<GraphVertex> vertices = new ArrayList<GraphVertex>();
+    private final ArrayList<GraphOutline> outlines = new ArrayList<GraphOutline>();
+    private final ArrayList<Loop> loops = new ArrayList<Loop>();
+    private int edgeCount, vertexCount, outlineCount, loopCount;
+
+    HEdge newHEdge(final GraphVertex vert, final int type) {
+        final HEdge e;
+        if( edgeCount < edges.size() ) {
+            e = edges.get(edgeCount);
+            e.reset(vert, type);
+        } else {
+            e = new HEdge(vert, type);
+            edges.add(e);
+        }
+        edgeCount++;
+        return e;
+    }
+
+    GraphVertex newGraphVertex(final Vertex point) {
+        final GraphVertex v;
+        if( vertexCount < vertices.size() ) {
+            v = vertices.get(vertexCount);
+            v.reset(point);
+        } else {
+            v = new GraphVertex(point);
+            vertices.add(v);
+        }
+        vertexCount++;
+        return v;
+    }
+
+    /**
+     * @param ol the source {@link Outline}, or <code>null</code> for an empty control polyline
+     */
+    GraphOutline newGraphOutline(final Outline ol) {
+        final GraphOutline o;
+        if( outlineCount < outlines.size() ) {
+            o = outlines.get(outlineCount);
+        } else {
+            o = new GraphOutline();
+            outlines.add(o);
+        }
+        o.reset(ol, this);
+        outlineCount++;
+        return o;
+    }
+
+    Loop newLoop(final GraphOutline polyline, final Winding winding) {
+        final Loop l;
+        if( loopCount < loops.size() ) {
+            l = loops.get(loopCount);
+        } else {
+            l = new Loop(this);
+            loops.add(l);
+        }
+        l.reset(polyline, winding);
+        loopCount++;
+        return l;
+    }
+
+    /** Rewinds the arena, dropping references to the triangulated {@link Vertex}s. */
+    void reset() {
+        for(int i=0; i<edgeCount; i++) {
+            edges.get(i).reset(null, HEdge.BOUNDARY);
+        }
+        for(int i=0; i<vertexCount; i++) {
+            vertices.get(i).reset(null);
+        }
+        for(int i=0; i<outlineCount; i++) {
+            outlines.get(i).reset(null, this);
+        }
+        for(int i=0; i<loopCount; i++) {
+            loops.get(i).clear();
+        }
+        edgeCount = 0;
+        vertexCount = 0;
+        outlineCount = 0;
+        loopCount = 0;
+    }
+
+    /** Returns the number of retained instances of all types. */
+    int getRetainedCount() {
+        return edges.size() + vertices.size() + outlines.size() + loops.size();
+    }
+}
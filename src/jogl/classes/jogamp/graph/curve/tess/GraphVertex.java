@@ -41,6 +41,15 @@ public class GraphVertex {
         this.point = point;
     }
 
+    /** Re-initializes this instance for reuse, retaining the edge list storage, see {@link GraphPool}. */
+    final void reset(final Vertex point) {
+        this.point = point;
+        if( null != edges ) {
+            edges.clear();
+        }
+        this.boundaryContained = false;
+    }
+
     public Vertex getPoint() {
         return point;
     }
@@ -82,9 +91,6 @@ public class GraphVertex {
         if(edges == null)
             return;
         edges.remove(edge);
-        if(edges.size() == 0){
-            edges = null;
-        }
     }
     public HEdge findNextEdge(final GraphVertex nextVert){
         for(int i=0; i<edges.size(); i++) {
@@ -65,6 +65,16 @@ public class HEdge {
         this.triangle = triangle;
     }
 
+    /** Re-initializes this instance for reuse, see {@link GraphPool}. */
+    final void reset(final GraphVertex vert, final int type) {
+        this.vert = vert;
+        this.prev = null;
+        this.next = null;
+        this.sibling = null;
+        this.type = type;
+        this.triangle = null;
+    }
+
     public GraphVertex getGraphPoint() {
         return vert;
     }
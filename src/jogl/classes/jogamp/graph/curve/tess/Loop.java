@@ -39,23 +39,48 @@ import com.jogamp.opengl.math.Vert2fImmutable;
 import com.jogamp.opengl.math.geom.AABBox;
 
 public class Loop {
+    private final GraphPool pool;
     private HEdge root = null;
     private final AABBox box = new AABBox();
     private GraphOutline initialOutline = null;
 
     public Loop(final GraphOutline polyline, final Winding winding){
+        this(new GraphPool());
+        reset(polyline, winding);
+    }
+
+    /** Creates an empty instance allocating its {@link HEdge}s from the given pool, see {@link #reset(GraphOutline, Winding)}. */
+    Loop(final GraphPool pool) {
+        this.pool = pool;
+    }
+
+    /** Re-initializes this instance from the given polyline. */
+    final void reset(final GraphOutline polyline, final Winding winding) {
+        box.reset();
         initialOutline = polyline;
         this.root = initFromPolyline(initialOutline, winding);
     }
 
+    /** Drops all references, see {@link GraphPool#reset()}. */
+    final void clear() {
+        root = null;
+        initialOutline = null;
+    }
+
     public HEdge getHEdge(){
         return root;
     }
 
-    public Triangle cut(final boolean delaunay){
+    /**
+     * Cuts off the next triangle of this loop.
+     * @param delaunay if true, only cut a triangle satisfying the delaunay condition
+     * @return the {@link HEdge} of the cut triangle, i.e. the triangle is
+     *         <code>e, e.getNext(), e.getNext().getNext()</code>, or null if no triangle could be cut
+     * @see #toTriangle(HEdge)
+     */
+    public HEdge cut(final boolean delaunay){
         if(isSimplex()){
-            return new Triangle(root.getGraphPoint().getPoint(), root.getNext().getGraphPoint().getPoint(),
-                                root.getNext().getNext().getGraphPoint().getPoint(), checkVerticesBoundary(root));
+            return root;
         }
         final HEdge prev = root.getPrev();
         final HEdge next1 = root.getNext();
@@ -66,25 +91,23 @@ public class Loop {
             return null;
         }
 
-        final GraphVertex v1 = root.getGraphPoint();
-        final GraphVertex v2 = next1.getGraphPoint();
         final GraphVertex v3 = next2.getGraphPoint();
 
-        final HEdge v3Edge = new HEdge(v3, HEdge.INNER);
+        final HEdge v3Edge = pool.newHEdge(v3, HEdge.INNER);
 
         HEdge.connect(v3Edge, root);
         HEdge.connect(next1, v3Edge);
 
         HEdge v3EdgeSib = v3Edge.getSibling();
         if(v3EdgeSib == null){
-            v3EdgeSib = new HEdge(v3Edge.getNext().getGraphPoint(), HEdge.INNER);
+            v3EdgeSib = pool.newHEdge(v3Edge.getNext().getGraphPoint(), HEdge.INNER);
             HEdge.makeSiblings(v3Edge, v3EdgeSib);
         }
 
         HEdge.connect(prev, v3EdgeSib);
         HEdge.connect(v3EdgeSib, next2);
 
-        final Triangle t = createTriangle(v1.getPoint(), v2.getPoint(), v3.getPoint(), root);
+        final HEdge t = root;
         this.root = next2;
         return t;
     }
@@ -139,7 +162,7 @@ public class Loop {
                 final GraphVertex v1 = vertices.get(index);
                 box.resize(v1.x(), v1.y(), v1.z());
 
-                final HEdge edge = new HEdge(v1, edgeType);
+                final HEdge edge = pool.newHEdge(v1, edgeType);
 
                 v1.addEdge(edge);
                 if(lastEdge != null) {
@@ -160,7 +183,7 @@ public class Loop {
                 final GraphVertex v1 = vertices.get(index);
                 box.resize(v1.x(), v1.y(), v1.z());
 
-                final HEdge edge = new HEdge(v1, edgeType);
+                final HEdge edge = pool.newHEdge(v1, edgeType);
 
                 v1.addEdge(edge);
                 if(lastEdge != null) {
@@ -188,14 +211,14 @@ public class Loop {
         final GraphVertex v3 = locateClosestVertex(polyline);
         final HEdge v3Edge = v3.findBoundEdge();
         final HEdge v3EdgeP = v3Edge.getPrev();
-        final HEdge crossEdge = new HEdge(root.getGraphPoint(), HEdge.INNER);
+        final HEdge crossEdge = pool.newHEdge(root.getGraphPoint(), HEdge.INNER);
 
         HEdge.connect(root.getPrev(), crossEdge);
         HEdge.connect(crossEdge, v3Edge);
 
         HEdge crossEdgeSib = crossEdge.getSibling();
         if(crossEdgeSib == null) {
-            crossEdgeSib = new HEdge(crossEdge.getNext().getGraphPoint(), HEdge.INNER);
+            crossEdgeSib = pool.newHEdge(crossEdge.getNext().getGraphPoint(), HEdge.INNER);
             HEdge.makeSiblings(crossEdge, crossEdgeSib);
         }
 
@@ -225,7 +248,8 @@ public class Loop {
                 final GraphVertex cand = vertices.get(pos);
                 final float distance = v.getCoord().dist( cand.getCoord() );
                 if(distance < minDistance){
-                    for (final GraphVertex vert:vertices){
+                    for(int k=0; k<vertices.size(); k++) {
+                        final GraphVertex vert = vertices.get(k);
                         if(vert == v || vert == nextV || vert == cand)
                             continue;
                         inValid = VectorUtil.isInCircleVec2(v.getPoint(), nextV.getPoint(),
@@ -286,19 +310,16 @@ public class Loop {
         return null;
     }
 
-    /** Create a triangle from the param vertices only if
-     * the triangle is valid. IE not outside region.
-     * @param v1 vertex 1
-     * @param v2 vertex 2
-     * @param v3 vertex 3
-     * @param root and edge of this triangle
-     * @return the triangle iff it satisfies, null otherwise
+    /** Create a triangle from the given {@link #cut(boolean) cut} triangle edge.
+     * @param rootT edge of the triangle
+     * @return the triangle
      */
-    private Triangle createTriangle(final Vertex v1, final Vertex v2, final Vertex v3, final HEdge rootT){
-        return new Triangle(v1, v2, v3, checkVerticesBoundary(rootT));
+    public static Triangle toTriangle(final HEdge rootT){
+        return new Triangle(rootT.getGraphPoint().getPoint(), rootT.getNext().getGraphPoint().getPoint(),
+                            rootT.getNext().getNext().getGraphPoint().getPoint(), checkVerticesBoundary(rootT));
     }
 
-    private boolean[] checkVerticesBoundary(final HEdge rootT) {
+    private static boolean[] checkVerticesBoundary(final HEdge rootT) {
         final boolean[] boundary = new boolean[3];
         if(rootT.getGraphPoint().isBoundaryContained()){
                 boundary[0] = true;
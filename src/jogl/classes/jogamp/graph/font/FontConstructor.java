@@ -39,6 +39,13 @@ public interface FontConstructor {
      */
     Font create(final File file) throws IOException;
 
+    /**
+     * @param file The font file
+     * @param lazy if {@code true}, memory map the file and decode glyphs on first access, if supported.
+     *             Implementations not supporting a lazy mode shall behave like {@link #create(File)}.
+     */
+    Font create(final File file, boolean lazy) throws IOException;
+
     /**
      * @param istream The font input stream
      * @param streamLen the length of the font segment in the stream
@@ -27,6 +27,8 @@
  */
 package jogamp.graph.font.typecast;
 
+import java.util.Arrays;
+
 import com.jogamp.common.util.IntObjectHashMap;
 import com.jogamp.graph.curve.OutlineShape;
 import com.jogamp.graph.font.Font;
@@ -43,7 +45,6 @@ import jogamp.graph.font.typecast.ot.table.GlyfTable;
 import jogamp.graph.font.typecast.ot.table.HheaTable;
 import jogamp.graph.font.typecast.ot.table.HmtxTable;
 import jogamp.graph.font.typecast.ot.table.ID;
-import jogamp.graph.font.typecast.ot.table.KernSubtable;
 import jogamp.graph.font.typecast.ot.table.KernSubtableFormat0;
 import jogamp.graph.font.typecast.ot.table.KernTable;
 import jogamp.graph.font.typecast.ot.table.KerningPair;
@@ -58,6 +59,15 @@ class TypecastFont implements Font {
     private final int cmapentries;
     private final IntObjectHashMap idToGlyph;
     private final TypecastHMetrics metrics;
+    private volatile TypecastKerning kerning;
+    private final TypecastLayoutCache layoutCache = new TypecastLayoutCache();
+
+    /** Visits nothing, used to compute bounds only */
+    private static final Font.GlyphVisitor nopVisitor = new Font.GlyphVisitor() {
+        @Override
+        public final void visit(final char symbol, final Font.Glyph shape, final AffineTransform t) {
+            // nop
+        } };
     // FIXME: Add cache size to limit memory usage ??
 
     private static final boolean forceAscii = false; // FIXME ??? (ASCII/Macintosh cmap format)
@@ -184,6 +194,27 @@ class TypecastFont implements Font {
         return Glyph.ID_UNKNOWN;
     }
 
+    /**
+     * Returns the font wide kerning index, built on first use
+     * from GPOS pair adjustments or the legacy 'kern' table.
+     */
+    /** pp **/ TypecastKerning getKerning() {
+        TypecastKerning k = kerning;
+        if( null == k ) {
+            synchronized( this ) {
+                k = kerning;
+                if( null == k ) {
+                    k = new TypecastKerning(font.getKernTable(), font.getGposTable(), font.getNumGlyphs());
+                    if(DEBUG) {
+                        System.err.println("Kerning: "+k);
+                    }
+                    kerning = k;
+                }
+            }
+        }
+        return k;
+    }
+
     /** pp **/ PostTable getPostTable() {
         return font.getPostTable();
     }
@@ -193,6 +224,12 @@ class TypecastFont implements Font {
 
     @Override
     public Glyph getGlyph(final int glyph_id) {
+        synchronized( idToGlyph ) { // glyphs may be requested concurrently, e.g. validating shapes in parallel
+            return getGlyphImpl(glyph_id);
+        }
+    }
+
+    private Glyph getGlyphImpl(final int glyph_id) {
         TypecastGlyph result = (TypecastGlyph) idToGlyph.get(glyph_id);
         if (null == result) {
             final jogamp.graph.font.typecast.ot.Glyph glyph = font.getGlyph(glyph_id);
@@ -232,14 +269,7 @@ class TypecastFont implements Font {
                 shape = TypecastRenderer.buildEmptyShape(metrics.getUnitsPerEM(), glyph_bbox);
                 isWhiteSpace = true;
             }
-            KernSubtable kernSub = null;
-            {
-                final KernTable kern = font.getKernTable();
-                if (kern != null ) {
-                    kernSub = kern.getSubtable0();
-                }
-            }
-            result = new TypecastGlyph(this, glyph_id, glyph_name, glyph_bbox, glyph_advance, glyph_leftsidebearings, kernSub, shape, isWhiteSpace);
+            result = new TypecastGlyph(this, glyph_id, glyph_name, glyph_bbox, glyph_advance, glyph_leftsidebearings, getKerning(), shape, isWhiteSpace);
             if(DEBUG) {
                 System.err.println("New glyph: " + glyph_id + "/'"+glyph_name+"', shape " + (null != shape));
                 System.err.println("  tc_glyph "+glyph);
@@ -265,102 +295,175 @@ class TypecastFont implements Font {
         return metrics.getAscentFU() - metrics.getDescentFU() + metrics.getLineGapFU();
     }
 
-    @Override
-    public AABBox getMetricBounds(final CharSequence string) {
-        return getMetricBoundsFU(string).scale2(1.0f/metrics.getUnitsPerEM());
-    }
-
-    @Override
-    public AABBox getMetricBoundsFU(final CharSequence string) {
-        if (null == string || 0 == string.length() ) {
-            return new AABBox();
-        }
-        final AABBox res = new AABBox();
-        final int charCount = string.length();
-
-        final int lineHeight = getLineHeightFU();
-
-        int y = 0;
-        int advanceTotal = 0;
-
-        for (int i=0; i<charCount; i++) {
-            final char character = string.charAt(i);
-            if (character == '\n') {
-                advanceTotal = 0;
-                y -= lineHeight;
-            } else {
-                advanceTotal += getAdvanceWidthFU( getGlyphID( character ) );
-            }
-            res.resize(advanceTotal, y, 0f);
+    /**
+     * Returns the laid out text run of the given string, cached or created on demand.
+     * <p>
+     * A run is laid out once by querying each glyph, its advance and kerning
+     * in font em-size for {@link #processString(Font.GlyphVisitor, AffineTransform, CharSequence, AffineTransform, AffineTransform)}
+     * and in font-units for {@link #getGlyphBoundsFU(CharSequence, AABBox)} and {@link #getMetricBoundsFU(CharSequence)}.
+     * </p>
+     * @param string non empty string
+     */
+    /** pp **/ TypecastLayoutCache.Run getRun(final CharSequence string) {
+        final String text = string.toString();
+        TypecastLayoutCache.Run run = layoutCache.get(text);
+        if( null != run ) {
+            return run;
         }
-        if( 0 < advanceTotal ) {
-            // add one line for current non '\n' terminated
-            y -= lineHeight;
-            res.resize(advanceTotal, y, 0f);
-        }
-        return res;
-    }
-
-    @Override
-    public AABBox getGlyphBounds(final CharSequence string) {
-        return getGlyphBounds(string, new AffineTransform(), new AffineTransform());
-    }
-    @Override
-    public AABBox getGlyphBounds(final CharSequence string, final AffineTransform tmp1, final AffineTransform tmp2) {
-        return getGlyphBoundsFU(string, tmp1, tmp2).scale2(1.0f/metrics.getUnitsPerEM());
-    }
-
-    @Override
-    public AABBox getGlyphBoundsFU(final CharSequence string) {
-        return getGlyphBoundsFU(string, new AffineTransform(), new AffineTransform());
-    }
-    @Override
-    public AABBox getGlyphBoundsFU(final CharSequence string, final AffineTransform temp1, final AffineTransform temp2) {
-        if (null == string || 0 == string.length() ) {
-            return new AABBox();
-        }
-        final AABBox res = new AABBox();
-        final int charCount = string.length();
-
-        final int lineHeight = getLineHeightFU();
+        final int charCount = text.length();
+        final char[] symbols = new char[charCount];
+        final Font.Glyph[] glyphs = new Font.Glyph[charCount];
+        final float[] emXY = new float[charCount*2];
+        int count = 0;
+
+        final AABBox emShapeBounds = new AABBox();
+        final AABBox fuGlyphBounds = new AABBox();
+        final AABBox fuMetricBounds = new AABBox();
+        final AffineTransform temp1 = new AffineTransform();
+        final AffineTransform temp2 = new AffineTransform();
+        final AABBox temp_box = new AABBox();
 
-        int y = 0;
-        int advanceTotal = 0;
+        final float lineHeight = getLineHeight();
+        final int lineHeightFU = getLineHeightFU();
+        float y = 0;
+        float advanceTotal = 0;
+        int yFU = 0;
+        int advanceTotalFU = 0;
+        int metricY = 0;
+        int metricAdvanceTotal = 0;
         Font.Glyph left_glyph = null;
-        final AABBox temp_box = new AABBox();
 
         for(int i=0; i< charCount; i++) {
-            final char character = string.charAt(i);
+            final char character = text.charAt(i);
             if( '\n' == character ) {
                 y -= lineHeight;
                 advanceTotal = 0;
+                yFU -= lineHeightFU;
+                advanceTotalFU = 0;
+                metricAdvanceTotal = 0;
+                metricY -= lineHeightFU;
+                fuMetricBounds.resize(metricAdvanceTotal, metricY, 0f);
                 left_glyph = null;
             } else {
-                // reset transform
-                temp1.setToIdentity();
                 final int glyph_id = getGlyphID(character);
                 final Font.Glyph glyph = getGlyph(glyph_id);
                 final OutlineShape glyphShape = glyph.getShape();
+
+                metricAdvanceTotal += getAdvanceWidthFU( glyph_id );
+                fuMetricBounds.resize(metricAdvanceTotal, metricY, 0f);
+
                 if( null == glyphShape ) { // also covers 'space' and all non-contour symbols
-                    advanceTotal += glyph.getAdvanceFU();
+                    advanceTotal += glyph.getAdvance();
+                    advanceTotalFU += glyph.getAdvanceFU();
                     left_glyph = null; // break kerning
                     continue;
                 } else if( glyph.isWhiteSpace() ) { // covers 'space' and all non-contour symbols
                     left_glyph = null; // break kerning
                 }
                 if( null != left_glyph ) {
-                    advanceTotal += left_glyph.getKerningFU(glyph_id);
+                    advanceTotal += left_glyph.getKerning(glyph_id);
+                    advanceTotalFU += left_glyph.getKerningFU(glyph_id);
                 }
+                temp1.setToIdentity();
                 temp1.translate(advanceTotal, y, temp2);
-                res.resize(temp1.transform(glyph.getBoundsFU(), temp_box));
+                emShapeBounds.resize(temp1.transform(glyphShape.getBounds(), temp_box));
+
+                temp1.setToIdentity();
+                temp1.translate(advanceTotalFU, yFU, temp2);
+                fuGlyphBounds.resize(temp1.transform(glyph.getBoundsFU(), temp_box));
 
-                advanceTotal += glyph.getAdvanceFU();
+                symbols[count] = character;
+                glyphs[count] = glyph;
+                emXY[count*2+0] = advanceTotal;
+                emXY[count*2+1] = y;
+                ++count;
+
+                advanceTotal += glyph.getAdvance();
+                advanceTotalFU += glyph.getAdvanceFU();
                 if( !glyph.isWhiteSpace() ) {
                     left_glyph = glyph;
                 }
             }
         }
-        return res;
+        if( 0 < metricAdvanceTotal ) {
+            // add one line for current non '\n' terminated
+            metricY -= lineHeightFU;
+            fuMetricBounds.resize(metricAdvanceTotal, metricY, 0f);
+        }
+        if( count < charCount ) {
+            // trim to the visited glyphs, e.g. w/o whitespace and newlines
+            run = new TypecastLayoutCache.Run(text, count, Arrays.copyOf(symbols, count), Arrays.copyOf(glyphs, count), Arrays.copyOf(emXY, count*2),
+                                              emShapeBounds, fuGlyphBounds, fuMetricBounds);
+        } else {
+            run = new TypecastLayoutCache.Run(text, count, symbols, glyphs, emXY, emShapeBounds, fuGlyphBounds, fuMetricBounds);
+        }
+        layoutCache.put(run);
+        return run;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default is {@value TypecastLayoutCache#DEFAULT_MAX_RUNS} runs and {@value TypecastLayoutCache#DEFAULT_MAX_CHARS} characters.
+     * </p>
+     */
+    @Override
+    public void setLayoutCacheLimits(final int maxRuns, final int maxChars) {
+        layoutCache.setLimits(maxRuns, maxChars);
+    }
+
+    @Override
+    public int getLayoutCacheRunCount() { return layoutCache.getRunCount(); }
+
+    @Override
+    public int getLayoutCacheCharCount() { return layoutCache.getCharCount(); }
+
+    @Override
+    public long getLayoutCacheHitCount() { return layoutCache.getHitCount(); }
+
+    @Override
+    public long getLayoutCacheMissCount() { return layoutCache.getMissCount(); }
+
+    @Override
+    public AABBox getMetricBounds(final CharSequence string) {
+        return getMetricBoundsFU(string).scale2(1.0f/metrics.getUnitsPerEM());
+    }
+
+    @Override
+    public AABBox getMetricBoundsFU(final CharSequence string) {
+        if (null == string || 0 == string.length() ) {
+            return new AABBox();
+        }
+        return new AABBox( getRun(string).fuMetricBounds );
+    }
+
+    @Override
+    public AABBox getGlyphBounds(final CharSequence string) {
+        return getGlyphBounds(string, new AABBox());
+    }
+    @Override
+    public AABBox getGlyphBounds(final CharSequence string, final AffineTransform tmp1, final AffineTransform tmp2) {
+        return getGlyphBounds(string, new AABBox());
+    }
+    @Override
+    public AABBox getGlyphBounds(final CharSequence string, final AABBox dest) {
+        return getGlyphBoundsFU(string, dest).scale2(1.0f/metrics.getUnitsPerEM());
+    }
+
+    @Override
+    public AABBox getGlyphBoundsFU(final CharSequence string) {
+        return getGlyphBoundsFU(string, new AABBox());
+    }
+    @Override
+    public AABBox getGlyphBoundsFU(final CharSequence string, final AffineTransform temp1, final AffineTransform temp2) {
+        return getGlyphBoundsFU(string, new AABBox());
+    }
+    @Override
+    public AABBox getGlyphBoundsFU(final CharSequence string, final AABBox dest) {
+        if (null == string || 0 == string.length() ) {
+            return dest.reset();
+        }
+        return dest.copy( getRun(string).fuGlyphBounds );
     }
 
     @Override
@@ -373,12 +476,10 @@ class TypecastFont implements Font {
         if (null == string || 0 == string.length() ) {
             return new AABBox();
         }
-        final Font.GlyphVisitor visitor = new Font.GlyphVisitor() {
-            @Override
-            public final void visit(final char symbol, final Font.Glyph shape, final AffineTransform t) {
-                // nop
-            } };
-        return processString(visitor, transform, string, temp1, temp2);
+        if( null == transform ) {
+            return new AABBox( getRun(string).emShapeBounds );
+        }
+        return processString(nopVisitor, transform, string, temp1, temp2);
     }
 
     @Override
@@ -394,53 +495,26 @@ class TypecastFont implements Font {
         if (null == string || 0 == string.length() ) {
             return new AABBox();
         }
+        final TypecastLayoutCache.Run run = getRun(string);
         final AABBox res = new AABBox();
-        final int charCount = string.length();
-
-        // region.setFlipped(true);
-        final float lineHeight = getLineHeight();
-
-        float y = 0;
-        float advanceTotal = 0;
-        Font.Glyph left_glyph = null;
-        final AABBox temp_box = new AABBox();
-
-        for(int i=0; i< charCount; i++) {
-            final char character = string.charAt(i);
-            if( '\n' == character ) {
-                y -= lineHeight;
-                advanceTotal = 0;
-                left_glyph = null;
+        if( null == transform ) {
+            // identity transform: cached bounds are exact
+            res.copy(run.emShapeBounds);
+        }
+        final AABBox temp_box = null != transform ? new AABBox() : null;
+        for(int i=0; i< run.count; i++) {
+            // reset transform
+            if( null != transform ) {
+                temp1.setTransform(transform);
             } else {
-                // reset transform
-                if( null != transform ) {
-                    temp1.setTransform(transform);
-                } else {
-                    temp1.setToIdentity();
-                }
-                final int glyph_id = getGlyphID(character);
-
-                final Font.Glyph glyph = getGlyph(glyph_id);
-                final OutlineShape glyphShape = glyph.getShape();
-
-                if( null == glyphShape ) { // also covers 'space' and all non-contour symbols
-                    advanceTotal += glyph.getAdvance();
-                    left_glyph = null; // break kerning
-                    continue;
-                } else if( glyph.isWhiteSpace() ) { // covers 'space' and all non-contour symbols
-                    left_glyph = null; // break kerning
-                }
-                if( null != left_glyph ) {
-                    advanceTotal += left_glyph.getKerning(glyph_id);
-                }
-                temp1.translate(advanceTotal, y, temp2);
-                res.resize(temp1.transform(glyphShape.getBounds(), temp_box));
-                visitor.visit(character, glyph, temp1);
-                advanceTotal += glyph.getAdvance();
-                if( !glyph.isWhiteSpace() ) {
-                    left_glyph = glyph;
-                }
+                temp1.setToIdentity();
+            }
+            final Font.Glyph glyph = run.glyphs[i];
+            temp1.translate(run.emXY[i*2+0], run.emXY[i*2+1], temp2);
+            if( null != transform ) {
+                res.resize(temp1.transform(glyph.getShape().getBounds(), temp_box));
             }
+            visitor.visit(run.symbols[i], glyph, temp1);
         }
         return res;
     }
@@ -450,16 +524,9 @@ class TypecastFont implements Font {
         if (null == string || 0 == string.length() ) {
             return;
         }
-        final int charCount = string.length();
-
-        for(int i=0; i< charCount; i++) {
-            final char character = string.charAt(i);
-            if( '\n' != character ) {
-                final Glyph glyph = getGlyph(getGlyphID(character));
-                if( null != glyph.getShape() ) { // also covers 'space' and all non-contour symbols
-                    visitor.visit(character, glyph);
-                }
-            }
+        final TypecastLayoutCache.Run run = getRun(string);
+        for(int i=0; i< run.count; i++) {
+            visitor.visit(run.symbols[i], run.glyphs[i]);
         }
     }
 
@@ -43,6 +43,11 @@ public class TypecastFontConstructor implements FontConstructor  {
         return new TypecastFont( new OTFontCollection(ffile) );
     }
 
+    @Override
+    public Font create(final File ffile, final boolean lazy) throws IOException {
+        return new TypecastFont( new OTFontCollection(ffile, lazy) );
+    }
+
     @Override
     public Font create(final InputStream istream, final int streamLen) throws IOException {
         return new TypecastFont( new OTFontCollection(istream, streamLen) );
@@ -31,8 +31,6 @@ import com.jogamp.graph.curve.OutlineShape;
 import com.jogamp.graph.font.Font;
 import com.jogamp.opengl.math.geom.AABBox;
 
-import jogamp.graph.font.typecast.ot.table.KernSubtable;
-import jogamp.graph.font.typecast.ot.table.KerningPair;
 import jogamp.graph.font.typecast.ot.table.PostTable;
 
 public final class TypecastGlyph implements Font.Glyph {
@@ -40,30 +38,6 @@ public final class TypecastGlyph implements Font.Glyph {
     public static final short INVALID_ID    = (short)((1 << 16) - 1);
     public static final short MAX_ID        = (short)((1 << 16) - 2);
 
-    private static int[][] growPairArray(final int[][] src) {
-        final int length = src.length;
-        final int new_length = length * 2;
-        final int[/*right_glyphid*/][/*value*/] dst = new int[new_length][2];
-        for (int i = 0; i < length; i++) {
-            dst[i][0] = src[i][0];
-            dst[i][1] = src[i][1];
-        }
-        return dst;
-    }
-
-    private static int[][] trimPairArray(final int[][] src, final int new_length) {
-        final int length = src.length;
-        if( new_length >= length ) {
-            return src;
-        }
-        final int[/*right_glyphid*/][/*value*/] dst = new int[new_length][2];
-        for (int i = 0; i < new_length; i++) {
-            dst[i][0] = src[i][0];
-            dst[i][1] = src[i][1];
-        }
-        return dst;
-    }
-
     private final int id;
     private final String name;
     private final boolean isWhiteSpace;
@@ -73,9 +47,7 @@ public final class TypecastGlyph implements Font.Glyph {
     private final int advance; // in font-units
     private final int leftSideBearings; // in font-units
 
-    private final int[/*right_glyphid*/][/*value*/] kerning;
-    private final boolean kerning_horizontal;
-    private final boolean kerning_crossstream;
+    private final TypecastKerning kerning;
     private final OutlineShape shape; // in EM units
 
     /**
@@ -86,11 +58,12 @@ public final class TypecastGlyph implements Font.Glyph {
      * @param bbox in font-units
      * @param advance from hmtx in font-units
      * @param leftSideBearings from hmtx in font-units
+     * @param kerning font wide kerning index
      * @param shape
      */
     protected TypecastGlyph(final TypecastFont font, final int id, final String name,
                             final AABBox bbox, final int advance, final int leftSideBearings,
-                            final KernSubtable kernSub, final OutlineShape shape, final boolean isWhiteSpace) {
+                            final TypecastKerning kerning, final OutlineShape shape, final boolean isWhiteSpace) {
         this.id = id;
         this.name = name;
         this.isWhiteSpace = isWhiteSpace;
@@ -98,32 +71,7 @@ public final class TypecastGlyph implements Font.Glyph {
         this.bbox = bbox;
         this.advance = advance;
         this.leftSideBearings = leftSideBearings;
-        if( null != kernSub && kernSub.areKerningValues() ) {
-            int pair_sz = 64;
-            int pair_idx = 0;
-            int[/*right_glyphid*/][/*value*/] pairs = new int[pair_sz][2];
-            for (int i = 0; i < kernSub.getKerningPairCount(); i++) {
-                final KerningPair kpair = kernSub.getKerningPair(i);
-                if( kpair.getLeft() == id ) {
-                    if( pair_idx == pair_sz ) {
-                        pairs = growPairArray(pairs);
-                        pair_sz = pairs.length;
-                    }
-                    pairs[pair_idx][0] = kpair.getRight();
-                    pairs[pair_idx][1] = kpair.getValue();
-                    ++pair_idx;
-                } else if( kpair.getLeft() > id ) {
-                    break; // early out
-                }
-            }
-            this.kerning = trimPairArray(pairs, pair_idx);
-            this.kerning_horizontal = kernSub.isHorizontal();
-            this.kerning_crossstream = kernSub.isCrossstream();
-        } else {
-            this.kerning = new int[0][0];
-            this.kerning_horizontal = true;
-            this.kerning_crossstream = true;
-        }
+        this.kerning = kerning;
         this.shape = shape;
     }
 
@@ -174,31 +122,17 @@ public final class TypecastGlyph implements Font.Glyph {
     public final float getLeftSideBearings() { return font.getMetrics().getScale( leftSideBearings ); }
 
     @Override
-    public final boolean isKerningHorizontal() { return kerning_horizontal; }
+    public final boolean isKerningHorizontal() { return kerning.isHorizontal(); }
 
     @Override
-    public final boolean isKerningCrossstream() { return kerning_crossstream; }
+    public final boolean isKerningCrossstream() { return kerning.isCrossstream(); }
 
     @Override
-    public final int getKerningPairCount() { return kerning.length; }
+    public final int getKerningPairCount() { return kerning.getPairCount(id); }
 
     @Override
     public final int getKerningFU(final int right_glyphid) {
-        // binary search in ordered kerning table
-        int l = 0;
-        int h = kerning.length-1;
-        while( l <= h ) {
-            final int i = ( l + h ) / 2;
-            final int k_right = kerning[i][0];
-            if ( k_right < right_glyphid ) {
-                l = i + 1;
-            } else if ( k_right > right_glyphid ) {
-                h = i - 1;
-            } else {
-                return kerning[i][1];
-            }
-        }
-        return 0;
+        return kerning.getKerningFU(id, right_glyphid);
     }
 
     @Override
@@ -236,7 +170,7 @@ public final class TypecastGlyph implements Font.Glyph {
         sb.append("Glyph[id ").append(id).append(" '").append(name).append("'").append(ws_s)
           .append(", advance ").append(getAdvanceFU())
           .append(", leftSideBearings ").append(getLeftSideBearingsFU())
-          .append(", kerning[size ").append(kerning.length).append(", horiz ").append(this.isKerningHorizontal()).append(", cross ").append(this.isKerningCrossstream()).append("]")
+          .append(", kerning[size ").append(getKerningPairCount()).append(", horiz ").append(this.isKerningHorizontal()).append(", cross ").append(this.isKerningCrossstream()).append("]")
           .append(", shape ").append(null != shape).append("]");
         return sb.toString();
     }
@@ -251,11 +185,12 @@ public final class TypecastGlyph implements Font.Glyph {
           .append(", leftSideBearings ").append(getLeftSideBearingsFU())
           .append(", ").append(getBoundsFU());
 
-        sb.append("\n    Kerning: size ").append(kerning.length).append(", horiz ").append(this.isKerningHorizontal()).append(", cross ").append(this.isKerningCrossstream());
+        sb.append("\n    Kerning: size ").append(getKerningPairCount()).append(", horiz ").append(this.isKerningHorizontal()).append(", cross ").append(this.isKerningCrossstream());
         final int left = getID();
-        for (int i = 0; i < kerning.length; i++) {
-            final int right = kerning[i][0];
-            final int value = kerning[i][1];
+        final int[][] pairs = kerning.getPairs(left);
+        for (int i = 0; i < pairs.length; i++) {
+            final int right = pairs[i][0];
+            final int value = pairs[i][1];
             final String leftS;
             final String rightS;
             if( null == post ) {
@@ -0,0 +1,441 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import jogamp.graph.font.typecast.ot.table.ClassDef;
+import jogamp.graph.font.typecast.ot.table.Coverage;
+import jogamp.graph.font.typecast.ot.table.GposTable;
+import jogamp.graph.font.typecast.ot.table.KernSubtable;
+import jogamp.graph.font.typecast.ot.table.KernTable;
+import jogamp.graph.font.typecast.ot.table.KerningPair;
+import jogamp.graph.font.typecast.ot.table.PairPos;
+import jogamp.graph.font.typecast.ot.table.PairPosFormat1;
+import jogamp.graph.font.typecast.ot.table.PairPosFormat2;
+
+/**
+ * Font wide kerning index, built once per font.
+ * <p>
+ * Individual glyph pairs of the legacy 'kern' format 0 table or of GPOS {@link PairPosFormat1}
+ * are stored in a primitive open-addressing map keyed by {@code left << 16 | right}.
+ * Class based GPOS {@link PairPosFormat2} subtables are flattened into per glyph class arrays,
+ * sized to the glyph range of their right classes.
+ * Hence {@link #getKerningFU(int, int)} costs one map probe plus one array lookup per class based GPOS lookup,
+ * without any per glyph pair arrays.
+ * </p>
+ * <p>
+ * If the font has GPOS pair adjustments, the legacy 'kern' table is ignored as done by common shaping engines.
+ * The adjustments of all GPOS 'kern' lookups accumulate, while within one lookup
+ * individual pairs take precedence over class based values and the first subtable covering the left glyph wins.
+ * </p>
+ */
+final class TypecastKerning {
+    /** Maximum number of class based lookups whose value can be overridden by individual pairs of the same lookup */
+    private static final int MAX_MASKED_LOOKUPS = 16;
+
+    /** Class based subtable, flattened per glyph */
+    private static final class ClassTable {
+        /** First glyph ID with a non-zero right class */
+        final int class2First;
+        /** Right glyph class, indexed by glyph ID - {@link #class2First}, sized to the glyphs with a non-zero class */
+        final short[] class2;
+        final int class2Count;
+        /** Left advance adjustment at [class1 * class2Count + class2] */
+        final short[] values;
+
+        ClassTable(final PairPosFormat2 pp, final int numGlyphs) {
+            final ClassDef cd2 = pp.getClassDef2();
+            int first = numGlyphs, last = -1;
+            if( null != cd2 ) {
+                for(int g=0; g<numGlyphs; ++g) {
+                    if( 0 != cd2.getGlyphClass(g) ) {
+                        if( g < first ) {
+                            first = g;
+                        }
+                        last = g;
+                    }
+                }
+            }
+            if( first <= last ) {
+                class2First = first;
+                class2 = new short[last - first + 1];
+                for(int g=first; g<=last; ++g) {
+                    class2[g - first] = (short) cd2.getGlyphClass(g);
+                }
+            } else {
+                class2First = 0;
+                class2 = new short[0];
+            }
+            class2Count = pp.getClass2Count();
+            values = new short[pp.getClass1Count() * class2Count];
+            for(int c1=0; c1<pp.getClass1Count(); ++c1) {
+                for(int c2=0; c2<class2Count; ++c2) {
+                    values[c1 * class2Count + c2] = (short) pp.getClassXAdvance(c1, c2);
+                }
+            }
+        }
+        int get(final int class1, final int right) {
+            final int j = right - class2First;
+            final int c2 = 0 <= j && j < class2.length ? class2[j] & 0xffff : 0;
+            final int i = class1 * class2Count + c2;
+            if( c2 >= class2Count || i >= values.length ) {
+                return 0;
+            }
+            return values[i];
+        }
+        int getNonZeroCount(final int class1) {
+            int n = 0;
+            for(int c2=0; c2<class2Count; ++c2) {
+                final int i = class1 * class2Count + c2;
+                if( i < values.length && 0 != values[i] ) {
+                    ++n;
+                }
+            }
+            return n;
+        }
+    }
+
+    /** Class based subtables of one lookup */
+    private static final class ClassLookup {
+        final ClassTable[] tables;
+        /** Per left glyph {@code (tableIndex+1) << 16 | class1} of the first covering table, zero if not covered */
+        final int[] left;
+
+        ClassLookup(final ClassTable[] tables, final int[] left) {
+            this.tables = tables;
+            this.left = left;
+        }
+        int get(final int leftGlyph, final int right) {
+            final int lc = left[leftGlyph];
+            return 0 != lc ? tables[ ( lc >>> 16 ) - 1 ].get(lc & 0xffff, right) : 0;
+        }
+        int getNonZeroCount(final int leftGlyph) {
+            final int lc = left[leftGlyph];
+            return 0 != lc ? tables[ ( lc >>> 16 ) - 1 ].getNonZeroCount(lc & 0xffff) : 0;
+        }
+    }
+
+    /**
+     * Open-addressing int to int map with linear probing,
+     * using {@link #EMPTY} as the unused key, i.e. the invalid glyph pair {@code 0xffff, 0xffff}.
+     */
+    static final class PairMap {
+        static final int EMPTY = -1;
+        private int[] keys;
+        private int[] values;
+        private int size;
+        private int shift;
+
+        PairMap(final int expectedSize) {
+            int cap = 16;
+            while( cap < expectedSize * 2 ) {
+                cap <<= 1;
+            }
+            alloc(cap);
+        }
+        private void alloc(final int cap) {
+            keys = new int[cap];
+            values = new int[cap];
+            Arrays.fill(keys, EMPTY);
+            shift = 32 - Integer.numberOfTrailingZeros(cap);
+            size = 0;
+        }
+        private int index(final int key) {
+            return ( key * 0x9E3779B9 ) >>> shift;
+        }
+        int size() { return size; }
+
+        /** Returns the slot capacity, see {@link #keyAt(int)}. */
+        int capacity() { return keys.length; }
+
+        /** Returns the key at the given slot or {@link #EMPTY}. */
+        int keyAt(final int slot) { return keys[slot]; }
+
+        int valueAt(final int slot) { return values[slot]; }
+
+        /** Maps the key to the value, replacing a previous value. */
+        void put(final int key, final int value) {
+            if( EMPTY == key ) {
+                return;
+            }
+            if( ( size + 1 ) * 2 > keys.length ) {
+                final int[] oldKeys = keys;
+                final int[] oldValues = values;
+                alloc(keys.length * 2);
+                for(int i=0; i<oldKeys.length; ++i) {
+                    if( EMPTY != oldKeys[i] ) {
+                        put(oldKeys[i], oldValues[i]);
+                    }
+                }
+            }
+            final int mask = keys.length - 1;
+            int i = index(key);
+            int k;
+            while( EMPTY != ( k = keys[i] ) ) {
+                if( key == k ) {
+                    values[i] = value;
+                    return;
+                }
+                i = ( i + 1 ) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            ++size;
+        }
+
+        /** Returns the slot of the given key, see {@link #valueAt(int)}, or -1 if not mapped. */
+        int slotOf(final int key) {
+            if( EMPTY == key ) {
+                return -1;
+            }
+            final int mask = keys.length - 1;
+            int i = index(key);
+            int k;
+            while( EMPTY != ( k = keys[i] ) ) {
+                if( key == k ) {
+                    return i;
+                }
+                i = ( i + 1 ) & mask;
+            }
+            return -1;
+        }
+
+        boolean contains(final int key) { return 0 <= slotOf(key); }
+
+    }
+
+    private final int numGlyphs;
+    /**
+     * Individual pairs, value {@code mask << 16 | (sum & 0xffff)} with the summed individual adjustments
+     * and the bit mask of {@link #classLookups} overridden by an individual pair of the same lookup.
+     */
+    private final PairMap pairs;
+    /** Per left glyph number of individual pairs, {@code null} if none */
+    private final char[] pairCounts;
+    private final ClassLookup[] classLookups;
+    private final boolean horizontal;
+    private final boolean crossstream;
+    private final boolean fromGpos;
+
+    /**
+     * @param kern legacy 'kern' table, may be {@code null}
+     * @param gpos GPOS table, may be {@code null}
+     * @param numGlyphs number of glyphs of the font
+     */
+    TypecastKerning(final KernTable kern, final GposTable gpos, final int numGlyphs) {
+        this.numGlyphs = numGlyphs;
+        final ArrayList<PairPos[]> lookups = null != gpos ? gpos.getKerningLookups() : new ArrayList<PairPos[]>();
+        if( 0 < lookups.size() ) {
+            int expected = 0;
+            for(final PairPos[] lookup : lookups) {
+                for(final PairPos pp : lookup) {
+                    if( pp instanceof PairPosFormat1 ) {
+                        final PairPosFormat1 pp1 = (PairPosFormat1)pp;
+                        for(int s=0; s<pp1.getPairSetCount(); ++s) {
+                            expected += pp1.getPairCount(s);
+                        }
+                    }
+                }
+            }
+            pairs = new PairMap(expected);
+            pairCounts = 0 < expected ? new char[numGlyphs] : null;
+            final ArrayList<ClassLookup> clookups = new ArrayList<ClassLookup>();
+            final ArrayList<ClassTable> ctables = new ArrayList<ClassTable>();
+            for(final PairPos[] lookup : lookups) {
+                final PairMap lookupPairs = new PairMap(0);
+                int[] left = null;
+                ctables.clear();
+                for(final PairPos pp : lookup) {
+                    final Coverage cov = pp.getCoverage();
+                    if( null == cov ) {
+                        continue;
+                    }
+                    final int[] covered = cov.getGlyphIds();
+                    if( pp instanceof PairPosFormat1 ) {
+                        final PairPosFormat1 pp1 = (PairPosFormat1)pp;
+                        for(int s=0; s<covered.length && s<pp1.getPairSetCount(); ++s) {
+                            final int l = covered[s];
+                            for(int j=0; j<pp1.getPairCount(s); ++j) {
+                                final int r = pp1.getSecondGlyph(s, j);
+                                if( isValid(l, r) && !lookupPairs.contains(l << 16 | r) ) {
+                                    lookupPairs.put(l << 16 | r, pp1.getPairXAdvance(s, j));
+                                }
+                            }
+                        }
+                    } else if( pp instanceof PairPosFormat2 ) {
+                        final PairPosFormat2 pp2 = (PairPosFormat2)pp;
+                        if( null == left ) {
+                            left = new int[numGlyphs];
+                        }
+                        final ClassDef cd1 = pp2.getClassDef1();
+                        final int tableTag = ( ctables.size() + 1 ) << 16;
+                        for(final int l : covered) {
+                            if( 0 <= l && l < numGlyphs && 0 == left[l] ) {
+                                left[l] = tableTag | ( null != cd1 ? cd1.getGlyphClass(l) & 0xffff : 0 );
+                            }
+                        }
+                        ctables.add(new ClassTable(pp2, numGlyphs));
+                    }
+                }
+                final int maskBit;
+                if( null != left ) {
+                    maskBit = clookups.size() < MAX_MASKED_LOOKUPS ? 1 << clookups.size() : 0;
+                    clookups.add(new ClassLookup(ctables.toArray(new ClassTable[ctables.size()]), left));
+                } else {
+                    maskBit = 0;
+                }
+                // accumulate this lookup's individual pairs
+                for(int i=0; i<lookupPairs.capacity(); ++i) {
+                    final int key = lookupPairs.keyAt(i);
+                    if( PairMap.EMPTY != key ) {
+                        final int slot = pairs.slotOf(key);
+                        if( 0 > slot ) {
+                            pairs.put(key, maskBit << 16 | ( lookupPairs.valueAt(i) & 0xffff ));
+                            pairCounts[key >>> 16]++;
+                        } else {
+                            final int e = pairs.valueAt(slot);
+                            final int sum = (short)e + lookupPairs.valueAt(i);
+                            pairs.put(key, ( ( e >>> 16 ) | maskBit ) << 16 | ( sum & 0xffff ));
+                        }
+                    }
+                }
+            }
+            classLookups = clookups.toArray(new ClassLookup[clookups.size()]);
+            horizontal = true;
+            crossstream = false;
+            fromGpos = true;
+        } else {
+            final KernSubtable kernSub = null != kern ? kern.getSubtable0() : null;
+            if( null != kernSub && kernSub.areKerningValues() ) {
+                final int count = kernSub.getKerningPairCount();
+                pairs = new PairMap(count);
+                pairCounts = 0 < count ? new char[numGlyphs] : null;
+                for (int i = 0; i < count; i++) {
+                    final KerningPair kpair = kernSub.getKerningPair(i);
+                    final int l = kpair.getLeft();
+                    final int r = kpair.getRight();
+                    if( isValid(l, r) && !pairs.contains(l << 16 | r) ) {
+                        pairs.put(l << 16 | r, kpair.getValue() & 0xffff);
+                        pairCounts[l]++;
+                    }
+                }
+                horizontal = kernSub.isHorizontal();
+                crossstream = kernSub.isCrossstream();
+            } else {
+                pairs = new PairMap(0);
+                pairCounts = null;
+                horizontal = true;
+                crossstream = true;
+            }
+            classLookups = new ClassLookup[0];
+            fromGpos = false;
+        }
+    }
+
+    private boolean isValid(final int left, final int right) {
+        return 0 <= left && left < numGlyphs && 0 <= right && right < numGlyphs;
+    }
+
+    /** Returns the kerning value of the given glyph pair in font-units, zero if none. */
+    int getKerningFU(final int left, final int right) {
+        if( !isValid(left, right) ) {
+            return 0;
+        }
+        final int slot = pairs.slotOf(left << 16 | right);
+        int value;
+        int mask;
+        if( 0 <= slot ) {
+            final int e = pairs.valueAt(slot);
+            value = (short)e;
+            mask = e >>> 16;
+        } else {
+            value = 0;
+            mask = 0;
+        }
+        for(int i=0; i<classLookups.length; ++i) {
+            if( 0 == ( mask & ( 1 << i ) ) || i >= MAX_MASKED_LOOKUPS ) {
+                value += classLookups[i].get(left, right);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of kerning pairs with the given left glyph,
+     * i.e. individual pairs plus non-zero right classes of class based kerning.
+     */
+    int getPairCount(final int left) {
+        if( 0 > left || left >= numGlyphs ) {
+            return 0;
+        }
+        int n = null != pairCounts ? pairCounts[left] : 0;
+        for(int i=0; i<classLookups.length; ++i) {
+            n += classLookups[i].getNonZeroCount(left);
+        }
+        return n;
+    }
+
+    /**
+     * Returns the individual pairs with the given left glyph as {@code [right glyph ID, value]} ordered by right glyph ID,
+     * excluding pairs only covered by class based kerning. Intended for debugging only, as it probes all right glyphs.
+     */
+    int[][] getPairs(final int left) {
+        final int n = null != pairCounts && 0 <= left && left < numGlyphs ? pairCounts[left] : 0;
+        final int[][] res = new int[n][2];
+        int j = 0;
+        for(int right=0; right<numGlyphs && j<n; ++right) {
+            if( pairs.contains(left << 16 | right) ) {
+                res[j][0] = right;
+                res[j][1] = getKerningFU(left, right);
+                ++j;
+            }
+        }
+        return res;
+    }
+
+    boolean isHorizontal() { return horizontal; }
+
+    boolean isCrossstream() { return crossstream; }
+
+    /** Returns {@code true} if kerning is taken from GPOS pair adjustments, otherwise from the legacy 'kern' table. */
+    boolean isGpos() { return fromGpos; }
+
+    /** Returns the number of individual pairs. */
+    int getIndividualPairCount() { return pairs.size(); }
+
+    /** Returns the number of class based lookups. */
+    int getClassLookupCount() { return classLookups.length; }
+
+    @Override
+    public String toString() {
+        return "Kerning[gpos "+fromGpos+", pairs "+pairs.size()+", class-lookups "+classLookups.length+
+               ", horiz "+horizontal+", cross "+crossstream+"]";
+    }
+}
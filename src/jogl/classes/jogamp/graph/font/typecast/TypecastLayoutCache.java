@@ -0,0 +1,153 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.jogamp.graph.font.Font;
+import com.jogamp.opengl.math.geom.AABBox;
+
+/**
+ * Size bounded LRU cache of laid out text runs of one font.
+ * <p>
+ * A {@link Run} is size independent, as glyphs are laid out in font em-size and font-units,
+ * while the size is applied by the caller's transform.
+ * </p>
+ */
+final class TypecastLayoutCache {
+    /** Default maximum number of cached runs, {@value}. */
+    static final int DEFAULT_MAX_RUNS = 512;
+    /** Default maximum number of characters of all cached runs, {@value}. */
+    static final int DEFAULT_MAX_CHARS = 64 * 1024;
+
+    /**
+     * Laid out text run holding each glyph having an {@link Font.Glyph#getShape() OutlineShape}
+     * and the run's bounds.
+     */
+    static final class Run {
+        final String text;
+        /** Number of visited glyphs, i.e. those having an {@link Font.Glyph#getShape() OutlineShape}, the length of {@link #symbols} and {@link #glyphs}. */
+        final int count;
+        final char[] symbols;
+        final Font.Glyph[] glyphs;
+        /** Kerned glyph origins in font em-size, x/y interleaved. */
+        final float[] emXY;
+        /** Union of all translated glyph shape bounds in font em-size, see {@link Font#processString(Font.GlyphVisitor, com.jogamp.graph.geom.plane.AffineTransform, CharSequence)}. */
+        final AABBox emShapeBounds;
+        /** See {@link Font#getGlyphBoundsFU(CharSequence)}. */
+        final AABBox fuGlyphBounds;
+        /** See {@link Font#getMetricBoundsFU(CharSequence)}. */
+        final AABBox fuMetricBounds;
+
+        Run(final String text, final int count, final char[] symbols, final Font.Glyph[] glyphs, final float[] emXY,
+            final AABBox emShapeBounds, final AABBox fuGlyphBounds, final AABBox fuMetricBounds) {
+            this.text = text;
+            this.count = count;
+            this.symbols = symbols;
+            this.glyphs = glyphs;
+            this.emXY = emXY;
+            this.emShapeBounds = emShapeBounds;
+            this.fuGlyphBounds = fuGlyphBounds;
+            this.fuMetricBounds = fuMetricBounds;
+        }
+    }
+
+    private final LinkedHashMap<String, Run> runs = new LinkedHashMap<String, Run>(64, 0.75f, true /* accessOrder */);
+    private int maxRuns = DEFAULT_MAX_RUNS;
+    private int maxChars = DEFAULT_MAX_CHARS;
+    private int charCount = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /** Returns the cached run of the given text, or {@code null}. */
+    synchronized Run get(final String text) {
+        final Run r = runs.get(text);
+        if( null != r ) {
+            ++hitCount;
+        } else {
+            ++missCount;
+        }
+        return r;
+    }
+
+    /**
+     * Caches the given run, evicting the least recently used runs beyond the limits.
+     * Runs are weighted by their text's character count, bounding the key and all per glyph arrays.
+     * Runs exceeding a quarter of the character limit are not cached.
+     */
+    synchronized void put(final Run r) {
+        final int chars = r.text.length();
+        if( 0 >= maxRuns || chars > maxChars / 4 ) {
+            return;
+        }
+        final Run old = runs.put(r.text, r);
+        if( null != old ) {
+            charCount -= old.text.length();
+        }
+        charCount += chars;
+        trim();
+    }
+
+    private void trim() {
+        final Iterator<Map.Entry<String, Run>> it = runs.entrySet().iterator();
+        while( ( runs.size() > maxRuns || charCount > maxChars ) && it.hasNext() ) {
+            charCount -= it.next().getValue().text.length();
+            it.remove();
+        }
+    }
+
+    /**
+     * Sets the cache limits, zero {@code maxRuns} disables the cache.
+     * @param maxRuns maximum number of cached runs
+     * @param maxChars maximum number of characters of all cached runs
+     */
+    synchronized void setLimits(final int maxRuns, final int maxChars) {
+        this.maxRuns = Math.max(0, maxRuns);
+        this.maxChars = Math.max(0, maxChars);
+        trim();
+    }
+
+    synchronized int getMaxRuns() { return maxRuns; }
+
+    synchronized int getMaxChars() { return maxChars; }
+
+    synchronized int getRunCount() { return runs.size(); }
+
+    synchronized int getCharCount() { return charCount; }
+
+    synchronized long getHitCount() { return hitCount; }
+
+    synchronized long getMissCount() { return missCount; }
+
+    @Override
+    public synchronized String toString() {
+        return "LayoutCache[runs "+runs.size()+"/"+maxRuns+", chars "+charCount+"/"+maxChars+", hits "+hitCount+", misses "+missCount+"]";
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast.ot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Read-only memory mapping of font files, shared across all fonts of the same file.
+ * <p>
+ * A mapping is keyed by the canonical path, length and modification time of the file
+ * and is held weakly, i.e. it stays alive as long as one {@link TTFont} created from it is reachable.
+ * Loading the same file again while the mapping is alive reuses it.
+ * </p>
+ */
+public final class MappedFontFile {
+    private static final Map<String, WeakReference<ByteBuffer>> mappings = new HashMap<String, WeakReference<ByteBuffer>>();
+    private static long mapCount = 0;
+
+    private MappedFontFile() {}
+
+    /**
+     * Returns the shared read-only mapping of the given file, creating it if required.
+     * <p>
+     * The returned buffer is a {@link ByteBuffer#duplicate() duplicate} at position zero,
+     * which the caller may use freely.
+     * </p>
+     * @param file the font file
+     * @throws IOException if the file does not exist or cannot be mapped
+     */
+    public static ByteBuffer map(final File file) throws IOException {
+        if (!file.exists()) {
+            throw new IOException("File <"+file.getName()+"> doesn't exist.");
+        }
+        final String key = file.getCanonicalPath()+"#"+file.length()+"#"+file.lastModified();
+        synchronized( mappings ) {
+            final WeakReference<ByteBuffer> ref = mappings.get(key);
+            ByteBuffer buffer = null != ref ? ref.get() : null;
+            if( null == buffer ) {
+                pruneImpl();
+                final RandomAccessFile raf = new RandomAccessFile(file, "r");
+                try {
+                    final FileChannel chan = raf.getChannel();
+                    buffer = chan.map(FileChannel.MapMode.READ_ONLY, 0, chan.size());
+                } finally {
+                    raf.close();
+                }
+                mappings.put(key, new WeakReference<ByteBuffer>(buffer));
+                mapCount++;
+            }
+            return buffer.duplicate();
+        }
+    }
+
+    /** Returns the number of mappings currently alive. */
+    public static int getLiveMappingCount() {
+        synchronized( mappings ) {
+            pruneImpl();
+            return mappings.size();
+        }
+    }
+
+    /** Returns the number of mappings created so far. */
+    public static long getMapCount() {
+        synchronized( mappings ) {
+            return mapCount;
+        }
+    }
+
+    private static void pruneImpl() {
+        final Iterator<WeakReference<ByteBuffer>> it = mappings.values().iterator();
+        while( it.hasNext() ) {
+            if( null == it.next().get() ) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns a read-only slice of {@code length} bytes at {@code offset} of the given buffer,
+     * leaving the given buffer's position and limit untouched.
+     */
+    public static ByteBuffer slice(final ByteBuffer buffer, final int offset, final int length) {
+        final ByteBuffer d = buffer.duplicate();
+        d.limit(offset + length);
+        d.position(offset);
+        return d.slice();
+    }
+
+    /**
+     * {@link InputStream} reading a {@link ByteBuffer} from its current position,
+     * supporting {@link #mark(int)} and {@link #reset()} without any copy.
+     * <p>
+     * The stream is marked at its start, hence {@link #reset()} rewinds to it until another mark is set.
+     * </p>
+     */
+    public static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+        private int mark;
+
+        /**
+         * @param buffer source buffer, a {@link ByteBuffer#duplicate() duplicate} is being used
+         */
+        public ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer.duplicate();
+            this.mark = this.buffer.position();
+        }
+
+        @Override
+        public int read() {
+            if( !buffer.hasRemaining() ) {
+                return -1;
+            }
+            return buffer.get() & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if( 0 == len ) {
+                return 0;
+            }
+            final int rem = buffer.remaining();
+            if( 0 == rem ) {
+                return -1;
+            }
+            final int n = Math.min(len, rem);
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) {
+            if( 0 >= n ) {
+                return 0;
+            }
+            final int s = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + s);
+            return s;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark(final int readlimit) {
+            mark = buffer.position();
+        }
+
+        @Override
+        public void reset() {
+            buffer.position(mark);
+        }
+    }
+}
@@ -24,6 +24,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+
 import jogamp.graph.font.typecast.ot.mac.ResourceHeader;
 import jogamp.graph.font.typecast.ot.mac.ResourceMap;
 import jogamp.graph.font.typecast.ot.mac.ResourceReference;
@@ -70,6 +72,20 @@ public class OTFontCollection {
         read(file);
     }
 
+    /**
+     * @param file The OpenType font file
+     * @param lazy if {@code true}, the file is {@link MappedFontFile#map(File) memory mapped} and shared
+     *             with all other lazy fonts of the same file, while glyph descriptions are decoded on first access,
+     *             see {@link TTFont#isLazy()}. Mac resource fork fonts are always read eagerly.
+     */
+    public OTFontCollection(final File file, final boolean lazy) throws IOException {
+        if( lazy && 0 < file.length() && !file.getName().endsWith(".dfont") ) {
+            readMapped(file);
+        } else {
+            read(file);
+        }
+    }
+
     /**
      * @param istream The OpenType font input stream
      * @param streamLen the length of the OpenType font segment in the stream
@@ -108,6 +124,28 @@ public class OTFontCollection {
         }
     }
 
+    /**
+     * @param file The OpenType font file, neither a Mac resource fork nor a '.dfont'
+     */
+    private void readMapped(final File file) throws IOException {
+        _pathName = file.getPath();
+        _fileName = file.getName();
+
+        final ByteBuffer buffer = MappedFontFile.map(file);
+        final DataInputStream dis = new DataInputStream(new MappedFontFile.ByteBufferInputStream(buffer));
+        if (TTCHeader.isTTC(dis)) {
+            dis.reset();
+            _ttcHeader = new TTCHeader(dis);
+            _fonts = new TTFont[_ttcHeader.getDirectoryCount()];
+            for (int i = 0; i < _ttcHeader.getDirectoryCount(); i++) {
+                _fonts[i] = new TTFont(buffer, _ttcHeader.getTableDirectory(i), 0);
+            }
+        } else {
+            _fonts = new TTFont[1];
+            _fonts[0] = new TTFont(buffer, 0, 0);
+        }
+    }
+
     /**
      * @param is The OpenType font stream
      * @param streamLen the length of the OpenType font segment in the stream
@@ -24,10 +24,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import jogamp.graph.font.typecast.ot.table.GaspTable;
 import jogamp.graph.font.typecast.ot.table.GlyfDescript;
 import jogamp.graph.font.typecast.ot.table.GlyfTable;
+import jogamp.graph.font.typecast.ot.table.GposTable;
 import jogamp.graph.font.typecast.ot.table.HdmxTable;
 import jogamp.graph.font.typecast.ot.table.KernTable;
 import jogamp.graph.font.typecast.ot.table.LocaTable;
@@ -38,10 +40,16 @@ import jogamp.graph.font.typecast.ot.table.VdmxTable;
 public class TTFont extends OTFont {
 
     private final GlyfTable _glyf;
+    /** Lazy mode source buffer of the whole font file, otherwise {@code null} */
+    private final ByteBuffer _buffer;
+    private final TableDirectory _tableDirectory;
+    private final int _tablesOrigin;
+    private volatile boolean _optionalTablesLoaded;
     private GaspTable _gasp;
     private KernTable _kern;
     private HdmxTable _hdmx;
     private VdmxTable _vdmx;
+    private GposTable _gpos;
 
     private static TableDirectory readTableDir(final DataInputStream dis, final int directoryOffset) throws IOException {
         // Load the table directory
@@ -63,6 +71,10 @@ public class TTFont extends OTFont {
         return new DataInputStream(bis);
     }
 
+    private static DataInputStream openStream(final ByteBuffer buffer) {
+        return new DataInputStream(new MappedFontFile.ByteBufferInputStream(buffer)); // marked at start
+    }
+
     private static DataInputStream openStream(final InputStream is, final int streamLen) throws IOException {
         final BufferedInputStream bis = new BufferedInputStream(is, streamLen);
         if( !bis.markSupported() ) {
@@ -104,6 +116,21 @@ public class TTFont extends OTFont {
         this(dis, readTableDir(dis, directoryOffset), tablesOrigin);
     }
 
+    /**
+     * Lazy constructor, see {@link #isLazy()}.
+     * @param buffer whole font data from position zero, usually a {@link MappedFontFile#map(java.io.File) shared mapping}, not copied
+     * @param directoryOffset
+     * @param tablesOrigin
+     * @throws IOException
+     */
+    public TTFont(final ByteBuffer buffer, final int directoryOffset, final int tablesOrigin) throws IOException {
+        this(openStream(buffer), buffer, directoryOffset, tablesOrigin);
+    }
+
+    private TTFont(final DataInputStream dis, final ByteBuffer buffer, final int directoryOffset, final int tablesOrigin) throws IOException {
+        this(dis, buffer, readTableDir(dis, directoryOffset), tablesOrigin);
+    }
+
     /**
      *
      * @param dis input stream marked at start with read-ahead set to known stream length
@@ -112,18 +139,39 @@ public class TTFont extends OTFont {
      * @throws IOException
      */
     TTFont(final DataInputStream dis, final TableDirectory tableDirectory, final int tablesOrigin) throws IOException {
+        this(dis, null, tableDirectory, tablesOrigin);
+    }
+
+    private TTFont(final DataInputStream dis, final ByteBuffer buffer, final TableDirectory tableDirectory, final int tablesOrigin) throws IOException {
         super(dis, tableDirectory, tablesOrigin);
+        _buffer = buffer;
+        _tableDirectory = tableDirectory;
+        _tablesOrigin = tablesOrigin;
 
         // 'loca' is required by 'glyf'
-        int length = seekTable(tableDirectory, dis, tablesOrigin, Table.loca);
+        final int length = seekTable(tableDirectory, dis, tablesOrigin, Table.loca);
         final LocaTable loca = new LocaTable(dis, length, this.getHeadTable(), this.getMaxpTable());
 
         // If this is a TrueType outline, then we'll have at least the
         // 'glyf' table (along with the 'loca' table)
-        length = seekTable(tableDirectory, dis, tablesOrigin, Table.glyf);
-        _glyf = new GlyfTable(dis, length, this.getMaxpTable(), loca);
+        if( null != buffer ) {
+            // Lazy: Only slice the 'glyf' table, glyphs and the optional tables are decoded on first access
+            final TableDirectory.Entry entry = tableDirectory.getEntryByTag(Table.glyf);
+            final ByteBuffer glyf = null != entry ? MappedFontFile.slice(buffer, tablesOrigin + entry.getOffset(), entry.getLength())
+                                                  : ByteBuffer.allocate(0);
+            _glyf = new GlyfTable(glyf, this.getMaxpTable(), loca);
+            _optionalTablesLoaded = false;
+        } else {
+            final int glyfLength = seekTable(tableDirectory, dis, tablesOrigin, Table.glyf);
+            _glyf = new GlyfTable(dis, glyfLength, this.getMaxpTable(), loca);
+            loadOptionalTables(dis);
+        }
+    }
 
-        length = seekTable(tableDirectory, dis, tablesOrigin, Table.gasp);
+    private void loadOptionalTables(final DataInputStream dis) throws IOException {
+        final TableDirectory tableDirectory = _tableDirectory;
+        final int tablesOrigin = _tablesOrigin;
+        int length = seekTable(tableDirectory, dis, tablesOrigin, Table.gasp);
         if (length > 0) {
             _gasp = new GaspTable(dis);
         }
@@ -142,6 +190,40 @@ public class TTFont extends OTFont {
         if (length > 0) {
             _vdmx = new VdmxTable(dis);
         }
+
+        length = seekTable(tableDirectory, dis, tablesOrigin, Table.GPOS);
+        if (length > 0) {
+            try {
+                _gpos = new GposTable(dis, length);
+            } catch (final IOException ioe) {
+                _gpos = null; // only used for kerning, don't fail the whole font on a malformed table
+            }
+        }
+        _optionalTablesLoaded = true;
+    }
+
+    /** Loads the optional 'gasp', 'kern', 'hdmx', 'VDMX' and 'GPOS' tables on first access in {@link #isLazy() lazy} mode. */
+    private void validateOptionalTables() {
+        if( !_optionalTablesLoaded ) {
+            synchronized( this ) {
+                if( !_optionalTablesLoaded ) {
+                    try {
+                        loadOptionalTables(openStream(_buffer));
+                    } catch (final IOException ioe) {
+                        throw new RuntimeException("Error reading optional tables", ioe);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if this font has been created from a {@link ByteBuffer},
+     * i.e. only the table directory and the required tables are parsed up-front while
+     * glyph descriptions and the optional tables are decoded on first access.
+     */
+    public boolean isLazy() {
+        return null != _buffer;
     }
 
     public GlyfTable getGlyfTable() {
@@ -149,21 +231,30 @@ public class TTFont extends OTFont {
     }
 
     public GaspTable getGaspTable() {
+        validateOptionalTables();
         return _gasp;
     }
 
     public KernTable getKernTable() {
+        validateOptionalTables();
         return _kern;
     }
 
     public HdmxTable getHdmxTable() {
+        validateOptionalTables();
         return _hdmx;
     }
 
     public VdmxTable getVdmxTable() {
+        validateOptionalTables();
         return _vdmx;
     }
 
+    public GposTable getGposTable() {
+        validateOptionalTables();
+        return _gpos;
+    }
+
     @Override
     public int getGlyphCount() { return _glyf.getSize(); }
 
@@ -8,8 +8,8 @@
 
 package jogamp.graph.font.typecast.ot.table;
 
+import java.io.DataInput;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 
 /**
  *
@@ -19,13 +19,19 @@ public abstract class ClassDef {
 
     public abstract int getFormat();
 
-    protected static ClassDef read(RandomAccessFile raf) throws IOException {
+    /**
+     * @param glyphId The ID of the glyph
+     * @return the class of the glyph, zero if the glyph is not assigned to a class
+     */
+    public abstract int getGlyphClass(int glyphId);
+
+    static ClassDef read(DataInput di) throws IOException {
         ClassDef c = null;
-        int format = raf.readUnsignedShort();
+        int format = di.readUnsignedShort();
         if (format == 1) {
-            c = new ClassDefFormat1(raf);
+            c = new ClassDefFormat1(di);
         } else if (format == 2) {
-            c = new ClassDefFormat2(raf);
+            c = new ClassDefFormat2(di);
         }
         return c;
     }
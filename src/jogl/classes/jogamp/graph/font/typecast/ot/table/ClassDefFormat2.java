@@ -8,8 +8,8 @@
 
 package jogamp.graph.font.typecast.ot.table;
 
+import java.io.DataInput;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 
 /**
  *
@@ -21,11 +21,11 @@ public class ClassDefFormat2 extends ClassDef {
     private RangeRecord[] classRangeRecords;
 
     /** Creates new ClassDefFormat2 */
-    public ClassDefFormat2(RandomAccessFile raf) throws IOException {
-        classRangeCount = raf.readUnsignedShort();
+    public ClassDefFormat2(DataInput di) throws IOException {
+        classRangeCount = di.readUnsignedShort();
         classRangeRecords = new RangeRecord[classRangeCount];
         for (int i = 0; i < classRangeCount; i++) {
-            classRangeRecords[i] = new RangeRecord(raf);
+            classRangeRecords[i] = new RangeRecord(di);
         }
     }
 
@@ -33,4 +33,23 @@ public class ClassDefFormat2 extends ClassDef {
         return 2;
     }
 
+    @Override
+    public int getGlyphClass(final int glyphId) {
+        // binary search in ordered class ranges, the class value is stored as the start coverage index
+        int l = 0;
+        int h = classRangeCount-1;
+        while( l <= h ) {
+            final int i = ( l + h ) / 2;
+            final RangeRecord r = classRangeRecords[i];
+            if ( r.getEnd() < glyphId ) {
+                l = i + 1;
+            } else if ( r.getStart() > glyphId ) {
+                h = i - 1;
+            } else {
+                return r.getStartCoverageIndex();
+            }
+        }
+        return 0;
+    }
+
 }
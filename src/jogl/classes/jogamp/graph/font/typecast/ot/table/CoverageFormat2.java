@@ -93,7 +93,7 @@ public class CoverageFormat2 extends Coverage {
     public int[] getGlyphIds() {
         List<Integer> ids = new ArrayList<>();
         for (RangeRecord record : _rangeRecords) {
-            for (int i = record.getStart(); i < record.getEnd(); ++i) {
+            for (int i = record.getStart(); i <= record.getEnd(); ++i) {
                 ids.add(i);
             }
         }
@@ -54,6 +54,10 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+import jogamp.graph.font.typecast.ot.MappedFontFile;
 
 /**
  * @author <a href="mailto:david.schweinsberg@gmail.com">David Schweinsberg</a>
@@ -61,6 +65,12 @@ import java.io.IOException;
 public class GlyfTable implements Table {
 
     private final GlyfDescript[] _descript;
+    /** Lazy mode source buffer holding the whole 'glyf' table, otherwise {@code null} */
+    private final ByteBuffer _buffer;
+    private final LocaTable _loca;
+    /** Lazy mode glyph indices already decoded or being decoded */
+    private final BitSet _decoded;
+    private int _decodedCount;
 
     public GlyfTable(
             final DataInput di,
@@ -68,6 +78,9 @@ public class GlyfTable implements Table {
             final MaxpTable maxp,
             final LocaTable loca) throws IOException {
         _descript = new GlyfDescript[maxp.getNumGlyphs()];
+        _buffer = null;
+        _loca = loca;
+        _decoded = null;
 
         // Buffer the whole table so we can randomly access it
         final byte[] buf = new byte[length];
@@ -103,16 +116,69 @@ public class GlyfTable implements Table {
                 }
             }
         }
+        _decodedCount = _descript.length;
+    }
+
+    /**
+     * Lazy constructor, decoding each glyph description on first {@link #getDescription(int) access}
+     * using the 'loca' offsets for random access into the given buffer.
+     * @param glyf buffer holding the whole 'glyf' table from position zero, not copied
+     * @param maxp the 'maxp' table
+     * @param loca the 'loca' table
+     */
+    public GlyfTable(
+            final ByteBuffer glyf,
+            final MaxpTable maxp,
+            final LocaTable loca) {
+        _descript = new GlyfDescript[maxp.getNumGlyphs()];
+        _buffer = glyf;
+        _loca = loca;
+        _decoded = new BitSet(_descript.length);
+        _decodedCount = 0;
     }
 
     public int getSize() { return _descript.length; }
 
+    /** Returns {@code true} if glyph descriptions are decoded on first access, see {@link #GlyfTable(ByteBuffer, MaxpTable, LocaTable)}. */
+    public boolean isLazy() { return null != _buffer; }
+
+    /** Returns the number of glyph slots decoded so far, equals {@link #getSize()} if not {@link #isLazy() lazy}. */
+    public synchronized int getDecodedCount() { return _decodedCount; }
+
     public GlyfDescript getDescription(final int i) {
         if (i < _descript.length) {
+            if( null != _buffer ) {
+                return getDescriptionLazy(i);
+            }
             return _descript[i];
         } else {
             return null;
         }
     }
 
+    private synchronized GlyfDescript getDescriptionLazy(final int i) {
+        if( !_decoded.get(i) ) {
+            // Set before decoding: A composite referencing itself resolves to null instead of recursing
+            _decoded.set(i);
+            _decodedCount++;
+            final int off = _loca.getOffset(i);
+            final int len = _loca.getOffset(i + 1) - off;
+            if (len > 0) {
+                try {
+                    final DataInputStream dis = new DataInputStream(
+                            new MappedFontFile.ByteBufferInputStream(MappedFontFile.slice(_buffer, off, len)));
+                    final short numberOfContours = dis.readShort();
+                    if (numberOfContours >= 0) {
+                        _descript[i] = new GlyfSimpleDescript(this, i, numberOfContours, dis);
+                    } else {
+                        _descript[i] = new GlyfCompositeDescript(this, i, dis);
+                    }
+                } catch (final IOException ioe) {
+                    throw new RuntimeException("Error decoding glyph "+i, ioe);
+                }
+            }
+        }
+        return _descript[i];
+    }
+
 }
@@ -18,24 +18,132 @@
 
 package jogamp.graph.font.typecast.ot.table;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 
 /**
- * TODO: To be implemented
+ * GPOS table, reading the feature and lookup lists
+ * while only decoding pair adjustment lookups, see {@link PairPos}.
  * @author <a href="mailto:david.schweinsberg@gmail.com">David Schweinsberg</a>
  */
-class GposTable implements Table {
+public class GposTable implements Table, LookupSubtableFactory {
 
-    protected GposTable(DataInput di) throws IOException {
+    /** Pair adjustment lookup type */
+    public static final int LOOKUP_PAIR = 2;
+    /** Extension positioning lookup type, wrapping another lookup type with 32-bit offsets */
+    public static final int LOOKUP_EXTENSION = 9;
+
+    private static final int KERN_TAG = 0x6b65726e; // 'kern'
+
+    private final FeatureList _featureList;
+    private final LookupList _lookupList;
+
+    public GposTable(final DataInput di, final int length) throws IOException {
+        // Load into a temporary buffer, and create another input stream
+        final byte[] buf = new byte[length];
+        di.readFully(buf);
+        final DataInputStream dis = new DataInputStream(new ByteArrayInputStream(buf));
 
         // GPOS Header
-        int version = di.readInt();
-        int scriptList = di.readInt();
-        int featureList = di.readInt();
-        int lookupList = di.readInt();
+        @SuppressWarnings("unused")
+        final int version = dis.readInt();
+        @SuppressWarnings("unused")
+        final int scriptListOffset = dis.readUnsignedShort();
+        final int featureListOffset = dis.readUnsignedShort();
+        final int lookupListOffset = dis.readUnsignedShort();
+
+        // Feature List
+        _featureList = new FeatureList(dis, featureListOffset);
+
+        // Lookup List
+        _lookupList = new LookupList(dis, lookupListOffset, this);
+    }
+
+    /**
+     * 2 - Pair adjustment, 9 - Extension wrapping a pair adjustment,
+     * all other lookup types are skipped.
+     */
+    @Override
+    public LookupSubtable read(
+            final int type,
+            final DataInputStream dis,
+            final int offset) throws IOException {
+        switch (type) {
+        case LOOKUP_PAIR:
+            return PairPos.read(dis, offset);
+        case LOOKUP_EXTENSION: {
+            dis.reset();
+            dis.skipBytes(offset);
+            @SuppressWarnings("unused")
+            final int format = dis.readUnsignedShort();
+            final int extensionLookupType = dis.readUnsignedShort();
+            final int extensionOffset = dis.readInt();
+            if (extensionLookupType == LOOKUP_PAIR) {
+                return PairPos.read(dis, offset + extensionOffset);
+            }
+            return null;
+        }
+        default:
+            return null;
+        }
+    }
+
+    public FeatureList getFeatureList() {
+        return _featureList;
+    }
+
+    public LookupList getLookupList() {
+        return _lookupList;
+    }
+
+    /**
+     * Returns the {@link PairPos} subtables of each lookup referenced by any 'kern' feature
+     * in lookup list order, or of all lookups if the 'kern' feature is absent.
+     * Lookups without pair adjustment subtables are omitted.
+     * <p>
+     * The adjustments of all lookups accumulate, while within one lookup the first subtable applying to a pair is used.
+     * </p>
+     */
+    public ArrayList<PairPos[]> getKerningLookups() {
+        final int lookupCount = _lookupList.getLookupCount();
+        final boolean[] kernLookups = new boolean[lookupCount];
+        boolean hasKernFeature = false;
+        for (int i = 0; i < _featureList.getFeatureCount(); i++) {
+            if (_featureList.getFeatureRecord(i).getTag() == KERN_TAG) {
+                hasKernFeature = true;
+                final Feature f = _featureList.getFeature(i);
+                for (int j = 0; j < f.getLookupCount(); j++) {
+                    final int idx = f.getLookupListIndex(j);
+                    if (idx < lookupCount) {
+                        kernLookups[idx] = true;
+                    }
+                }
+            }
+        }
+        final ArrayList<PairPos[]> res = new ArrayList<PairPos[]>();
+        final ArrayList<PairPos> subtables = new ArrayList<PairPos>();
+        for (int i = 0; i < lookupCount; i++) {
+            if (!hasKernFeature || kernLookups[i]) {
+                final Lookup lookup = _lookupList.getLookup(i);
+                subtables.clear();
+                for (int j = 0; j < lookup.getSubtableCount(); j++) {
+                    final LookupSubtable st = lookup.getSubtable(j);
+                    if (st instanceof PairPos) {
+                        subtables.add((PairPos) st);
+                    }
+                }
+                if (!subtables.isEmpty()) {
+                    res.add(subtables.toArray(new PairPos[subtables.size()]));
+                }
+            }
+        }
+        return res;
     }
 
+    @Override
     public String toString() {
         return "GPOS";
     }
@@ -0,0 +1,89 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast.ot.table;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * GPOS lookup type 2, pair adjustment positioning subtable.
+ * <p>
+ * Only the horizontal advance adjustment of the first glyph is retained,
+ * which is the 'kern' feature's equivalent of a legacy 'kern' table value.
+ * </p>
+ */
+public abstract class PairPos extends LookupSubtable {
+
+    /** ValueFormat bit of the horizontal advance adjustment */
+    public static final int X_ADVANCE = 0x0004;
+
+    public abstract int getFormat();
+
+    public abstract Coverage getCoverage();
+
+    /**
+     * Returns the horizontal advance adjustment of the given glyph pair in font-units,
+     * or {@link Integer#MIN_VALUE} if this subtable does not cover the pair.
+     */
+    public abstract int getXAdvance(int leftGlyphId, int rightGlyphId);
+
+    @Override
+    public String getTypeAsString() {
+        return "PairPos";
+    }
+
+    /**
+     * Reads a ValueRecord of given ValueFormat, returning its horizontal advance adjustment or zero.
+     */
+    static int readXAdvance(final DataInput di, final int valueFormat) throws IOException {
+        int xAdvance = 0;
+        for (int bit = 0x0001; bit <= 0x0080; bit <<= 1) {
+            if ((valueFormat & bit) != 0) {
+                final short v = di.readShort();
+                if (bit == X_ADVANCE) {
+                    xAdvance = v;
+                }
+            }
+        }
+        return xAdvance;
+    }
+
+    public static PairPos read(final DataInputStream dis, final int offset) throws IOException {
+        PairPos s = null;
+        dis.reset();
+        dis.skipBytes(offset);
+        final int format = dis.readUnsignedShort();
+        if (format == 1) {
+            s = new PairPosFormat1(dis, offset);
+        } else if (format == 2) {
+            s = new PairPosFormat2(dis, offset);
+        }
+        return s;
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast.ot.table;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * GPOS pair adjustment positioning format 1, adjustments for individual glyph pairs.
+ */
+public class PairPosFormat1 extends PairPos {
+
+    private final Coverage _coverage;
+    /** Per coverage index, ordered second glyph IDs */
+    private final int[][] _secondGlyphs;
+    /** Per coverage index, horizontal advance adjustment of the first glyph */
+    private final short[][] _xAdvances;
+
+    /** Creates new PairPosFormat1 */
+    PairPosFormat1(final DataInputStream dis, final int offset) throws IOException {
+        final int coverageOffset = dis.readUnsignedShort();
+        final int valueFormat1 = dis.readUnsignedShort();
+        final int valueFormat2 = dis.readUnsignedShort();
+        final int pairSetCount = dis.readUnsignedShort();
+        final int[] pairSetOffsets = new int[pairSetCount];
+        for (int i = 0; i < pairSetCount; i++) {
+            pairSetOffsets[i] = dis.readUnsignedShort();
+        }
+        _secondGlyphs = new int[pairSetCount][];
+        _xAdvances = new short[pairSetCount][];
+        for (int i = 0; i < pairSetCount; i++) {
+            dis.reset();
+            dis.skipBytes(offset + pairSetOffsets[i]);
+            final int pairValueCount = dis.readUnsignedShort();
+            final int[] second = new int[pairValueCount];
+            final short[] xAdvance = new short[pairValueCount];
+            for (int j = 0; j < pairValueCount; j++) {
+                second[j] = dis.readUnsignedShort();
+                xAdvance[j] = (short) readXAdvance(dis, valueFormat1);
+                readXAdvance(dis, valueFormat2);
+            }
+            _secondGlyphs[i] = second;
+            _xAdvances[i] = xAdvance;
+        }
+        dis.reset();
+        dis.skipBytes(offset + coverageOffset);
+        _coverage = Coverage.read(dis);
+    }
+
+    @Override
+    public int getFormat() {
+        return 1;
+    }
+
+    @Override
+    public Coverage getCoverage() {
+        return _coverage;
+    }
+
+    /** Returns the number of pair sets, one per covered first glyph. */
+    public int getPairSetCount() {
+        return _secondGlyphs.length;
+    }
+
+    /** Returns the number of pairs in the given pair set. */
+    public int getPairCount(final int pairSet) {
+        return _secondGlyphs[pairSet].length;
+    }
+
+    public int getSecondGlyph(final int pairSet, final int i) {
+        return _secondGlyphs[pairSet][i];
+    }
+
+    public int getPairXAdvance(final int pairSet, final int i) {
+        return _xAdvances[pairSet][i];
+    }
+
+    @Override
+    public int getXAdvance(final int leftGlyphId, final int rightGlyphId) {
+        final int pairSet = null != _coverage ? _coverage.findGlyph(leftGlyphId) : -1;
+        if (0 > pairSet || pairSet >= _secondGlyphs.length) {
+            return Integer.MIN_VALUE;
+        }
+        // binary search in ordered pair set
+        final int[] second = _secondGlyphs[pairSet];
+        int l = 0;
+        int h = second.length-1;
+        while( l <= h ) {
+            final int i = ( l + h ) / 2;
+            if ( second[i] < rightGlyphId ) {
+                l = i + 1;
+            } else if ( second[i] > rightGlyphId ) {
+                h = i - 1;
+            } else {
+                return _xAdvances[pairSet][i];
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+}
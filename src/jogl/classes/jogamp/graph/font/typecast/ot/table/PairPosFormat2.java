@@ -0,0 +1,114 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast.ot.table;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * GPOS pair adjustment positioning format 2, class based adjustments.
+ */
+public class PairPosFormat2 extends PairPos {
+
+    private final Coverage _coverage;
+    private final ClassDef _classDef1;
+    private final ClassDef _classDef2;
+    private final int _class1Count;
+    private final int _class2Count;
+    /** Horizontal advance adjustment of the first glyph at [class1 * class2Count + class2] */
+    private final short[] _xAdvances;
+
+    /** Creates new PairPosFormat2 */
+    PairPosFormat2(final DataInputStream dis, final int offset) throws IOException {
+        final int coverageOffset = dis.readUnsignedShort();
+        final int valueFormat1 = dis.readUnsignedShort();
+        final int valueFormat2 = dis.readUnsignedShort();
+        final int classDef1Offset = dis.readUnsignedShort();
+        final int classDef2Offset = dis.readUnsignedShort();
+        _class1Count = dis.readUnsignedShort();
+        _class2Count = dis.readUnsignedShort();
+        _xAdvances = new short[_class1Count * _class2Count];
+        for (int i = 0; i < _xAdvances.length; i++) {
+            _xAdvances[i] = (short) readXAdvance(dis, valueFormat1);
+            readXAdvance(dis, valueFormat2);
+        }
+        dis.reset();
+        dis.skipBytes(offset + coverageOffset);
+        _coverage = Coverage.read(dis);
+        dis.reset();
+        dis.skipBytes(offset + classDef1Offset);
+        _classDef1 = ClassDef.read(dis);
+        dis.reset();
+        dis.skipBytes(offset + classDef2Offset);
+        _classDef2 = ClassDef.read(dis);
+    }
+
+    @Override
+    public int getFormat() {
+        return 2;
+    }
+
+    @Override
+    public Coverage getCoverage() {
+        return _coverage;
+    }
+
+    public ClassDef getClassDef1() {
+        return _classDef1;
+    }
+
+    public ClassDef getClassDef2() {
+        return _classDef2;
+    }
+
+    public int getClass1Count() {
+        return _class1Count;
+    }
+
+    public int getClass2Count() {
+        return _class2Count;
+    }
+
+    /** Returns the horizontal advance adjustment for the given classes, zero if out of range. */
+    public int getClassXAdvance(final int class1, final int class2) {
+        if (0 > class1 || class1 >= _class1Count || 0 > class2 || class2 >= _class2Count) {
+            return 0;
+        }
+        return _xAdvances[class1 * _class2Count + class2];
+    }
+
+    @Override
+    public int getXAdvance(final int leftGlyphId, final int rightGlyphId) {
+        if (null == _coverage || 0 > _coverage.findGlyph(leftGlyphId)) {
+            return Integer.MIN_VALUE;
+        }
+        final int class1 = null != _classDef1 ? _classDef1.getGlyphClass(leftGlyphId) : 0;
+        final int class2 = null != _classDef2 ? _classDef2.getGlyphClass(rightGlyphId) : 0;
+        return getClassXAdvance(class1, class2);
+    }
+}
@@ -32,6 +32,9 @@ import java.util.concurrent.TimeUnit;
 
 import com.jogamp.common.os.Clock;
 import com.jogamp.opengl.FPSCounter;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.util.FrameTimeHistogram;
+import com.jogamp.opengl.util.GPUFrameTimer;
 
 /**
  * Default implementation of FPSCounter to be used for FPSCounter implementing renderer.
@@ -52,6 +55,13 @@ public class FPSCounterImpl implements FPSCounter {
     // counter in fps
     private float fpsLast, fpsTotal;
 
+    // frame time histograms in [ns], lock-free
+    private volatile FrameTimeHistogram cpuFrameTimes, gpuFrameTimes;
+    private volatile long lastFrameTimeNS;
+    private volatile boolean gpuTimerAvailable;
+    // GL thread only
+    private GPUFrameTimer gpuTimer;
+
     /** Creates a disabled instance */
     public FPSCounterImpl() {
         setUpdateFPSFrames(0, null);
@@ -63,7 +73,20 @@ public class FPSCounterImpl implements FPSCounter {
      *
      * Shall be called by actual FPSCounter implementing renderer, after display a new frame.
      */
-    public final synchronized void tickFPS() {
+    public final void tickFPS() {
+        final FrameTimeHistogram h = cpuFrameTimes;
+        if( null != h ) {
+            final long now = Clock.currentNanos();
+            final long last = lastFrameTimeNS;
+            if( 0 != last ) {
+                h.record(now - last);
+            }
+            lastFrameTimeNS = now;
+        }
+        tickFPSImpl();
+    }
+
+    private final synchronized void tickFPSImpl() {
         fpsTotalFrames++;
         if(fpsUpdateFramesInterval>0 && fpsTotalFrames%fpsUpdateFramesInterval == 0) {
             final long now = Clock.currentNanos();
@@ -108,8 +131,76 @@ public class FPSCounterImpl implements FPSCounter {
         resetFPSCounter();
     }
 
+    /**
+     * Starts measuring the GPU frame time, if enabled via {@link #setFrameTimeHistograms(boolean, boolean)}.
+     * <p>
+     * Shall be called by actual FPSCounter implementing renderer on the GL thread before display a new frame,
+     * followed by {@link #endGPUFrame(GL)}.
+     * </p>
+     */
+    public final void beginGPUFrame(final GL gl) {
+        final FrameTimeHistogram h = gpuFrameTimes;
+        GPUFrameTimer t = gpuTimer;
+        if( null != t && t.getHistogram() != h ) {
+            t.destroy(gl);
+            t = null;
+            gpuTimer = null;
+        }
+        if( null != h ) {
+            if( null == t ) {
+                t = new GPUFrameTimer(GPUFrameTimer.DEFAULT_RING_SIZE, h);
+                gpuTimer = t;
+            }
+            t.beginFrame(gl);
+            gpuTimerAvailable = t.isInitialized();
+        }
+    }
+
+    /**
+     * Ends measuring the GPU frame time started via {@link #beginGPUFrame(GL)}.
+     */
+    public final void endGPUFrame(final GL gl) {
+        final GPUFrameTimer t = gpuTimer;
+        if( null != t ) {
+            t.endFrame(gl);
+        }
+    }
+
+    @Override
+    public final void setFrameTimeHistograms(final boolean cpu, final boolean gpu) {
+        if( cpu != ( null != cpuFrameTimes ) ) {
+            lastFrameTimeNS = 0;
+            cpuFrameTimes = cpu ? new FrameTimeHistogram() : null;
+        }
+        if( gpu != ( null != gpuFrameTimes ) ) {
+            gpuTimerAvailable = false;
+            gpuFrameTimes = gpu ? new FrameTimeHistogram() : null;
+        }
+    }
+
+    @Override
+    public final FrameTimeHistogram.Snapshot getCPUFrameTimes() {
+        final FrameTimeHistogram h = cpuFrameTimes;
+        return null != h ? h.getSnapshot() : null;
+    }
+
+    @Override
+    public final FrameTimeHistogram.Snapshot getGPUFrameTimes() {
+        final FrameTimeHistogram h = gpuFrameTimes;
+        return null != h && gpuTimerAvailable ? h.getSnapshot() : null;
+    }
+
     @Override
     public final synchronized void resetFPSCounter() {
+        final FrameTimeHistogram hc = cpuFrameTimes;
+        if( null != hc ) {
+            hc.reset();
+            lastFrameTimeNS = 0;
+        }
+        final FrameTimeHistogram hg = gpuFrameTimes;
+        if( null != hg ) {
+            hg.reset();
+        }
         fpsStartTimeNS = Clock.currentNanos();
         fpsLastUpdateTimeNS = fpsStartTimeNS;
         fpsLastPeriodMS = 0;
@@ -49,6 +49,7 @@ import com.jogamp.opengl.GLOffscreenAutoDrawable;
 import com.jogamp.opengl.GLProfile;
 import com.jogamp.opengl.GLRunnable;
 import com.jogamp.opengl.GLSharedContextSetter;
+import com.jogamp.opengl.util.FrameTimeHistogram;
 
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.RunnableTask;
@@ -440,7 +441,13 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
                 helper.reshape(GLAutoDrawableBase.this, 0, 0, getSurfaceWidth(), getSurfaceHeight());
                 sendReshape = false;
             }
-            helper.display(GLAutoDrawableBase.this);
+            final GL gl = context.getGL();
+            fpsCounter.beginGPUFrame(gl);
+            try {
+                helper.display(GLAutoDrawableBase.this);
+            } finally {
+                fpsCounter.endGPUFrame(context.getGL());
+            }
             fpsCounter.tickFPS();
         } };
 
@@ -652,6 +659,47 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
         helper.flushGLRunnables();
     }
 
+    /**
+     * Limits the number of {@link GLRunnable}s executed per {@link #display()}, zero for no limit.
+     * @see GLDrawableHelper#setGLRunnableDrainLimit(int)
+     */
+    public final void setGLRunnableDrainLimit(final int limit) {
+        helper.setGLRunnableDrainLimit(limit);
+    }
+
+    /** @see GLDrawableHelper#getGLRunnableDrainLimit() */
+    public final int getGLRunnableDrainLimit() {
+        return helper.getGLRunnableDrainLimit();
+    }
+
+    /** Returns the number of currently queued {@link GLRunnable}s. */
+    public final int getGLRunnableQueueDepth() {
+        return helper.getGLRunnableQueueDepth();
+    }
+
+    /** @see GLDrawableHelper#getGLRunnablePeakQueueDepth() */
+    public final int getGLRunnablePeakQueueDepth() {
+        return helper.getGLRunnablePeakQueueDepth();
+    }
+
+    /** @see GLDrawableHelper#getGLRunnableExecCount() */
+    public final long getGLRunnableExecCount() {
+        return helper.getGLRunnableExecCount();
+    }
+
+    /**
+     * Returns the histogram of {@link GLRunnable} latencies in nanoseconds, from being queued until execution.
+     * @see GLDrawableHelper#getGLRunnableLatencies()
+     */
+    public final FrameTimeHistogram getGLRunnableLatencies() {
+        return helper.getGLRunnableLatencies();
+    }
+
+    /** @see GLDrawableHelper#resetGLRunnableStats() */
+    public final void resetGLRunnableStats() {
+        helper.resetGLRunnableStats();
+    }
+
     @Override
     public final void setAutoSwapBufferMode(final boolean enable) {
         helper.setAutoSwapBufferMode(enable);
@@ -739,6 +787,21 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
         return fpsCounter.getTotalFPS();
     }
 
+    @Override
+    public final void setFrameTimeHistograms(final boolean cpu, final boolean gpu) {
+        fpsCounter.setFrameTimeHistograms(cpu, gpu);
+    }
+
+    @Override
+    public final FrameTimeHistogram.Snapshot getCPUFrameTimes() {
+        return fpsCounter.getCPUFrameTimes();
+    }
+
+    @Override
+    public final FrameTimeHistogram.Snapshot getGPUFrameTimes() {
+        return fpsCounter.getGPUFrameTimes();
+    }
+
     //
     // GLDrawable delegation
     //
@@ -0,0 +1,273 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.jogamp.nativewindow.AbstractGraphicsDevice;
+import com.jogamp.nativewindow.NativeWindowFactory;
+import com.jogamp.opengl.DefaultGLCapabilitiesChooser;
+import com.jogamp.opengl.GLCapabilitiesChooser;
+import com.jogamp.opengl.GLCapabilitiesImmutable;
+
+/**
+ * Per {@link AbstractGraphicsDevice} cache of the enumerated available {@link GLCapabilitiesImmutable}
+ * and of the {@link GLCapabilitiesImmutable} chosen for a requested set of capabilities.
+ * <p>
+ * Devices are identified by their {@link AbstractGraphicsDevice#getUniqueID() unique ID}.
+ * Except for X11, a device's cached data is also bound to the device's native {@link AbstractGraphicsDevice#getHandle() handle}
+ * at time of caching, since e.g. EGLConfig handles are only valid for their EGLDisplay.
+ * A different handle, e.g. after the device has been closed or reopened, invalidates the device's cached data.
+ * The memoized chosen capabilities of X11 devices are not bound to their handle, since each X11 device opens its own display connection
+ * while the chosen GLXFBConfig is re-resolved by its ID on the current connection.
+ * However, the available capabilities of X11 devices hold GLXFBConfig pointers of the enumerating display connection,
+ * hence they are always bound to the device's handle.
+ * Factories also {@link #invalidate(AbstractGraphicsDevice) invalidate} the data when releasing a device's shared resource.
+ * </p>
+ * <p>
+ * Chosen capabilities are only memoized for the {@link DefaultGLCapabilitiesChooser},
+ * i.e. a {@code null} chooser or an instance of exactly that class,
+ * since custom choosers may depend on state beyond the requested capabilities.
+ * </p>
+ * <p>
+ * The cache can be disabled via property {@code jogl.disable.capscache}.
+ * </p>
+ */
+public final class GLCapabilitiesCache {
+    /** Property {@code jogl.disable.capscache} disables caching. */
+    public static final boolean DISABLED = Debug.isPropertyDefined("jogl.disable.capscache", true);
+    /** Maximum number of memoized chosen capabilities per device, {@value}. */
+    public static final int MAX_CHOSEN_PER_DEVICE = 64;
+
+    private static final class ChosenKey {
+        final int screenIdx;
+        final int nativeVisualID;
+        final GLCapabilitiesImmutable capsChosen;
+        final GLCapabilitiesImmutable capsRequested;
+        final int hash;
+
+        ChosenKey(final int screenIdx, final int nativeVisualID, final GLCapabilitiesImmutable capsChosen, final GLCapabilitiesImmutable capsRequested) {
+            this.screenIdx = screenIdx;
+            this.nativeVisualID = nativeVisualID;
+            this.capsChosen = capsChosen;
+            this.capsRequested = capsRequested;
+            // 31 * x == (x << 5) - x
+            int h = 31 + screenIdx;
+            h = ((h << 5) - h) + nativeVisualID;
+            h = ((h << 5) - h) + capsChosen.hashCode();
+            h = ((h << 5) - h) + ( null != capsRequested ? capsRequested.hashCode() : 0 );
+            hash = h;
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if( this == obj ) { return true; }
+            if( !(obj instanceof ChosenKey) ) {
+                return false;
+            }
+            final ChosenKey o = (ChosenKey)obj;
+            return hash == o.hash &&
+                   screenIdx == o.screenIdx &&
+                   nativeVisualID == o.nativeVisualID &&
+                   capsChosen.equals(o.capsChosen) &&
+                   ( null != capsRequested ? capsRequested.equals(o.capsRequested) : null == o.capsRequested );
+        }
+    }
+
+    private static final class DeviceEntry {
+        final long handle;
+        List<GLCapabilitiesImmutable> available = null;
+        /** Device handle at caching {@link #available}, which is always handle-bound */
+        long availableHandle = 0;
+        final LinkedHashMap<ChosenKey, GLCapabilitiesImmutable> chosen =
+                new LinkedHashMap<ChosenKey, GLCapabilitiesImmutable>(16, 0.75f, true /* accessOrder */) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ChosenKey, GLCapabilitiesImmutable> eldest) {
+                return size() > MAX_CHOSEN_PER_DEVICE;
+            }
+        };
+
+        DeviceEntry(final long handle) {
+            this.handle = handle;
+        }
+    }
+
+    private final HashMap<String, DeviceEntry> devices = new HashMap<String, DeviceEntry>();
+    private long availableHits = 0;
+    private long availableMisses = 0;
+    private long chosenHits = 0;
+    private long chosenMisses = 0;
+    private long invalidations = 0;
+
+    public GLCapabilitiesCache() { }
+
+    /**
+     * Returns {@code true} if the chosen capabilities for the given {@code chooser} can be memoized,
+     * i.e. the cache is enabled and the chooser is {@code null} or exactly a {@link DefaultGLCapabilitiesChooser}.
+     */
+    public static boolean isMemoizable(final GLCapabilitiesChooser chooser) {
+        return !DISABLED && ( null == chooser || DefaultGLCapabilitiesChooser.class == chooser.getClass() );
+    }
+
+    /** Returns {@code true} if all cached data of the given device is bound to its native handle, i.e. not for X11. */
+    private static boolean isHandleBound(final AbstractGraphicsDevice device) {
+        return NativeWindowFactory.TYPE_X11 != device.getType();
+    }
+
+    private DeviceEntry getEntry(final AbstractGraphicsDevice device, final boolean create) {
+        final String id = device.getUniqueID();
+        DeviceEntry e = devices.get(id);
+        if( null != e && e.handle != device.getHandle() && isHandleBound(device) ) {
+            // device closed or reopened
+            devices.remove(id);
+            ++invalidations;
+            e = null;
+        }
+        if( null == e && create ) {
+            e = new DeviceEntry(device.getHandle());
+            devices.put(id, e);
+        }
+        return e;
+    }
+
+    /**
+     * Returns a copy of the cached available capabilities of the given device, or {@code null} if not cached.
+     */
+    public synchronized List<GLCapabilitiesImmutable> getAvailable(final AbstractGraphicsDevice device) {
+        final DeviceEntry e = DISABLED ? null : getEntry(device, false);
+        if( null != e && null != e.available && e.availableHandle != device.getHandle() ) {
+            // X11: native configs of another display connection
+            e.available = null;
+        }
+        if( null != e && null != e.available ) {
+            ++availableHits;
+            return new ArrayList<GLCapabilitiesImmutable>(e.available);
+        }
+        ++availableMisses;
+        return null;
+    }
+
+    /**
+     * Caches a copy of the given available capabilities of the given device.
+     * Empty lists are not cached.
+     */
+    public synchronized void putAvailable(final AbstractGraphicsDevice device, final List<GLCapabilitiesImmutable> available) {
+        if( DISABLED || null == available || available.isEmpty() ) {
+            return;
+        }
+        final DeviceEntry e = getEntry(device, true);
+        e.available = new ArrayList<GLCapabilitiesImmutable>(available);
+        e.availableHandle = device.getHandle();
+    }
+
+    /**
+     * Returns a {@link GLCapabilitiesImmutable#cloneMutable() clone} of the memoized chosen capabilities, or {@code null} if not cached.
+     * <p>
+     * Caller shall only query if {@link #isMemoizable(GLCapabilitiesChooser)}.
+     * </p>
+     * @param device the device
+     * @param screenIdx the screen index
+     * @param nativeVisualID the pre-chosen native visual ID or {@link com.jogamp.nativewindow.VisualIDHolder#VID_UNDEFINED}
+     * @param capsChosen the intermediate chosen capabilities, i.e. the adjusted requested capabilities
+     * @param capsRequested the original requested capabilities
+     */
+    public synchronized GLCapabilitiesImmutable getChosen(final AbstractGraphicsDevice device, final int screenIdx, final int nativeVisualID,
+                                                          final GLCapabilitiesImmutable capsChosen, final GLCapabilitiesImmutable capsRequested) {
+        final DeviceEntry e = DISABLED ? null : getEntry(device, false);
+        final GLCapabilitiesImmutable res = null != e ? e.chosen.get(new ChosenKey(screenIdx, nativeVisualID, capsChosen, capsRequested)) : null;
+        if( null != res ) {
+            ++chosenHits;
+            return (GLCapabilitiesImmutable) res.cloneMutable();
+        }
+        ++chosenMisses;
+        return null;
+    }
+
+    /**
+     * Memoizes a clone of the given chosen capabilities, using clones of the given requested capabilities as the key.
+     * @see #getChosen(AbstractGraphicsDevice, int, int, GLCapabilitiesImmutable, GLCapabilitiesImmutable)
+     */
+    public synchronized void putChosen(final AbstractGraphicsDevice device, final int screenIdx, final int nativeVisualID,
+                                       final GLCapabilitiesImmutable capsChosen, final GLCapabilitiesImmutable capsRequested,
+                                       final GLCapabilitiesImmutable chosen) {
+        if( DISABLED || null == chosen ) {
+            return;
+        }
+        final ChosenKey key = new ChosenKey(screenIdx, nativeVisualID,
+                                            (GLCapabilitiesImmutable) capsChosen.cloneMutable(),
+                                            null != capsRequested ? (GLCapabilitiesImmutable) capsRequested.cloneMutable() : null);
+        getEntry(device, true).chosen.put(key, (GLCapabilitiesImmutable) chosen.cloneMutable());
+    }
+
+    /** Drops all cached data of the given device. */
+    public synchronized void invalidate(final AbstractGraphicsDevice device) {
+        if( null != devices.remove(device.getUniqueID()) ) {
+            ++invalidations;
+        }
+    }
+
+    /** Drops all cached data, statistics are kept. */
+    public synchronized void clear() {
+        invalidations += devices.size();
+        devices.clear();
+    }
+
+    /** Returns the number of devices with cached data. */
+    public synchronized int getDeviceCount() { return devices.size(); }
+
+    /** Returns the number of memoized chosen capabilities of all devices. */
+    public synchronized int getChosenCount() {
+        int n = 0;
+        for(final Iterator<DeviceEntry> it = devices.values().iterator(); it.hasNext(); ) {
+            n += it.next().chosen.size();
+        }
+        return n;
+    }
+
+    public synchronized long getAvailableHitCount() { return availableHits; }
+    public synchronized long getAvailableMissCount() { return availableMisses; }
+    public synchronized long getChosenHitCount() { return chosenHits; }
+    public synchronized long getChosenMissCount() { return chosenMisses; }
+    /** Returns the number of device invalidations, either explicit or due to a changed device handle. */
+    public synchronized long getInvalidationCount() { return invalidations; }
+
+    @Override
+    public synchronized String toString() {
+        return "GLCapabilitiesCache[devices "+devices.size()+", available hits "+availableHits+", misses "+availableMisses+
+               ", chosen hits "+chosenHits+", misses "+chosenMisses+", invalidations "+invalidations+"]";
+    }
+}
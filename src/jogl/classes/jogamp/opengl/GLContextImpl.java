@@ -721,6 +721,7 @@ public abstract class GLContextImpl extends GLContext {
           isSurfaceless = true;
       }
       setCurrent(this);
+      glStateTracker.notifyMadeCurrent();
       if( CONTEXT_CURRENT_NEW == res ) {
         // check if the drawable's and the GL's GLProfile are equal
         // throws an GLException if not
@@ -43,6 +43,7 @@ package jogamp.opengl;
 import java.nio.Buffer;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -84,10 +85,42 @@ import com.jogamp.opengl.GLRendererQuirks;
 public abstract class GLDrawableFactoryImpl extends GLDrawableFactory {
   protected static final boolean DEBUG = GLDrawableFactory.DEBUG; // allow package access
 
+  private final GLCapabilitiesCache capsCache = new GLCapabilitiesCache();
+
   protected GLDrawableFactoryImpl() {
     super();
   }
 
+  /**
+   * Returns this factory's per device cache of available and chosen {@link GLCapabilitiesImmutable}.
+   */
+  public final GLCapabilitiesCache getCapabilitiesCache() { return capsCache; }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns the {@link #getCapabilitiesCache() cached} enumeration if available,
+   * otherwise calls {@link #enumerateAvailableCapabilitiesImpl(AbstractGraphicsDevice)} and caches its result.
+   * </p>
+   */
+  @Override
+  protected final List<GLCapabilitiesImmutable> getAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
+      final List<GLCapabilitiesImmutable> cached = capsCache.getAvailable(device);
+      if( null != cached ) {
+          return cached;
+      }
+      final List<GLCapabilitiesImmutable> availableCaps = enumerateAvailableCapabilitiesImpl(device);
+      capsCache.putAvailable(device, availableCaps);
+      return availableCaps;
+  }
+
+  /**
+   * Enumerates all available {@link GLCapabilitiesImmutable} of the given device via native calls,
+   * sorted by the native ID, ascending.
+   * @see #getAvailableCapabilitiesImpl(AbstractGraphicsDevice)
+   */
+  protected abstract List<GLCapabilitiesImmutable> enumerateAvailableCapabilitiesImpl(AbstractGraphicsDevice device);
+
   /**
    * Returns {@code true} if context is capable of operating without a surface,
    * otherwise returns {@code false} and sets the {@link GLRendererQuirks#NoSurfacelessCtx}.
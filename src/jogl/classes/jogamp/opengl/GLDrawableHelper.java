@@ -44,6 +44,9 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.HashSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.jogamp.nativewindow.NativeSurface;
 import com.jogamp.nativewindow.NativeWindowException;
@@ -59,6 +62,7 @@ import com.jogamp.opengl.GLEventListener;
 import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLFBODrawable;
 import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.util.FrameTimeHistogram;
 
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.InterruptedRuntimeException;
@@ -78,17 +82,35 @@ public class GLDrawableHelper {
   protected static final boolean DEBUG = GLDrawableImpl.DEBUG;
   private static final boolean DEBUG_SETCLEAR = GLContext.DEBUG_GL || DEBUG;
 
+  private static final GLEventListener[] noListeners = new GLEventListener[0];
+
   private final Object listenersLock = new Object();
   private final ArrayList<GLEventListener> listeners = new ArrayList<GLEventListener>();
   private final HashSet<GLEventListener> listenersToBeInit = new HashSet<GLEventListener>();
+  /** Copy-on-write snapshot of {@link #listeners}, iterated w/o {@link #listenersLock} */
+  private volatile GLEventListener[] listenersArray = noListeners;
+  /** Size of {@link #listenersToBeInit}, allows skipping {@link #listenersLock} if zero */
+  private volatile int listenersToBeInitCount = 0;
+  /**
+   * Serializes {@link #setAnimator(GLAnimatorControl)} with the animator check and enqueue of {@link #invoke(GLAutoDrawable, boolean, GLRunnable)},
+   * draining {@link #glRunnables} does not require it.
+   */
   private final Object glRunnablesLock = new Object();
-  private ArrayList<GLRunnableTask> glRunnables = new ArrayList<GLRunnableTask>();
-  private volatile int glRunnableCount = 0;
+  /** Multiple producer single consumer queue of {@link GLRunnableTask}s, lock-free */
+  private final ConcurrentLinkedQueue<GLRunnableTask> glRunnables = new ConcurrentLinkedQueue<GLRunnableTask>();
+  /** Number of queued {@link GLRunnableTask}s */
+  private final AtomicInteger glRunnableCount = new AtomicInteger(0);
+  private final AtomicInteger glRunnablePeakCount = new AtomicInteger(0);
+  private final AtomicLong glRunnableExecCount = new AtomicLong(0);
+  private final FrameTimeHistogram glRunnableLatencies = new FrameTimeHistogram();
+  private volatile int glRunnableDrainLimit = 0;
+  /** Last task queued by {@link #invoke(GLAutoDrawable, boolean, GLRunnable)} for immediate execution, exempt from {@link #glRunnableDrainLimit} */
+  private volatile GLRunnableTask glRunnableImmediate = null;
   private boolean autoSwapBufferMode;
   private volatile Thread exclusiveContextThread;
   /** -1 release, 0 nop, 1 claim */
   private volatile int exclusiveContextSwitch;
-  private GLAnimatorControl animatorCtrl;
+  private volatile GLAnimatorControl animatorCtrl;
   private static Runnable nop = new Runnable() { @Override public void run() {} };
 
   private GLContext sharedContext;
@@ -103,14 +125,13 @@ public class GLDrawableHelper {
     synchronized(listenersLock) {
         listeners.clear();
         listenersToBeInit.clear();
+        updateListenersSnapshot();
     }
     autoSwapBufferMode = true;
     exclusiveContextThread = null;
     exclusiveContextSwitch = 0;
-    synchronized(glRunnablesLock) {
-        glRunnableCount = 0;
-        glRunnables.clear();
-    }
+    glRunnables.clear();
+    glRunnableCount.set(0);
     animatorCtrl = null;
     sharedContext = null;
     sharedAutoDrawable = null;
@@ -404,6 +425,34 @@ public class GLDrawableHelper {
         listenersToBeInit.add(listener);
 
         listeners.add(index, listener);
+        updateListenersSnapshot();
+    }
+  }
+
+  /**
+   * Updates the copy-on-write {@link #listenersArray} and {@link #listenersToBeInitCount},
+   * must be called after each modification of {@link #listeners} or {@link #listenersToBeInit}
+   * while holding {@link #listenersLock}.
+   */
+  private final void updateListenersSnapshot() {
+    // count first: a reader seeing a new listener in the snapshot also sees it pending initialization
+    listenersToBeInitCount = listenersToBeInit.size();
+    listenersArray = listeners.isEmpty() ? noListeners : listeners.toArray(new GLEventListener[listeners.size()]);
+  }
+
+  /**
+   * Removes the given listener from {@link #listenersToBeInit},
+   * acquiring {@link #listenersLock} only if any listener is pending initialization.
+   * @return true if the listener was pending initialization
+   */
+  private final boolean removeListenerToBeInit(final GLEventListener listener) {
+    if( 0 == listenersToBeInitCount ) {
+        return false;
+    }
+    synchronized(listenersLock) {
+        final boolean res = listenersToBeInit.remove(listener);
+        listenersToBeInitCount = listenersToBeInit.size();
+        return res;
     }
   }
 
@@ -416,7 +465,9 @@ public class GLDrawableHelper {
   public final GLEventListener removeGLEventListener(final GLEventListener listener) {
     synchronized(listenersLock) {
         listenersToBeInit.remove(listener);
-        return listeners.remove(listener) ? listener : null;
+        final boolean res = listeners.remove(listener);
+        updateListenersSnapshot();
+        return res ? listener : null;
     }
   }
 
@@ -427,29 +478,28 @@ public class GLDrawableHelper {
         }
         final GLEventListener listener = listeners.remove(index);
         listenersToBeInit.remove(listener);
+        updateListenersSnapshot();
         return listener;
     }
   }
 
   public final int getGLEventListenerCount() {
-    synchronized(listenersLock) {
-        return listeners.size();
-    }
+    return listenersArray.length;
   }
 
   public final GLEventListener getGLEventListener(int index) throws IndexOutOfBoundsException {
-    synchronized(listenersLock) {
-        if(0>index) {
-            index = listeners.size()-1;
-        }
-        return listeners.get(index);
+    final GLEventListener[] _listeners = listenersArray;
+    if(0>index) {
+        index = _listeners.length-1;
     }
+    if( 0 > index || index >= _listeners.length ) {
+        throw new IndexOutOfBoundsException("Index "+index+", size "+_listeners.length);
+    }
+    return _listeners[index];
   }
 
   public final boolean areAllGLEventListenerInitialized() {
-    synchronized(listenersLock) {
-        return 0 == listenersToBeInit.size();
-    }
+    return 0 == listenersToBeInitCount;
   }
 
   public final boolean getGLEventListenerInitState(final GLEventListener listener) {
@@ -465,6 +515,7 @@ public class GLDrawableHelper {
         } else {
             listenersToBeInit.add(listener);
         }
+        listenersToBeInitCount = listenersToBeInit.size();
     }
   }
 
@@ -487,7 +538,9 @@ public class GLDrawableHelper {
       synchronized(listenersLock) {
           if( remove ) {
               if( listeners.remove(listener) ) {
-                  if( !listenersToBeInit.remove(listener) ) {
+                  final boolean wasInit = !listenersToBeInit.remove(listener);
+                  updateListenersSnapshot();
+                  if( wasInit ) {
                       listener.dispose(autoDrawable);
                   }
                   return listener;
@@ -496,6 +549,7 @@ public class GLDrawableHelper {
               if( listeners.contains(listener) && !listenersToBeInit.contains(listener) ) {
                   listener.dispose(autoDrawable);
                   listenersToBeInit.add(listener);
+                  listenersToBeInitCount = listenersToBeInit.size();
                   return listener;
               }
           }
@@ -525,7 +579,9 @@ public class GLDrawableHelper {
         if( remove ) {
             for (int count = listeners.size(); 0 < count && 0 < listeners.size(); count--) {
               final GLEventListener listener = listeners.remove(0);
-              if( !listenersToBeInit.remove(listener) ) {
+              final boolean wasInit = !listenersToBeInit.remove(listener);
+              updateListenersSnapshot();
+              if( wasInit ) {
                   try {
                       listener.dispose(autoDrawable);
                   } catch (final Throwable t) {
@@ -552,6 +608,7 @@ public class GLDrawableHelper {
                       }
                   }
                   listenersToBeInit.add(listener);
+                  listenersToBeInitCount = listenersToBeInit.size();
                   disposeCount++;
               }
             }
@@ -587,7 +644,9 @@ public class GLDrawableHelper {
           if( listenersToBeInit.contains(listener) ) {
              if( remove ) {
                  listenersToBeInit.remove(listener);
-                 return listeners.remove(listener) ? listener : null;
+                 final boolean res = listeners.remove(listener);
+                 updateListenersSnapshot();
+                 return res ? listener : null;
              }
              return null;
           }
@@ -653,44 +712,40 @@ public class GLDrawableHelper {
    **/
   public final void init(final GLAutoDrawable drawable, final boolean sendReshape) {
     setViewportAndClear(drawable, 0, 0, drawable.getSurfaceWidth(), drawable.getSurfaceHeight());
-    synchronized(listenersLock) {
-        final ArrayList<GLEventListener> _listeners = listeners;
-        final int listenerCount = _listeners.size();
-        if( listenerCount > 0 ) {
-            for (int i=0; i < listenerCount; i++) {
-              final GLEventListener listener = _listeners.get(i) ;
-
-              // If make ctx current, invoked by invokGL(..), results in a new ctx, init gets called.
-              // This may happen not just for initial setup, but for ctx recreation due to resource change (drawable/window),
-              // hence it must be called unconditional, always.
-              listenersToBeInit.remove(listener); // remove if exist, avoiding dbl init
-              init(listener, drawable, sendReshape);
-            }
-        }
+    final GLEventListener[] _listeners = listenersArray;
+    for (int i=0; i < _listeners.length; i++) {
+      final GLEventListener listener = _listeners[i];
+
+      // If make ctx current, invoked by invokGL(..), results in a new ctx, init gets called.
+      // This may happen not just for initial setup, but for ctx recreation due to resource change (drawable/window),
+      // hence it must be called unconditional, always.
+      removeListenerToBeInit(listener); // remove if exist, avoiding dbl init
+      init(listener, drawable, sendReshape);
     }
   }
 
   public final void display(final GLAutoDrawable drawable) {
     displayImpl(drawable);
     // runForAllGLEventListener(drawable, displayAction);
-    if( glRunnableCount > 0 && !execGLRunnables(drawable) ) { // glRunnableCount volatile OK; execGL.. only executed if size > 0
+    if( glRunnableCount.get() > 0 && !execGLRunnables(drawable) ) { // execGL.. only executed if size > 0
         displayImpl(drawable);
         // runForAllGLEventListener(drawable, displayAction);
     }
   }
+  /**
+   * Iterates over the copy-on-write listener snapshot w/o locking,
+   * i.e. a listener added or removed concurrently takes effect with the next frame.
+   */
   private final void displayImpl(final GLAutoDrawable drawable) {
-      synchronized(listenersLock) {
-          final ArrayList<GLEventListener> _listeners = listeners;
-          final int listenerCount = _listeners.size();
-          for (int i=0; i < listenerCount; i++) {
-            final GLEventListener listener = _listeners.get(i) ;
-            // GLEventListener may need to be init,
-            // in case this one is added after the realization of the GLAutoDrawable
-            if( listenersToBeInit.remove(listener) ) {
-                init( listener, drawable, true /* sendReshape */ );
-            }
-            listener.display(drawable);
-          }
+      final GLEventListener[] _listeners = listenersArray;
+      for (int i=0; i < _listeners.length; i++) {
+        final GLEventListener listener = _listeners[i];
+        // GLEventListener may need to be init,
+        // in case this one is added after the realization of the GLAutoDrawable
+        if( removeListenerToBeInit(listener) ) {
+            init( listener, drawable, true /* sendReshape */ );
+        }
+        listener.display(drawable);
       }
   }
 
@@ -704,18 +759,15 @@ public class GLDrawableHelper {
       }  }; */
 
   public final void runForAllGLEventListener(final GLAutoDrawable drawable, final GLEventListenerAction action) {
-      synchronized(listenersLock) {
-          final ArrayList<GLEventListener> _listeners = listeners;
-          final int listenerCount = _listeners.size();
-          for (int i=0; i < listenerCount; i++) {
-            final GLEventListener listener = _listeners.get(i) ;
-            // GLEventListener may need to be init,
-            // in case this one is added after the realization of the GLAutoDrawable
-            if( listenersToBeInit.remove(listener) ) {
-                init( listener, drawable, true /* sendReshape */ );
-            }
-            action.run(drawable, listener);
-          }
+      final GLEventListener[] _listeners = listenersArray;
+      for (int i=0; i < _listeners.length; i++) {
+        final GLEventListener listener = _listeners[i];
+        // GLEventListener may need to be init,
+        // in case this one is added after the realization of the GLAutoDrawable
+        if( removeListenerToBeInit(listener) ) {
+            init( listener, drawable, true /* sendReshape */ );
+        }
+        action.run(drawable, listener);
       }
   }
 
@@ -740,47 +792,106 @@ public class GLDrawableHelper {
 
   public final void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) {
     setViewportAndClear(drawable, x, y, width, height);
-    synchronized(listenersLock) {
-        for (int i=0; i < listeners.size(); i++) {
-            final GLEventListener l = listeners.get(i);
-            // GLEventListener may need to be init,
-            // in case this one is added after the realization of the GLAutoDrawable
-            if( listenersToBeInit.remove(l) ) {
-                l.init(drawable);
-            }
-            l.reshape(drawable, x, y, width, height);
+    final GLEventListener[] _listeners = listenersArray;
+    for (int i=0; i < _listeners.length; i++) {
+        final GLEventListener l = _listeners[i];
+        // GLEventListener may need to be init,
+        // in case this one is added after the realization of the GLAutoDrawable
+        if( removeListenerToBeInit(l) ) {
+            l.init(drawable);
         }
+        l.reshape(drawable, x, y, width, height);
     }
   }
 
-  private final boolean execGLRunnables(final GLAutoDrawable drawable) { // glRunnables.size()>0
-    // swap one-shot list asap
-    final ArrayList<GLRunnableTask> _glRunnables;
-    synchronized(glRunnablesLock) {
-        if( glRunnables.size() > 0 ) {
-            glRunnableCount = 0;
-            _glRunnables = glRunnables;
-            glRunnables = new ArrayList<GLRunnableTask>();
-        } else {
-            return true;
-        }
+  /**
+   * Drains the tasks queued at entry, at most {@link #getGLRunnableDrainLimit()} if set.
+   * Tasks queued while draining or exceeding the limit are executed at the next {@link #display(GLAutoDrawable)},
+   * except a task queued by {@link #invoke(GLAutoDrawable, boolean, GLRunnable)} for immediate execution,
+   * which is always executed including all tasks queued before it.
+   */
+  private final boolean execGLRunnables(final GLAutoDrawable drawable) { // glRunnableCount>0
+    final int limit = glRunnableDrainLimit;
+    final GLRunnableTask immediate = glRunnableImmediate;
+    int n = glRunnableCount.get();
+    if( 0 < limit && limit < n ) {
+        n = limit;
     }
     boolean res = true;
-    for (int i=0; i < _glRunnables.size(); i++) {
-        res = _glRunnables.get(i).run(drawable) && res;
+    for (int i=0; i < n || ( null != immediate && immediate.isInQueue() ); i++) {
+        final GLRunnableTask task = glRunnables.poll();
+        if( null == task ) {
+            break;
+        }
+        glRunnableCount.decrementAndGet();
+        glRunnableLatencies.record(System.nanoTime() - task.getEnqueueTime());
+        glRunnableExecCount.incrementAndGet();
+        res = task.run(drawable) && res;
+    }
+    if( null != immediate ) {
+        synchronized(glRunnablesLock) {
+            if( immediate == glRunnableImmediate && !immediate.isInQueue() ) {
+                glRunnableImmediate = null;
+            }
+        }
     }
     return res;
   }
 
+  private final void enqueueTask(final GLRunnableTask task) {
+    glRunnables.offer(task);
+    final int depth = glRunnableCount.incrementAndGet();
+    int peak;
+    while( depth > ( peak = glRunnablePeakCount.get() ) && !glRunnablePeakCount.compareAndSet(peak, depth) ) { }
+  }
+
   public final void flushGLRunnables() {
-    synchronized(glRunnablesLock) {
-        glRunnableCount = 0;
-        while( glRunnables.size() > 0 ) {
-            glRunnables.remove(0).flush();
-        }
+    GLRunnableTask task;
+    while( null != ( task = glRunnables.poll() ) ) {
+        glRunnableCount.decrementAndGet();
+        task.flush();
     }
   }
 
+  /**
+   * Limits the number of {@link GLRunnable}s executed per {@link #display(GLAutoDrawable)},
+   * remaining tasks are executed with subsequent frames.
+   * <p>
+   * Note: If no {@link GLAnimatorControl} is animating on another thread,
+   * {@link #invoke(GLAutoDrawable, boolean, GLRunnable)} executes the task with an immediate {@link GLAutoDrawable#display()},
+   * which executes the task and all tasks queued before it regardless of the limit.
+   * </p>
+   * @param limit maximum number of tasks per display, zero for no limit (default)
+   */
+  public final void setGLRunnableDrainLimit(final int limit) {
+    glRunnableDrainLimit = Math.max(0, limit);
+  }
+
+  /** Returns the maximum number of {@link GLRunnable}s executed per display, zero for no limit. */
+  public final int getGLRunnableDrainLimit() { return glRunnableDrainLimit; }
+
+  /** Returns the number of currently queued {@link GLRunnable}s. */
+  public final int getGLRunnableQueueDepth() { return glRunnableCount.get(); }
+
+  /** Returns the maximum number of queued {@link GLRunnable}s since creation or {@link #resetGLRunnableStats()}. */
+  public final int getGLRunnablePeakQueueDepth() { return glRunnablePeakCount.get(); }
+
+  /** Returns the number of executed {@link GLRunnable}s since creation or {@link #resetGLRunnableStats()}. */
+  public final long getGLRunnableExecCount() { return glRunnableExecCount.get(); }
+
+  /**
+   * Returns the histogram of {@link GLRunnable} latencies in nanoseconds,
+   * i.e. the time from being queued until execution.
+   */
+  public final FrameTimeHistogram getGLRunnableLatencies() { return glRunnableLatencies; }
+
+  /** Resets the {@link GLRunnable} peak queue depth, execution count and latencies. */
+  public final void resetGLRunnableStats() {
+    glRunnablePeakCount.set(glRunnableCount.get());
+    glRunnableExecCount.set(0);
+    glRunnableLatencies.reset();
+  }
+
   public final void setAnimator(final GLAnimatorControl animator) throws GLException {
     synchronized(glRunnablesLock) {
         if(animatorCtrl!=animator && null!=animator && null!=animatorCtrl) {
@@ -791,9 +902,7 @@ public class GLDrawableHelper {
   }
 
   public final GLAnimatorControl getAnimator() {
-    synchronized(glRunnablesLock) {
-        return animatorCtrl;
-    }
+    return animatorCtrl;
   }
 
   public final boolean isAnimatorStartedOnOtherThread() {
@@ -905,8 +1014,10 @@ public class GLDrawableHelper {
             rTask = new GLRunnableTask(glRunnable,
                                        wait ? rTaskLock : null,
                                        wait  /* catch Exceptions if waiting for result */);
-            glRunnableCount++;
-            glRunnables.add(rTask);
+            enqueueTask(rTask);
+            if( !deferredHere ) {
+                glRunnableImmediate = rTask;
+            }
         }
         if( !deferredHere ) {
             drawable.display();
@@ -969,14 +1080,15 @@ public class GLDrawableHelper {
                 wait = false; // don't wait if exec immediately
             }
             for(int i=0; i<count-1; i++) {
-                glRunnableCount++;
-                glRunnables.add( new GLRunnableTask(newGLRunnables.get(i), null, false) );
+                enqueueTask( new GLRunnableTask(newGLRunnables.get(i), null, false) );
             }
             rTask = new GLRunnableTask(newGLRunnables.get(count-1),
                                        wait ? rTaskLock : null,
                                        wait  /* catch Exceptions if waiting for result */);
-            glRunnableCount++;
-            glRunnables.add(rTask);
+            enqueueTask(rTask);
+            if( !deferredHere ) {
+                glRunnableImmediate = rTask;
+            }
         }
         if( !deferredHere ) {
             drawable.display();
@@ -1001,10 +1113,7 @@ public class GLDrawableHelper {
     if( null == glRunnable) {
         return;
     }
-    synchronized(glRunnablesLock) {
-        glRunnableCount++;
-        glRunnables.add( new GLRunnableTask(glRunnable, null, false) );
-    }
+    enqueueTask( new GLRunnableTask(glRunnable, null, false) );
   }
 
   public final void setAutoSwapBufferMode(final boolean enable) {
@@ -1190,7 +1299,7 @@ public class GLDrawableHelper {
         if(GLContext.CONTEXT_CURRENT_NEW == res) {
             throw new GLException(GLDrawableHelper.getThreadName()+" GLDrawableHelper " + this + ".invokeGL(): Dispose case (no init action given): Native context was not created (new ctx): "+context);
         }
-        if( listeners.size() > 0 && null != autoDrawable ) {
+        if( listenersArray.length > 0 && null != autoDrawable ) {
             try {
                 disposeAllGLEventListener(autoDrawable, false);
             } catch(final GLException t) {
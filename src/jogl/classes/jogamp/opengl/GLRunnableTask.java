@@ -42,6 +42,7 @@ public class GLRunnableTask implements GLRunnable {
     boolean catchExceptions;
     volatile boolean isExecuted;
     volatile boolean isFlushed;
+    final long enqueueTime;
 
     Throwable runnableException;
 
@@ -51,6 +52,7 @@ public class GLRunnableTask implements GLRunnable {
         this.catchExceptions = catchExceptions;
         isExecuted = false;
         isFlushed = false;
+        enqueueTime = System.nanoTime();
     }
 
     @Override
@@ -126,5 +128,8 @@ public class GLRunnableTask implements GLRunnable {
     public boolean isFlushed() { return isFlushed; }
 
     public Throwable getThrowable() { return runnableException; }
+
+    /** Returns the {@link System#nanoTime()} of this task's creation, i.e. when it has been queued. */
+    public long getEnqueueTime() { return enqueueTime; }
 }
 
@@ -64,6 +64,7 @@ public class GLStateTracker {
   private static final int PIXEL_STATE_MAP_CAPACITY = 32;
 
   private volatile boolean enabled = true;
+  private int madeCurrentCount = 0;
 
   private IntIntHashMap pixelStateMap;
   private final ArrayList<SavedState> stack;
@@ -99,6 +100,29 @@ public class GLStateTracker {
 
   public final void clearStates() {
     pixelStateMap.clear();
+    madeCurrentCount++;
+  }
+
+  /**
+   * Notifies that the context has been made current, not recursively.
+   * <p>
+   * Called by {@link GLContextImpl#makeCurrent()}.
+   * </p>
+   */
+  public final void notifyMadeCurrent() {
+    madeCurrentCount++;
+  }
+
+  /**
+   * Returns the number of times the context has been made current or its states cleared.
+   * <p>
+   * Allows state shadowing pipelines, e.g. {@link com.jogamp.opengl.GLStateCache},
+   * to drop their shadowed state if the context was released in between,
+   * since other code or contexts may have changed it.
+   * </p>
+   */
+  public final int getMadeCurrentCount() {
+    return madeCurrentCount;
   }
 
   public final void setEnabled(final boolean on) {
@@ -401,6 +401,7 @@ public class EGLDrawableFactory extends GLDrawableFactoryImpl {
         if( DEBUG ) {
             System.err.println("EGLDrawableFactory.shutdown");
         }
+        getCapabilitiesCache().clear();
         if(null != sharedResourceRunner) {
             sharedResourceRunner.stop();
             sharedResourceRunner = null;
@@ -935,6 +936,9 @@ public class EGLDrawableFactory extends GLDrawableFactoryImpl {
         @Override
         public void releaseSharedResource(final SharedResourceRunner.Resource shared) {
             final SharedResource sr = (SharedResource) shared;
+            if( null != sr.device ) {
+                getCapabilitiesCache().invalidate(sr.device);
+            }
             if ( DEBUG_SHAREDCTX ) {
                 System.err.println("Shutdown Shared:");
                 System.err.println("Device  : " + sr.device);
@@ -1063,7 +1067,7 @@ public class EGLDrawableFactory extends GLDrawableFactoryImpl {
     }
 
     @Override
-    protected List<GLCapabilitiesImmutable> getAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
+    protected List<GLCapabilitiesImmutable> enumerateAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
         if(null == sharedResourceImplementation) { // null == eglES1DynamicLookupHelper && null == eglES2DynamicLookupHelper || ..
             return new ArrayList<GLCapabilitiesImmutable>(); // null
         }
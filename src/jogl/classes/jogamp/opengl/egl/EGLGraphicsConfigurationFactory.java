@@ -60,6 +60,7 @@ import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLProfile;
 
 import jogamp.opengl.GLGraphicsConfigurationFactory;
+import jogamp.opengl.GLCapabilitiesCache;
 import jogamp.opengl.GLGraphicsConfigurationUtil;
 
 import com.jogamp.common.nio.Buffers;
@@ -282,7 +283,18 @@ public class EGLGraphicsConfigurationFactory extends GLGraphicsConfigurationFact
         }
 
         final GLProfile glp = capsChosen.getGLProfile();
-        capsChosen = GLGraphicsConfigurationUtil.fixGLCapabilities( capsChosen, GLDrawableFactory.getEGLFactory(), absDevice);
+        final EGLDrawableFactory factory = (EGLDrawableFactory) GLDrawableFactory.getEGLFactory();
+        capsChosen = GLGraphicsConfigurationUtil.fixGLCapabilities( capsChosen, factory, absDevice);
+
+        // EGLConfig handles are only valid for the used EGLDisplay, hence only memoize for non temporary displays
+        final GLCapabilitiesCache capsCache = factory.getCapabilitiesCache();
+        final boolean memoize = !ownEGLDisplay && !forceTransparentFlag && GLCapabilitiesCache.isMemoizable(chooser);
+        if( memoize ) {
+            final EGLGraphicsConfiguration cached = fetchMemoizedConfig(capsCache, eglDevice, capsChosen, capsReq, chooser, absScreen, nativeVisualID);
+            if( null != cached ) {
+                return cached;
+            }
+        }
         EGLGraphicsConfiguration res = eglChooseConfig(eglDevice, capsChosen, capsReq, chooser, absScreen, nativeVisualID, forceTransparentFlag);
         if(null==res) {
             if(DEBUG) {
@@ -350,6 +362,9 @@ public class EGLGraphicsConfigurationFactory extends GLGraphicsConfigurationFact
         if(null==res) {
             throw new GLException("Graphics configuration failed [direct caps, eglGetConfig/chooser and fixed-caps(1-3)]");
         }
+        if( memoize ) {
+            capsCache.putChosen(eglDevice, absScreen.getIndex(), nativeVisualID, capsChosen, capsReq, (GLCapabilitiesImmutable)res.getChosenCapabilities());
+        }
         if(ownEGLDisplay) {
             ((EGLGLCapabilities) res.getChosenCapabilities()).setEGLConfig(0); // eglDisplay: EOL
             eglDevice.close();
@@ -357,6 +372,36 @@ public class EGLGraphicsConfigurationFactory extends GLGraphicsConfigurationFact
         return res;
     }
 
+    /**
+     * Returns a new {@link EGLGraphicsConfiguration} using the {@link GLCapabilitiesCache#getChosen(AbstractGraphicsDevice, int, int, GLCapabilitiesImmutable, GLCapabilitiesImmutable) memoized}
+     * chosen capabilities, or {@code null} if none are memoized or the memoized EGLConfig ID is no more valid.
+     * <p>
+     * The EGLConfig handle is re-resolved by its ID, a single native query instead of enumerating and choosing all EGLConfig.
+     * </p>
+     */
+    private static EGLGraphicsConfiguration fetchMemoizedConfig(final GLCapabilitiesCache capsCache, final EGLGraphicsDevice eglDevice,
+                                                                final GLCapabilitiesImmutable capsChosen, final GLCapabilitiesImmutable capsReq,
+                                                                final GLCapabilitiesChooser chooser,
+                                                                final AbstractGraphicsScreen absScreen, final int nativeVisualID) {
+        final EGLGLCapabilities chosenCaps = (EGLGLCapabilities) capsCache.getChosen(eglDevice, absScreen.getIndex(), nativeVisualID, capsChosen, capsReq);
+        if( null == chosenCaps ) {
+            return null;
+        }
+        final long eglConfig = EGLGraphicsConfiguration.EGLConfigId2EGLConfig(eglDevice.getHandle(), chosenCaps.getEGLConfigID());
+        if( 0 == eglConfig ) {
+            if(DEBUG) {
+                System.err.println("EGLGraphicsConfiguration.fetchMemoizedConfig: Memoized eglConfigID "+toHexString(chosenCaps.getEGLConfigID())+" n/a, "+eglDevice);
+            }
+            capsCache.invalidate(eglDevice);
+            return null;
+        }
+        chosenCaps.setEGLConfig(eglConfig);
+        final EGLGraphicsConfiguration res = new EGLGraphicsConfiguration(absScreen, chosenCaps, capsReq, chooser);
+        if (DEBUG) {
+            System.err.println("EGLGraphicsConfiguration.fetchMemoizedConfig: eglConfig: "+toHexString(eglConfig)+": "+res);
+        }
+        return res;
+    }
 
     static EGLGraphicsConfiguration eglChooseConfig(final EGLGraphicsDevice device,
                                                     final GLCapabilitiesImmutable capsChosen, final GLCapabilitiesImmutable capsRequested,
@@ -55,4 +55,5 @@ package jogamp.opengl.glu.tessellator;
 class CachedVertex {
     public double[] coords = new double[3];
     public Object data;
+    public int index;
 }
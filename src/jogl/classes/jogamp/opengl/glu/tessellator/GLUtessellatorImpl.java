@@ -52,6 +52,9 @@
 */
 package jogamp.opengl.glu.tessellator;
 
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
 import jogamp.opengl.glu.tessellator.*;
 import com.jogamp.opengl.*;
 import com.jogamp.opengl.glu.*;
@@ -64,6 +67,8 @@ public class GLUtessellatorImpl implements GLUtessellator {
     private GLUhalfEdge lastEdge;    /* lastEdge->Org is the most recent vertex */
     GLUmesh mesh;        /* stores the input contours, and eventually
                                    the tessellation itself */
+    final MeshArena arena = new MeshArena(); /* storage of all mesh elements,
+                                                optionally reused across polygons */
 
     /*** state needed for projecting onto the sweep plane ***/
 
@@ -92,6 +97,19 @@ public class GLUtessellatorImpl implements GLUtessellator {
     GLUface lonelyTriList;
     /* list of triangles which could not be rendered as strips or fans */
 
+    /*** state needed for bulk triangulation, see gluTessTriangulate() ***/
+
+    IntBuffer bulkIndices;    /* triangle index sink, non null while in bulk mode */
+    private DoubleBuffer bulkCombined;    /* sink for intersection vertex coordinates */
+    private int bulkNextIndex;    /* index of the next intersection vertex */
+    private int bulkTriangles;    /* number of triangles written, or -1 on error */
+    private final double[] bulkCoords = new double[3];
+
+    /*** scratch storage to avoid per vertex allocations ***/
+
+    private final double[] clamped = new double[3];
+    final GLUvertex isect = new GLUvertex();    /* intersection point (see sweep.c) */
+
 
 
     /*** state needed to cache single-contour polygons for renderCache() */
@@ -170,7 +188,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
         /* Return the tessellator to its original dormant state. */
 
         if (mesh != null) {
-            Mesh.__gl_meshDeleteMesh(mesh);
+            Mesh.__gl_meshDeleteMesh(arena, mesh);
         }
         state = TessState.T_DORMANT;
         lastEdge = null;
@@ -209,6 +227,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
 
     public void gluDeleteTess() {
         requireState(TessState.T_DORMANT);
+        arena.clear();
     }
 
     public void gluTessProperty(final int which, final double value) {
@@ -242,6 +261,10 @@ public class GLUtessellatorImpl implements GLUtessellator {
                 avoidDegenerateTris = (value != 0);
                 return;
 
+            case GLU.GLU_TESS_REUSE_MESH_STORAGE:
+                arena.setRetain(value != 0);
+                return;
+
             default:
                 callErrorOrErrorData(GLU.GLU_INVALID_ENUM);
                 return;
@@ -272,6 +295,9 @@ public class GLUtessellatorImpl implements GLUtessellator {
             case GLU.GLU_TESS_AVOID_DEGENERATE_TRIANGLES:
                 value[value_offset] = avoidDegenerateTris ? 1 : 0;
                 break;
+            case GLU.GLU_TESS_REUSE_MESH_STORAGE:
+                value[value_offset] = arena.getRetain() ? 1 : 0;
+                break;
             default:
                 value[value_offset] = 0.0;
                 callErrorOrErrorData(GLU.GLU_INVALID_ENUM);
@@ -340,26 +366,27 @@ public class GLUtessellatorImpl implements GLUtessellator {
         }
     }
 
-    private boolean addVertex(final double[] coords, final Object vertexData) {
+    private boolean addVertex(final double[] coords, final Object vertexData, final int vertexIndex) {
         GLUhalfEdge e;
 
         e = lastEdge;
         if (e == null) {
 /* Make a self-loop (one vertex, one edge). */
 
-            e = Mesh.__gl_meshMakeEdge(mesh);
+            e = Mesh.__gl_meshMakeEdge(arena, mesh);
             if (e == null) return false;
-            if (!Mesh.__gl_meshSplice(e, e.Sym)) return false;
+            if (!Mesh.__gl_meshSplice(arena, e, e.Sym)) return false;
         } else {
 /* Create a new vertex and edge which immediately follow e
  * in the ordering around the left face.
  */
-            Mesh.__gl_meshSplitEdge(e);
+            Mesh.__gl_meshSplitEdge(arena, e);
             e = e.Lnext;
         }
 
 /* The new vertex is now e.Org. */
         e.Org.data = vertexData;
+        e.Org.index = vertexIndex;
         e.Org.coords[0] = coords[0];
         e.Org.coords[1] = coords[1];
         e.Org.coords[2] = coords[2];
@@ -377,7 +404,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
         return true;
     }
 
-    private void cacheVertex(final double[] coords, final Object vertexData) {
+    private void cacheVertex(final double[] coords, final Object vertexData, final int vertexIndex) {
         if (cache[cacheCount] == null) {
             cache[cacheCount] = new CachedVertex();
         }
@@ -385,6 +412,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
         final CachedVertex v = cache[cacheCount];
 
         v.data = vertexData;
+        v.index = vertexIndex;
         v.coords[0] = coords[0];
         v.coords[1] = coords[1];
         v.coords[2] = coords[2];
@@ -395,11 +423,11 @@ public class GLUtessellatorImpl implements GLUtessellator {
     private boolean flushCache() {
         final CachedVertex[] v = cache;
 
-        mesh = Mesh.__gl_meshNewMesh();
+        mesh = Mesh.__gl_meshNewMesh(arena);
 
         for (int i = 0; i < cacheCount; i++) {
             final CachedVertex vertex = v[i];
-            if (!addVertex(vertex.coords, vertex.data)) {
+            if (!addVertex(vertex.coords, vertex.data, vertex.index)) {
                 return false;
             }
         }
@@ -410,10 +438,13 @@ public class GLUtessellatorImpl implements GLUtessellator {
     }
 
     public void gluTessVertex(final double[] coords, final int coords_offset, final Object vertexData) {
+        tessVertex(coords, coords_offset, vertexData, -1);
+    }
+
+    private void tessVertex(final double[] coords, final int coords_offset, final Object vertexData, final int vertexIndex) {
         int i;
         boolean tooLarge = false;
         double x;
-        final double[] clamped = new double[3];
 
         requireState(TessState.T_IN_CONTOUR);
 
@@ -442,7 +473,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
 
         if (mesh == null) {
             if (cacheCount < TESS_MAX_CACHE) {
-                cacheVertex(clamped, vertexData);
+                cacheVertex(clamped, vertexData, vertexIndex);
                 return;
             }
             if (!flushCache()) {
@@ -451,7 +482,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
             }
         }
 
-        if (!addVertex(clamped, vertexData)) {
+        if (!addVertex(clamped, vertexData, vertexIndex)) {
             callErrorOrErrorData(GLU.GLU_OUT_OF_MEMORY);
         }
     }
@@ -497,7 +528,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
             state = TessState.T_DORMANT;
 
             if (this.mesh == null) {
-                if (!flagBoundary /*&& callMesh == NULL_CB*/) {
+                if (!flagBoundary && bulkIndices == null /*&& callMesh == NULL_CB*/) {
 
 /* Try some special code to make the easy cases go quickly
  * (eg. convex polygons).  This code does NOT handle multiple contours,
@@ -535,16 +566,18 @@ public class GLUtessellatorImpl implements GLUtessellator {
  * except those which separate the interior from the exterior.
  * Otherwise we tessellate all the regions marked "inside".
  */
-                if (boundaryOnly) {
-                    rc = TessMono.__gl_meshSetWindingNumber(mesh, 1, true);
+                if (boundaryOnly && bulkIndices == null) {
+                    rc = TessMono.__gl_meshSetWindingNumber(arena, mesh, 1, true);
                 } else {
-                    rc = TessMono.__gl_meshTessellateInterior(mesh, avoidDegenerateTris);
+                    rc = TessMono.__gl_meshTessellateInterior(arena, mesh, avoidDegenerateTris);
                 }
                 if (!rc) throw new RuntimeException();    /* could've used a label */
 
                 Mesh.__gl_meshCheckMesh(mesh);
 
-                if (callBegin != NULL_CB || callEnd != NULL_CB
+                if (bulkIndices != null) {
+                    bulkTriangles = Render.__gl_renderTriangleIndices(this, mesh, bulkIndices);
+                } else if (callBegin != NULL_CB || callEnd != NULL_CB
                         || callVertex != NULL_CB || callEdgeFlag != NULL_CB
                         || callBeginData != NULL_CB
                         || callEndData != NULL_CB
@@ -571,7 +604,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
 //                    return;
 //                }
             }
-            Mesh.__gl_meshDeleteMesh(mesh);
+            Mesh.__gl_meshDeleteMesh(arena, mesh);
             polygonData = null;
             mesh = null;
         } catch (final Exception e) {
@@ -580,6 +613,61 @@ public class GLUtessellatorImpl implements GLUtessellator {
         }
     }
 
+    /**
+     * Bulk triangulation of one polygon without invoking the vertex callbacks, see
+     * {@link GLU#gluTessTriangulate(GLUtessellator, DoubleBuffer, IntBuffer, IntBuffer, DoubleBuffer)}.
+     * @return the number of triangles written to {@code indices}, or -1 on error
+     */
+    public int gluTessTriangulate(final DoubleBuffer coords, final IntBuffer contourCounts,
+                                  final IntBuffer indices, final DoubleBuffer combinedCoords) {
+        requireState(TessState.T_DORMANT);
+
+        final int coordsPos = coords.position();
+        bulkIndices = indices;
+        bulkCombined = combinedCoords;
+        // combined vertices follow the last input vertex, i.e. the sum of all contour counts
+        int vertexCount = 0;
+        for (int i = contourCounts.position(); i < contourCounts.limit(); ++i) {
+            vertexCount += contourCounts.get(i);
+        }
+        bulkNextIndex = vertexCount;
+        bulkTriangles = -1;
+        try {
+            gluTessBeginPolygon(null);
+            int v = 0;
+            while (contourCounts.hasRemaining()) {
+                final int n = contourCounts.get();
+                gluTessBeginContour();
+                for (int i = 0; i < n; ++i, ++v) {
+                    final int p = coordsPos + 3 * v;
+                    bulkCoords[0] = coords.get(p);
+                    bulkCoords[1] = coords.get(p + 1);
+                    bulkCoords[2] = coords.get(p + 2);
+                    tessVertex(bulkCoords, 0, null, v);
+                }
+                gluTessEndContour();
+            }
+            gluTessEndPolygon();
+            return bulkTriangles;
+        } finally {
+            bulkIndices = null;
+            bulkCombined = null;
+        }
+    }
+
+    /**
+     * Appends the coordinates of the given intersection vertex to the bulk combine buffer
+     * and assigns its index. Returns false if there is no room for it.
+     */
+    boolean bulkCombine(final GLUvertex v) {
+        if (bulkCombined == null || bulkCombined.remaining() < 3) {
+            return false;
+        }
+        bulkCombined.put(v.coords[0]).put(v.coords[1]).put(v.coords[2]);
+        v.index = bulkNextIndex++;
+        return true;
+    }
+
     /*******************************************************/
 
 /* Obsolete calls -- for backward compatibility */
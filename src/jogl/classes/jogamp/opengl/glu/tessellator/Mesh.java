@@ -61,7 +61,7 @@ class Mesh {
  * No vertex or face structures are allocated, but these must be assigned
  * before the current edge operation is completed.
  */
-    static jogamp.opengl.glu.tessellator.GLUhalfEdge MakeEdge(jogamp.opengl.glu.tessellator.GLUhalfEdge eNext) {
+    static jogamp.opengl.glu.tessellator.GLUhalfEdge MakeEdge(final MeshArena arena, jogamp.opengl.glu.tessellator.GLUhalfEdge eNext) {
         jogamp.opengl.glu.tessellator.GLUhalfEdge e;
         jogamp.opengl.glu.tessellator.GLUhalfEdge eSym;
         jogamp.opengl.glu.tessellator.GLUhalfEdge ePrev;
@@ -71,9 +71,9 @@ class Mesh {
 //        if (pair == NULL) return NULL;
 //
 //        e = &pair - > e;
-        e = new jogamp.opengl.glu.tessellator.GLUhalfEdge(true);
+        e = arena.allocEdgePair();
 //        eSym = &pair - > eSym;
-        eSym = new jogamp.opengl.glu.tessellator.GLUhalfEdge(false);
+        eSym = e.Sym;
 
 
         /* Make sure eNext points to the first edge of the edge pair */
@@ -148,6 +148,7 @@ class Mesh {
 
         vNew.anEdge = eOrig;
         vNew.data = null;
+        vNew.index = -1;
         /* leave coords, s, t undefined */
 
         /* fix other edges on this vertex loop */
@@ -265,13 +266,13 @@ class Mesh {
 /* __gl_meshMakeEdge creates one edge, two vertices, and a loop (face).
  * The loop consists of the two new half-edges.
  */
-    public static jogamp.opengl.glu.tessellator.GLUhalfEdge __gl_meshMakeEdge(final jogamp.opengl.glu.tessellator.GLUmesh mesh) {
-        final jogamp.opengl.glu.tessellator.GLUvertex newVertex1 = new jogamp.opengl.glu.tessellator.GLUvertex();
-        final jogamp.opengl.glu.tessellator.GLUvertex newVertex2 = new jogamp.opengl.glu.tessellator.GLUvertex();
-        final jogamp.opengl.glu.tessellator.GLUface newFace = new jogamp.opengl.glu.tessellator.GLUface();
+    public static jogamp.opengl.glu.tessellator.GLUhalfEdge __gl_meshMakeEdge(final MeshArena arena, final jogamp.opengl.glu.tessellator.GLUmesh mesh) {
+        final jogamp.opengl.glu.tessellator.GLUvertex newVertex1 = arena.allocVertex();
+        final jogamp.opengl.glu.tessellator.GLUvertex newVertex2 = arena.allocVertex();
+        final jogamp.opengl.glu.tessellator.GLUface newFace = arena.allocFace();
         jogamp.opengl.glu.tessellator.GLUhalfEdge e;
 
-        e = MakeEdge(mesh.eHead);
+        e = MakeEdge(arena, mesh.eHead);
         if (e == null) return null;
 
         MakeVertex(newVertex1, e, mesh.vHead);
@@ -304,7 +305,7 @@ class Mesh {
  * If eDst == eOrg->Onext, the new vertex will have a single edge.
  * If eDst == eOrg->Oprev, the old vertex will have a single edge.
  */
-    public static boolean __gl_meshSplice(final jogamp.opengl.glu.tessellator.GLUhalfEdge eOrg, final jogamp.opengl.glu.tessellator.GLUhalfEdge eDst) {
+    public static boolean __gl_meshSplice(final MeshArena arena, final jogamp.opengl.glu.tessellator.GLUhalfEdge eOrg, final jogamp.opengl.glu.tessellator.GLUhalfEdge eDst) {
         boolean joiningLoops = false;
         boolean joiningVertices = false;
 
@@ -325,7 +326,7 @@ class Mesh {
         Splice(eDst, eOrg);
 
         if (!joiningVertices) {
-            final jogamp.opengl.glu.tessellator.GLUvertex newVertex = new jogamp.opengl.glu.tessellator.GLUvertex();
+            final jogamp.opengl.glu.tessellator.GLUvertex newVertex = arena.allocVertex();
 
             /* We split one vertex into two -- the new vertex is eDst.Org.
              * Make sure the old vertex points to a valid half-edge.
@@ -334,7 +335,7 @@ class Mesh {
             eOrg.Org.anEdge = eOrg;
         }
         if (!joiningLoops) {
-            final jogamp.opengl.glu.tessellator.GLUface newFace = new jogamp.opengl.glu.tessellator.GLUface();
+            final jogamp.opengl.glu.tessellator.GLUface newFace = arena.allocFace();
 
             /* We split one loop into two -- the new loop is eDst.Lface.
              * Make sure the old face points to a valid half-edge.
@@ -357,7 +358,7 @@ class Mesh {
  * plus a few calls to memFree, but this would allocate and delete
  * unnecessary vertices and faces.
  */
-    static boolean __gl_meshDelete(final jogamp.opengl.glu.tessellator.GLUhalfEdge eDel) {
+    static boolean __gl_meshDelete(final MeshArena arena, final jogamp.opengl.glu.tessellator.GLUhalfEdge eDel) {
         final jogamp.opengl.glu.tessellator.GLUhalfEdge eDelSym = eDel.Sym;
         boolean joiningLoops = false;
 
@@ -379,7 +380,7 @@ class Mesh {
 
             Splice(eDel, eDel.Sym.Lnext);
             if (!joiningLoops) {
-                final jogamp.opengl.glu.tessellator.GLUface newFace = new jogamp.opengl.glu.tessellator.GLUface();
+                final jogamp.opengl.glu.tessellator.GLUface newFace = arena.allocFace();
 
                 /* We are splitting one loop into two -- create a new loop for eDel. */
                 MakeFace(newFace, eDel, eDel.Lface);
@@ -417,9 +418,9 @@ class Mesh {
  * eNew == eOrg.Lnext, and eNew.Dst is a newly created vertex.
  * eOrg and eNew will have the same left face.
  */
-    static jogamp.opengl.glu.tessellator.GLUhalfEdge __gl_meshAddEdgeVertex(final jogamp.opengl.glu.tessellator.GLUhalfEdge eOrg) {
+    static jogamp.opengl.glu.tessellator.GLUhalfEdge __gl_meshAddEdgeVertex(final MeshArena arena, final jogamp.opengl.glu.tessellator.GLUhalfEdge eOrg) {
         jogamp.opengl.glu.tessellator.GLUhalfEdge eNewSym;
-        final jogamp.opengl.glu.tessellator.GLUhalfEdge eNew = MakeEdge(eOrg);
+        final jogamp.opengl.glu.tessellator.GLUhalfEdge eNew = MakeEdge(arena, eOrg);
 
         eNewSym = eNew.Sym;
 
@@ -429,7 +430,7 @@ class Mesh {
         /* Set the vertex and face information */
         eNew.Org = eOrg.Sym.Org;
         {
-            final jogamp.opengl.glu.tessellator.GLUvertex newVertex = new jogamp.opengl.glu.tessellator.GLUvertex();
+            final jogamp.opengl.glu.tessellator.GLUvertex newVertex = arena.allocVertex();
 
             MakeVertex(newVertex, eNewSym, eNew.Org);
         }
@@ -443,9 +444,9 @@ class Mesh {
  * such that eNew == eOrg.Lnext.  The new vertex is eOrg.Sym.Org == eNew.Org.
  * eOrg and eNew will have the same left face.
  */
-    public static jogamp.opengl.glu.tessellator.GLUhalfEdge __gl_meshSplitEdge(final jogamp.opengl.glu.tessellator.GLUhalfEdge eOrg) {
+    public static jogamp.opengl.glu.tessellator.GLUhalfEdge __gl_meshSplitEdge(final MeshArena arena, final jogamp.opengl.glu.tessellator.GLUhalfEdge eOrg) {
         jogamp.opengl.glu.tessellator.GLUhalfEdge eNew;
-        final jogamp.opengl.glu.tessellator.GLUhalfEdge tempHalfEdge = __gl_meshAddEdgeVertex(eOrg);
+        final jogamp.opengl.glu.tessellator.GLUhalfEdge tempHalfEdge = __gl_meshAddEdgeVertex(arena, eOrg);
 
         eNew = tempHalfEdge.Sym;
 
@@ -474,10 +475,10 @@ class Mesh {
  * If (eOrg.Lnext == eDst), the old face is reduced to a single edge.
  * If (eOrg.Lnext.Lnext == eDst), the old face is reduced to two edges.
  */
-    static jogamp.opengl.glu.tessellator.GLUhalfEdge __gl_meshConnect(final jogamp.opengl.glu.tessellator.GLUhalfEdge eOrg, final jogamp.opengl.glu.tessellator.GLUhalfEdge eDst) {
+    static jogamp.opengl.glu.tessellator.GLUhalfEdge __gl_meshConnect(final MeshArena arena, final jogamp.opengl.glu.tessellator.GLUhalfEdge eOrg, final jogamp.opengl.glu.tessellator.GLUhalfEdge eDst) {
         jogamp.opengl.glu.tessellator.GLUhalfEdge eNewSym;
         boolean joiningLoops = false;
-        final jogamp.opengl.glu.tessellator.GLUhalfEdge eNew = MakeEdge(eOrg);
+        final jogamp.opengl.glu.tessellator.GLUhalfEdge eNew = MakeEdge(arena, eOrg);
 
         eNewSym = eNew.Sym;
 
@@ -500,7 +501,7 @@ class Mesh {
         eOrg.Lface.anEdge = eNewSym;
 
         if (!joiningLoops) {
-            final jogamp.opengl.glu.tessellator.GLUface newFace = new jogamp.opengl.glu.tessellator.GLUface();
+            final jogamp.opengl.glu.tessellator.GLUface newFace = arena.allocFace();
 
             /* We split one loop into two -- the new loop is eNew.Lface */
             MakeFace(newFace, eNew, eOrg.Lface);
@@ -563,12 +564,12 @@ class Mesh {
 /* __gl_meshNewMesh() creates a new mesh with no edges, no vertices,
  * and no loops (what we usually call a "face").
  */
-    public static jogamp.opengl.glu.tessellator.GLUmesh __gl_meshNewMesh() {
+    public static jogamp.opengl.glu.tessellator.GLUmesh __gl_meshNewMesh(final MeshArena arena) {
         jogamp.opengl.glu.tessellator.GLUvertex v;
         jogamp.opengl.glu.tessellator.GLUface f;
         jogamp.opengl.glu.tessellator.GLUhalfEdge e;
         jogamp.opengl.glu.tessellator.GLUhalfEdge eSym;
-        final jogamp.opengl.glu.tessellator.GLUmesh mesh = new jogamp.opengl.glu.tessellator.GLUmesh();
+        final jogamp.opengl.glu.tessellator.GLUmesh mesh = arena.allocMesh();
 
         v = mesh.vHead;
         f = mesh.fHead;
@@ -656,25 +657,11 @@ class Mesh {
         assert (mesh.vHead.next == mesh.vHead);
     }
 
-/* __gl_meshDeleteMesh( mesh ) will free all storage for any valid mesh.
+/* __gl_meshDeleteMesh( mesh ) will free all storage for any valid mesh,
+ * i.e. hand it back to the arena if it retains mesh storage.
  */
-    public static void __gl_meshDeleteMesh(final jogamp.opengl.glu.tessellator.GLUmesh mesh) {
-        jogamp.opengl.glu.tessellator.GLUface f, fNext;
-        jogamp.opengl.glu.tessellator.GLUvertex v, vNext;
-        jogamp.opengl.glu.tessellator.GLUhalfEdge e, eNext;
-
-        for (f = mesh.fHead.next; f != mesh.fHead; f = fNext) {
-            fNext = f.next;
-        }
-
-        for (v = mesh.vHead.next; v != mesh.vHead; v = vNext) {
-            vNext = v.next;
-        }
-
-        for (e = mesh.eHead.next; e != mesh.eHead; e = eNext) {
-            /* One call frees both e and e.Sym (see EdgePair above) */
-            eNext = e.next;
-        }
+    public static void __gl_meshDeleteMesh(final MeshArena arena, final jogamp.opengl.glu.tessellator.GLUmesh mesh) {
+        arena.releaseMesh(mesh);
     }
 
 /* __gl_meshCheckMesh( mesh ) checks a mesh for self-consistency.
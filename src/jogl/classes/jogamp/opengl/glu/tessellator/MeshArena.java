@@ -0,0 +1,166 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.glu.tessellator;
+
+/**
+ * Free-list storage for the mesh elements of one {@link GLUtessellatorImpl}.
+ * <p>
+ * All {@link GLUvertex}, {@link GLUhalfEdge} pairs and {@link GLUface} instances
+ * of a mesh are taken from this arena. If {@link #setRetain(boolean) retaining} is enabled,
+ * {@link #releaseMesh(GLUmesh)} hands all elements of a finished mesh back to the arena,
+ * so subsequent polygons of similar size are tessellated without allocating mesh objects.
+ * </p>
+ * <p>
+ * Elements destroyed while the sweep is running are left to the garbage collector,
+ * since they might still be referenced by the sweep structures.
+ * </p>
+ */
+class MeshArena {
+    private static final int INIT_SIZE = 64;
+
+    private GLUvertex[] vertices = new GLUvertex[INIT_SIZE];
+    private int vertexCount = 0;
+    private GLUhalfEdge[] edges = new GLUhalfEdge[INIT_SIZE];
+    private int edgeCount = 0;
+    private GLUface[] faces = new GLUface[INIT_SIZE];
+    private int faceCount = 0;
+    private GLUmesh mesh = null;
+    private boolean retain = false;
+
+    MeshArena() {}
+
+    /** Enable or disable retaining released mesh elements, disabling also {@link #clear() clears} the arena. */
+    void setRetain(final boolean v) {
+        retain = v;
+        if( !v ) {
+            clear();
+        }
+    }
+    boolean getRetain() { return retain; }
+
+    /** Drops all retained elements. */
+    void clear() {
+        vertices = new GLUvertex[INIT_SIZE];
+        vertexCount = 0;
+        edges = new GLUhalfEdge[INIT_SIZE];
+        edgeCount = 0;
+        faces = new GLUface[INIT_SIZE];
+        faceCount = 0;
+        mesh = null;
+    }
+
+    /** Returns the number of retained vertices, half-edge pairs and faces. */
+    int getRetainedCount() { return vertexCount + edgeCount + faceCount; }
+
+    GLUmesh allocMesh() {
+        if( null != mesh ) {
+            final GLUmesh m = mesh;
+            mesh = null;
+            return m;
+        }
+        return new GLUmesh();
+    }
+
+    GLUvertex allocVertex() {
+        if( 0 < vertexCount ) {
+            return vertices[--vertexCount];
+        }
+        return new GLUvertex();
+    }
+
+    /** Returns the first half-edge of a pair, its {@link GLUhalfEdge#Sym} is the second. */
+    GLUhalfEdge allocEdgePair() {
+        if( 0 < edgeCount ) {
+            return edges[--edgeCount];
+        }
+        final GLUhalfEdge e = new GLUhalfEdge(true);
+        final GLUhalfEdge eSym = new GLUhalfEdge(false);
+        e.Sym = eSym;
+        eSym.Sym = e;
+        return e;
+    }
+
+    GLUface allocFace() {
+        if( 0 < faceCount ) {
+            return faces[--faceCount];
+        }
+        return new GLUface();
+    }
+
+    /**
+     * Hands all elements of the given mesh back to this arena if {@link #setRetain(boolean) retaining},
+     * otherwise does nothing. The mesh must not be used afterwards.
+     */
+    void releaseMesh(final GLUmesh m) {
+        if( !retain ) {
+            return;
+        }
+        for(GLUface f = m.fHead.next; f != m.fHead; ) {
+            final GLUface fNext = f.next;
+            f.next = f.prev = f.trail = null;
+            f.anEdge = null;
+            f.data = null;
+            if( faceCount == faces.length ) {
+                faces = grow(faces, new GLUface[faces.length * 2]);
+            }
+            faces[faceCount++] = f;
+            f = fNext;
+        }
+        for(GLUvertex v = m.vHead.next; v != m.vHead; ) {
+            final GLUvertex vNext = v.next;
+            v.next = v.prev = null;
+            v.anEdge = null;
+            v.data = null;
+            if( vertexCount == vertices.length ) {
+                vertices = grow(vertices, new GLUvertex[vertices.length * 2]);
+            }
+            vertices[vertexCount++] = v;
+            v = vNext;
+        }
+        for(GLUhalfEdge e = m.eHead.next; e != m.eHead; ) {
+            final GLUhalfEdge eNext = e.next;
+            final GLUhalfEdge eSym = e.Sym;
+            e.next = e.Onext = e.Lnext = null;
+            eSym.next = eSym.Onext = eSym.Lnext = null;
+            e.Org = eSym.Org = null;
+            e.Lface = eSym.Lface = null;
+            e.activeRegion = eSym.activeRegion = null;
+            if( edgeCount == edges.length ) {
+                edges = grow(edges, new GLUhalfEdge[edges.length * 2]);
+            }
+            edges[edgeCount++] = e;
+            e = eNext;
+        }
+        mesh = m;
+    }
+
+    private static <T> T[] grow(final T[] src, final T[] dst) {
+        System.arraycopy(src, 0, dst, 0, src.length);
+        return dst;
+    }
+}
@@ -52,6 +52,8 @@
 */
 package jogamp.opengl.glu.tessellator;
 
+import java.nio.IntBuffer;
+
 import com.jogamp.opengl.*;
 import com.jogamp.opengl.glu.*;
 
@@ -375,6 +377,39 @@ class Render {
         }
     }
 
+    /************************ Bulk triangle index output ******************/
+
+/* __gl_renderTriangleIndices( tess, mesh, indices ) writes the three vertex
+ * indices of each face marked "inside" to the given buffer, without invoking
+ * any rendering callbacks.  All interior faces are triangles at this point.
+ * Returns the number of triangles written, or -1 if the buffer is too small.
+ */
+    static int __gl_renderTriangleIndices(final GLUtessellatorImpl tess, final jogamp.opengl.glu.tessellator.GLUmesh mesh, final IntBuffer indices) {
+        jogamp.opengl.glu.tessellator.GLUface f;
+        jogamp.opengl.glu.tessellator.GLUhalfEdge e;
+        int count = 0;
+
+        for (f = mesh.fHead.next; f != mesh.fHead; f = f.next) {
+            if (f.inside) {
+                ++count;
+            }
+        }
+        if (indices.remaining() < 3 * count) {
+            return -1;
+        }
+        for (f = mesh.fHead.next; f != mesh.fHead; f = f.next) {
+            if (f.inside) {
+                e = f.anEdge;
+                assert (e.Lnext.Lnext.Lnext == e);
+                do {
+                    indices.put(e.Org.index);
+                    e = e.Lnext;
+                } while (e != f.anEdge);
+            }
+        }
+        return count;
+    }
+
     /************************ Boundary contour decomposition ******************/
 
 /* __gl_renderBoundary( tess, mesh ) takes a mesh, and outputs one
@@ -169,12 +169,12 @@ class Sweep {
     }
 
 
-    static boolean FixUpperEdge(final ActiveRegion reg, final GLUhalfEdge newEdge)
+    static boolean FixUpperEdge(final GLUtessellatorImpl tess, final ActiveRegion reg, final GLUhalfEdge newEdge)
 /*
  * Replace an upper edge which needs fixing (see ConnectRightVertex).
  */ {
         assert (reg.fixUpperEdge);
-        if (!Mesh.__gl_meshDelete(reg.eUp)) return false;
+        if (!Mesh.__gl_meshDelete(tess.arena, reg.eUp)) return false;
         reg.fixUpperEdge = false;
         reg.eUp = newEdge;
         newEdge.activeRegion = reg;
@@ -182,7 +182,7 @@ class Sweep {
         return true;
     }
 
-    static ActiveRegion TopLeftRegion(ActiveRegion reg) {
+    static ActiveRegion TopLeftRegion(final GLUtessellatorImpl tess, ActiveRegion reg) {
         final GLUvertex org = reg.eUp.Org;
         GLUhalfEdge e;
 
@@ -195,9 +195,9 @@ class Sweep {
          * now is the time to fix it.
          */
         if (reg.fixUpperEdge) {
-            e = Mesh.__gl_meshConnect(RegionBelow(reg).eUp.Sym, reg.eUp.Lnext);
+            e = Mesh.__gl_meshConnect(tess.arena, RegionBelow(reg).eUp.Sym, reg.eUp.Lnext);
             if (e == null) return null;
-            if (!FixUpperEdge(reg, e)) return null;
+            if (!FixUpperEdge(tess, reg, e)) return null;
             reg = RegionAbove(reg);
         }
         return reg;
@@ -317,15 +317,15 @@ class Sweep {
                 /* If the edge below was a temporary edge introduced by
                  * ConnectRightVertex, now is the time to fix it.
                  */
-                e = Mesh.__gl_meshConnect(ePrev.Onext.Sym, e.Sym);
+                e = Mesh.__gl_meshConnect(tess.arena, ePrev.Onext.Sym, e.Sym);
                 if (e == null) throw new RuntimeException();
-                if (!FixUpperEdge(reg, e)) throw new RuntimeException();
+                if (!FixUpperEdge(tess, reg, e)) throw new RuntimeException();
             }
 
             /* Relink edges so that ePrev.Onext == e */
             if (ePrev.Onext != e) {
-                if (!Mesh.__gl_meshSplice(e.Sym.Lnext, e)) throw new RuntimeException();
-                if (!Mesh.__gl_meshSplice(ePrev, e)) throw new RuntimeException();
+                if (!Mesh.__gl_meshSplice(tess.arena, e.Sym.Lnext, e)) throw new RuntimeException();
+                if (!Mesh.__gl_meshSplice(tess.arena, ePrev, e)) throw new RuntimeException();
             }
             FinishRegion(tess, regPrev);    /* may change reg.eUp */
             ePrev = reg.eUp;
@@ -376,8 +376,8 @@ class Sweep {
 
             if (e.Onext != ePrev) {
                 /* Unlink e from its current position, and relink below ePrev */
-                if (!Mesh.__gl_meshSplice(e.Sym.Lnext, e)) throw new RuntimeException();
-                if (!Mesh.__gl_meshSplice(ePrev.Sym.Lnext, e)) throw new RuntimeException();
+                if (!Mesh.__gl_meshSplice(tess.arena, e.Sym.Lnext, e)) throw new RuntimeException();
+                if (!Mesh.__gl_meshSplice(tess.arena, ePrev.Sym.Lnext, e)) throw new RuntimeException();
             }
             /* Compute the winding number and "inside" flag for the new regions */
             reg.windingNumber = regPrev.windingNumber - e.winding;
@@ -390,7 +390,7 @@ class Sweep {
             if (!firstTime && CheckForRightSplice(tess, regPrev)) {
                 AddWinding(e, ePrev);
                 DeleteRegion(tess, regPrev);
-                if (!Mesh.__gl_meshDelete(ePrev)) throw new RuntimeException();
+                if (!Mesh.__gl_meshDelete(tess.arena, ePrev)) throw new RuntimeException();
             }
             firstTime = false;
             regPrev = reg;
@@ -408,6 +408,16 @@ class Sweep {
 
     static void CallCombine(final GLUtessellatorImpl tess, final GLUvertex isect,
                             final Object[] data, final float[] weights, final boolean needed) {
+        if (tess.bulkIndices != null) {
+            /* Bulk mode: merged vertices keep their index, new intersection
+             * vertices are appended to the client's combine buffer.
+             */
+            if (needed && !tess.bulkCombine(isect) && !tess.fatalError) {
+                tess.callErrorOrErrorData(GLU.GLU_TESS_NEED_COMBINE_CALLBACK);
+                tess.fatalError = true;
+            }
+            return;
+        }
         final double[] coords = new double[3];
 
         /* Copy coord data in case the callback changes it. */
@@ -444,7 +454,7 @@ class Sweep {
         data[0] = e1.Org.data;
         data[1] = e2.Org.data;
         CallCombine(tess, e1.Org, data, weights, false);
-        if (!Mesh.__gl_meshSplice(e1, e2)) throw new RuntimeException();
+        if (!Mesh.__gl_meshSplice(tess.arena, e1, e2)) throw new RuntimeException();
     }
 
     static void VertexWeights(final GLUvertex isect, final GLUvertex org, final GLUvertex dst,
@@ -530,8 +540,8 @@ class Sweep {
             /* eUp.Org appears to be below eLo */
             if (!Geom.VertEq(eUp.Org, eLo.Org)) {
                 /* Splice eUp.Org into eLo */
-                if (Mesh.__gl_meshSplitEdge(eLo.Sym) == null) throw new RuntimeException();
-                if (!Mesh.__gl_meshSplice(eUp, eLo.Sym.Lnext)) throw new RuntimeException();
+                if (Mesh.__gl_meshSplitEdge(tess.arena, eLo.Sym) == null) throw new RuntimeException();
+                if (!Mesh.__gl_meshSplice(tess.arena, eUp, eLo.Sym.Lnext)) throw new RuntimeException();
                 regUp.dirty = regLo.dirty = true;
 
             } else if (eUp.Org != eLo.Org) {
@@ -544,8 +554,8 @@ class Sweep {
 
             /* eLo.Org appears to be above eUp, so splice eLo.Org into eUp */
             RegionAbove(regUp).dirty = regUp.dirty = true;
-            if (Mesh.__gl_meshSplitEdge(eUp.Sym) == null) throw new RuntimeException();
-            if (!Mesh.__gl_meshSplice(eLo.Sym.Lnext, eUp)) throw new RuntimeException();
+            if (Mesh.__gl_meshSplitEdge(tess.arena, eUp.Sym) == null) throw new RuntimeException();
+            if (!Mesh.__gl_meshSplice(tess.arena, eLo.Sym.Lnext, eUp)) throw new RuntimeException();
         }
         return true;
     }
@@ -581,18 +591,18 @@ class Sweep {
 
             /* eLo.Sym.Org is above eUp, so splice eLo.Sym.Org into eUp */
             RegionAbove(regUp).dirty = regUp.dirty = true;
-            e = Mesh.__gl_meshSplitEdge(eUp);
+            e = Mesh.__gl_meshSplitEdge(tess.arena, eUp);
             if (e == null) throw new RuntimeException();
-            if (!Mesh.__gl_meshSplice(eLo.Sym, e)) throw new RuntimeException();
+            if (!Mesh.__gl_meshSplice(tess.arena, eLo.Sym, e)) throw new RuntimeException();
             e.Lface.inside = regUp.inside;
         } else {
             if (Geom.EdgeSign(eLo.Sym.Org, eUp.Sym.Org, eLo.Org) > 0) return false;
 
             /* eUp.Sym.Org is below eLo, so splice eUp.Sym.Org into eLo */
             regUp.dirty = regLo.dirty = true;
-            e = Mesh.__gl_meshSplitEdge(eLo);
+            e = Mesh.__gl_meshSplitEdge(tess.arena, eLo);
             if (e == null) throw new RuntimeException();
-            if (!Mesh.__gl_meshSplice(eUp.Lnext, eLo.Sym)) throw new RuntimeException();
+            if (!Mesh.__gl_meshSplice(tess.arena, eUp.Lnext, eLo.Sym)) throw new RuntimeException();
             e.Sym.Lface.inside = regUp.inside;
         }
         return true;
@@ -617,7 +627,7 @@ class Sweep {
         final GLUvertex dstUp = eUp.Sym.Org;
         final GLUvertex dstLo = eLo.Sym.Org;
         double tMinUp, tMaxLo;
-        final GLUvertex isect = new GLUvertex();
+        final GLUvertex isect = tess.isect;
         GLUvertex orgMin;
         GLUhalfEdge e;
 
@@ -687,9 +697,9 @@ class Sweep {
              */
             if (dstLo == tess.event) {
                 /* Splice dstLo into eUp, and process the new region(s) */
-                if (Mesh.__gl_meshSplitEdge(eUp.Sym) == null) throw new RuntimeException();
-                if (!Mesh.__gl_meshSplice(eLo.Sym, eUp)) throw new RuntimeException();
-                regUp = TopLeftRegion(regUp);
+                if (Mesh.__gl_meshSplitEdge(tess.arena, eUp.Sym) == null) throw new RuntimeException();
+                if (!Mesh.__gl_meshSplice(tess.arena, eLo.Sym, eUp)) throw new RuntimeException();
+                regUp = TopLeftRegion(tess, regUp);
                 if (regUp == null) throw new RuntimeException();
                 eUp = RegionBelow(regUp).eUp;
                 FinishLeftRegions(tess, RegionBelow(regUp), regLo);
@@ -698,8 +708,8 @@ class Sweep {
             }
             if (dstUp == tess.event) {
                 /* Splice dstUp into eLo, and process the new region(s) */
-                if (Mesh.__gl_meshSplitEdge(eLo.Sym) == null) throw new RuntimeException();
-                if (!Mesh.__gl_meshSplice(eUp.Lnext, eLo.Sym.Lnext)) throw new RuntimeException();
+                if (Mesh.__gl_meshSplitEdge(tess.arena, eLo.Sym) == null) throw new RuntimeException();
+                if (!Mesh.__gl_meshSplice(tess.arena, eUp.Lnext, eLo.Sym.Lnext)) throw new RuntimeException();
                 regLo = regUp;
                 regUp = TopRightRegion(regUp);
                 e = RegionBelow(regUp).eUp.Sym.Onext;
@@ -714,13 +724,13 @@ class Sweep {
              */
             if (Geom.EdgeSign(dstUp, tess.event, isect) >= 0) {
                 RegionAbove(regUp).dirty = regUp.dirty = true;
-                if (Mesh.__gl_meshSplitEdge(eUp.Sym) == null) throw new RuntimeException();
+                if (Mesh.__gl_meshSplitEdge(tess.arena, eUp.Sym) == null) throw new RuntimeException();
                 eUp.Org.s = tess.event.s;
                 eUp.Org.t = tess.event.t;
             }
             if (Geom.EdgeSign(dstLo, tess.event, isect) <= 0) {
                 regUp.dirty = regLo.dirty = true;
-                if (Mesh.__gl_meshSplitEdge(eLo.Sym) == null) throw new RuntimeException();
+                if (Mesh.__gl_meshSplitEdge(tess.arena, eLo.Sym) == null) throw new RuntimeException();
                 eLo.Org.s = tess.event.s;
                 eLo.Org.t = tess.event.t;
             }
@@ -736,9 +746,9 @@ class Sweep {
          * the mesh (ie. eUp.Lface) to be smaller than the faces in the
          * unprocessed original contours (which will be eLo.Sym.Lnext.Lface).
          */
-        if (Mesh.__gl_meshSplitEdge(eUp.Sym) == null) throw new RuntimeException();
-        if (Mesh.__gl_meshSplitEdge(eLo.Sym) == null) throw new RuntimeException();
-        if (!Mesh.__gl_meshSplice(eLo.Sym.Lnext, eUp)) throw new RuntimeException();
+        if (Mesh.__gl_meshSplitEdge(tess.arena, eUp.Sym) == null) throw new RuntimeException();
+        if (Mesh.__gl_meshSplitEdge(tess.arena, eLo.Sym) == null) throw new RuntimeException();
+        if (!Mesh.__gl_meshSplice(tess.arena, eLo.Sym.Lnext, eUp)) throw new RuntimeException();
         eUp.Org.s = isect.s;
         eUp.Org.t = isect.t;
         eUp.Org.pqHandle = tess.pq.pqInsert(eUp.Org); /* __gl_pqSortInsert */
@@ -792,12 +802,12 @@ class Sweep {
                      */
                     if (regLo.fixUpperEdge) {
                         DeleteRegion(tess, regLo);
-                        if (!Mesh.__gl_meshDelete(eLo)) throw new RuntimeException();
+                        if (!Mesh.__gl_meshDelete(tess.arena, eLo)) throw new RuntimeException();
                         regLo = RegionBelow(regUp);
                         eLo = regLo.eUp;
                     } else if (regUp.fixUpperEdge) {
                         DeleteRegion(tess, regUp);
-                        if (!Mesh.__gl_meshDelete(eUp)) throw new RuntimeException();
+                        if (!Mesh.__gl_meshDelete(tess.arena, eUp)) throw new RuntimeException();
                         regUp = RegionAbove(regLo);
                         eUp = regUp.eUp;
                     }
@@ -830,7 +840,7 @@ class Sweep {
                 /* A degenerate loop consisting of only two edges -- delete it. */
                 AddWinding(eLo, eUp);
                 DeleteRegion(tess, regUp);
-                if (!Mesh.__gl_meshDelete(eUp)) throw new RuntimeException();
+                if (!Mesh.__gl_meshDelete(tess.arena, eUp)) throw new RuntimeException();
                 regUp = RegionAbove(regLo);
             }
         }
@@ -885,15 +895,15 @@ class Sweep {
          * through vEvent, or may coincide with new intersection vertex
          */
         if (Geom.VertEq(eUp.Org, tess.event)) {
-            if (!Mesh.__gl_meshSplice(eTopLeft.Sym.Lnext, eUp)) throw new RuntimeException();
-            regUp = TopLeftRegion(regUp);
+            if (!Mesh.__gl_meshSplice(tess.arena, eTopLeft.Sym.Lnext, eUp)) throw new RuntimeException();
+            regUp = TopLeftRegion(tess, regUp);
             if (regUp == null) throw new RuntimeException();
             eTopLeft = RegionBelow(regUp).eUp;
             FinishLeftRegions(tess, RegionBelow(regUp), regLo);
             degenerate = true;
         }
         if (Geom.VertEq(eLo.Org, tess.event)) {
-            if (!Mesh.__gl_meshSplice(eBottomLeft, eLo.Sym.Lnext)) throw new RuntimeException();
+            if (!Mesh.__gl_meshSplice(tess.arena, eBottomLeft, eLo.Sym.Lnext)) throw new RuntimeException();
             eBottomLeft = FinishLeftRegions(tess, regLo, null);
             degenerate = true;
         }
@@ -910,7 +920,7 @@ class Sweep {
         } else {
             eNew = eUp;
         }
-        eNew = Mesh.__gl_meshConnect(eBottomLeft.Onext.Sym, eNew);
+        eNew = Mesh.__gl_meshConnect(tess.arena, eBottomLeft.Onext.Sym, eNew);
         if (eNew == null) throw new RuntimeException();
 
         /* Prevent cleanup, otherwise eNew might disappear before we've even
@@ -952,13 +962,13 @@ class Sweep {
 
         if (!Geom.VertEq(e.Sym.Org, vEvent)) {
             /* General case -- splice vEvent into edge e which passes through it */
-            if (Mesh.__gl_meshSplitEdge(e.Sym) == null) throw new RuntimeException();
+            if (Mesh.__gl_meshSplitEdge(tess.arena, e.Sym) == null) throw new RuntimeException();
             if (regUp.fixUpperEdge) {
                 /* This edge was fixable -- delete unused portion of original edge */
-                if (!Mesh.__gl_meshDelete(e.Onext)) throw new RuntimeException();
+                if (!Mesh.__gl_meshDelete(tess.arena, e.Onext)) throw new RuntimeException();
                 regUp.fixUpperEdge = false;
             }
-            if (!Mesh.__gl_meshSplice(vEvent.anEdge, e)) throw new RuntimeException();
+            if (!Mesh.__gl_meshSplice(tess.arena, vEvent.anEdge, e)) throw new RuntimeException();
             SweepEvent(tess, vEvent);    /* recurse */
             return;
         }
@@ -977,10 +987,10 @@ class Sweep {
              */
             assert (eTopLeft != eTopRight);   /* there are some left edges too */
             DeleteRegion(tess, reg);
-            if (!Mesh.__gl_meshDelete(eTopRight)) throw new RuntimeException();
+            if (!Mesh.__gl_meshDelete(tess.arena, eTopRight)) throw new RuntimeException();
             eTopRight = eTopLeft.Sym.Lnext;
         }
-        if (!Mesh.__gl_meshSplice(vEvent.anEdge, eTopRight)) throw new RuntimeException();
+        if (!Mesh.__gl_meshSplice(tess.arena, vEvent.anEdge, eTopRight)) throw new RuntimeException();
         if (!Geom.EdgeGoesLeft(eTopLeft)) {
             /* e.Sym.Org had no left-going edges -- indicate this to AddRightEdges() */
             eTopLeft = null;
@@ -1032,16 +1042,16 @@ class Sweep {
 
         if (regUp.inside || reg.fixUpperEdge) {
             if (reg == regUp) {
-                eNew = Mesh.__gl_meshConnect(vEvent.anEdge.Sym, eUp.Lnext);
+                eNew = Mesh.__gl_meshConnect(tess.arena, vEvent.anEdge.Sym, eUp.Lnext);
                 if (eNew == null) throw new RuntimeException();
             } else {
-                final GLUhalfEdge tempHalfEdge = Mesh.__gl_meshConnect(eLo.Sym.Onext.Sym, vEvent.anEdge);
+                final GLUhalfEdge tempHalfEdge = Mesh.__gl_meshConnect(tess.arena, eLo.Sym.Onext.Sym, vEvent.anEdge);
                 if (tempHalfEdge == null) throw new RuntimeException();
 
                 eNew = tempHalfEdge.Sym;
             }
             if (reg.fixUpperEdge) {
-                if (!FixUpperEdge(reg, eNew)) throw new RuntimeException();
+                if (!FixUpperEdge(tess, reg, eNew)) throw new RuntimeException();
             } else {
                 ComputeWinding(tess, AddRegionBelow(tess, regUp, eNew));
             }
@@ -1087,7 +1097,7 @@ class Sweep {
          * to their winding number, and delete the edges from the dictionary.
          * This takes care of all the left-going edges from vEvent.
          */
-        regUp = TopLeftRegion(e.activeRegion);
+        regUp = TopLeftRegion(tess, e.activeRegion);
         if (regUp == null) throw new RuntimeException();
         reg = RegionBelow(regUp);
         eTopLeft = reg.eUp;
@@ -1123,7 +1133,7 @@ class Sweep {
         final ActiveRegion reg = new ActiveRegion();
         if (reg == null) throw new RuntimeException();
 
-        e = Mesh.__gl_meshMakeEdge(tess.mesh);
+        e = Mesh.__gl_meshMakeEdge(tess.arena, tess.mesh);
         if (e == null) throw new RuntimeException();
 
         e.Org.s = SENTINEL_COORD;
@@ -1201,7 +1211,7 @@ class Sweep {
                 /* Zero-length edge, contour has at least 3 edges */
 
                 SpliceMergeVertices(tess, eLnext, e);    /* deletes e.Org */
-                if (!Mesh.__gl_meshDelete(e)) throw new RuntimeException(); /* e is a self-loop */
+                if (!Mesh.__gl_meshDelete(tess.arena, e)) throw new RuntimeException(); /* e is a self-loop */
                 e = eLnext;
                 eLnext = e.Lnext;
             }
@@ -1212,12 +1222,12 @@ class Sweep {
                     if (eLnext == eNext || eLnext == eNext.Sym) {
                         eNext = eNext.next;
                     }
-                    if (!Mesh.__gl_meshDelete(eLnext)) throw new RuntimeException();
+                    if (!Mesh.__gl_meshDelete(tess.arena, eLnext)) throw new RuntimeException();
                 }
                 if (e == eNext || e == eNext.Sym) {
                     eNext = eNext.next;
                 }
-                if (!Mesh.__gl_meshDelete(e)) throw new RuntimeException();
+                if (!Mesh.__gl_meshDelete(tess.arena, e)) throw new RuntimeException();
             }
         }
     }
@@ -1258,7 +1268,7 @@ class Sweep {
     }
 
 
-    static boolean RemoveDegenerateFaces(final GLUmesh mesh)
+    static boolean RemoveDegenerateFaces(final GLUtessellatorImpl tess, final GLUmesh mesh)
 /*
  * Delete any degenerate faces with only two edges.  WalkDirtyRegions()
  * will catch almost all of these, but it won't catch degenerate faces
@@ -1285,7 +1295,7 @@ class Sweep {
             if (e.Lnext.Lnext == e) {
                 /* A face with only two edges */
                 AddWinding(e.Onext, e);
-                if (!Mesh.__gl_meshDelete(e)) return false;
+                if (!Mesh.__gl_meshDelete(tess.arena, e)) return false;
             }
         }
         return true;
@@ -1346,7 +1356,7 @@ class Sweep {
         DoneEdgeDict(tess);
         DonePriorityQ(tess);
 
-        if (!RemoveDegenerateFaces(tess.mesh)) return false;
+        if (!RemoveDegenerateFaces(tess, tess.mesh)) return false;
         Mesh.__gl_meshCheckMesh(tess.mesh);
 
         return true;
@@ -111,6 +111,7 @@ public class IOSEAGLDrawableFactory extends GLDrawableFactoryImpl {
     if( DEBUG ) {
         System.err.println("IOSEAGLDrawableFactory.shutdown");
     }
+    getCapabilitiesCache().clear();
     if(null != sharedMap) {
         sharedMap.clear();
         sharedMap = null;
@@ -342,7 +343,7 @@ public class IOSEAGLDrawableFactory extends GLDrawableFactoryImpl {
   public final boolean hasMajorMinorCreateContextARB() { return false; }
 
   @Override
-  protected List<GLCapabilitiesImmutable> getAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
+  protected List<GLCapabilitiesImmutable> enumerateAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
       return IOSEAGLGraphicsConfiguration.getAvailableCapabilities(this, device);
   }
 
@@ -136,6 +136,7 @@ public class MacOSXCGLDrawableFactory extends GLDrawableFactoryImpl {
     if( DEBUG ) {
         System.err.println("MacOSXCGLDrawableFactory.shutdown");
     }
+    getCapabilitiesCache().clear();
     if(null != sharedMap) {
         sharedMap.clear();
         sharedMap = null;
@@ -365,7 +366,7 @@ public class MacOSXCGLDrawableFactory extends GLDrawableFactoryImpl {
   public final boolean hasMajorMinorCreateContextARB() { return true; }
 
   @Override
-  protected List<GLCapabilitiesImmutable> getAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
+  protected List<GLCapabilitiesImmutable> enumerateAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
       return MacOSXCGLGraphicsConfiguration.getAvailableCapabilities(this, device);
   }
 
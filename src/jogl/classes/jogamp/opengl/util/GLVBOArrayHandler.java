@@ -28,8 +28,6 @@
 
 package jogamp.opengl.util;
 
-import java.nio.Buffer;
-
 import com.jogamp.opengl.GL;
 
 import com.jogamp.opengl.util.GLArrayDataEditable;
@@ -55,11 +53,7 @@ public abstract class GLVBOArrayHandler implements GLArrayHandler {
         // in case more than one gl*Pointer objects are in use
         gl.glBindBuffer(ad.getVBOTarget(), ad.getVBOName());
         if(!ad.isVBOWritten()) {
-            final Buffer buffer = ad.getBuffer();
-            if(null!=buffer) {
-                gl.glBufferData(ad.getVBOTarget(), buffer.limit() * ad.getBytesPerComp(), buffer, ad.getVBOUsage());
-            }
-            ad.setVBOWritten(true);
+            ad.writeVBO(gl);
         }
     } else {
         gl.glBindBuffer(ad.getVBOTarget(), 0);
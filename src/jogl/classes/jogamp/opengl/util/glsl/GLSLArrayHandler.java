@@ -32,6 +32,8 @@ import java.nio.Buffer;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLArrayData;
+import com.jogamp.opengl.GLException;
 
 import jogamp.opengl.util.GLArrayHandlerFlat;
 import jogamp.opengl.util.GLVBOArrayHandler;
@@ -69,6 +71,36 @@ public class GLSLArrayHandler extends GLVBOArrayHandler {
     }
   }
 
+  /**
+   * Applies the given {@link GLArrayData#getVertexAttribDivisor() vertex attribute divisor}
+   * of an enabled attribute at the given location if non zero, otherwise does nothing.
+   * <p>
+   * The divisor is part of the vertex array object state,
+   * hence it is set along with enabling the attribute and reset via {@link #resetVertexAttribDivisor(GL2ES2, int, GLArrayData)}.
+   * </p>
+   * @throws GLException if divisor is non zero and the context is not {@link GL#isGL2ES3() GL2ES3}
+   */
+  public static void setVertexAttribDivisor(final GL2ES2 gl, final int location, final GLArrayData ad) throws GLException {
+    final int divisor = ad.getVertexAttribDivisor();
+    if( 0 != divisor ) {
+        if( !gl.isGL2ES3() ) {
+            throw new GLException("Vertex attribute divisor "+divisor+" requires GL2ES3: "+ad.getName()+", "+gl);
+        }
+        gl.getGL2ES3().glVertexAttribDivisor(location, divisor);
+    }
+  }
+
+  /**
+   * Resets the vertex attribute divisor at the given location to zero,
+   * if the given {@link GLArrayData#getVertexAttribDivisor() vertex attribute divisor} is non zero.
+   * Hence a per-vertex attribute later bound to the same location behaves as expected.
+   */
+  public static void resetVertexAttribDivisor(final GL2ES2 gl, final int location, final GLArrayData ad) {
+    if( 0 != ad.getVertexAttribDivisor() && gl.isGL2ES3() ) {
+        gl.getGL2ES3().glVertexAttribDivisor(location, 0);
+    }
+  }
+
   private final int[] tempI = new int[1];
 
   private final void enableShaderState(final GL2ES2 glsl, final boolean enable, final ShaderState st) {
@@ -92,10 +124,7 @@ public class GLSLArrayHandler extends GLVBOArrayHandler {
             // bind and refresh the VBO / vertex-attr only if necessary
             if(!ad.isVBOWritten()) {
                 glsl.glBindBuffer(ad.getVBOTarget(), ad.getVBOName());
-                if(null!=buffer) {
-                    glsl.glBufferData(ad.getVBOTarget(), ad.getByteCount(), buffer, ad.getVBOUsage());
-                }
-                ad.setVBOWritten(true);
+                ad.writeVBO(glsl);
                 st.vertexAttribPointer(glsl, ad);
                 glsl.glBindBuffer(ad.getVBOTarget(), 0);
             } else if(st.getAttribLocation(glsl, ad) >= 0) {
@@ -143,10 +172,7 @@ public class GLSLArrayHandler extends GLVBOArrayHandler {
             // bind and refresh the VBO / vertex-attr only if necessary
             if(!ad.isVBOWritten()) {
                 glsl.glBindBuffer(ad.getVBOTarget(), ad.getVBOName());
-                if(null!=buffer) {
-                    glsl.glBufferData(ad.getVBOTarget(), ad.getByteCount(), buffer, ad.getVBOUsage());
-                }
-                ad.setVBOWritten(true);
+                ad.writeVBO(glsl);
                 glsl.glVertexAttribPointer(ad);
                 glsl.glBindBuffer(ad.getVBOTarget(), 0);
             } else {
@@ -164,7 +190,9 @@ public class GLSLArrayHandler extends GLVBOArrayHandler {
         }
 
         glsl.glEnableVertexAttribArray(location);
+        setVertexAttribDivisor(glsl, location, ad);
     } else {
+        resetVertexAttribDivisor(glsl, location, ad);
         glsl.glDisableVertexAttribArray(location);
     }
   }
@@ -94,7 +94,9 @@ public class GLSLArrayHandlerFlat implements GLArrayHandlerFlat {
         if( 0 <= location ) {
             if(enable) {
                 glsl.glEnableVertexAttribArray(location);
+                GLSLArrayHandler.setVertexAttribDivisor(glsl, location, ad);
             } else {
+                GLSLArrayHandler.resetVertexAttribDivisor(glsl, location, ad);
                 glsl.glDisableVertexAttribArray(location);
             }
         }
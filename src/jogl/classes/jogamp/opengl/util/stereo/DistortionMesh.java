@@ -40,7 +40,12 @@ public class DistortionMesh {
          */
         void init(final GenericStereoDeviceConfig deviceConfig, final float[] eyeReliefInMeters) throws IllegalStateException;
 
-        /** Distortion Mesh Producer */
+        /**
+         * Distortion Mesh Producer
+         * <p>
+         * Must be thread safe, since {@link DistortionMeshCache} produces the meshes of multiple eyes concurrently.
+         * </p>
+         */
         DistortionMesh create(final EyeParameter eyeParam, final int distortionBits);
     }
     public static class DistortionVertex {
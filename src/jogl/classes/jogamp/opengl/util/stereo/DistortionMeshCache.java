@@ -0,0 +1,515 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util.stereo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jogamp.opengl.Debug;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.math.FovHVHalves;
+import com.jogamp.opengl.util.stereo.EyeParameter;
+import com.jogamp.opengl.util.stereo.StereoDevice;
+import com.jogamp.opengl.util.stereo.StereoUtil;
+import com.jogamp.opengl.util.stereo.generic.GenericStereoDeviceConfig;
+
+/**
+ * Cache of ready to upload distortion {@link Mesh}es, i.e. the interleaved vertex and index data
+ * used by {@link GenericStereoDeviceRenderer}, produced once per configuration, {@link EyeParameter} and distortion bits.
+ * <p>
+ * Up to {@link #MAX_MEMORY_MESHES} recently used meshes are held in memory and all meshes are persisted in a compact binary file
+ * within the temporary cache directory, which is memory mapped when loaded again.
+ * Unreadable or corrupt files are treated as a cache miss.
+ * Missing meshes of multiple eyes are produced in parallel,
+ * hence {@link DistortionMesh.Producer#create(EyeParameter, int)} must be thread safe.
+ * </p>
+ * <p>
+ * Properties:
+ * <ul>
+ *   <li><code>jogl.stereo.meshcache.disable</code> disables the disk cache.</li>
+ *   <li><code>jogl.stereo.meshcache.dir</code> overrides the disk cache directory.</li>
+ * </ul>
+ * </p>
+ */
+public class DistortionMeshCache {
+    private static final boolean DISABLE_DISK;
+    private static final String DISK_DIR;
+    private static final int FILE_MAGIC = 0x4A444D43; // 'JDMC'
+    private static final int FILE_VERSION = 1;
+    /** Maximum number of meshes held in memory, least recently used meshes are dropped first, {@value}. */
+    public static final int MAX_MEMORY_MESHES = 16;
+
+    static {
+        Debug.initSingleton();
+        DISABLE_DISK = Debug.isPropertyDefined("jogl.stereo.meshcache.disable", true);
+        DISK_DIR = Debug.getProperty("jogl.stereo.meshcache.dir", true);
+    }
+
+    /**
+     * Interleaved distortion mesh data as uploaded to the GPU,
+     * i.e. <code>{ vec2 position, vec2 params, vec2 texCoordR [, vec2 texCoordG, vec2 texCoordB] }</code> per vertex.
+     */
+    public static final class Mesh {
+        /** Components per vertex, 6 or 10 if chromatic. */
+        public final int compsPerElement;
+        public final int vertexCount;
+        public final int indexCount;
+        private final FloatBuffer vertices;
+        private final ShortBuffer indices;
+
+        Mesh(final int compsPerElement, final int vertexCount, final int indexCount, final FloatBuffer vertices, final ShortBuffer indices) {
+            this.compsPerElement = compsPerElement;
+            this.vertexCount = vertexCount;
+            this.indexCount = indexCount;
+            this.vertices = vertices;
+            this.indices = indices;
+        }
+        /** Returns a new view of the interleaved vertex data. */
+        public FloatBuffer getVertices() { return vertices.duplicate(); }
+        /** Returns a new view of the index data. */
+        public ShortBuffer getIndices() { return indices.duplicate(); }
+
+        @Override
+        public String toString() {
+            return "DistortionMesh[comps "+compsPerElement+", vertices "+vertexCount+", indices "+indexCount+"]";
+        }
+    }
+
+    private static final Map<String, Mesh> meshes = new LinkedHashMap<String, Mesh>(16, 0.75f, true /* accessOrder */) {
+        private static final long serialVersionUID = 1L;
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Mesh> eldest) {
+            return size() > MAX_MEMORY_MESHES;
+        }
+    };
+    /** Guarded by {@link #meshes}, as well as {@link #diskLoadCount}. */
+    private static long producedCount = 0;
+    private static long diskLoadCount = 0;
+
+    /** Returns the number of meshes produced via {@link DistortionMesh.Producer}. */
+    public static long getProducedCount() {
+        synchronized( meshes ) {
+            return producedCount;
+        }
+    }
+    /** Returns the number of meshes loaded from the disk cache. */
+    public static long getDiskLoadCount() {
+        synchronized( meshes ) {
+            return diskLoadCount;
+        }
+    }
+
+    /** Returns the number of meshes held in memory. */
+    public static int getMemoryMeshCount() {
+        synchronized( meshes ) {
+            return meshes.size();
+        }
+    }
+
+    /** Drops all meshes held in memory, the disk cache is kept. */
+    public static void clearMemory() {
+        synchronized( meshes ) {
+            meshes.clear();
+        }
+    }
+
+    /**
+     * Returns the distortion {@link Mesh} of each given eye,
+     * either from memory, from the disk cache or produced in parallel via the config's {@link DistortionMesh.Producer}.
+     * @throws GLException if the producer fails
+     */
+    public static Mesh[] get(final GenericStereoDeviceConfig config, final EyeParameter[] eyeParam, final int distortionBits) throws GLException {
+        final Mesh[] res = new Mesh[eyeParam.length];
+        final String[] keys = new String[eyeParam.length];
+        int missing = 0;
+        for(int i=0; i<eyeParam.length; i++) {
+            keys[i] = getKey(config, eyeParam[i], distortionBits);
+            synchronized( meshes ) {
+                res[i] = meshes.get(keys[i]);
+            }
+            if( null == res[i] ) {
+                res[i] = loadFile(keys[i]);
+                if( null == res[i] ) {
+                    ++missing;
+                }
+            }
+        }
+        if( 0 < missing ) {
+            produce(config, eyeParam, distortionBits, keys, res);
+        }
+        synchronized( meshes ) {
+            for(int i=0; i<eyeParam.length; i++) {
+                meshes.put(keys[i], res[i]);
+            }
+        }
+        return res;
+    }
+
+    /** Produces all missing meshes, one thread per eye, and stores them in the disk cache. */
+    private static void produce(final GenericStereoDeviceConfig config, final EyeParameter[] eyeParam, final int distortionBits,
+                                final String[] keys, final Mesh[] res) throws GLException {
+        final Thread[] threads = new Thread[eyeParam.length];
+        final GLException[] errors = new GLException[eyeParam.length];
+        Runnable firstTask = null;
+        for(int i=0; i<eyeParam.length; i++) {
+            if( null != res[i] ) {
+                continue;
+            }
+            final int eyeIdx = i;
+            final Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        res[eyeIdx] = create(config, eyeParam[eyeIdx], distortionBits);
+                        storeFile(keys[eyeIdx], res[eyeIdx]);
+                    } catch (final GLException e) {
+                        errors[eyeIdx] = e;
+                    }
+                } };
+            if( null == firstTask ) {
+                firstTask = task; // runs on current thread
+            } else {
+                threads[i] = new Thread(task, "DistortionMeshCache-eye"+i);
+                threads[i].start();
+            }
+        }
+        firstTask.run();
+        for(int i=0; i<eyeParam.length; i++) {
+            if( null != threads[i] ) {
+                try {
+                    threads[i].join();
+                } catch (final InterruptedException ie) {
+                    throw new GLException("Interrupted while producing distortion mesh of eye "+i, ie);
+                }
+            }
+        }
+        for(int i=0; i<eyeParam.length; i++) {
+            if( null != errors[i] ) {
+                throw errors[i];
+            }
+        }
+    }
+
+    /** Produces the mesh of one eye and converts it to the interleaved GPU layout. */
+    private static Mesh create(final GenericStereoDeviceConfig config, final EyeParameter eyeParam, final int distortionBits) throws GLException {
+        final int eyeName = eyeParam.number;
+        final DistortionMesh meshData = config.distortionMeshProducer.create(eyeParam, distortionBits);
+        if( null == meshData ) {
+            throw new GLException("Failed to create meshData for eye "+eyeParam+", and "+StereoUtil.distortionBitsToString(distortionBits));
+        }
+        synchronized( meshes ) {
+            ++producedCount;
+        }
+        final int vertexCount = meshData.vertexCount;
+        final int indexCount = meshData.indexCount;
+
+        /** 2+2+2+2+2: { vec2 position, vec2 color, vec2 texCoordR, vec2 texCoordG, vec2 texCoordB } */
+        final boolean useChromatic = StereoUtil.usesChromaticDistortion(distortionBits);
+        final boolean useVignette = StereoUtil.usesVignetteDistortion(distortionBits);
+        final int compsPerElement = 2+2+2+( useChromatic ? 2+2 /* texCoordG + texCoordB */: 0 );
+
+        final FloatBuffer iVBOFB = Buffers.newDirectFloatBuffer(compsPerElement * vertexCount);
+        for ( int vertNum = 0; vertNum < vertexCount; vertNum++ ) {
+            final DistortionMesh.DistortionVertex v = meshData.vertices[vertNum];
+            int dataIdx = 0;
+
+            if( StereoDevice.DUMP_DATA ) {
+                System.err.println("XXX."+eyeName+": START VERTEX "+vertNum+" / "+vertexCount);
+            }
+            // pos
+            if( v.pos_size >= 2 ) {
+                if( StereoDevice.DUMP_DATA ) {
+                    System.err.println("XXX."+eyeName+": pos ["+v.data[dataIdx]+", "+v.data[dataIdx+1]+"]");
+                }
+                iVBOFB.put(v.data[dataIdx]);
+                iVBOFB.put(v.data[dataIdx+1]);
+            } else {
+                iVBOFB.put(0f);
+                iVBOFB.put(0f);
+            }
+            dataIdx += v.pos_size;
+
+            // params
+            if( v.vignetteFactor_size >= 1 && useVignette ) {
+                if( StereoDevice.DUMP_DATA ) {
+                    System.err.println("XXX."+eyeName+": vignette "+v.data[dataIdx]);
+                }
+                iVBOFB.put(v.data[dataIdx]);
+            } else {
+                iVBOFB.put(1.0f);
+            }
+            dataIdx += v.vignetteFactor_size;
+
+            if( v.timewarpFactor_size >= 1 ) {
+                if( StereoDevice.DUMP_DATA ) {
+                    System.err.println("XXX."+eyeName+": timewarp "+v.data[dataIdx]);
+                }
+                iVBOFB.put(v.data[dataIdx]);
+            } else {
+                iVBOFB.put(1.0f);
+            }
+            dataIdx += v.timewarpFactor_size;
+
+            // texCoordR
+            if( v.texR_size >= 2 ) {
+                if( StereoDevice.DUMP_DATA ) {
+                    System.err.println("XXX."+eyeName+": texR ["+v.data[dataIdx]+", "+v.data[dataIdx+1]+"]");
+                }
+                iVBOFB.put(v.data[dataIdx]);
+                iVBOFB.put(v.data[dataIdx+1]);
+            } else {
+                iVBOFB.put(1f);
+                iVBOFB.put(1f);
+            }
+            dataIdx += v.texR_size;
+
+            if( useChromatic ) {
+                // texCoordG
+                if( v.texG_size >= 2 ) {
+                    if( StereoDevice.DUMP_DATA ) {
+                        System.err.println("XXX."+eyeName+": texG ["+v.data[dataIdx]+", "+v.data[dataIdx+1]+"]");
+                    }
+                    iVBOFB.put(v.data[dataIdx]);
+                    iVBOFB.put(v.data[dataIdx+1]);
+                } else {
+                    iVBOFB.put(1f);
+                    iVBOFB.put(1f);
+                }
+                dataIdx += v.texG_size;
+
+                // texCoordB
+                if( v.texB_size >= 2 ) {
+                    if( StereoDevice.DUMP_DATA ) {
+                        System.err.println("XXX."+eyeName+": texB ["+v.data[dataIdx]+", "+v.data[dataIdx+1]+"]");
+                    }
+                    iVBOFB.put(v.data[dataIdx]);
+                    iVBOFB.put(v.data[dataIdx+1]);
+                } else {
+                    iVBOFB.put(1f);
+                    iVBOFB.put(1f);
+                }
+                dataIdx += v.texB_size;
+            } else {
+                dataIdx += v.texG_size;
+                dataIdx += v.texB_size;
+            }
+        }
+        iVBOFB.flip();
+        if( StereoDevice.DUMP_DATA ) {
+            System.err.println("XXX."+eyeName+": idx count "+indexCount);
+            for(int i=0; i< indexCount; i++) {
+                if( 0 == i % 16 ) {
+                    System.err.printf("%n%5d: ", i);
+                }
+                System.err.printf("%5d, ", (int)meshData.indices[i]);
+            }
+            System.err.println();
+        }
+        final ShortBuffer indices = Buffers.newDirectShortBuffer(indexCount);
+        indices.put(meshData.indices, 0, indexCount);
+        indices.flip();
+        return new Mesh(compsPerElement, vertexCount, indexCount, iVBOFB, indices);
+    }
+
+    /**
+     * Returns the cache key, covering all inputs of the {@link DistortionMesh.Producer}:
+     * the configuration's surface, screen, lens and pupil properties, the {@link EyeParameter} and the distortion bits.
+     */
+    static String getKey(final GenericStereoDeviceConfig config, final EyeParameter eyeParam, final int distortionBits) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(config.name).append('|').append(config.distortionMeshProducer.getClass().getName())
+          .append('|').append(config.surfaceSizeInPixels.getWidth()).append('x').append(config.surfaceSizeInPixels.getHeight())
+          .append('|').append(config.screenSizeInMeters[0]).append('x').append(config.screenSizeInMeters[1])
+          .append('|').append(config.pupilCenterFromScreenTopInMeters).append('|').append(config.interpupillaryDistanceInMeters);
+        for(int i=0; i<config.eyeTextureSizes.length; i++) {
+            sb.append('|').append(config.eyeTextureSizes[i].getWidth()).append('x').append(config.eyeTextureSizes[i].getHeight());
+        }
+        for(int i=0; i<config.defaultEyeParam.length; i++) {
+            sb.append('|').append(config.defaultEyeParam[i].eyeReliefZ);
+        }
+        final FovHVHalves fov = eyeParam.fovhv;
+        sb.append("|eye ").append(eyeParam.number)
+          .append('|').append(fov.left).append(',').append(fov.right).append(',').append(fov.top).append(',').append(fov.bottom).append(',').append(fov.inTangents)
+          .append('|').append(eyeParam.positionOffset.x()).append(',').append(eyeParam.positionOffset.y()).append(',').append(eyeParam.positionOffset.z())
+          .append('|').append(eyeParam.distNoseToPupilX).append(',').append(eyeParam.distMiddleToPupilY).append(',').append(eyeParam.eyeReliefZ)
+          .append("|bits ").append(distortionBits);
+        return sb.toString();
+    }
+
+    /** Returns the disk cache directory or {@code null} if the disk cache is disabled or not available. */
+    public static File getDiskCacheDir() {
+        if( DISABLE_DISK ) {
+            return null;
+        }
+        try {
+            final File dir = null != DISK_DIR ? new File(DISK_DIR) : new File(IOUtil.getTempDir(false), "jogl_distortion_mesh");
+            if( !dir.isDirectory() && !dir.mkdirs() ) {
+                return null;
+            }
+            return dir;
+        } catch (final Exception e) {
+            if( StereoDevice.DEBUG ) {
+                System.err.println("DistortionMeshCache: No disk cache: "+e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private static File getFile(final String key) {
+        final File dir = getDiskCacheDir();
+        if( null == dir ) {
+            return null;
+        }
+        final long h = ( (long)key.hashCode() << 32 ) | ( new StringBuilder(key).reverse().toString().hashCode() & 0xffffffffL );
+        return new File(dir, "mesh-"+Long.toHexString(h)+".bin");
+    }
+
+    /**
+     * File layout, little endian:
+     * <pre>
+     *   int magic, int version, int keyLength, byte[keyLength] key (UTF-8), padding to 4 bytes,
+     *   int compsPerElement, int vertexCount, int indexCount,
+     *   float[compsPerElement * vertexCount] vertices, short[indexCount] indices
+     * </pre>
+     */
+    private static Mesh loadFile(final String key) {
+        final File file = getFile(key);
+        if( null == file || !file.isFile() ) {
+            return null;
+        }
+        try {
+            final ByteBuffer bb;
+            final RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                final FileChannel chan = raf.getChannel();
+                bb = chan.map(FileChannel.MapMode.READ_ONLY, 0, chan.size());
+            } finally {
+                raf.close();
+            }
+            bb.order(ByteOrder.LITTLE_ENDIAN);
+            if( 3 * 4 > bb.remaining() || FILE_MAGIC != bb.getInt() || FILE_VERSION != bb.getInt() ) {
+                return null;
+            }
+            final int keyLength = bb.getInt();
+            if( 0 > keyLength || keyLength > bb.remaining() ) {
+                return null; // corrupt
+            }
+            final byte[] keyBytes = new byte[keyLength];
+            bb.get(keyBytes);
+            if( !key.equals(new String(keyBytes, "UTF-8")) ) {
+                return null; // hash collision
+            }
+            bb.position( Math.min( ( bb.position() + 3 ) & ~3, bb.limit() ) );
+            if( 3 * 4 > bb.remaining() ) {
+                return null; // truncated
+            }
+            final int compsPerElement = bb.getInt();
+            final int vertexCount = bb.getInt();
+            final int indexCount = bb.getInt();
+            final long vertexBytesL = (long)compsPerElement * (long)vertexCount * Buffers.SIZEOF_FLOAT;
+            if( 0 > compsPerElement || 0 > vertexCount || 0 > indexCount ||
+                bb.remaining() != vertexBytesL + (long)indexCount * Buffers.SIZEOF_SHORT ) {
+                return null; // corrupt or truncated
+            }
+            final int vertexBytes = (int)vertexBytesL;
+            final FloatBuffer vertices = ((ByteBuffer)bb.slice().order(ByteOrder.LITTLE_ENDIAN).limit(vertexBytes)).asFloatBuffer();
+            bb.position(bb.position() + vertexBytes);
+            final ShortBuffer indices = bb.slice().order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+            synchronized( meshes ) {
+                ++diskLoadCount;
+            }
+            if( StereoDevice.DEBUG ) {
+                System.err.println("DistortionMeshCache: Loaded "+file);
+            }
+            return new Mesh(compsPerElement, vertexCount, indexCount, vertices, indices);
+        } catch (final IOException e) {
+            if( StereoDevice.DEBUG ) {
+                System.err.println("DistortionMeshCache: Failed to load "+file+": "+e.getMessage());
+            }
+            return null;
+        } catch (final RuntimeException e) {
+            // corrupt file, e.g. BufferUnderflowException
+            if( StereoDevice.DEBUG ) {
+                System.err.println("DistortionMeshCache: Failed to load corrupt "+file+": "+e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private static void storeFile(final String key, final Mesh mesh) {
+        final File file = getFile(key);
+        if( null == file ) {
+            return;
+        }
+        try {
+            final byte[] keyBytes = key.getBytes("UTF-8");
+            final int headerSize = ( ( 3 * 4 + keyBytes.length + 3 ) & ~3 ) + 3 * 4;
+            final ByteBuffer bb = ByteBuffer.allocate(headerSize + mesh.compsPerElement * mesh.vertexCount * Buffers.SIZEOF_FLOAT +
+                                                      mesh.indexCount * Buffers.SIZEOF_SHORT);
+            bb.order(ByteOrder.LITTLE_ENDIAN);
+            bb.putInt(FILE_MAGIC).putInt(FILE_VERSION).putInt(keyBytes.length).put(keyBytes);
+            bb.position( ( bb.position() + 3 ) & ~3 );
+            bb.putInt(mesh.compsPerElement).putInt(mesh.vertexCount).putInt(mesh.indexCount);
+            bb.asFloatBuffer().put(mesh.getVertices());
+            bb.position(bb.position() + mesh.compsPerElement * mesh.vertexCount * Buffers.SIZEOF_FLOAT);
+            bb.asShortBuffer().put(mesh.getIndices());
+            bb.rewind();
+
+            // write to a temporary file first, then rename, avoiding partially written files being picked up
+            final File tmp = new File(file.getParentFile(), file.getName()+"."+Thread.currentThread().getId()+".tmp");
+            final RandomAccessFile raf = new RandomAccessFile(tmp, "rw");
+            try {
+                raf.setLength(0);
+                final FileChannel chan = raf.getChannel();
+                while( bb.hasRemaining() ) {
+                    chan.write(bb);
+                }
+            } finally {
+                raf.close();
+            }
+            if( !tmp.renameTo(file) ) {
+                tmp.delete();
+            }
+        } catch (final IOException e) {
+            if( StereoDevice.DEBUG ) {
+                System.err.println("DistortionMeshCache: Failed to store "+file+": "+e.getMessage());
+            }
+        }
+    }
+}
@@ -91,7 +91,7 @@ public class GenericStereoDeviceRenderer implements StereoDeviceRenderer {
         public final EyeParameter getEyeParameter() { return eyeParameter; }
 
         /* pp */ GenericEye(final GenericStereoDevice device, final int distortionBits,
-                            final Vec3f eyePositionOffset, final EyeParameter eyeParam,
+                            final Vec3f eyePositionOffset, final EyeParameter eyeParam, final DistortionMeshCache.Mesh mesh,
                             final DimensionImmutable textureSize, final RectangleImmutable eyeViewport) {
             this.eyeName = eyeParam.number;
             this.distortionBits = distortionBits;
@@ -150,20 +150,13 @@ public class GenericStereoDeviceRenderer implements StereoDeviceRenderer {
                 }
                 return;
             }
-            final DistortionMesh meshData = device.config.distortionMeshProducer.create(eyeParam, distortionBits);
-            if( null == meshData ) {
-                throw new GLException("Failed to create meshData for eye "+eyeParam+", and "+StereoUtil.distortionBitsToString(distortionBits));
-            }
-
-            vertexCount = meshData.vertexCount;
-            indexCount = meshData.indexCount;
+            vertexCount = mesh.vertexCount;
+            indexCount = mesh.indexCount;
 
             /** 2+2+2+2+2: { vec2 position, vec2 color, vec2 texCoordR, vec2 texCoordG, vec2 texCoordB } */
             final boolean useChromatic = StereoUtil.usesChromaticDistortion(distortionBits);
-            final boolean useVignette = StereoUtil.usesVignetteDistortion(distortionBits);
 
-            final int compsPerElement = 2+2+2+( useChromatic ? 2+2 /* texCoordG + texCoordB */: 0 );
-            iVBO = GLArrayDataServer.createGLSLInterleaved(compsPerElement, GL.GL_FLOAT, false, vertexCount, GL.GL_STATIC_DRAW);
+            iVBO = GLArrayDataServer.createGLSLInterleaved(mesh.compsPerElement, GL.GL_FLOAT, false, vertexCount, GL.GL_STATIC_DRAW);
             vboPos = iVBO.addGLSLSubArray("svr_Position", 2, GL.GL_ARRAY_BUFFER);
             vboParams = iVBO.addGLSLSubArray("svr_Params", 2, GL.GL_ARRAY_BUFFER);
             vboTexCoordsR = iVBO.addGLSLSubArray("svr_TexCoordR", 2, GL.GL_ARRAY_BUFFER);
@@ -176,110 +169,11 @@ public class GenericStereoDeviceRenderer implements StereoDeviceRenderer {
             }
             indices = GLArrayDataServer.createData(1, GL.GL_SHORT, indexCount, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
 
-            /** 2+2+2+2+2: { vec2 position, vec2 color, vec2 texCoordR, vec2 texCoordG, vec2 texCoordB } */
-            final FloatBuffer iVBOFB = (FloatBuffer)iVBO.getBuffer();
-
-            for ( int vertNum = 0; vertNum < vertexCount; vertNum++ ) {
-                final DistortionMesh.DistortionVertex v = meshData.vertices[vertNum];
-                int dataIdx = 0;
-
-                if( StereoDevice.DUMP_DATA ) {
-                    System.err.println("XXX."+eyeName+": START VERTEX "+vertNum+" / "+vertexCount);
-                }
-                // pos
-                if( v.pos_size >= 2 ) {
-                    if( StereoDevice.DUMP_DATA ) {
-                        System.err.println("XXX."+eyeName+": pos ["+v.data[dataIdx]+", "+v.data[dataIdx+1]+"]");
-                    }
-                    iVBOFB.put(v.data[dataIdx]);
-                    iVBOFB.put(v.data[dataIdx+1]);
-                } else {
-                    iVBOFB.put(0f);
-                    iVBOFB.put(0f);
-                }
-                dataIdx += v.pos_size;
-
-                // params
-                if( v.vignetteFactor_size >= 1 && useVignette ) {
-                    if( StereoDevice.DUMP_DATA ) {
-                        System.err.println("XXX."+eyeName+": vignette "+v.data[dataIdx]);
-                    }
-                    iVBOFB.put(v.data[dataIdx]);
-                } else {
-                    iVBOFB.put(1.0f);
-                }
-                dataIdx += v.vignetteFactor_size;
-
-                if( v.timewarpFactor_size >= 1 ) {
-                    if( StereoDevice.DUMP_DATA ) {
-                        System.err.println("XXX."+eyeName+": timewarp "+v.data[dataIdx]);
-                    }
-                    iVBOFB.put(v.data[dataIdx]);
-                } else {
-                    iVBOFB.put(1.0f);
-                }
-                dataIdx += v.timewarpFactor_size;
-
-                // texCoordR
-                if( v.texR_size >= 2 ) {
-                    if( StereoDevice.DUMP_DATA ) {
-                        System.err.println("XXX."+eyeName+": texR ["+v.data[dataIdx]+", "+v.data[dataIdx+1]+"]");
-                    }
-                    iVBOFB.put(v.data[dataIdx]);
-                    iVBOFB.put(v.data[dataIdx+1]);
-                } else {
-                    iVBOFB.put(1f);
-                    iVBOFB.put(1f);
-                }
-                dataIdx += v.texR_size;
-
-                if( useChromatic ) {
-                    // texCoordG
-                    if( v.texG_size >= 2 ) {
-                        if( StereoDevice.DUMP_DATA ) {
-                            System.err.println("XXX."+eyeName+": texG ["+v.data[dataIdx]+", "+v.data[dataIdx+1]+"]");
-                        }
-                        iVBOFB.put(v.data[dataIdx]);
-                        iVBOFB.put(v.data[dataIdx+1]);
-                    } else {
-                        iVBOFB.put(1f);
-                        iVBOFB.put(1f);
-                    }
-                    dataIdx += v.texG_size;
-
-                    // texCoordB
-                    if( v.texB_size >= 2 ) {
-                        if( StereoDevice.DUMP_DATA ) {
-                            System.err.println("XXX."+eyeName+": texB ["+v.data[dataIdx]+", "+v.data[dataIdx+1]+"]");
-                        }
-                        iVBOFB.put(v.data[dataIdx]);
-                        iVBOFB.put(v.data[dataIdx+1]);
-                    } else {
-                        iVBOFB.put(1f);
-                        iVBOFB.put(1f);
-                    }
-                    dataIdx += v.texB_size;
-                } else {
-                    dataIdx += v.texG_size;
-                    dataIdx += v.texB_size;
-                }
-            }
+            // bulk copy of the cached, ready to upload mesh
+            ((FloatBuffer)iVBO.getBuffer()).put(mesh.getVertices());
+            ((ShortBuffer)indices.getBuffer()).put(mesh.getIndices());
             if( StereoDevice.DUMP_DATA ) {
-                System.err.println("XXX."+eyeName+": iVBO "+iVBO);
-            }
-            {
-                if( StereoDevice.DUMP_DATA ) {
-                    System.err.println("XXX."+eyeName+": idx "+indices+", count "+indexCount);
-                    for(int i=0; i< indexCount; i++) {
-                        if( 0 == i % 16 ) {
-                            System.err.printf("%n%5d: ", i);
-                        }
-                        System.err.printf("%5d, ", (int)meshData.indices[i]);
-                    }
-                    System.err.println();
-                }
-                final ShortBuffer out = (ShortBuffer) indices.getBuffer();
-                out.put(meshData.indices, 0, meshData.indexCount);
+                System.err.println("XXX."+eyeName+": iVBO "+iVBO+", idx "+indices);
             }
             if( StereoDevice.DEBUG ) {
                 System.err.println("XXX."+eyeName+": "+this);
@@ -431,8 +325,10 @@ public class GenericStereoDeviceRenderer implements StereoDeviceRenderer {
             texUnit0 = null;
         }
         viewerPose = new ViewerPose();
+        final DistortionMeshCache.Mesh[] meshes = usePP ? DistortionMeshCache.get(device.config, eyeParam, this.distortionBits) :
+                                                          new DistortionMeshCache.Mesh[eyeParam.length];
         for(int i=0; i<eyeParam.length; i++) {
-            eyes[i] = new GenericEye(context, this.distortionBits, eyePositionOffset, eyeParam[i], textureSizes[i], eyeViewports[i]);
+            eyes[i] = new GenericEye(context, this.distortionBits, eyePositionOffset, eyeParam[i], meshes[i], textureSizes[i], eyeViewports[i]);
         }
 
         sp = null;
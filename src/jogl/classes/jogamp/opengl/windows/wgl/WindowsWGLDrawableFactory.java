@@ -208,6 +208,7 @@ public class WindowsWGLDrawableFactory extends GLDrawableFactoryImpl {
     if( DEBUG ) {
         System.err.println("WindowsWGLDrawableFactory.shutdown");
     }
+    getCapabilitiesCache().clear();
     if(null != sharedResourceRunner) {
         sharedResourceRunner.stop();
         sharedResourceRunner = null;
@@ -375,6 +376,9 @@ public class WindowsWGLDrawableFactory extends GLDrawableFactoryImpl {
         @Override
         public void releaseSharedResource(final SharedResourceRunner.Resource shared) {
             final SharedResource sr = (SharedResource) shared;
+            if( null != sr.device ) {
+                getCapabilitiesCache().invalidate(sr.device);
+            }
             if ( DEBUG_SHAREDCTX ) {
               System.err.println("Shutdown Shared:");
               System.err.println("Device  : " + sr.device);
@@ -471,7 +475,7 @@ public class WindowsWGLDrawableFactory extends GLDrawableFactoryImpl {
   public final boolean hasMajorMinorCreateContextARB() { return true; }
 
   @Override
-  protected List<GLCapabilitiesImmutable> getAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
+  protected List<GLCapabilitiesImmutable> enumerateAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
     return WindowsWGLGraphicsConfigurationFactory.getAvailableCapabilities(this, device);
   }
 
@@ -142,6 +142,7 @@ public class X11GLXDrawableFactory extends GLDrawableFactoryImpl {
     if( DEBUG ) {
         System.err.println("X11GLXDrawableFactory.shutdown");
     }
+    getCapabilitiesCache().clear();
     if(null != sharedResourceRunner) {
         sharedResourceRunner.stop();
         sharedResourceRunner = null;
@@ -315,6 +316,9 @@ public class X11GLXDrawableFactory extends GLDrawableFactoryImpl {
         @Override
         public void releaseSharedResource(final SharedResourceRunner.Resource shared) {
             final SharedResource sr = (SharedResource) shared;
+            if( null != sr.device ) {
+                getCapabilitiesCache().invalidate(sr.device);
+            }
             if ( DEBUG_SHAREDCTX ) {
                 System.err.println("Shutdown Shared:");
                 System.err.println("Device  : " + sr.device);
@@ -407,7 +411,7 @@ public class X11GLXDrawableFactory extends GLDrawableFactoryImpl {
   public final boolean hasMajorMinorCreateContextARB() { return true; }
 
   @Override
-  protected List<GLCapabilitiesImmutable> getAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
+  protected List<GLCapabilitiesImmutable> enumerateAvailableCapabilitiesImpl(final AbstractGraphicsDevice device) {
     return X11GLXGraphicsConfigurationFactory.getAvailableCapabilities(this, device);
   }
 
@@ -59,6 +59,7 @@ import com.jogamp.nativewindow.x11.X11GraphicsScreen;
 
 import jogamp.nativewindow.x11.X11Lib;
 import jogamp.nativewindow.x11.XVisualInfo;
+import jogamp.opengl.GLCapabilitiesCache;
 import jogamp.opengl.GLGraphicsConfigurationFactory;
 import jogamp.opengl.GLGraphicsConfigurationUtil;
 
@@ -228,10 +229,18 @@ public class X11GLXGraphicsConfigurationFactory extends GLGraphicsConfigurationF
 
         capsChosen = GLGraphicsConfigurationUtil.fixGLCapabilities( capsChosen, factory, x11Device);
         final boolean usePBuffer = !capsChosen.isOnscreen() && capsChosen.isPBuffer();
+        final GLCapabilitiesCache capsCache = factory.getCapabilitiesCache();
+        final boolean memoize = GLCapabilitiesCache.isMemoizable(chooser);
 
         X11GLXGraphicsConfiguration res = null;
         x11Device.lock();
         try {
+            if( memoize ) {
+                res = fetchMemoizedConfig(capsCache, capsChosen, capsReq, chooser, x11Screen, xvisualID);
+                if( null != res ) {
+                    return res;
+                }
+            }
             if( factory.isGLXVersionGreaterEqualOneThree(x11Device) ) {
                 res = chooseGraphicsConfigurationFBConfig(capsChosen, capsReq, chooser, x11Screen, xvisualID);
             }
@@ -247,12 +256,54 @@ public class X11GLXGraphicsConfigurationFactory extends GLGraphicsConfigurationF
         if(null==res) {
             throw new GLException("Error: Couldn't create X11GLXGraphicsConfiguration based on FBConfig and XVisual for visualID "+toHexString(xvisualID)+", "+x11Screen+", "+capsChosen);
         }
+        if( memoize ) {
+            capsCache.putChosen(x11Device, x11Screen.getIndex(), xvisualID, capsChosen, capsReq, (GLCapabilitiesImmutable)res.getChosenCapabilities());
+        }
         if(DEBUG) {
             System.err.println("X11GLXGraphicsConfiguration.chooseGraphicsConfigurationStatic(visualID "+toHexString(xvisualID)+", "+x11Screen+","+capsChosen+"): "+res);
         }
         return res;
     }
 
+    /**
+     * Returns a new {@link X11GLXGraphicsConfiguration} using the {@link GLCapabilitiesCache#getChosen(AbstractGraphicsDevice, int, int, GLCapabilitiesImmutable, GLCapabilitiesImmutable) memoized}
+     * chosen capabilities, or {@code null} if none are memoized or the memoized FBConfig ID is no more valid.
+     * <p>
+     * The GLXFBConfig handle is re-resolved by its ID, a single native query instead of enumerating and choosing all GLXFBConfig.
+     * </p>
+     */
+    private static X11GLXGraphicsConfiguration fetchMemoizedConfig(final GLCapabilitiesCache capsCache,
+                                                                   final GLCapabilitiesImmutable capsChosen, final GLCapabilitiesImmutable capsReq,
+                                                                   final GLCapabilitiesChooser chooser,
+                                                                   final X11GraphicsScreen x11Screen, final int xvisualID) {
+        final X11GraphicsDevice x11Device = (X11GraphicsDevice) x11Screen.getDevice();
+        final X11GLCapabilities cachedCaps = (X11GLCapabilities) capsCache.getChosen(x11Device, x11Screen.getIndex(), xvisualID, capsChosen, capsReq);
+        if( null == cachedCaps ) {
+            return null;
+        }
+        final X11GLCapabilities chosenCaps;
+        if( VisualIDHolder.VID_UNDEFINED != cachedCaps.getFBConfigID() ) {
+            final long display = x11Device.getHandle();
+            final long fbcfg = X11GLXGraphicsConfiguration.glXFBConfigID2FBConfig(display, x11Screen.getIndex(), cachedCaps.getFBConfigID());
+            if( 0 == fbcfg || !X11GLXGraphicsConfiguration.GLXFBConfigValid( display, fbcfg ) ) {
+                if(DEBUG) {
+                    System.err.println("X11GLXGraphicsConfiguration.fetchMemoizedConfig: Memoized fbcfgID "+toHexString(cachedCaps.getFBConfigID())+" n/a, "+x11Screen);
+                }
+                capsCache.invalidate(x11Device);
+                return null;
+            }
+            chosenCaps = new X11GLCapabilities(cachedCaps.getXVisualInfo(), fbcfg, cachedCaps.getFBConfigID(), cachedCaps.getGLProfile());
+            chosenCaps.copyFrom(cachedCaps);
+        } else {
+            chosenCaps = cachedCaps;
+        }
+        final X11GLXGraphicsConfiguration res = new X11GLXGraphicsConfiguration(x11Screen, chosenCaps, capsReq, chooser);
+        if(DEBUG) {
+            System.err.println("X11GLXGraphicsConfiguration.fetchMemoizedConfig(visualID "+toHexString(xvisualID)+", "+x11Screen+"): "+res);
+        }
+        return res;
+    }
+
     static X11GLXGraphicsConfiguration fetchGraphicsConfigurationFBConfig(final X11GraphicsScreen x11Screen, final int fbID, final GLProfile glp) {
         final X11GraphicsDevice x11Device = (X11GraphicsDevice) x11Screen.getDevice();
         final long display = x11Device.getHandle();
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.tess.Triangulation;
+import com.jogamp.graph.curve.tess.Triangulator;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.geom.Triangle;
+
+/**
+ * Measures heap allocation per glyph triangulation,
+ * comparing the legacy {@link Triangle} list path using a fresh {@link Triangulator}
+ * against {@link OutlineShape#getTriangleIndices(OutlineShape.VerticesState)}
+ * reusing the per-thread triangulator scratch storage.
+ * <p>
+ * Uses {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)},
+ * hence requires a HotSpot based JVM.
+ * </p>
+ * <pre>
+ * PerfTriangulationAllocNOUI00 [-loops N] [-font path-to-ttf]
+ * </pre>
+ */
+public class PerfTriangulationAllocNOUI00 {
+    static int loops = 20;
+
+    static long allocatedBytes(final com.sun.management.ThreadMXBean mx) {
+        return mx.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    static long runLegacy(final ArrayList<OutlineShape> shapes) {
+        long triCount = 0;
+        final ArrayList<Triangle> triangles = new ArrayList<Triangle>();
+        for(int i=0; i<shapes.size(); ++i) {
+            final OutlineShape shape = shapes.get(i);
+            final Triangulator triangulator2d = Triangulation.create();
+            triangles.clear();
+            for(int j=0; j<shape.getOutlineCount(); ++j) {
+                triangulator2d.addCurve(triangles, shape.getOutline(j), shape.getSharpness());
+            }
+            triangulator2d.generate(triangles);
+            triangulator2d.reset();
+            triCount += triangles.size();
+        }
+        return triCount;
+    }
+
+    static long runSink(final ArrayList<OutlineShape> shapes) {
+        long triCount = 0;
+        for(int i=0; i<shapes.size(); ++i) {
+            final OutlineShape shape = shapes.get(i);
+            shape.clearCache();
+            triCount += shape.getTriangleIndices(OutlineShape.VerticesState.QUADRATIC_NURBS).getTriangleCount();
+        }
+        return triCount;
+    }
+
+    public static void main(final String args[]) throws IOException {
+        String fontPath = null;
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                i++;
+                loops = Integer.parseInt(args[i]);
+            } else if(args[i].equals("-font")) {
+                i++;
+                fontPath = args[i];
+            }
+        }
+        final Font font;
+        if( null != fontPath ) {
+            font = FontFactory.get(new java.io.File(fontPath));
+        } else {
+            font = FontFactory.get(IOUtil.getResource("fonts/freefont/FreeSans.ttf",
+                                   FontSet01.class.getClassLoader(), FontSet01.class).getInputStream(), true);
+        }
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>();
+        for(int id=0; id<font.getNumGlyphs(); ++id) {
+            final Font.Glyph glyph = font.getGlyph(id);
+            final OutlineShape shape = null != glyph ? glyph.getShape() : null;
+            if( null != shape && 0 < shape.getOutlineCount() ) {
+                // transform outlines to QUADRATIC_NURBS once, shared by both paths
+                shape.getTriangleIndices(OutlineShape.VerticesState.QUADRATIC_NURBS);
+                shapes.add(shape);
+            }
+        }
+        System.err.println("Font "+font.getFullFamilyName()+", glyphs "+shapes.size()+", loops "+loops);
+
+        final com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        mx.setThreadAllocatedMemoryEnabled(true);
+
+        // warmup
+        runLegacy(shapes);
+        runSink(shapes);
+
+        long legacyBytes = 0, legacyTris = 0, legacyNanos = 0;
+        long sinkBytes = 0, sinkTris = 0, sinkNanos = 0;
+        for(int l=0; l<loops; ++l) {
+            long b0 = allocatedBytes(mx);
+            long t0 = System.nanoTime();
+            legacyTris += runLegacy(shapes);
+            legacyNanos += System.nanoTime() - t0;
+            legacyBytes += allocatedBytes(mx) - b0;
+
+            b0 = allocatedBytes(mx);
+            t0 = System.nanoTime();
+            sinkTris += runSink(shapes);
+            sinkNanos += System.nanoTime() - t0;
+            sinkBytes += allocatedBytes(mx) - b0;
+        }
+        final double glyphs = (double)shapes.size() * loops;
+        System.err.printf("Legacy  : %10.1f bytes/glyph, %8.2f us/glyph, %d triangles%n",
+                legacyBytes / glyphs, legacyNanos / glyphs / 1000.0, legacyTris / loops);
+        System.err.printf("Sink    : %10.1f bytes/glyph, %8.2f us/glyph, %d triangles%n",
+                sinkBytes / glyphs, sinkNanos / glyphs / 1000.0, sinkTris / loops);
+    }
+}
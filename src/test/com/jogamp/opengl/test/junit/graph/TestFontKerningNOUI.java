@@ -0,0 +1,119 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.font.FontSet;
+import com.jogamp.junit.util.JunitTracer;
+
+import jogamp.graph.font.typecast.ot.OTFontCollection;
+import jogamp.graph.font.typecast.ot.TTFont;
+import jogamp.graph.font.typecast.ot.table.KernSubtableFormat0;
+import jogamp.graph.font.typecast.ot.table.KerningPair;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the font wide kerning index, using GPOS pair adjustments if available.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontKerningNOUI extends JunitTracer {
+    static File fontFile;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        final InputStream is = IOUtil.getResource("fonts/freefont/FreeSans.ttf",
+                                   FontSet01.class.getClassLoader(), FontSet01.class).getInputStream();
+        try {
+            fontFile = File.createTempFile("jogl.font.kerning", ".ttf");
+            IOUtil.copyStream2File(is, fontFile);
+        } finally {
+            is.close();
+        }
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        if( null != fontFile ) {
+            fontFile.delete();
+        }
+    }
+
+    /** FreeSans' GPOS class based kerning matches its legacy 'kern' table */
+    @Test
+    public void test01LegacyKernParity() throws IOException {
+        final Font font = FontFactory.get(fontFile);
+        final TTFont ttf = new OTFontCollection(fontFile).getFont(0);
+        final KernSubtableFormat0 k0 = ttf.getKernTable().getSubtable0();
+        Assert.assertNotNull(k0);
+        Assert.assertTrue(0 < k0.getKerningPairCount());
+        for(int i=0; i<k0.getKerningPairCount(); ++i) {
+            final KerningPair kp = k0.getKerningPair(i);
+            final Font.Glyph left = font.getGlyph(kp.getLeft());
+            Assert.assertEquals("pair "+kp.getLeft()+" -> "+kp.getRight(), kp.getValue(), left.getKerningFU(kp.getRight()));
+            if( 0 != kp.getValue() ) {
+                Assert.assertTrue(0 < left.getKerningPairCount());
+            }
+        }
+    }
+
+    /** Ubuntu's kerning accumulates individual and class based pairs of several GPOS lookups */
+    @Test
+    public void test02Pairs() throws IOException {
+        final Font font = FontFactory.get(FontFactory.UBUNTU).get(FontSet.FAMILY_REGULAR, FontSet.STYLE_NONE);
+        final String[] pairs = { "AV", "VA", "To", "AT" };
+        for(final String p : pairs) {
+            final Font.Glyph left = font.getGlyph(font.getGlyphID(p.charAt(0)));
+            final int right = font.getGlyphID(p.charAt(1));
+            Assert.assertTrue(font.getFullFamilyName()+" '"+p+"'", 0 > left.getKerningFU(right));
+            Assert.assertTrue(0 < left.getKerningPairCount());
+            Assert.assertEquals(font.getMetrics().getScale(left.getKerningFU(right)), left.getKerning(right), 1e-6f);
+        }
+        // no kerning between unrelated glyphs or with invalid IDs
+        final Font.Glyph space = font.getGlyph(font.getGlyphID(' '));
+        Assert.assertEquals(0, space.getKerningFU(font.getGlyphID('.')));
+        Assert.assertEquals(0, space.getKerningFU(-1));
+        Assert.assertEquals(0, space.getKerningFU(0x10000));
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestFontKerningNOUI.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
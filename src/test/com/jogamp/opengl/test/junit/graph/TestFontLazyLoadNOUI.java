@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.junit.util.JunitTracer;
+
+import jogamp.graph.font.typecast.ot.MappedFontFile;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates lazy memory mapped font loading, see {@link FontFactory#get(File, boolean)},
+ * against the eager code path.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontLazyLoadNOUI extends JunitTracer {
+    static final String text = "The quick brown fox jumps over the lazy dog! 0123456789 AVAWTo";
+    static File fontFile;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        final InputStream is = IOUtil.getResource("fonts/freefont/FreeSans.ttf",
+                                   FontSet01.class.getClassLoader(), FontSet01.class).getInputStream();
+        try {
+            fontFile = File.createTempFile("jogl.font.lazy", ".ttf");
+            IOUtil.copyStream2File(is, fontFile);
+        } finally {
+            is.close();
+        }
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        if( null != fontFile ) {
+            fontFile.delete();
+        }
+    }
+
+    @Test
+    public void test01GlyphParity() throws IOException {
+        final Font eager = FontFactory.get(fontFile, false);
+        final Font lazy = FontFactory.get(fontFile, true);
+
+        Assert.assertEquals(eager.getFullFamilyName(), lazy.getFullFamilyName());
+        Assert.assertEquals(eager.getGlyphCount(), lazy.getGlyphCount());
+        Assert.assertEquals(eager.getMetrics().getUnitsPerEM(), lazy.getMetrics().getUnitsPerEM());
+        Assert.assertEquals(eager.getMetrics().getAscentFU(), lazy.getMetrics().getAscentFU());
+        Assert.assertEquals(eager.getMetrics().getDescentFU(), lazy.getMetrics().getDescentFU());
+
+        for(int i=0; i<text.length(); ++i) {
+            final char c = text.charAt(i);
+            final int id = eager.getGlyphID(c);
+            Assert.assertEquals(id, lazy.getGlyphID(c));
+            final Font.Glyph ge = eager.getGlyph(id);
+            final Font.Glyph gl = lazy.getGlyph(id);
+            Assert.assertEquals("advance of '"+c+"'", ge.getAdvanceFU(), gl.getAdvanceFU());
+            Assert.assertEquals("lsb of '"+c+"'", ge.getLeftSideBearingsFU(), gl.getLeftSideBearingsFU());
+            Assert.assertEquals("bounds of '"+c+"'", ge.getBoundsFU(), gl.getBoundsFU());
+            Assert.assertEquals("kerning pairs of '"+c+"'", ge.getKerningPairCount(), gl.getKerningPairCount());
+            if( i+1 < text.length() ) {
+                final int right = eager.getGlyphID(text.charAt(i+1));
+                Assert.assertEquals("kerning of '"+c+"'", ge.getKerningFU(right), gl.getKerningFU(right));
+            }
+            final OutlineShape se = ge.getShape();
+            final OutlineShape sl = gl.getShape();
+            if( null == se ) {
+                Assert.assertNull(sl);
+            } else {
+                Assert.assertNotNull(sl);
+                Assert.assertEquals("outlines of '"+c+"'", se.getOutlineCount(), sl.getOutlineCount());
+                Assert.assertEquals("vertices of '"+c+"'", se.getVertexCount(), sl.getVertexCount());
+                Assert.assertEquals("shape of '"+c+"'", se, sl);
+            }
+        }
+    }
+
+    @Test
+    public void test02SharedMapping() throws IOException {
+        final long mapCount0 = MappedFontFile.getMapCount();
+        final Font lazy1 = FontFactory.get(fontFile, true);
+        final Font lazy2 = FontFactory.get(fontFile, true);
+        Assert.assertNotSame(lazy1, lazy2);
+        Assert.assertTrue("new mappings "+(MappedFontFile.getMapCount()-mapCount0), 1 >= MappedFontFile.getMapCount() - mapCount0);
+        Assert.assertTrue(1 <= MappedFontFile.getLiveMappingCount());
+
+        final Font.Glyph g1 = lazy1.getGlyph(lazy1.getGlyphID('A'));
+        final Font.Glyph g2 = lazy2.getGlyph(lazy2.getGlyphID('A'));
+        Assert.assertEquals(g1.getShape(), g2.getShape());
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestFontLazyLoadNOUI.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
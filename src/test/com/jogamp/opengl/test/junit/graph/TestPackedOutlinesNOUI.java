@@ -0,0 +1,177 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.OutlineShapeXForm;
+import com.jogamp.graph.geom.Outline;
+import com.jogamp.graph.geom.PackedOutlines;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.graph.geom.plane.AffineTransform;
+import com.jogamp.graph.geom.plane.Winding;
+import com.jogamp.junit.util.JunitTracer;
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.math.geom.AABBox;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link PackedOutlines} against the {@link OutlineShape} object representation.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPackedOutlinesNOUI extends JunitTracer {
+
+    static void addSquares(final OutlineShape s) {
+        s.moveTo(0f, 0f, 0f);
+        s.lineTo(10f, 0f, 0f);
+        s.quadTo(12f, 5f, 0f, 10f, 10f, 0f);
+        s.lineTo(0f, 10f, 0f);
+        s.closePath();
+        s.moveTo(2f, 2f, 0f); // CW hole
+        s.lineTo(2f, 8f, 0f);
+        s.lineTo(8f, 8f, 0f);
+        s.lineTo(8f, 2f, 0f);
+        s.closePath();
+    }
+
+    static void addSquares(final PackedOutlines s) {
+        s.moveTo(0f, 0f, 0f);
+        s.lineTo(10f, 0f, 0f);
+        s.quadTo(12f, 5f, 0f, 10f, 10f, 0f);
+        s.lineTo(0f, 10f, 0f);
+        s.closePath();
+        s.moveTo(2f, 2f, 0f);
+        s.lineTo(2f, 8f, 0f);
+        s.lineTo(8f, 8f, 0f);
+        s.lineTo(8f, 2f, 0f);
+        s.closePath();
+    }
+
+    static void assertEquals(final OutlineShape exp, final PackedOutlines has) {
+        assertEquals(exp, has, true);
+    }
+
+    /** @param checkOnCurve false for {@link OutlineShape#transform(AffineTransform)} results, dropping the on-curve flag */
+    static void assertEquals(final OutlineShape exp, final PackedOutlines has, final boolean checkOnCurve) {
+        int idx = 0;
+        int outlines = 0;
+        for(int o=0; o<exp.getOutlineCount(); o++) {
+            final Outline ol = exp.getOutline(o);
+            if( ol.isEmpty() ) {
+                continue;
+            }
+            Assert.assertEquals(ol.getVertexCount(), has.getVertexCount(outlines));
+            Assert.assertEquals(ol.getWinding(), has.getWinding(outlines));
+            Assert.assertEquals(ol.isClosed(), has.isClosed(outlines));
+            for(int i=0; i<ol.getVertexCount(); i++, idx++) {
+                final Vertex v = ol.getVertex(i);
+                Assert.assertEquals(v.x(), has.x(idx), FloatUtil.EPSILON);
+                Assert.assertEquals(v.y(), has.y(idx), FloatUtil.EPSILON);
+                if( checkOnCurve ) {
+                    Assert.assertEquals(v.isOnCurve(), has.isOnCurve(idx));
+                }
+            }
+            outlines++;
+        }
+        Assert.assertEquals(idx, has.getVertexCount());
+        Assert.assertEquals(exp.getBounds(), has.getBounds());
+    }
+
+    @Test
+    public void test01BuildEqualsOutlineShape() {
+        final OutlineShape shape = new OutlineShape();
+        addSquares(shape);
+        final PackedOutlines packed = new PackedOutlines();
+        addSquares(packed);
+        assertEquals(shape, packed);
+        assertEquals(shape, new PackedOutlines(shape));
+        Assert.assertEquals(Winding.CCW, packed.getWinding(0));
+        Assert.assertEquals(Winding.CW, packed.getWinding(1));
+
+        final OutlineShape back = packed.toOutlineShape();
+        assertEquals(back, packed);
+        Assert.assertTrue(0 < back.getTriangleIndices(OutlineShape.VerticesState.QUADRATIC_NURBS).getTriangleCount());
+    }
+
+    @Test
+    public void test02WindingAndClose() {
+        final PackedOutlines packed = new PackedOutlines();
+        addSquares(packed);
+        packed.setWinding(1, Winding.CCW);
+        Assert.assertEquals(Winding.CCW, packed.getWinding(1));
+        Assert.assertEquals(2f, packed.x(packed.getOutlineEnd(1)-1), FloatUtil.EPSILON);
+
+        final PackedOutlines p2 = new PackedOutlines(1, 1);
+        p2.addVertex(0f, 0f, 0f, true);
+        p2.addVertex(1f, 0f, 0f, true);
+        p2.addVertex(1f, 1f, 0f, true);
+        Assert.assertTrue(p2.closeLastOutline(false)); // prepend last
+        Assert.assertEquals(4, p2.getVertexCount());
+        Assert.assertEquals(1f, p2.x(0), FloatUtil.EPSILON);
+        Assert.assertEquals(1f, p2.y(0), FloatUtil.EPSILON);
+        Assert.assertFalse(p2.closeLastOutline(true));
+    }
+
+    @Test
+    public void test03Transform() {
+        final OutlineShape shape = new OutlineShape();
+        addSquares(shape);
+        final PackedOutlines packed = new PackedOutlines(shape);
+        final AffineTransform t = new AffineTransform();
+        t.setToTranslation(5f, -3f);
+        t.scale(2f, 3f, new AffineTransform());
+        assertEquals(shape.transform(t), packed.transform(t, null), false);
+
+        final AABBox bShape = new OutlineShapeXForm(shape, t).getBounds(new AABBox());
+        final AABBox bPacked = new OutlineShapeXForm(packed, t).getBounds(new AABBox());
+        Assert.assertEquals(bShape, bPacked);
+
+        packed.transform(t, packed); // in place
+        assertEquals(shape.transform(t), packed, false);
+    }
+
+    @Test
+    public void test04Footprint() {
+        final int n = 100000;
+        final PackedOutlines packed = new PackedOutlines(n, 1);
+        packed.moveTo(0f, 0f, 0f);
+        for(int i=1; i<n; i++) {
+            packed.lineTo(i, i % 2, 0f);
+        }
+        Assert.assertEquals(n, packed.getVertexCount());
+        Assert.assertTrue(packed.getArraysByteSize() < n * 10L + 1024);
+        Assert.assertEquals(n-1, packed.getBounds().getWidth(), FloatUtil.EPSILON);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPackedOutlinesNOUI.class.getName());
+    }
+}
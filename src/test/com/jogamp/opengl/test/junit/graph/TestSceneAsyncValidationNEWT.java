@@ -0,0 +1,241 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.ui.Group;
+import com.jogamp.graph.ui.Scene;
+import com.jogamp.graph.ui.Shape;
+import com.jogamp.graph.ui.shapes.Label;
+import com.jogamp.graph.ui.shapes.Rectangle;
+import com.jogamp.newt.opengl.GLWindow;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link Scene#setValidationPool(ForkJoinPool)}:
+ * Shapes are validated off the GL thread, are not drawn while validation is pending
+ * and a failed validation is rethrown on the GL thread.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestSceneAsyncValidationNEWT extends UITestCase {
+
+    static class BlockingRectangle extends Rectangle {
+        final CountDownLatch release = new CountDownLatch(1);
+        final boolean fail;
+        volatile Thread validationThread = null;
+        volatile Thread drawThread = null;
+        volatile int drawCount = 0;
+
+        BlockingRectangle(final boolean fail) {
+            super(Region.VBAA_RENDERING_BIT, 1f, 1f, 0.1f);
+            this.fail = fail;
+        }
+
+        @Override
+        protected void addShapeToRegion(final GLProfile glp, final GL2ES2 gl) {
+            if( null == gl ) {
+                validationThread = Thread.currentThread();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) { }
+                if( fail ) {
+                    throw new IllegalStateException("Validation failure for testing");
+                }
+            }
+            super.addShapeToRegion(glp, gl);
+        }
+
+        @Override
+        public void draw(final GL2ES2 gl, final RegionRenderer renderer, final int[] sampleCount) {
+            drawThread = Thread.currentThread();
+            ++drawCount;
+            super.draw(gl, renderer, sampleCount);
+        }
+    }
+
+    static class CountingLabel extends Label {
+        CountingLabel(final Font font, final String text) {
+            super(Region.VBAA_RENDERING_BIT, font, 0.1f, text);
+        }
+        int getRegionVertexCount() { return null != region ? region.getVertexCount() : 0; }
+        int getRegionIndexCount() { return null != region ? region.getIndexCount() : 0; }
+    }
+
+    /** Returns a new {@link Font} instance w/o cached glyphs. */
+    static Font createFont() throws IOException {
+        return FontFactory.get(IOUtil.getResource("fonts/freefont/FreeSans.ttf",
+                TestSceneAsyncValidationNEWT.class.getClassLoader(), TestSceneAsyncValidationNEWT.class).getInputStream(), true);
+    }
+
+    static GLWindow createWindow(final Scene scene) {
+        final GLWindow window = GLWindow.create(new GLCapabilities(GLProfile.getGL2ES2()));
+        window.setSize(320, 240);
+        window.addGLEventListener(scene);
+        window.setVisible(true);
+        return window;
+    }
+
+    static void waitUntilValidated(final Shape shape) throws InterruptedException {
+        for(int i=0; i<500 && shape.isValidationPending(); i++) {
+            Thread.sleep(10);
+        }
+        Assert.assertFalse(shape.isValidationPending());
+    }
+
+    @Test
+    public void test01PendingNotDrawn() throws InterruptedException {
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        final BlockingRectangle shape = new BlockingRectangle(false);
+        final Scene scene = new Scene();
+        scene.setClearParams(new float[] { 1f, 1f, 1f, 1f}, GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+        scene.setValidationPool(pool);
+        scene.addShape(shape);
+        final GLWindow window = createWindow(scene);
+        try {
+            window.display();
+            Assert.assertTrue(shape.isValidationPending());
+            Assert.assertEquals(0, shape.drawCount);
+            Assert.assertEquals(1, scene.getPendingShapeCount());
+
+            window.display(); // still pending
+            Assert.assertEquals(0, shape.drawCount);
+
+            shape.release.countDown();
+            waitUntilValidated(shape);
+            Assert.assertNotNull(shape.validationThread);
+
+            window.display();
+            Assert.assertEquals(1, shape.drawCount);
+            Assert.assertEquals(0, scene.getPendingShapeCount());
+            Assert.assertNotSame(shape.validationThread, shape.drawThread);
+        } finally {
+            window.destroy();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test02FailureRethrownOnGLThread() throws InterruptedException {
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        final BlockingRectangle shape = new BlockingRectangle(true);
+        final Scene scene = new Scene();
+        scene.setValidationPool(pool);
+        scene.addShape(shape);
+        final GLWindow window = createWindow(scene);
+        try {
+            window.display();
+            shape.release.countDown();
+            waitUntilValidated(shape);
+
+            Throwable caught = null;
+            try {
+                window.display();
+            } catch (final RuntimeException e) {
+                caught = e;
+            }
+            Assert.assertNotNull("Validation failure not rethrown", caught);
+            boolean found = false;
+            for(Throwable t = caught; null != t && !found; t = t.getCause()) {
+                found = t instanceof IllegalStateException;
+            }
+            Assert.assertTrue("Unexpected exception: "+caught, found);
+        } finally {
+            window.destroy();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test03LabelsSharingFont() throws InterruptedException, IOException {
+        final String text = "Pack my box with five dozen liquor jugs 0123456789";
+        final int labelCount = 16;
+
+        // reference layout, validated serially on its own font instance
+        final CountingLabel reference = new CountingLabel(createFont(), text);
+        reference.validate(GLProfile.getGL2ES2());
+        Assert.assertTrue(0 < reference.getRegionVertexCount());
+
+        final Font font = createFont();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final Scene scene = new Scene();
+        scene.setValidationPool(pool);
+        final CountingLabel[] labels = new CountingLabel[labelCount];
+        final Group group = new Group();
+        for(int i=0; i<labelCount; i++) {
+            labels[i] = new CountingLabel(font, text);
+            if( i < labelCount / 2 ) {
+                scene.addShape(labels[i]);
+            } else {
+                group.addShape(labels[i]); // validated in parallel by the group
+            }
+        }
+        scene.addShape(group);
+        final GLWindow window = createWindow(scene);
+        try {
+            window.display();
+            for(int i=0; i<labelCount; i++) {
+                waitUntilValidated(labels[i]);
+            }
+            waitUntilValidated(group);
+            window.display(); // rethrows a failed validation
+
+            final AABBox refBox = reference.getBounds();
+            for(int i=0; i<labelCount; i++) {
+                Assert.assertEquals("label "+i, reference.getRegionVertexCount(), labels[i].getRegionVertexCount());
+                Assert.assertEquals("label "+i, reference.getRegionIndexCount(), labels[i].getRegionIndexCount());
+                Assert.assertEquals("label "+i, refBox, labels[i].getBounds());
+            }
+        } finally {
+            window.destroy();
+            pool.shutdown();
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestSceneAsyncValidationNEWT.class.getName());
+    }
+}
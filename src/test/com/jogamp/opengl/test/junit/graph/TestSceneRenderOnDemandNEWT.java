@@ -0,0 +1,120 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.ui.Scene;
+import com.jogamp.graph.ui.shapes.Rectangle;
+import com.jogamp.newt.opengl.GLWindow;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link Scene#setRenderOnDemand(boolean)}: skipped frames and partial redraws
+ * if {@link Scene#isPartialRedrawAvailable(com.jogamp.opengl.GLDrawable) available},
+ * otherwise full redraws.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestSceneRenderOnDemandNEWT extends UITestCase {
+
+    static void testImpl(final boolean doubleBuffered) {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getGL2ES2());
+        caps.setDoubleBuffered(doubleBuffered);
+        final Scene scene = new Scene();
+        scene.setClearParams(new float[] { 1f, 1f, 1f, 1f}, GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+        scene.setRenderOnDemand(true);
+        final GLWindow window = GLWindow.create(caps);
+        window.setSize(320, 240);
+        window.addGLEventListener(scene);
+        window.setVisible(true);
+        try {
+            window.display();
+            final boolean partial = scene.isPartialRedrawAvailable(window);
+            final long viewportArea = (long)window.getSurfaceWidth() * (long)window.getSurfaceHeight();
+            System.err.println("Chosen "+window.getChosenGLCapabilities()+", partial redraw "+partial);
+
+            final AABBox box = scene.getBounds();
+            final float w = box.getWidth() * 0.1f, h = box.getHeight() * 0.1f;
+            final Rectangle r1 = new Rectangle(Region.VBAA_RENDERING_BIT, w, h, w*0.1f);
+            final Rectangle r2 = new Rectangle(Region.VBAA_RENDERING_BIT, w, h, w*0.1f);
+            r1.moveTo(box.getMinX(), box.getMinY(), 0f);
+            r2.moveTo(box.getMaxX() - w, box.getMaxY() - h, 0f);
+            scene.addShape(r1);
+            scene.addShape(r2);
+
+            window.display(); // full damage
+            window.display(); // previous frame's full damage
+            scene.resetDamageCounter();
+            window.display();
+            if( partial ) {
+                Assert.assertEquals(1, scene.getSkippedFrameCount());
+                Assert.assertEquals(0, scene.getRedrawnFrameCount());
+            } else {
+                Assert.assertEquals(0, scene.getSkippedFrameCount());
+                Assert.assertEquals(1, scene.getRedrawnFrameCount());
+                Assert.assertEquals(viewportArea, scene.getRedrawnPixelCount());
+            }
+
+            scene.resetDamageCounter();
+            r1.move(w*0.5f, 0f, 0f);
+            window.display();
+            Assert.assertEquals(0, scene.getSkippedFrameCount());
+            Assert.assertEquals(1, scene.getRedrawnFrameCount());
+            if( partial ) {
+                Assert.assertTrue(0 < scene.getRedrawnPixelCount());
+                Assert.assertTrue(viewportArea > scene.getRedrawnPixelCount());
+            } else {
+                Assert.assertEquals(viewportArea, scene.getRedrawnPixelCount());
+            }
+        } finally {
+            window.destroy();
+        }
+    }
+
+    @Test
+    public void test01SingleBuffered() {
+        testImpl(false);
+    }
+
+    @Test
+    public void test02DoubleBufferedNotPreserved() {
+        testImpl(true);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestSceneRenderOnDemandNEWT.class.getName());
+    }
+}
@@ -0,0 +1,324 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.font.FontSet;
+import com.jogamp.graph.geom.plane.AffineTransform;
+import com.jogamp.junit.util.JunitTracer;
+import com.jogamp.opengl.math.geom.AABBox;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the font's text layout cache, i.e. cached string processing and measuring
+ * yields identical results as without cache and as an independent per character layout.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextLayoutCacheNOUI extends JunitTracer {
+    static final String[] texts = { "JogAmp", "AVAVA To Ta", "Hello World!\nLine 2", "The quick brown fox jumps over the lazy dog",
+                                    "  lots   of\n\n  white  space \n" };
+    static final float EPSILON = 1e-4f;
+
+    static class Recorder implements Font.GlyphVisitor {
+        final ArrayList<String> calls = new ArrayList<String>();
+        @Override
+        public void visit(final char symbol, final Font.Glyph glyph, final AffineTransform t) {
+            calls.add(symbol+": "+glyph.getID()+" @ "+t.getTranslateX()+"/"+t.getTranslateY()+" x "+t.getScaleX());
+        }
+    }
+
+    static Font getFont() throws IOException {
+        return FontFactory.get(FontFactory.UBUNTU).get(FontSet.FAMILY_REGULAR, FontSet.STYLE_NONE);
+    }
+
+    /**
+     * Independent reference of {@link Font#getMetricBoundsFU(CharSequence)},
+     * laying out each character via the font metrics.
+     */
+    static AABBox refMetricBoundsFU(final Font font, final String text) {
+        final AABBox res = new AABBox();
+        final int lineHeight = font.getLineHeightFU();
+        int y = 0;
+        int advanceTotal = 0;
+        for(int i=0; i<text.length(); i++) {
+            final char c = text.charAt(i);
+            if( '\n' == c ) {
+                advanceTotal = 0;
+                y -= lineHeight;
+            } else {
+                advanceTotal += font.getAdvanceWidthFU( font.getGlyphID( c ) );
+            }
+            res.resize(advanceTotal, y, 0f);
+        }
+        if( 0 < advanceTotal ) {
+            y -= lineHeight;
+            res.resize(advanceTotal, y, 0f);
+        }
+        return res;
+    }
+
+    /**
+     * Independent reference of {@link Font#getGlyphBoundsFU(CharSequence)},
+     * laying out each character via its glyph's advance and kerning.
+     */
+    static AABBox refGlyphBoundsFU(final Font font, final String text) {
+        final AABBox res = new AABBox();
+        final AffineTransform t = new AffineTransform();
+        final AffineTransform tmp = new AffineTransform();
+        final AABBox box = new AABBox();
+        final int lineHeight = font.getLineHeightFU();
+        int y = 0;
+        int advanceTotal = 0;
+        Font.Glyph left = null;
+        for(int i=0; i<text.length(); i++) {
+            final char c = text.charAt(i);
+            if( '\n' == c ) {
+                y -= lineHeight;
+                advanceTotal = 0;
+                left = null;
+                continue;
+            }
+            final int id = font.getGlyphID(c);
+            final Font.Glyph glyph = font.getGlyph(id);
+            if( null == glyph.getShape() ) {
+                advanceTotal += glyph.getAdvanceFU();
+                left = null;
+                continue;
+            } else if( glyph.isWhiteSpace() ) {
+                left = null;
+            }
+            if( null != left ) {
+                advanceTotal += left.getKerningFU(id);
+            }
+            t.setToIdentity();
+            t.translate(advanceTotal, y, tmp);
+            res.resize(t.transform(glyph.getBoundsFU(), box));
+            advanceTotal += glyph.getAdvanceFU();
+            if( !glyph.isWhiteSpace() ) {
+                left = glyph;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Independent reference of {@link Font#processString(Font.GlyphVisitor, AffineTransform, CharSequence)},
+     * laying out each character via its glyph's advance and kerning.
+     */
+    static AABBox refProcessString(final Font font, final Font.GlyphVisitor visitor, final AffineTransform transform, final String text) {
+        final AABBox res = new AABBox();
+        final AffineTransform t = new AffineTransform();
+        final AffineTransform tmp = new AffineTransform();
+        final AABBox box = new AABBox();
+        final float lineHeight = font.getLineHeight();
+        float y = 0;
+        float advanceTotal = 0;
+        Font.Glyph left = null;
+        for(int i=0; i<text.length(); i++) {
+            final char c = text.charAt(i);
+            if( '\n' == c ) {
+                y -= lineHeight;
+                advanceTotal = 0;
+                left = null;
+                continue;
+            }
+            final int id = font.getGlyphID(c);
+            final Font.Glyph glyph = font.getGlyph(id);
+            final OutlineShape shape = glyph.getShape();
+            if( null == shape ) {
+                advanceTotal += glyph.getAdvance();
+                left = null;
+                continue;
+            } else if( glyph.isWhiteSpace() ) {
+                left = null;
+            }
+            if( null != left ) {
+                advanceTotal += left.getKerning(id);
+            }
+            if( null != transform ) {
+                t.setTransform(transform);
+            } else {
+                t.setToIdentity();
+            }
+            t.translate(advanceTotal, y, tmp);
+            res.resize(t.transform(shape.getBounds(), box));
+            visitor.visit(c, glyph, t);
+            advanceTotal += glyph.getAdvance();
+            if( !glyph.isWhiteSpace() ) {
+                left = glyph;
+            }
+        }
+        return res;
+    }
+
+    static AffineTransform getScale24() {
+        final AffineTransform t = new AffineTransform();
+        t.setToScale(24f, 24f);
+        return t;
+    }
+
+    /** Same order as {@link #measure(Font, String, ArrayList)}, using the independent reference layout. */
+    static void reference(final Font font, final String text, final ArrayList<Object> res) {
+        final AffineTransform t = getScale24();
+        final float upem = font.getMetrics().getUnitsPerEM();
+        final Recorder r0 = new Recorder();
+        final Recorder r1 = new Recorder();
+        final Recorder nop = new Recorder();
+        res.add(refMetricBoundsFU(font, text).scale2(1f/upem));
+        res.add(refMetricBoundsFU(font, text));
+        res.add(refGlyphBoundsFU(font, text).scale2(1f/upem));
+        res.add(refGlyphBoundsFU(font, text));
+        res.add(refGlyphBoundsFU(font, text).scale2(1f/upem));
+        res.add(refProcessString(font, nop, null, text));
+        res.add(refProcessString(font, nop, t, text));
+        res.add(refProcessString(font, r0, null, text));
+        res.add(refProcessString(font, r1, t, text));
+        res.add(r0.calls);
+        res.add(r1.calls);
+    }
+
+    static void assertEquals(final String msg, final ArrayList<Object> expected, final ArrayList<Object> has) {
+        Assert.assertEquals(msg, expected.size(), has.size());
+        for(int i=0; i<expected.size(); i++) {
+            final Object e = expected.get(i);
+            final Object h = has.get(i);
+            if( e instanceof AABBox ) {
+                final AABBox eb = (AABBox)e;
+                final AABBox hb = (AABBox)h;
+                Assert.assertEquals(msg+" #"+i, eb.getMinX(), hb.getMinX(), EPSILON);
+                Assert.assertEquals(msg+" #"+i, eb.getMinY(), hb.getMinY(), EPSILON);
+                Assert.assertEquals(msg+" #"+i, eb.getMaxX(), hb.getMaxX(), EPSILON);
+                Assert.assertEquals(msg+" #"+i, eb.getMaxY(), hb.getMaxY(), EPSILON);
+            } else {
+                Assert.assertEquals(msg+" #"+i, e, h);
+            }
+        }
+    }
+
+    static void measure(final Font font, final String text, final ArrayList<Object> res) {
+        final AffineTransform t = getScale24();
+        final Recorder r0 = new Recorder();
+        final Recorder r1 = new Recorder();
+        res.add(font.getMetricBounds(text));
+        res.add(font.getMetricBoundsFU(text));
+        res.add(font.getGlyphBounds(text));
+        res.add(font.getGlyphBoundsFU(text));
+        res.add(font.getGlyphBounds(text, new AABBox()));
+        res.add(font.getGlyphShapeBounds(null, text));
+        res.add(font.getGlyphShapeBounds(t, text));
+        res.add(font.processString(r0, null, text));
+        res.add(font.processString(r1, t, text));
+        res.add(r0.calls);
+        res.add(r1.calls);
+    }
+
+    @Test
+    public void test01CachedEqualsUncached() throws IOException {
+        final Font font = getFont();
+        try {
+            for(final String text : texts) {
+                final ArrayList<Object> expected = new ArrayList<Object>();
+                reference(font, text, expected);
+
+                font.setLayoutCacheLimits(0, 0);
+                final ArrayList<Object> uncached = new ArrayList<Object>();
+                measure(font, text, uncached);
+                Assert.assertEquals(0, font.getLayoutCacheRunCount());
+                assertEquals("'"+text+"' uncached", expected, uncached);
+
+                font.setLayoutCacheLimits(512, 64*1024);
+                final ArrayList<Object> cold = new ArrayList<Object>();
+                final ArrayList<Object> warm = new ArrayList<Object>();
+                measure(font, text, cold);
+                measure(font, text, warm);
+                Assert.assertEquals(1, font.getLayoutCacheRunCount());
+                assertEquals("'"+text+"' cold", expected, cold);
+                assertEquals("'"+text+"' warm", expected, warm);
+            }
+        } finally {
+            font.setLayoutCacheLimits(512, 64*1024);
+        }
+    }
+
+    @Test
+    public void test02HitsAndEviction() throws IOException {
+        final Font font = getFont();
+        try {
+            font.setLayoutCacheLimits(0, 0);
+            font.setLayoutCacheLimits(2, 64*1024);
+            final long hits0 = font.getLayoutCacheHitCount();
+            final long misses0 = font.getLayoutCacheMissCount();
+
+            font.getGlyphBounds("a"); // miss
+            font.getGlyphBounds("b"); // miss
+            font.getGlyphBounds("a"); // hit, 'b' becomes eldest
+            font.getMetricBounds("a"); // hit
+            Assert.assertEquals(2, font.getLayoutCacheHitCount() - hits0);
+            Assert.assertEquals(2, font.getLayoutCacheMissCount() - misses0);
+            Assert.assertEquals(2, font.getLayoutCacheRunCount());
+            Assert.assertEquals(2, font.getLayoutCacheCharCount());
+
+            font.getGlyphBounds("cd"); // miss, evicts 'b'
+            Assert.assertEquals(2, font.getLayoutCacheRunCount());
+            Assert.assertEquals(3, font.getLayoutCacheCharCount());
+            font.getGlyphBounds("a"); // hit
+            Assert.assertEquals(3, font.getLayoutCacheHitCount() - hits0);
+            font.getGlyphBounds("b"); // miss
+            Assert.assertEquals(4, font.getLayoutCacheMissCount() - misses0);
+
+            // character limit
+            font.setLayoutCacheLimits(8, 4);
+            Assert.assertTrue(4 >= font.getLayoutCacheCharCount());
+            font.getGlyphBounds("JogAmp"); // exceeds a quarter of the character limit, not cached
+            Assert.assertTrue(4 >= font.getLayoutCacheCharCount());
+
+            // whitespace w/o glyph shapes counts as well
+            font.setLayoutCacheLimits(8, 64);
+            final int chars0 = font.getLayoutCacheCharCount();
+            font.getGlyphBounds("a  \n\n  b"); // miss, 8 characters
+            Assert.assertEquals(chars0 + 8, font.getLayoutCacheCharCount());
+            font.getGlyphBounds("\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n\n"); // 17 > 64/4 characters, not cached
+            Assert.assertEquals(chars0 + 8, font.getLayoutCacheCharCount());
+        } finally {
+            font.setLayoutCacheLimits(512, 64*1024);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestTextLayoutCacheNOUI.class.getName());
+    }
+}
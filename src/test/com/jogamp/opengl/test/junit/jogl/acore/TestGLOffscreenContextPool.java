@@ -0,0 +1,135 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.util.GLOffscreenContextPool;
+
+import com.jogamp.junit.util.JunitTracer;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link GLOffscreenContextPool} reuse of warm drawables per size class,
+ * state reset on release, eviction and lease timeouts.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLOffscreenContextPool extends JunitTracer {
+
+    static GLOffscreenContextPool createPool(final int maxDrawables) {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getGL2ES2());
+        return new GLOffscreenContextPool(caps, maxDrawables, 1024);
+    }
+
+    @Test
+    public void test00SizeClasses() {
+        Assert.assertEquals(64, GLOffscreenContextPool.getSizeClassDimension(1));
+        Assert.assertEquals(64, GLOffscreenContextPool.getSizeClassDimension(64));
+        Assert.assertEquals(128, GLOffscreenContextPool.getSizeClassDimension(65));
+        Assert.assertEquals(1024, GLOffscreenContextPool.getSizeClassDimension(1000));
+    }
+
+    @Test
+    public void test01ReuseAndReset() {
+        final GLOffscreenContextPool pool = createPool(2);
+        Assert.assertEquals(1, pool.prestart(200, 100, 1));
+        Assert.assertEquals(1, pool.getIdleCount());
+
+        final GLOffscreenContextPool.Lease l0 = pool.lease(200, 100, 0);
+        Assert.assertFalse(l0.isNewDrawable());
+        Assert.assertEquals(256, l0.getDrawable().getSurfaceWidth());
+        Assert.assertEquals(128, l0.getDrawable().getSurfaceHeight());
+        Assert.assertEquals(l0.getDrawable().getContext(), GLContext.getCurrent());
+        final int[] viewport = new int[4];
+        l0.getGL().glGetIntegerv(GL.GL_VIEWPORT, viewport, 0);
+        Assert.assertEquals(200, viewport[2]);
+        Assert.assertEquals(100, viewport[3]);
+        l0.getDrawable().addGLEventListener(new GearsES2(0));
+        l0.getDrawable().display();
+        l0.getGL().glEnable(GL.GL_BLEND);
+        final GLContext ctx0 = l0.getDrawable().getContext();
+        pool.release(l0);
+        Assert.assertNull(GLContext.getCurrent());
+        Assert.assertEquals(0, pool.getLeasedCount());
+        Assert.assertEquals(1, pool.getIdleCount());
+
+        final GLOffscreenContextPool.Lease l1 = pool.lease(250, 70, 0);
+        Assert.assertFalse(l1.isNewDrawable());
+        Assert.assertSame(ctx0, l1.getDrawable().getContext());
+        Assert.assertEquals(0, l1.getDrawable().getGLEventListenerCount());
+        Assert.assertFalse(l1.getGL().glIsEnabled(GL.GL_BLEND));
+        pool.release(l1);
+
+        Assert.assertEquals(2, pool.getLeaseCount());
+        Assert.assertEquals(1, pool.getCreateCount());
+        Assert.assertEquals(2, pool.getLeaseWaitTimes().getCount());
+        System.err.println(pool);
+        pool.dispose();
+        Assert.assertEquals(0, pool.getDrawableCount());
+    }
+
+    @Test
+    public void test02EvictAndTimeout() throws InterruptedException {
+        final GLOffscreenContextPool pool = createPool(1);
+        final GLOffscreenContextPool.Lease l0 = pool.lease(64, 64, 0);
+        Assert.assertTrue(l0.isNewDrawable());
+
+        final GLOffscreenContextPool.Lease[] other = { null };
+        final Thread t = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                other[0] = pool.lease(64, 64, 50);
+            }
+        }, "TestGLOffscreenContextPool-Waiter");
+        t.start();
+        t.join();
+        Assert.assertNull(other[0]);
+        Assert.assertEquals(1, pool.getTimeoutCount());
+        pool.release(l0);
+
+        // other size class evicts the idle 64x64 drawable
+        final GLOffscreenContextPool.Lease l1 = pool.lease(512, 300, 0);
+        Assert.assertTrue(l1.isNewDrawable());
+        Assert.assertEquals(1, pool.getEvictCount());
+        Assert.assertEquals(1, pool.getDrawableCount());
+        pool.release(l1);
+        System.err.println(pool);
+        pool.dispose();
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLOffscreenContextPool.class.getName());
+    }
+}
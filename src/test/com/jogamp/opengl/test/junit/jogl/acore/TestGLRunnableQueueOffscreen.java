@@ -0,0 +1,210 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLRunnable;
+
+import jogamp.opengl.GLAutoDrawableBase;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the lock-free {@link GLRunnable} queue of {@link GLAutoDrawable}s
+ * with concurrent producers, bounded draining per display and its statistics,
+ * as well as listener modifications while displaying.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLRunnableQueueOffscreen extends JunitTracer {
+    static final int producerCount = 4;
+    static final int tasksPerProducer = 250;
+
+    static GLOffscreenAutoDrawable createDrawable() {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLOffscreenAutoDrawable drawable = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // create context
+        return drawable;
+    }
+
+    @Test
+    public void test01ConcurrentProducersBoundedDrain() throws InterruptedException {
+        final GLOffscreenAutoDrawable drawable = createDrawable();
+        final GLAutoDrawableBase base = (GLAutoDrawableBase) drawable;
+        final AtomicInteger executed = new AtomicInteger(0);
+        final GLRunnable task = new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable drawable) {
+                executed.incrementAndGet();
+                return true;
+            }
+        };
+        final Thread[] producers = new Thread[producerCount];
+        for(int i=0; i<producerCount; i++) {
+            producers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int j=0; j<tasksPerProducer; j++) {
+                        drawable.invoke(false, task);
+                    }
+                }
+            }, "Producer-"+i);
+        }
+        base.setGLRunnableDrainLimit(100);
+        // Producer's display() is a nop w/ exclusive context thread, i.e. they only queue tasks
+        drawable.setExclusiveContextThread(Thread.currentThread());
+        for(int i=0; i<producerCount; i++) {
+            producers[i].start();
+        }
+        for(int i=0; i<producerCount; i++) {
+            producers[i].join();
+        }
+        final int total = producerCount * tasksPerProducer;
+        Assert.assertEquals(total, base.getGLRunnableQueueDepth());
+        Assert.assertEquals(total, base.getGLRunnablePeakQueueDepth());
+
+        drawable.display();
+        Assert.assertEquals(100, executed.get());
+        Assert.assertEquals(total - 100, base.getGLRunnableQueueDepth());
+        while( 0 < base.getGLRunnableQueueDepth() ) {
+            drawable.display();
+        }
+        Assert.assertEquals(total, executed.get());
+        Assert.assertEquals(total, base.getGLRunnableExecCount());
+        Assert.assertEquals(total, base.getGLRunnableLatencies().getCount());
+        System.err.println("Latencies "+base.getGLRunnableLatencies());
+
+        base.resetGLRunnableStats();
+        Assert.assertEquals(0, base.getGLRunnableExecCount());
+        Assert.assertEquals(0, base.getGLRunnablePeakQueueDepth());
+
+        drawable.setExclusiveContextThread(null);
+        drawable.display(); // release exclusive context
+        drawable.destroy();
+    }
+
+    @Test
+    public void test02AddListenerWhileDisplaying() {
+        final GLOffscreenAutoDrawable drawable = createDrawable();
+        final AtomicInteger initCount = new AtomicInteger(0);
+        final AtomicInteger displayCount = new AtomicInteger(0);
+        final GLEventListener added = new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable drawable) { initCount.incrementAndGet(); }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) { }
+            @Override
+            public void display(final GLAutoDrawable drawable) { displayCount.incrementAndGet(); }
+            @Override
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        };
+        drawable.addGLEventListener(new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable drawable) { }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) { }
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                if( 1 == drawable.getGLEventListenerCount() ) {
+                    drawable.addGLEventListener(added);
+                }
+            }
+            @Override
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        drawable.display();
+        Assert.assertEquals(2, drawable.getGLEventListenerCount());
+        Assert.assertFalse(drawable.areAllGLEventListenerInitialized());
+        Assert.assertEquals(0, displayCount.get()); // added to next frame's snapshot
+        drawable.display();
+        Assert.assertTrue(drawable.areAllGLEventListenerInitialized());
+        Assert.assertEquals(1, initCount.get());
+        Assert.assertEquals(1, displayCount.get());
+        drawable.destroy();
+    }
+
+    @Test
+    public void test03InvokeWaitExceedingDrainLimit() throws InterruptedException {
+        final GLOffscreenAutoDrawable drawable = createDrawable();
+        final GLAutoDrawableBase base = (GLAutoDrawableBase) drawable;
+        final AtomicInteger executed = new AtomicInteger(0);
+        final GLRunnable task = new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable drawable) {
+                executed.incrementAndGet();
+                return true;
+            }
+        };
+        base.setGLRunnableDrainLimit(2);
+        drawable.setExclusiveContextThread(Thread.currentThread());
+        final Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for(int j=0; j<5; j++) {
+                    drawable.invoke(false, task);
+                }
+            }
+        }, "Producer");
+        producer.start();
+        producer.join();
+        Assert.assertEquals(5, base.getGLRunnableQueueDepth());
+
+        // w/o animator the task is executed by an immediate display, exempt from the limit incl. all queued before
+        final boolean[] done = { false };
+        drawable.invoke(true, new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable drawable) {
+                done[0] = true;
+                return true;
+            }
+        });
+        Assert.assertTrue(done[0]);
+        Assert.assertEquals(5, executed.get());
+        Assert.assertEquals(0, base.getGLRunnableQueueDepth());
+
+        drawable.setExclusiveContextThread(null);
+        drawable.display(); // release exclusive context
+        drawable.destroy();
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLRunnableQueueOffscreen.class.getName());
+    }
+}
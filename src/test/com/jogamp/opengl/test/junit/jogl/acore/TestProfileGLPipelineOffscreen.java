@@ -0,0 +1,110 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCallCounters;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLPipelineFactory;
+import com.jogamp.opengl.GLProfile;
+
+import com.jogamp.junit.util.JunitTracer;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the generated <code>ProfileGL*</code> pipeline counting draw calls,
+ * binds and uploads of {@link GearsES2} per frame.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestProfileGLPipelineOffscreen extends JunitTracer {
+    static final int frameCount = 10;
+
+    @Test
+    public void test01GearsES2() {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(glp);
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 256, 256);
+        final GLCallCounters counters = new GLCallCounters();
+        drawable.addGLEventListener(new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Profile", null, gl, new Object[] { counters } ) );
+            }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) { }
+            @Override
+            public void display(final GLAutoDrawable drawable) { }
+            @Override
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        drawable.addGLEventListener(new GearsES2(0));
+        drawable.addGLEventListener(new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable drawable) { }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) { }
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                System.err.println(counters.endFrame());
+            }
+            @Override
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        for(int i=0; i<frameCount; i++) {
+            drawable.display();
+        }
+        System.err.println(counters);
+        Assert.assertTrue(0 < counters.getMethodCount());
+        Assert.assertEquals(frameCount, counters.getFrameCount());
+        final GLCallCounters.Frame last = counters.getLastFrame();
+        Assert.assertNotNull(last);
+        Assert.assertTrue(0 < last.calls);
+        Assert.assertTrue(0 < last.drawCalls);
+        Assert.assertTrue(0 < last.binds);
+        Assert.assertTrue(0 < counters.getTotalUploadBytes());
+        final int clearID = counters.getMethodID("glClear");
+        Assert.assertTrue(0 <= clearID);
+        Assert.assertEquals(frameCount, counters.getCallCount(clearID));
+        drawable.destroy();
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestProfileGLPipelineOffscreen.class.getName());
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLPipelineFactory;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLStateCache;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the generated <code>StateCacheGL*</code> pipeline dropping redundant calls,
+ * while the driver state queried via <code>glGet*</code> matches the requested state.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestStateCacheGLPipelineOffscreen extends JunitTracer {
+    static final int frameCount = 4;
+
+    static GLStateCache getStateCache(final GL gl) {
+        try {
+            return (GLStateCache) gl.getClass().getMethod("getStateCache").invoke(gl);
+        } catch (final Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static int getInteger(final GL gl, final int pname) {
+        final int[] v = { 0 };
+        gl.glGetIntegerv(pname, v, 0);
+        return v[0];
+    }
+
+    @Test
+    public void test01RedundantCalls() {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(glp);
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        final GLStateCache[] cache = { null };
+        final int[] textures = { 0, 0 };
+        drawable.addGLEventListener(new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable drawable) {
+                final GL gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.StateCache", null, drawable.getGL(), null) );
+                cache[0] = getStateCache(gl);
+                gl.glGenTextures(2, textures, 0);
+            }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) {
+                drawable.getGL().glDeleteTextures(2, textures, 0);
+            }
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                gl.glEnable(GL.GL_BLEND);
+                gl.glEnable(GL.GL_BLEND); // elided
+                Assert.assertTrue(gl.glIsEnabled(GL.GL_BLEND));
+                gl.glDisable(GL.GL_BLEND);
+                gl.glDisable(GL.GL_BLEND); // elided
+                Assert.assertFalse(gl.glIsEnabled(GL.GL_BLEND));
+
+                gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+                gl.glBlendFuncSeparate(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA, GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA); // elided
+                Assert.assertEquals(GL.GL_ONE_MINUS_SRC_ALPHA, getInteger(gl, GL.GL_BLEND_DST_RGB));
+
+                gl.glActiveTexture(GL.GL_TEXTURE1);
+                gl.glBindTexture(GL.GL_TEXTURE_2D, textures[1]);
+                gl.glActiveTexture(GL.GL_TEXTURE0);
+                gl.glBindTexture(GL.GL_TEXTURE_2D, textures[0]);
+                gl.glBindTexture(GL.GL_TEXTURE_2D, textures[0]); // elided
+                gl.glActiveTexture(GL.GL_TEXTURE1);
+                gl.glBindTexture(GL.GL_TEXTURE_2D, textures[1]); // elided
+                Assert.assertEquals(textures[1], getInteger(gl, GL.GL_TEXTURE_BINDING_2D));
+                gl.glActiveTexture(GL.GL_TEXTURE0);
+                Assert.assertEquals(textures[0], getInteger(gl, GL.GL_TEXTURE_BINDING_2D));
+
+                gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+                gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0); // elided
+                gl.getGL2ES2().glUseProgram(0);
+                gl.getGL2ES2().glUseProgram(0); // elided
+                Assert.assertEquals(0, getInteger(gl, GL2ES2.GL_CURRENT_PROGRAM));
+            }
+            @Override
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        for(int i=0; i<frameCount; i++) {
+            drawable.display();
+        }
+        System.err.println(cache[0]);
+        Assert.assertNotNull(cache[0]);
+        Assert.assertTrue(7 * frameCount <= cache[0].getElidedCallCount());
+        Assert.assertTrue(cache[0].getElidedCallCount() < cache[0].getFilteredCallCount());
+        drawable.destroy();
+    }
+
+    @Test
+    public void test02TextureUnitEnables() {
+        if( !GLProfile.isAvailable(GLProfile.GL2) ) {
+            System.err.println("GL2 n/a, skip test");
+            return;
+        }
+        final GLProfile glp = GLProfile.get(GLProfile.GL2);
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(glp);
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        final GLStateCache[] cache = { null };
+        drawable.addGLEventListener(new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable drawable) {
+                final GL gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.StateCache", null, drawable.getGL(), null) );
+                cache[0] = getStateCache(gl);
+            }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) { }
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                final GL2 gl = drawable.getGL().getGL2();
+                final int[] unitCaps = { GL.GL_TEXTURE_2D, GL2.GL_TEXTURE_GEN_S };
+                for(int i=0; i<unitCaps.length; i++) {
+                    final int cap = unitCaps[i];
+                    gl.glActiveTexture(GL.GL_TEXTURE0);
+                    gl.glEnable(cap);
+                    gl.glActiveTexture(GL.GL_TEXTURE1);
+                    gl.glEnable(cap); // other unit, not elided
+                    Assert.assertTrue(gl.glIsEnabled(cap));
+                    gl.glDisable(cap);
+                    gl.glDisable(cap); // elided
+                    Assert.assertFalse(gl.glIsEnabled(cap));
+                    gl.glActiveTexture(GL.GL_TEXTURE0);
+                    gl.glEnable(cap); // elided
+                    Assert.assertTrue(gl.glIsEnabled(cap));
+                    gl.glDisable(cap);
+                    Assert.assertFalse(gl.glIsEnabled(cap));
+                }
+            }
+            @Override
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        for(int i=0; i<frameCount; i++) {
+            drawable.display();
+        }
+        System.err.println(cache[0]);
+        Assert.assertNotNull(cache[0]);
+        Assert.assertTrue(0 < cache[0].getElidedCallCount());
+        drawable.destroy();
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestStateCacheGLPipelineOffscreen.class.getName());
+    }
+}
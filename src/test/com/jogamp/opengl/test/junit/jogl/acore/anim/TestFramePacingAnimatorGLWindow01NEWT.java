@@ -0,0 +1,164 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import java.lang.reflect.InvocationTargetException;
+
+import com.jogamp.opengl.GLCapabilities;
+
+import com.jogamp.newt.opengl.GLWindow;
+import com.jogamp.opengl.util.FramePacingAnimator;
+import com.jogamp.opengl.test.junit.util.NewtTestUtil;
+import com.jogamp.opengl.test.junit.util.GLTestUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFramePacingAnimatorGLWindow01NEWT extends UITestCase {
+    static final int width = 400;
+    static final int height = 400;
+    static final float fps = 30f;
+
+    protected GLWindow createGLWindow(final GLCapabilities caps, final int x, final int y, final GearsES2 gears) throws InterruptedException {
+        final GLWindow glWindow = GLWindow.create(caps);
+        Assert.assertNotNull(glWindow);
+        glWindow.addGLEventListener(gears);
+        glWindow.setPosition(x, y);
+        glWindow.setSize(width, height);
+        glWindow.setTitle("GLWindow: "+x+"/"+y);
+        return glWindow;
+    }
+
+    static void pauseAnimator(final FramePacingAnimator animator, final boolean pause) {
+        if(pause) {
+            animator.pause();
+            Assert.assertEquals(true, animator.isStarted());
+            Assert.assertEquals(true, animator.isPaused());
+            Assert.assertEquals(false, animator.isAnimating());
+        } else {
+            animator.resume();
+            Assert.assertEquals(true, animator.isStarted());
+            Assert.assertEquals(false, animator.isPaused());
+            Assert.assertEquals(true, animator.isAnimating());
+        }
+    }
+    static void stopAnimator(final FramePacingAnimator animator) {
+        animator.stop();
+        Assert.assertEquals(false, animator.isStarted());
+        Assert.assertEquals(false, animator.isPaused());
+        Assert.assertEquals(false, animator.isAnimating());
+    }
+
+    void testImpl(final boolean predict, final boolean exclusiveContext) throws InterruptedException {
+        final GLCapabilities caps = new GLCapabilities(null);
+        final FramePacingAnimator animator = new FramePacingAnimator(FramePacingAnimator.toFrameDuration(fps));
+        animator.setRenderTimePrediction(predict);
+        animator.setExclusiveContext(exclusiveContext);
+        animator.start();
+        Assert.assertEquals(true, animator.isStarted());
+        Assert.assertEquals(true, animator.isPaused());
+        Assert.assertEquals(false, animator.isAnimating());
+
+        final GearsES2 g1 = new GearsES2(0);
+        final GLWindow c1 = createGLWindow(caps, 0, 0, g1);
+        animator.add(c1);
+        Assert.assertEquals(true, animator.isStarted());
+        Assert.assertEquals(false, animator.isPaused());
+        Assert.assertEquals(true, animator.isAnimating());
+        if( exclusiveContext ) {
+            Assert.assertEquals(animator.getThread(), c1.getExclusiveContextThread());
+        }
+        c1.setVisible(true);
+
+        Assert.assertTrue(NewtTestUtil.waitForRealized(c1, true, null));
+        Assert.assertTrue(NewtTestUtil.waitForVisible(c1, true, null));
+        Assert.assertTrue(GLTestUtil.waitForContextCreated(c1, true, null));
+        Assert.assertTrue("Gears1 not initialized", g1.waitForInit(true));
+
+        Thread.sleep(duration/3);
+
+        pauseAnimator(animator, true);
+        if( exclusiveContext ) {
+            Assert.assertNull(c1.getExclusiveContextThread());
+        }
+
+        Thread.sleep(duration/3);
+
+        pauseAnimator(animator, false);
+        animator.resetFPSCounter();
+
+        Thread.sleep(duration/3);
+
+        final float totalFPS = animator.getTotalFPS();
+        System.err.println("FramePacingAnimator: fps "+totalFPS+" / "+fps+", frames "+animator.getTotalFPSFrames()+
+                           ", predicted "+animator.getPredictedRenderTime()/1000+" us, last wakeup latency "+animator.getLastWakeupLatency()/1000+
+                           " us, missed "+animator.getMissedFrameCount());
+        Assert.assertTrue("FPS "+totalFPS+" exceeds target "+fps, totalFPS <= fps * 1.1f);
+
+        stopAnimator(animator);
+        Assert.assertNull(c1.getExclusiveContextThread());
+
+        c1.destroy();
+        Assert.assertTrue(NewtTestUtil.waitForRealized(c1, false, null));
+    }
+
+    @Test
+    public void test01Paced() throws InterruptedException, InvocationTargetException {
+        testImpl(false, false);
+    }
+
+    @Test
+    public void test02PacedPredicted() throws InterruptedException, InvocationTargetException {
+        testImpl(true, false);
+    }
+
+    @Test
+    public void test03PacedExclusiveContext() throws InterruptedException, InvocationTargetException {
+        testImpl(false, true);
+    }
+
+    static long duration = 3*500; // ms
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-time")) {
+                i++;
+                try {
+                    duration = Integer.parseInt(args[i]);
+                } catch (final Exception ex) { ex.printStackTrace(); }
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFramePacingAnimatorGLWindow01NEWT.class.getName());
+    }
+}
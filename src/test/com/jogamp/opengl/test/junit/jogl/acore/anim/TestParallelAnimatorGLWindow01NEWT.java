@@ -0,0 +1,142 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import java.lang.reflect.InvocationTargetException;
+
+import com.jogamp.opengl.GLCapabilities;
+
+import com.jogamp.newt.opengl.GLWindow;
+import com.jogamp.opengl.util.Animator;
+import com.jogamp.opengl.util.AnimatorBase;
+import com.jogamp.opengl.test.junit.util.NewtTestUtil;
+import com.jogamp.opengl.test.junit.util.GLTestUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestParallelAnimatorGLWindow01NEWT extends UITestCase {
+    static final int width = 400;
+    static final int height = 400;
+
+    protected GLWindow createGLWindow(final GLCapabilities caps, final int x, final int y, final GearsES2 gears) throws InterruptedException {
+        final GLWindow glWindow = GLWindow.create(caps);
+        Assert.assertNotNull(glWindow);
+        glWindow.addGLEventListener(gears);
+        glWindow.setPosition(x, y);
+        glWindow.setSize(width, height);
+        glWindow.setTitle("GLWindow: "+x+"/"+y);
+        return glWindow;
+    }
+
+    void testImpl(final boolean exclusiveContext) throws InterruptedException {
+        final GLCapabilities caps = new GLCapabilities(null);
+        final Animator animator = new Animator();
+        animator.setModeBits(true, AnimatorBase.MODE_PARALLEL_DISPLAY);
+        animator.setExclusiveContext(exclusiveContext);
+        animator.start();
+        Assert.assertEquals(true, animator.isStarted());
+
+        final GearsES2 g1 = new GearsES2(0);
+        final GLWindow c1 = createGLWindow(caps, 0, 0, g1);
+        animator.add(c1);
+        final GearsES2 g2 = new GearsES2(1);
+        final GLWindow c2 = createGLWindow(caps, width, 0, g2);
+        animator.add(c2);
+        Assert.assertEquals(true, animator.isAnimating());
+
+        final Thread t1 = animator.getDisplayThread(c1);
+        final Thread t2 = animator.getDisplayThread(c2);
+        Assert.assertNotNull(t1);
+        Assert.assertNotNull(t2);
+        Assert.assertNotSame(animator.getThread(), t1);
+        Assert.assertNotSame(t1, t2);
+        if( exclusiveContext ) {
+            Assert.assertEquals(t1, c1.getExclusiveContextThread());
+            Assert.assertEquals(t2, c2.getExclusiveContextThread());
+        }
+        c1.setVisible(true);
+        c2.setVisible(true);
+
+        Assert.assertTrue(NewtTestUtil.waitForRealized(c1, true, null));
+        Assert.assertTrue(NewtTestUtil.waitForVisible(c1, true, null));
+        Assert.assertTrue(GLTestUtil.waitForContextCreated(c1, true, null));
+        Assert.assertTrue(NewtTestUtil.waitForRealized(c2, true, null));
+        Assert.assertTrue(NewtTestUtil.waitForVisible(c2, true, null));
+        Assert.assertTrue(GLTestUtil.waitForContextCreated(c2, true, null));
+        Assert.assertTrue("Gears1 not initialized", g1.waitForInit(true));
+        Assert.assertTrue("Gears2 not initialized", g2.waitForInit(true));
+
+        Thread.sleep(duration);
+
+        final long d1 = animator.getLastDisplayDuration(c1);
+        final long d2 = animator.getLastDisplayDuration(c2);
+        System.err.println("ParallelAnimator: fps "+animator.getTotalFPS()+", last display "+d1/1000+" us, "+d2/1000+" us");
+        Assert.assertTrue(0 <= d1);
+        Assert.assertTrue(0 <= d2);
+
+        animator.stop();
+        Assert.assertEquals(false, animator.isStarted());
+        Assert.assertNull(c1.getExclusiveContextThread());
+        Assert.assertNull(c2.getExclusiveContextThread());
+
+        c1.destroy();
+        c2.destroy();
+        Assert.assertTrue(NewtTestUtil.waitForRealized(c1, false, null));
+        Assert.assertTrue(NewtTestUtil.waitForRealized(c2, false, null));
+    }
+
+    @Test
+    public void test01Parallel() throws InterruptedException, InvocationTargetException {
+        testImpl(false);
+    }
+
+    @Test
+    public void test02ParallelExclusiveContext() throws InterruptedException, InvocationTargetException {
+        testImpl(true);
+    }
+
+    static long duration = 1000; // ms
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-time")) {
+                i++;
+                try {
+                    duration = Integer.parseInt(args[i]);
+                } catch (final Exception ex) { ex.printStackTrace(); }
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestParallelAnimatorGLWindow01NEWT.class.getName());
+    }
+}
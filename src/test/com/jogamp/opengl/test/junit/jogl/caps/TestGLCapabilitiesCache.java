@@ -0,0 +1,197 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.caps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.jogamp.nativewindow.AbstractGraphicsDevice;
+import com.jogamp.nativewindow.DefaultGraphicsDevice;
+import com.jogamp.nativewindow.NativeWindowFactory;
+import com.jogamp.nativewindow.VisualIDHolder;
+import com.jogamp.opengl.DefaultGLCapabilitiesChooser;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLCapabilitiesChooser;
+import com.jogamp.opengl.GLCapabilitiesImmutable;
+import com.jogamp.opengl.GLDrawable;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLProfile;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import jogamp.opengl.GLCapabilitiesCache;
+import jogamp.opengl.GLDrawableFactoryImpl;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the per device {@link GLCapabilitiesCache} of available and chosen capabilities,
+ * incl. its invalidation on device close.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLCapabilitiesCache extends JunitTracer {
+
+    @Test
+    public void test00MockDevice() {
+        Assume.assumeFalse(GLCapabilitiesCache.DISABLED);
+        final GLCapabilitiesCache cache = new GLCapabilitiesCache();
+        final DefaultGraphicsDevice device = new DefaultGraphicsDevice("mock", "mock-connection", 0, 1L);
+        final GLCapabilities req = new GLCapabilities(GLProfile.getDefault());
+        final GLCapabilities chosen = new GLCapabilities(GLProfile.getDefault());
+        chosen.setDepthBits(24);
+
+        Assert.assertNull(cache.getAvailable(device));
+        cache.putAvailable(device, Arrays.asList(new GLCapabilitiesImmutable[] { chosen, req }));
+        final List<GLCapabilitiesImmutable> l0 = cache.getAvailable(device);
+        Assert.assertEquals(2, l0.size());
+        l0.clear(); // copy
+        Assert.assertEquals(2, cache.getAvailable(device).size());
+        Assert.assertEquals(2, cache.getAvailableHitCount());
+        Assert.assertEquals(1, cache.getAvailableMissCount());
+
+        Assert.assertNull(cache.getChosen(device, 0, VisualIDHolder.VID_UNDEFINED, req, req));
+        cache.putChosen(device, 0, VisualIDHolder.VID_UNDEFINED, req, req, chosen);
+        final GLCapabilitiesImmutable c0 = cache.getChosen(device, 0, VisualIDHolder.VID_UNDEFINED, req, req);
+        Assert.assertEquals(chosen, c0);
+        Assert.assertNotSame(chosen, c0);
+        Assert.assertNull(cache.getChosen(device, 1, VisualIDHolder.VID_UNDEFINED, req, req));
+
+        // key is a copy of the requested caps
+        req.setStencilBits(8);
+        Assert.assertNull(cache.getChosen(device, 0, VisualIDHolder.VID_UNDEFINED, req, req));
+        req.setStencilBits(0);
+        Assert.assertNotNull(cache.getChosen(device, 0, VisualIDHolder.VID_UNDEFINED, req, req));
+        Assert.assertEquals(2, cache.getChosenHitCount());
+        Assert.assertEquals(3, cache.getChosenMissCount());
+        Assert.assertEquals(1, cache.getChosenCount());
+
+        // device close invalidates
+        device.close();
+        Assert.assertNull(cache.getAvailable(device));
+        Assert.assertNull(cache.getChosen(device, 0, VisualIDHolder.VID_UNDEFINED, req, req));
+        Assert.assertEquals(1, cache.getInvalidationCount());
+        Assert.assertEquals(0, cache.getDeviceCount());
+        System.err.println(cache);
+    }
+
+    @Test
+    public void test01Memoizable() {
+        Assert.assertEquals(!GLCapabilitiesCache.DISABLED, GLCapabilitiesCache.isMemoizable(null));
+        Assert.assertEquals(!GLCapabilitiesCache.DISABLED, GLCapabilitiesCache.isMemoizable(new DefaultGLCapabilitiesChooser()));
+        final GLCapabilitiesChooser custom = new DefaultGLCapabilitiesChooser() { };
+        Assert.assertFalse(GLCapabilitiesCache.isMemoizable(custom));
+    }
+
+    @Test
+    public void test02X11DeviceNotHandleBound() {
+        Assume.assumeFalse(GLCapabilitiesCache.DISABLED);
+        final GLCapabilitiesCache cache = new GLCapabilitiesCache();
+        // same unique ID, each X11 device holds its own display connection
+        final DefaultGraphicsDevice device0 = new DefaultGraphicsDevice(NativeWindowFactory.TYPE_X11, ":0.0", 0, 1L);
+        final DefaultGraphicsDevice device1 = new DefaultGraphicsDevice(NativeWindowFactory.TYPE_X11, ":0.0", 0, 2L);
+        Assert.assertEquals(device0.getUniqueID(), device1.getUniqueID());
+        final GLCapabilities req = new GLCapabilities(GLProfile.getDefault());
+        final GLCapabilities chosen = new GLCapabilities(GLProfile.getDefault());
+        chosen.setDepthBits(24);
+
+        cache.putChosen(device0, 0, VisualIDHolder.VID_UNDEFINED, req, req, chosen);
+        Assert.assertEquals(chosen, cache.getChosen(device1, 0, VisualIDHolder.VID_UNDEFINED, req, req));
+        Assert.assertEquals(0, cache.getInvalidationCount());
+
+        // available capabilities hold native configs of the enumerating connection, hence are bound to the handle
+        final List<GLCapabilitiesImmutable> available = new ArrayList<GLCapabilitiesImmutable>();
+        available.add(chosen);
+        cache.putAvailable(device0, available);
+        Assert.assertEquals(available, cache.getAvailable(device0));
+        Assert.assertNull(cache.getAvailable(device1));
+        Assert.assertNull(cache.getAvailable(device0));
+        Assert.assertEquals(chosen, cache.getChosen(device1, 0, VisualIDHolder.VID_UNDEFINED, req, req));
+
+        // other device types are bound to their handle
+        final DefaultGraphicsDevice mock0 = new DefaultGraphicsDevice("mock", "mock-connection", 0, 1L);
+        final DefaultGraphicsDevice mock1 = new DefaultGraphicsDevice("mock", "mock-connection", 0, 2L);
+        cache.putChosen(mock0, 0, VisualIDHolder.VID_UNDEFINED, req, req, chosen);
+        Assert.assertNull(cache.getChosen(mock1, 0, VisualIDHolder.VID_UNDEFINED, req, req));
+        Assert.assertEquals(1, cache.getInvalidationCount());
+        System.err.println(cache);
+    }
+
+    @Test
+    public void test10FactoryAvailableCaps() {
+        Assume.assumeFalse(GLCapabilitiesCache.DISABLED);
+        final GLProfile glp = GLProfile.getDefault();
+        final GLDrawableFactoryImpl factory = (GLDrawableFactoryImpl) GLDrawableFactory.getFactory(glp);
+        final AbstractGraphicsDevice device = factory.getDefaultDevice();
+        final GLCapabilitiesCache cache = factory.getCapabilitiesCache();
+
+        final List<GLCapabilitiesImmutable> l0 = factory.getAvailableCapabilities(device);
+        Assume.assumeTrue(null != l0 && l0.size() > 0);
+        final long hits0 = cache.getAvailableHitCount();
+        final List<GLCapabilitiesImmutable> l1 = factory.getAvailableCapabilities(device);
+        Assert.assertEquals(hits0 + 1, cache.getAvailableHitCount());
+        Assert.assertEquals(l0, l1);
+        System.err.println(cache);
+    }
+
+    @Test
+    public void test11FactoryChosenCaps() {
+        Assume.assumeFalse(GLCapabilitiesCache.DISABLED);
+        final GLProfile glp = GLProfile.getDefault();
+        final GLDrawableFactoryImpl factory = (GLDrawableFactoryImpl) GLDrawableFactory.getFactory(glp);
+        final GLCapabilitiesCache cache = factory.getCapabilitiesCache();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        caps.setOnscreen(false);
+
+        final long misses0 = cache.getChosenMissCount();
+        final GLDrawable d0 = factory.createOffscreenDrawable(null, caps, null, 64, 64);
+        d0.setRealized(true);
+        final GLCapabilitiesImmutable chosen0 = d0.getChosenGLCapabilities();
+        d0.setRealized(false);
+        // memoization is supported by the native EGL and GLX configuration factories only
+        Assume.assumeTrue(cache.getChosenMissCount() > misses0);
+
+        final long hits0 = cache.getChosenHitCount();
+        final GLDrawable d1 = factory.createOffscreenDrawable(null, caps, null, 64, 64);
+        d1.setRealized(true);
+        final GLCapabilitiesImmutable chosen1 = d1.getChosenGLCapabilities();
+        d1.setRealized(false);
+        Assert.assertTrue(cache.getChosenHitCount() > hits0);
+        Assert.assertEquals(chosen0.getVisualID(VisualIDHolder.VIDType.NATIVE), chosen1.getVisualID(VisualIDHolder.VIDType.NATIVE));
+        Assert.assertEquals(chosen0, chosen1);
+        System.err.println(cache);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLCapabilitiesCache.class.getName());
+    }
+}
@@ -0,0 +1,350 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.glsl;
+
+import com.jogamp.opengl.util.GLArrayDataEditable;
+import com.jogamp.opengl.util.GLArrayDataServer;
+import com.jogamp.opengl.util.PMVMatrix;
+import com.jogamp.opengl.util.glsl.ShaderCode;
+import com.jogamp.opengl.util.glsl.ShaderProgram;
+import com.jogamp.opengl.util.glsl.ShaderState;
+import com.jogamp.opengl.util.glsl.VertexArrayCache;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.RedSquareES2;
+import com.jogamp.opengl.test.junit.util.NEWTGLContext;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLArrayData;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLUniformData;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the {@link VertexArrayCache} used via {@link ShaderState#enableVertexArrays(GL2ES2, GLArrayDataEditable, GLArrayDataEditable[])}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestVertexArrayCacheNEWT extends UITestCase {
+    static long durationPerTest = 10; // ms
+
+    static final int vertices0_loc = 0;
+    static final int colors0_loc = 1;
+
+    private static void display(final GLDrawable drawable, final GL2ES2 gl, final ShaderState st, final GLArrayDataEditable[] arrays) throws InterruptedException {
+        gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+        st.enableVertexArrays(gl, null, arrays);
+        gl.glDrawArrays(GL.GL_TRIANGLE_STRIP, 0, 4);
+        st.disableVertexArrays(gl, null, arrays);
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+        drawable.swapBuffers();
+        GLSLMiscHelper.pause(durationPerTest);
+    }
+
+    private static ShaderProgram attachProgram(final GL2ES2 gl, final ShaderState st) {
+        final ShaderCode rsVp = ShaderCode.create(gl, GL2ES2.GL_VERTEX_SHADER, RedSquareES2.class, "shader",
+                "shader/bin", "RedSquareShader", true);
+        final ShaderCode rsFp = ShaderCode.create(gl, GL2ES2.GL_FRAGMENT_SHADER, RedSquareES2.class, "shader",
+                "shader/bin", "RedSquareShader", true);
+        rsVp.defaultShaderCustomization(gl, true, true);
+        rsFp.defaultShaderCustomization(gl, true, true);
+
+        final ShaderProgram sp = new ShaderProgram();
+        sp.add(gl, rsVp, System.err);
+        sp.add(gl, rsFp, System.err);
+        st.attachShaderProgram(gl, sp, false);
+        return sp;
+    }
+
+    private static void linkProgram(final GLDrawable drawable, final GL2ES2 gl, final ShaderState st, final ShaderProgram sp) {
+        Assert.assertTrue(sp.link(gl, System.err));
+        st.useProgram(gl, true);
+
+        final PMVMatrix pmvMatrix = new PMVMatrix();
+        final GLUniformData pmvMatrixUniform = new GLUniformData("mgl_PMVMatrix", 4, 4, pmvMatrix.getSyncPMvMat());
+        st.ownUniform(pmvMatrixUniform);
+        pmvMatrix.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        pmvMatrix.glLoadIdentity();
+        pmvMatrix.gluPerspective(45.0F, (float) drawable.getSurfaceWidth() / (float) drawable.getSurfaceHeight(), 1.0F, 100.0F);
+        pmvMatrix.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        pmvMatrix.glLoadIdentity();
+        pmvMatrix.glTranslatef(0, 0, -10);
+        st.uniform(gl, pmvMatrixUniform);
+        gl.glViewport(0, 0, drawable.getSurfaceWidth(), drawable.getSurfaceHeight());
+        gl.glClearColor(0, 0, 0, 1);
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+    }
+
+    @Test
+    public void test01ShaderStateVAO() throws InterruptedException {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES3) ) {
+            System.err.println("GL2ES3 n/a, skip test");
+            return;
+        }
+        final NEWTGLContext.WindowContext winctx = NEWTGLContext.createWindow(
+                new GLCapabilities(GLProfile.get(GLProfile.GL2ES3)), 480, 480, true);
+        final GLDrawable drawable = winctx.context.getGLDrawable();
+        final GL2ES2 gl = winctx.context.getGL().getGL2ES2();
+        System.err.println(winctx.context);
+        final boolean vaoAvailable = VertexArrayCache.isAvailable(gl);
+        System.err.println("VAO available: "+vaoAvailable);
+
+        final ShaderState st = new ShaderState();
+        final ShaderProgram sp = attachProgram(gl, st);
+
+        final GLArrayDataServer vertices0 = GLSLMiscHelper.createVertices(gl, st, 0, vertices0_loc, GLSLMiscHelper.vertices0);
+        vertices0.enableBuffer(gl, false);
+        final GLArrayDataServer colors0 = GLSLMiscHelper.createColors(gl, st, 0, colors0_loc, GLSLMiscHelper.colors0);
+        colors0.enableBuffer(gl, false);
+        linkProgram(drawable, gl, st, sp);
+
+        final VertexArrayCache cache = st.getVertexArrayCache();
+        final GLArrayDataEditable[] arrays0 = new GLArrayDataEditable[] { vertices0, colors0 };
+        for(int i=0; i<3; i++) {
+            display(drawable, gl, st, arrays0);
+            Assert.assertFalse(vertices0.enabled());
+            Assert.assertFalse(colors0.enabled());
+        }
+        Assert.assertFalse(cache.isBound());
+        Assert.assertEquals(vaoAvailable ? 1 : 0, cache.size());
+        Assert.assertEquals(vaoAvailable ? 1 : 0, cache.getBuildCount());
+
+        // pending data upload reuses the cached VAO
+        vertices0.setVBOWritten(false);
+        display(drawable, gl, st, arrays0);
+        Assert.assertTrue(vertices0.isVBOWritten());
+        Assert.assertEquals(vaoAvailable ? 1 : 0, cache.getBuildCount());
+
+        // another array set requires another VAO
+        final GLArrayDataServer vertices1 = GLSLMiscHelper.createVertices(gl, st, 0, -1, GLSLMiscHelper.vertices1);
+        vertices1.enableBuffer(gl, false);
+        final GLArrayDataServer colors1 = GLSLMiscHelper.createColors(gl, st, 0, -1, GLSLMiscHelper.colors1);
+        colors1.enableBuffer(gl, false);
+        final GLArrayDataEditable[] arrays1 = new GLArrayDataEditable[] { vertices1, colors1 };
+        display(drawable, gl, st, arrays1);
+        display(drawable, gl, st, arrays0);
+        Assert.assertEquals(vaoAvailable ? 2 : 0, cache.size());
+        Assert.assertEquals(vaoAvailable ? 2 : 0, cache.getBuildCount());
+
+        st.destroy(gl);
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+
+        NEWTGLContext.destroyWindow(winctx);
+    }
+
+    @Test
+    public void test02InterleavedSubArrayLocation() throws InterruptedException {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES3) ) {
+            System.err.println("GL2ES3 n/a, skip test");
+            return;
+        }
+        final NEWTGLContext.WindowContext winctx = NEWTGLContext.createWindow(
+                new GLCapabilities(GLProfile.get(GLProfile.GL2ES3)), 480, 480, true);
+        final GLDrawable drawable = winctx.context.getGLDrawable();
+        final GL2ES2 gl = winctx.context.getGL().getGL2ES2();
+        final boolean vaoAvailable = VertexArrayCache.isAvailable(gl);
+
+        final ShaderState st = new ShaderState();
+        final ShaderProgram sp = attachProgram(gl, st);
+        linkProgram(drawable, gl, st, sp);
+
+        // interleaved array not associated with the ShaderState, i.e. using the sub-array locations
+        final GLArrayDataServer ileave = GLArrayDataServer.createGLSLInterleaved(3+4, GL.GL_FLOAT, false, 4, GL.GL_STATIC_DRAW);
+        final GLArrayData vertices = ileave.addGLSLSubArray("mgl_Vertex", 3, GL.GL_ARRAY_BUFFER);
+        final GLArrayData colors = ileave.addGLSLSubArray("mgl_Color", 4, GL.GL_ARRAY_BUFFER);
+        Assert.assertEquals(2, ileave.getSubArrayCount());
+        Assert.assertSame(vertices, ileave.getSubArray(0));
+        Assert.assertSame(colors, ileave.getSubArray(1));
+        for(int i=0; i<4; i++) {
+            ileave.putf(GLSLMiscHelper.vertices0[3*i+0]); ileave.putf(GLSLMiscHelper.vertices0[3*i+1]); ileave.putf(GLSLMiscHelper.vertices0[3*i+2]);
+            ileave.putf(GLSLMiscHelper.colors0[4*i+0]); ileave.putf(GLSLMiscHelper.colors0[4*i+1]); ileave.putf(GLSLMiscHelper.colors0[4*i+2]); ileave.putf(GLSLMiscHelper.colors0[4*i+3]);
+        }
+        ileave.seal(gl, true);
+        ileave.enableBuffer(gl, false);
+        final int verticesLoc = vertices.setLocation(gl, sp.program());
+        final int colorsLoc = colors.setLocation(gl, sp.program());
+        Assert.assertTrue(0 <= verticesLoc);
+        Assert.assertTrue(0 <= colorsLoc);
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+
+        final VertexArrayCache cache = new VertexArrayCache();
+        final GLArrayDataEditable[] arrays = new GLArrayDataEditable[] { ileave };
+        for(int i=0; i<2; i++) {
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+            Assert.assertEquals(vaoAvailable, cache.enable(gl, sp.program(), null, arrays));
+            gl.glDrawArrays(GL.GL_TRIANGLE_STRIP, 0, 4);
+            cache.disable(gl, null, arrays);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            drawable.swapBuffers();
+        }
+        Assert.assertEquals(vaoAvailable ? 1 : 0, cache.getBuildCount());
+
+        // relocated sub-arrays, while the interleaved parent location is unchanged, require a rebuild
+        vertices.setLocation(colorsLoc);
+        colors.setLocation(verticesLoc);
+        Assert.assertEquals(vaoAvailable, cache.enable(gl, sp.program(), null, arrays));
+        cache.disable(gl, null, arrays);
+        Assert.assertEquals(vaoAvailable ? 2 : 0, cache.getBuildCount());
+        Assert.assertEquals(vaoAvailable ? 1 : 0, cache.size());
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+
+        cache.destroy(gl);
+        Assert.assertEquals(0, cache.size());
+        ileave.destroy(gl);
+        st.destroy(gl);
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+
+        NEWTGLContext.destroyWindow(winctx);
+    }
+
+    @Test
+    public void test03SharedContext() throws InterruptedException {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES3) ) {
+            System.err.println("GL2ES3 n/a, skip test");
+            return;
+        }
+        final NEWTGLContext.WindowContext winctx = NEWTGLContext.createWindow(
+                new GLCapabilities(GLProfile.get(GLProfile.GL2ES3)), 480, 480, true);
+        final GLDrawable drawable = winctx.context.getGLDrawable();
+        final GL2ES2 gl = winctx.context.getGL().getGL2ES2();
+        final boolean vaoAvailable = VertexArrayCache.isAvailable(gl);
+
+        final ShaderState st = new ShaderState();
+        final ShaderProgram sp = attachProgram(gl, st);
+        final GLArrayDataServer vertices0 = GLSLMiscHelper.createVertices(gl, st, 0, vertices0_loc, GLSLMiscHelper.vertices0);
+        vertices0.enableBuffer(gl, false);
+        final GLArrayDataServer colors0 = GLSLMiscHelper.createColors(gl, st, 0, colors0_loc, GLSLMiscHelper.colors0);
+        colors0.enableBuffer(gl, false);
+        linkProgram(drawable, gl, st, sp);
+
+        final VertexArrayCache cache = st.getVertexArrayCache();
+        final GLArrayDataEditable[] arrays0 = new GLArrayDataEditable[] { vertices0, colors0 };
+        display(drawable, gl, st, arrays0);
+        Assert.assertEquals(vaoAvailable ? 1 : 0, cache.getBuildCount());
+
+        // buffers and programs are shared, VAOs are not
+        final GLContext context2 = drawable.createContext(winctx.context);
+        Assert.assertNotNull(context2);
+        winctx.context.release();
+        final int res = context2.makeCurrent();
+        Assert.assertTrue(GLContext.CONTEXT_CURRENT_NEW==res || GLContext.CONTEXT_CURRENT==res);
+        final GL2ES2 gl2 = context2.getGL().getGL2ES2();
+        gl2.glUseProgram(sp.program());
+        gl2.glViewport(0, 0, drawable.getSurfaceWidth(), drawable.getSurfaceHeight());
+        display(drawable, gl2, st, arrays0);
+        display(drawable, gl2, st, arrays0);
+        Assert.assertEquals(vaoAvailable ? 2 : 0, cache.size());
+        Assert.assertEquals(vaoAvailable ? 2 : 0, cache.getBuildCount());
+
+        // back on the first context, its own VAO is reused
+        context2.release();
+        Assert.assertTrue(GLContext.CONTEXT_NOT_CURRENT < winctx.context.makeCurrent());
+        display(drawable, gl, st, arrays0);
+        Assert.assertEquals(vaoAvailable ? 2 : 0, cache.getBuildCount());
+
+        // the second context releases its VAO, destroy drops its entry
+        winctx.context.release();
+        context2.destroy();
+        Assert.assertTrue(GLContext.CONTEXT_NOT_CURRENT < winctx.context.makeCurrent());
+        st.destroy(gl);
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+
+        NEWTGLContext.destroyWindow(winctx);
+    }
+
+    @Test
+    public void test04DropDestroyedArrays() throws InterruptedException {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES3) ) {
+            System.err.println("GL2ES3 n/a, skip test");
+            return;
+        }
+        final NEWTGLContext.WindowContext winctx = NEWTGLContext.createWindow(
+                new GLCapabilities(GLProfile.get(GLProfile.GL2ES3)), 480, 480, true);
+        final GLDrawable drawable = winctx.context.getGLDrawable();
+        final GL2ES2 gl = winctx.context.getGL().getGL2ES2();
+        final boolean vaoAvailable = VertexArrayCache.isAvailable(gl);
+
+        final ShaderState st = new ShaderState();
+        final ShaderProgram sp = attachProgram(gl, st);
+        final GLArrayDataServer vertices0 = GLSLMiscHelper.createVertices(gl, st, 0, vertices0_loc, GLSLMiscHelper.vertices0);
+        vertices0.enableBuffer(gl, false);
+        final GLArrayDataServer colors0 = GLSLMiscHelper.createColors(gl, st, 0, colors0_loc, GLSLMiscHelper.colors0);
+        colors0.enableBuffer(gl, false);
+        linkProgram(drawable, gl, st, sp);
+
+        final VertexArrayCache cache = st.getVertexArrayCache();
+        final GLArrayDataEditable[] arrays0 = new GLArrayDataEditable[] { vertices0, colors0 };
+        display(drawable, gl, st, arrays0);
+        Assert.assertEquals(vaoAvailable ? 1 : 0, cache.size());
+
+        // short-lived arrays, their entries are dropped with the next missing combination
+        for(int i=0; i<3; i++) {
+            final GLArrayDataServer vertices1 = GLSLMiscHelper.createVertices(gl, st, 0, -1, GLSLMiscHelper.vertices1);
+            vertices1.enableBuffer(gl, false);
+            final GLArrayDataServer colors1 = GLSLMiscHelper.createColors(gl, st, 0, -1, GLSLMiscHelper.colors1);
+            colors1.enableBuffer(gl, false);
+            final GLArrayDataEditable[] arrays1 = new GLArrayDataEditable[] { vertices1, colors1 };
+            display(drawable, gl, st, arrays1);
+            display(drawable, gl, st, arrays0);
+            Assert.assertEquals(vaoAvailable ? 2 : 0, cache.size());
+            st.ownAttribute(vertices1, false);
+            st.ownAttribute(colors1, false);
+            vertices1.destroy(gl);
+            colors1.destroy(gl);
+            Assert.assertEquals(0, vertices1.getVBOName());
+        }
+        Assert.assertEquals(vaoAvailable ? 4 : 0, cache.getBuildCount());
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+
+        // explicit invalidation of an array
+        cache.invalidate(gl, colors0);
+        Assert.assertEquals(vaoAvailable ? 1 : 0, cache.size());
+        display(drawable, gl, st, arrays0);
+        Assert.assertEquals(vaoAvailable ? 1 : 0, cache.size());
+        Assert.assertEquals(vaoAvailable ? 5 : 0, cache.getBuildCount());
+
+        st.destroy(gl);
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+
+        NEWTGLContext.destroyWindow(winctx);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestVertexArrayCacheNEWT.class.getName());
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.glu;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
+import com.jogamp.opengl.glu.GLU;
+import com.jogamp.opengl.glu.GLUtessellator;
+import com.jogamp.opengl.glu.GLUtessellatorCallbackAdapter;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link GLU#gluTessTriangulate(GLUtessellator, DoubleBuffer, IntBuffer, IntBuffer, DoubleBuffer)}
+ * against the callback path, with and without {@link GLU#GLU_TESS_REUSE_MESH_STORAGE}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLUtessellatorBulk01NOUI extends JunitTracer {
+
+    /** Square with a square hole: 8 triangles */
+    static final double[] squareWithHole = { 0, 0, 0,  10, 0, 0,  10, 10, 0,  0, 10, 0,
+                                             2, 2, 0,   2, 8, 0,   8,  8, 0,  8,  2, 0 };
+    static final int[] squareWithHoleCounts = { 4, 4 };
+
+    /** Self intersecting bow tie: 2 triangles and one intersection vertex */
+    static final double[] bowTie = { 0, 0, 0,  10, 10, 0,  10, 0, 0,  0, 10, 0 };
+
+    static int countCallbackVertices(final GLUtessellator tess, final double[] coords, final int[] counts) {
+        final int[] vertexCount = { 0 };
+        final GLUtessellatorCallbackAdapter cb = new GLUtessellatorCallbackAdapter() {
+            @Override
+            public void vertex(final Object data) { vertexCount[0]++; }
+            @Override
+            public void edgeFlag(final boolean boundaryEdge) { }
+            @Override
+            public void combine(final double[] c, final Object[] data, final float[] weight, final Object[] outData) {
+                outData[0] = c;
+            }
+        };
+        GLU.gluTessCallback(tess, GLU.GLU_TESS_VERTEX, cb);
+        GLU.gluTessCallback(tess, GLU.GLU_TESS_EDGE_FLAG, cb); // triangles only
+        GLU.gluTessCallback(tess, GLU.GLU_TESS_COMBINE, cb);
+        GLU.gluTessBeginPolygon(tess, null);
+        for(int c = 0, v = 0; c < counts.length; ++c) {
+            GLU.gluTessBeginContour(tess);
+            for(int i = 0; i < counts[c]; ++i, ++v) {
+                final double[] p = { coords[3*v], coords[3*v+1], coords[3*v+2] };
+                GLU.gluTessVertex(tess, p, 0, p);
+            }
+            GLU.gluTessEndContour(tess);
+        }
+        GLU.gluTessEndPolygon(tess);
+        GLU.gluTessCallback(tess, GLU.GLU_TESS_VERTEX, null);
+        GLU.gluTessCallback(tess, GLU.GLU_TESS_EDGE_FLAG, null);
+        GLU.gluTessCallback(tess, GLU.GLU_TESS_COMBINE, null);
+        return vertexCount[0];
+    }
+
+    static void testSquareWithHole(final boolean reuse) {
+        final GLUtessellator tess = GLU.gluNewTess();
+        GLU.gluTessProperty(tess, GLU.GLU_TESS_REUSE_MESH_STORAGE, reuse ? 1 : 0);
+        final int expTriCount = countCallbackVertices(tess, squareWithHole, squareWithHoleCounts) / 3;
+        Assert.assertEquals(8, expTriCount);
+
+        final IntBuffer indices = IntBuffer.allocate(3 * expTriCount);
+        int[] lastIndices = null;
+        for(int i = 0; i < 3; ++i) {
+            indices.clear();
+            final int triCount = GLU.gluTessTriangulate(tess, DoubleBuffer.wrap(squareWithHole),
+                                                        IntBuffer.wrap(squareWithHoleCounts), indices, null);
+            Assert.assertEquals(expTriCount, triCount);
+            Assert.assertEquals(3 * triCount, indices.position());
+            final int[] res = indices.array().clone();
+            for(int j = 0; j < res.length; ++j) {
+                Assert.assertTrue(0 <= res[j] && res[j] < squareWithHole.length / 3);
+            }
+            if( null != lastIndices ) {
+                Assert.assertArrayEquals(lastIndices, res);
+            }
+            lastIndices = res;
+        }
+        GLU.gluDeleteTess(tess);
+    }
+
+    @Test
+    public void test01SquareWithHole() {
+        testSquareWithHole(false);
+    }
+
+    @Test
+    public void test02SquareWithHoleReuse() {
+        testSquareWithHole(true);
+    }
+
+    @Test
+    public void test10Intersection() {
+        final GLUtessellator tess = GLU.gluNewTess();
+        GLU.gluTessProperty(tess, GLU.GLU_TESS_REUSE_MESH_STORAGE, 1);
+        final IntBuffer indices = IntBuffer.allocate(16);
+        final DoubleBuffer combined = DoubleBuffer.allocate(3);
+        final int triCount = GLU.gluTessTriangulate(tess, DoubleBuffer.wrap(bowTie), IntBuffer.wrap(new int[] { 4 }), indices, combined);
+        Assert.assertEquals(2, triCount);
+        Assert.assertEquals(3, combined.position());
+        Assert.assertEquals(5.0, combined.get(0), 1e-9);
+        Assert.assertEquals(5.0, combined.get(1), 1e-9);
+        boolean usesIntersection = false;
+        for(int i = 0; i < indices.position(); ++i) {
+            usesIntersection |= 4 == indices.get(i);
+        }
+        Assert.assertTrue(usesIntersection);
+
+        // no room for the intersection vertex
+        indices.clear();
+        Assert.assertEquals(-1, GLU.gluTessTriangulate(tess, DoubleBuffer.wrap(bowTie), IntBuffer.wrap(new int[] { 4 }), indices, null));
+
+        // index buffer too small
+        indices.clear();
+        indices.limit(3);
+        Assert.assertEquals(-1, GLU.gluTessTriangulate(tess, DoubleBuffer.wrap(squareWithHole), IntBuffer.wrap(squareWithHoleCounts), indices, null));
+        GLU.gluDeleteTess(tess);
+    }
+
+    @Test
+    public void test11IntersectionSlackCoords() {
+        // coords buffer exceeds the polygon vertices, combined index must still follow the last input vertex
+        final double[] slack = new double[bowTie.length + 6];
+        System.arraycopy(bowTie, 0, slack, 0, bowTie.length);
+        final GLUtessellator tess = GLU.gluNewTess();
+        final IntBuffer indices = IntBuffer.allocate(16);
+        final DoubleBuffer combined = DoubleBuffer.allocate(3);
+        final int triCount = GLU.gluTessTriangulate(tess, DoubleBuffer.wrap(slack), IntBuffer.wrap(new int[] { 4 }), indices, combined);
+        Assert.assertEquals(2, triCount);
+        Assert.assertEquals(3, combined.position());
+        boolean usesIntersection = false;
+        for(int i = 0; i < indices.position(); ++i) {
+            Assert.assertTrue(indices.get(i) <= 4);
+            usesIntersection |= 4 == indices.get(i);
+        }
+        Assert.assertTrue(usesIntersection);
+        GLU.gluDeleteTess(tess);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLUtessellatorBulk01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,292 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.stereo;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jogamp.nativewindow.util.Dimension;
+import com.jogamp.nativewindow.util.DimensionImmutable;
+import com.jogamp.opengl.math.FovHVHalves;
+import com.jogamp.opengl.math.Vec3f;
+import com.jogamp.opengl.util.stereo.EyeParameter;
+import com.jogamp.opengl.util.stereo.StereoDeviceRenderer;
+import com.jogamp.opengl.util.stereo.generic.GenericStereoDeviceConfig;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import jogamp.opengl.util.stereo.DistortionMesh;
+import jogamp.opengl.util.stereo.DistortionMeshCache;
+
+import org.junit.Assert;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the {@link DistortionMeshCache} memory and disk cache,
+ * the latter within a temporary <code>jogl.stereo.meshcache.dir</code>,
+ * incl. key mismatches and corrupt files being treated as a cache miss.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDistortionMeshCacheNOUI extends JunitTracer {
+    static final int DISTORTION_BITS = StereoDeviceRenderer.DISTORTION_BARREL;
+    static File cacheDir;
+
+    @BeforeClass
+    public static void initClass() throws IOException {
+        final File tmp = File.createTempFile("jogl_test_meshcache", "");
+        Assert.assertTrue(tmp.delete() && tmp.mkdirs());
+        cacheDir = tmp;
+        // must be set before DistortionMeshCache is initialized
+        System.setProperty("jogl.stereo.meshcache.dir", cacheDir.getAbsolutePath());
+    }
+
+    @AfterClass
+    public static void releaseClass() {
+        for(final File f : listFiles()) {
+            f.delete();
+        }
+        cacheDir.delete();
+    }
+
+    /** Thread safe mock producer of a single triangle, counting its invocations. */
+    static class MockProducer implements DistortionMesh.Producer {
+        final AtomicInteger createCount = new AtomicInteger(0);
+        @Override
+        public void init(final GenericStereoDeviceConfig deviceConfig, final float[] eyeReliefInMeters) { }
+        @Override
+        public DistortionMesh create(final EyeParameter eyeParam, final int distortionBits) {
+            createCount.incrementAndGet();
+            final DistortionMesh.DistortionVertex[] vertices = new DistortionMesh.DistortionVertex[3];
+            for(int i=0; i<vertices.length; i++) {
+                final float[] data = new float[DistortionMesh.DistortionVertex.def_total_size];
+                for(int j=0; j<data.length; j++) {
+                    data[j] = eyeParam.number + i * 0.1f + j * 0.01f;
+                }
+                vertices[i] = new DistortionMesh.DistortionVertex(data, DistortionMesh.DistortionVertex.def_pos_size,
+                        DistortionMesh.DistortionVertex.def_vignetteFactor_size, DistortionMesh.DistortionVertex.def_timewarpFactor_size,
+                        DistortionMesh.DistortionVertex.def_texR_size, DistortionMesh.DistortionVertex.def_texG_size,
+                        DistortionMesh.DistortionVertex.def_texB_size);
+            }
+            return new DistortionMesh(vertices, vertices.length, new short[] { 0, 1, 2 }, 3);
+        }
+    }
+
+    static GenericStereoDeviceConfig createConfig(final String name, final MockProducer producer) {
+        final EyeParameter[] eyeParam = new EyeParameter[2];
+        for(int i=0; i<eyeParam.length; i++) {
+            eyeParam[i] = new EyeParameter(i, new Vec3f(0.03f * ( 2*i - 1 ), 0f, 0f), new FovHVHalves(1f, 1f, 1f, 1f, true), 0.032f, 0f, 0.01f);
+        }
+        return new GenericStereoDeviceConfig(name, GenericStereoDeviceConfig.ShutterType.RollingTopToBottom,
+                new Dimension(1280, 800), new float[] { 0.1498f, 0.0936f },
+                new DimensionImmutable[] { new Dimension(640, 800), new Dimension(640, 800) },
+                0.046799999f, 0.0635f, new int[] { 0, 1 }, eyeParam,
+                0, producer, DISTORTION_BITS, DISTORTION_BITS, DISTORTION_BITS);
+    }
+
+    static boolean hasDiskCache() {
+        return cacheDir.equals(DistortionMeshCache.getDiskCacheDir());
+    }
+
+    static List<File> listFiles() {
+        final File[] files = cacheDir.listFiles();
+        return null != files ? Arrays.asList(files) : new ArrayList<File>();
+    }
+
+    /** Returns the single cache file created by the given action. */
+    static File getNewFile(final List<File> before) {
+        final List<File> files = new ArrayList<File>(listFiles());
+        files.removeAll(before);
+        Assert.assertEquals(1, files.size());
+        return files.get(0);
+    }
+
+    static byte[] readFile(final File file) throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final byte[] res = new byte[(int)raf.length()];
+            raf.readFully(res);
+            return res;
+        } finally {
+            raf.close();
+        }
+    }
+
+    static void writeFile(final File file, final byte[] data) throws IOException {
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(data);
+        } finally {
+            out.close();
+        }
+    }
+
+    static float[] toArray(final FloatBuffer fb) {
+        final float[] res = new float[fb.remaining()];
+        fb.get(res);
+        return res;
+    }
+
+    @Test
+    public void test01MemoryHit() {
+        final MockProducer producer = new MockProducer();
+        final GenericStereoDeviceConfig config = createConfig("test01", producer);
+        final DistortionMeshCache.Mesh[] m0 = DistortionMeshCache.get(config, config.defaultEyeParam, DISTORTION_BITS);
+        Assert.assertEquals(2, producer.createCount.get());
+        final long diskLoads = DistortionMeshCache.getDiskLoadCount();
+        final DistortionMeshCache.Mesh[] m1 = DistortionMeshCache.get(config, config.defaultEyeParam, DISTORTION_BITS);
+        Assert.assertEquals(2, producer.createCount.get());
+        Assert.assertEquals(diskLoads, DistortionMeshCache.getDiskLoadCount());
+        Assert.assertSame(m0[0], m1[0]);
+        Assert.assertSame(m0[1], m1[1]);
+        Assert.assertEquals(3, m0[0].vertexCount);
+        Assert.assertEquals(3, m0[0].indexCount);
+        Assert.assertEquals(6, m0[0].compsPerElement);
+    }
+
+    @Test
+    public void test02DiskStoreLoad() {
+        Assume.assumeTrue(hasDiskCache());
+        final MockProducer producer = new MockProducer();
+        final GenericStereoDeviceConfig config = createConfig("test02", producer);
+        final List<File> before = listFiles();
+        final DistortionMeshCache.Mesh[] m0 = DistortionMeshCache.get(config, config.defaultEyeParam, DISTORTION_BITS);
+        Assert.assertEquals(2, producer.createCount.get());
+        Assert.assertEquals(before.size() + 2, listFiles().size());
+
+        DistortionMeshCache.clearMemory();
+        final long diskLoads = DistortionMeshCache.getDiskLoadCount();
+        final DistortionMeshCache.Mesh[] m1 = DistortionMeshCache.get(config, config.defaultEyeParam, DISTORTION_BITS);
+        Assert.assertEquals(2, producer.createCount.get());
+        Assert.assertEquals(diskLoads + 2, DistortionMeshCache.getDiskLoadCount());
+        for(int i=0; i<2; i++) {
+            Assert.assertNotSame(m0[i], m1[i]);
+            Assert.assertEquals(m0[i].compsPerElement, m1[i].compsPerElement);
+            Assert.assertEquals(m0[i].vertexCount, m1[i].vertexCount);
+            Assert.assertEquals(m0[i].indexCount, m1[i].indexCount);
+            Assert.assertArrayEquals(toArray(m0[i].getVertices()), toArray(m1[i].getVertices()), 0f);
+            Assert.assertEquals(m0[i].getIndices(), m1[i].getIndices());
+        }
+    }
+
+    @Test
+    public void test03KeyMismatch() throws IOException {
+        Assume.assumeTrue(hasDiskCache());
+        final MockProducer producer = new MockProducer();
+        final EyeParameter[] eye0 = new EyeParameter[] { createConfig("x", producer).defaultEyeParam[0] };
+        final GenericStereoDeviceConfig configA = createConfig("test03a", producer);
+        final GenericStereoDeviceConfig configB = createConfig("test03b", producer);
+
+        List<File> before = listFiles();
+        DistortionMeshCache.get(configA, eye0, DISTORTION_BITS);
+        final File fileA = getNewFile(before);
+        before = listFiles();
+        DistortionMeshCache.get(configB, eye0, DISTORTION_BITS);
+        final File fileB = getNewFile(before);
+        Assert.assertEquals(2, producer.createCount.get());
+
+        // B's file holding A's mesh, as if their file names collide
+        writeFile(fileB, readFile(fileA));
+        DistortionMeshCache.clearMemory();
+        final long diskLoads = DistortionMeshCache.getDiskLoadCount();
+        DistortionMeshCache.get(configB, eye0, DISTORTION_BITS);
+        Assert.assertEquals(3, producer.createCount.get());
+        Assert.assertEquals(diskLoads, DistortionMeshCache.getDiskLoadCount());
+    }
+
+    @Test
+    public void test04CorruptFile() throws IOException {
+        Assume.assumeTrue(hasDiskCache());
+        final MockProducer producer = new MockProducer();
+        final GenericStereoDeviceConfig config = createConfig("test04", producer);
+        final EyeParameter[] eye0 = new EyeParameter[] { config.defaultEyeParam[0] };
+        final List<File> before = listFiles();
+        DistortionMeshCache.get(config, eye0, DISTORTION_BITS);
+        final File file = getNewFile(before);
+        final byte[] valid = readFile(file);
+
+        final ByteBuffer negKeyLen = ByteBuffer.wrap(Arrays.copyOf(valid, valid.length)).order(ByteOrder.LITTLE_ENDIAN);
+        negKeyLen.putInt(8, -5);
+        final ByteBuffer hugeKeyLen = ByteBuffer.wrap(Arrays.copyOf(valid, valid.length)).order(ByteOrder.LITTLE_ENDIAN);
+        hugeKeyLen.putInt(8, Integer.MAX_VALUE);
+        final ByteBuffer hugeCounts = ByteBuffer.wrap(Arrays.copyOf(valid, valid.length)).order(ByteOrder.LITTLE_ENDIAN);
+        final int countsPos = ( 3 * 4 + hugeCounts.getInt(8) + 3 ) & ~3;
+        hugeCounts.putInt(countsPos, 1 << 20).putInt(countsPos + 4, 1 << 20);
+        final byte[][] corrupt = new byte[][] {
+            Arrays.copyOf(valid, 6),                 // truncated header
+            negKeyLen.array(),                       // NegativeArraySizeException w/o validation
+            hugeKeyLen.array(),                      // BufferUnderflowException w/o validation
+            Arrays.copyOf(valid, countsPos + 2),     // truncated counts
+            hugeCounts.array(),                      // int overflow of data size
+            Arrays.copyOf(valid, valid.length - 4),  // truncated data
+        };
+        int expCreateCount = producer.createCount.get();
+        for(int i=0; i<corrupt.length; i++) {
+            writeFile(file, corrupt[i]);
+            DistortionMeshCache.clearMemory();
+            final long diskLoads = DistortionMeshCache.getDiskLoadCount();
+            final DistortionMeshCache.Mesh[] m = DistortionMeshCache.get(config, eye0, DISTORTION_BITS);
+            Assert.assertEquals("corrupt #"+i, ++expCreateCount, producer.createCount.get());
+            Assert.assertEquals("corrupt #"+i, diskLoads, DistortionMeshCache.getDiskLoadCount());
+            Assert.assertEquals(3, m[0].vertexCount);
+        }
+        // valid file re-stored
+        DistortionMeshCache.clearMemory();
+        DistortionMeshCache.get(config, eye0, DISTORTION_BITS);
+        Assert.assertEquals(expCreateCount, producer.createCount.get());
+    }
+
+    @Test
+    public void test05MemoryBound() {
+        final MockProducer producer = new MockProducer();
+        DistortionMeshCache.clearMemory();
+        for(int i=0; i<=DistortionMeshCache.MAX_MEMORY_MESHES; i++) {
+            final GenericStereoDeviceConfig config = createConfig("test05-"+i, producer);
+            DistortionMeshCache.get(config, config.defaultEyeParam, DISTORTION_BITS);
+            Assert.assertTrue(DistortionMeshCache.MAX_MEMORY_MESHES >= DistortionMeshCache.getMemoryMeshCount());
+        }
+        Assert.assertEquals(DistortionMeshCache.MAX_MEMORY_MESHES, DistortionMeshCache.getMemoryMeshCount());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestDistortionMeshCacheNOUI.class.getName());
+    }
+}
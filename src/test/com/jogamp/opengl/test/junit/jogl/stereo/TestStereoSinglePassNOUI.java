@@ -0,0 +1,204 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.stereo;
+
+import java.nio.FloatBuffer;
+
+import com.jogamp.nativewindow.util.Dimension;
+import com.jogamp.nativewindow.util.DimensionImmutable;
+import com.jogamp.nativewindow.util.Rectangle;
+import com.jogamp.nativewindow.util.RectangleImmutable;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.math.FovHVHalves;
+import com.jogamp.opengl.math.Vec3f;
+import com.jogamp.opengl.util.stereo.EyeParameter;
+import com.jogamp.opengl.util.stereo.StereoDevice;
+import com.jogamp.opengl.util.stereo.StereoDeviceRenderer;
+import com.jogamp.opengl.util.stereo.StereoSinglePass;
+import com.jogamp.opengl.util.stereo.StereoSinglePassAccess;
+import com.jogamp.opengl.util.stereo.ViewerPose;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link StereoSinglePass}'s per eye NDC viewport transform and its clip plane edges,
+ * as well as the eye count dependent vertex shader code.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestStereoSinglePassNOUI extends JunitTracer {
+    static final float EPSILON = 1e-6f;
+
+    static class MockEye implements StereoDeviceRenderer.Eye {
+        final RectangleImmutable viewport;
+        final EyeParameter eyeParam;
+        MockEye(final int number, final RectangleImmutable viewport) {
+            this.viewport = viewport;
+            this.eyeParam = new EyeParameter(number, new Vec3f(), new FovHVHalves(1f, 1f, 1f, 1f, true), 0f, 0f, 0f);
+        }
+        @Override
+        public RectangleImmutable getViewport() { return viewport; }
+        @Override
+        public EyeParameter getEyeParameter() { return eyeParam; }
+    }
+
+    static StereoDeviceRenderer createRenderer(final DimensionImmutable totalSize, final RectangleImmutable[] viewports) {
+        final MockEye[] eyes = new MockEye[viewports.length];
+        final DimensionImmutable[] eyeSizes = new DimensionImmutable[viewports.length];
+        for(int i=0; i<viewports.length; i++) {
+            eyes[i] = new MockEye(i, viewports[i]);
+            eyeSizes[i] = new Dimension(viewports[i].getWidth(), viewports[i].getHeight());
+        }
+        final ViewerPose pose = new ViewerPose();
+        return new StereoDeviceRenderer() {
+            @Override
+            public StereoDevice getDevice() { return null; }
+            @Override
+            public Eye getEye(final int eyeNum) { return eyes[eyeNum]; }
+            @Override
+            public ViewerPose updateViewerPose() { return pose; }
+            @Override
+            public ViewerPose getLastViewerPose() { return pose; }
+            @Override
+            public int getDistortionBits() { return 0; }
+            @Override
+            public boolean usesSideBySideStereo() { return true; }
+            @Override
+            public DimensionImmutable[] getEyeSurfaceSize() { return eyeSizes; }
+            @Override
+            public DimensionImmutable getTotalSurfaceSize() { return totalSize; }
+            @Override
+            public int getTextureCount() { return 1; }
+            @Override
+            public int getTextureUnit() { return 0; }
+            @Override
+            public void init(final GL gl) { }
+            @Override
+            public void dispose(final GL gl) { }
+            @Override
+            public void beginFrame(final GL gl) { }
+            @Override
+            public void endFrame(final GL gl) { }
+            @Override
+            public boolean ppAvailable() { return false; }
+            @Override
+            public void ppBegin(final GL gl) { }
+            @Override
+            public void ppOneEye(final GL gl, final int eyeNum) { }
+            @Override
+            public void ppEnd(final GL gl) { }
+        };
+    }
+
+    static float[] getViewports(final StereoSinglePass sp) {
+        final FloatBuffer fb = (FloatBuffer) sp.getViewportUniform().getBuffer();
+        final float[] res = new float[4 * sp.getEyeCount()];
+        fb.get(res);
+        fb.rewind();
+        return res;
+    }
+
+    /**
+     * Returns the clip distances of the given clip coordinates within eye <code>i</code>
+     * as computed by {@link StereoSinglePass#getVertexShaderCode(int)}.
+     */
+    static float[] clipDistances(final float[] vp, final int i, final float x, final float y, final float w) {
+        final float sx = vp[4*i+0], sy = vp[4*i+1], ox = vp[4*i+2], oy = vp[4*i+3];
+        final float px = x * sx + ox * w;
+        final float py = y * sy + oy * w;
+        return new float[] { px - ( ox - sx ) * w, ( ox + sx ) * w - px,
+                             py - ( oy - sy ) * w, ( oy + sy ) * w - py };
+    }
+
+    @Test
+    public void test01SideBySideViewport() {
+        final StereoSinglePass sp = StereoSinglePassAccess.create(2);
+        StereoSinglePassAccess.update(sp, createRenderer(new Dimension(1280, 800),
+                new RectangleImmutable[] { new Rectangle(0, 0, 640, 800), new Rectangle(640, 0, 640, 800) }), new ViewerPose());
+        final float[] vp = getViewports(sp);
+        Assert.assertArrayEquals(new float[] { 0.5f, 1f, -0.5f, 0f,
+                                               0.5f, 1f,  0.5f, 0f }, vp, EPSILON);
+
+        // eye NDC edges map onto the eye's half of the surface and lie on its clip planes
+        for(int i=0; i<2; i++) {
+            final float[] lb = clipDistances(vp, i, -1f, -1f, 1f);
+            final float[] rt = clipDistances(vp, i,  1f,  1f, 1f);
+            Assert.assertEquals(0f, lb[0], EPSILON);
+            Assert.assertEquals(0f, lb[2], EPSILON);
+            Assert.assertEquals(0f, rt[1], EPSILON);
+            Assert.assertEquals(0f, rt[3], EPSILON);
+            final float[] c = clipDistances(vp, i, 0f, 0f, 1f);
+            for(int j=0; j<StereoSinglePass.CLIP_DISTANCE_COUNT; j++) {
+                Assert.assertTrue(c[j] > 0f);
+            }
+        }
+        // beyond the left eye's right edge is clipped, i.e. does not bleed into the right eye
+        Assert.assertTrue(clipDistances(vp, 0, 1.01f, 0f, 1f)[1] < 0f);
+        Assert.assertTrue(clipDistances(vp, 1, -1.01f, 0f, 1f)[0] < 0f);
+        // clip planes scale w/ w
+        Assert.assertEquals(0f, clipDistances(vp, 1, 2f, 0f, 2f)[1], EPSILON);
+    }
+
+    @Test
+    public void test02OffsetViewport() {
+        // eyes stacked vertically w/ a border
+        final StereoSinglePass sp = StereoSinglePassAccess.create(2);
+        StereoSinglePassAccess.update(sp, createRenderer(new Dimension(400, 400),
+                new RectangleImmutable[] { new Rectangle(100, 0, 200, 200), new Rectangle(100, 200, 200, 200) }), new ViewerPose());
+        final float[] vp = getViewports(sp);
+        Assert.assertArrayEquals(new float[] { 0.5f, 0.5f, 0f, -0.5f,
+                                               0.5f, 0.5f, 0f,  0.5f }, vp, EPSILON);
+        Assert.assertEquals(0f, clipDistances(vp, 0, 1f, 1f, 1f)[3], EPSILON);
+        Assert.assertTrue(clipDistances(vp, 0, 0f, 1.01f, 1f)[3] < 0f);
+        Assert.assertEquals(0f, clipDistances(vp, 1, -1f, -1f, 1f)[2], EPSILON);
+    }
+
+    @Test
+    public void test03VertexShaderCode() {
+        final StereoSinglePass sp = StereoSinglePassAccess.create(3);
+        final String code = sp.getVertexShaderCode();
+        Assert.assertTrue(code.contains(StereoSinglePass.UNIFORM_PROJECTION+"[3];"));
+        Assert.assertTrue(code.contains(StereoSinglePass.UNIFORM_MODELVIEW+"[3];"));
+        Assert.assertTrue(code.contains(StereoSinglePass.UNIFORM_VIEWPORT+"[3];"));
+        Assert.assertEquals(code, StereoSinglePass.getVertexShaderCode(3));
+        Assert.assertEquals(3*4, sp.getViewportUniform().getBuffer().limit());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void test04InvalidEyeCount() {
+        StereoSinglePassAccess.create(0);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestStereoSinglePassNOUI.class.getName());
+    }
+}
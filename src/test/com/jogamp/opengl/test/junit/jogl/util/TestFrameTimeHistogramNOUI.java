@@ -0,0 +1,134 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import com.jogamp.opengl.util.FrameTimeHistogram;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link FrameTimeHistogram} percentiles within the bucket precision
+ * and lock-free concurrent recording.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFrameTimeHistogramNOUI extends JunitTracer {
+    static final double precision = 1.0 / FrameTimeHistogram.SUB_BUCKETS;
+
+    static void assertNear(final long exp, final long has) {
+        Assert.assertEquals("value "+has+" not near "+exp, exp, has, exp * precision);
+    }
+
+    @Test
+    public void test01Empty() {
+        final FrameTimeHistogram h = new FrameTimeHistogram();
+        final FrameTimeHistogram.Snapshot s = h.getSnapshot();
+        Assert.assertEquals(0, s.getCount());
+        Assert.assertEquals(0, s.getMin());
+        Assert.assertEquals(0, s.getMax());
+        Assert.assertEquals(0, s.getP99());
+        Assert.assertEquals(0.0, s.getMean(), 0.0);
+    }
+
+    @Test
+    public void test02Percentiles() {
+        final FrameTimeHistogram h = new FrameTimeHistogram();
+        final long ms = 1000000L;
+        for(int i=1; i<=1000; i++) {
+            h.record(i * ms);
+        }
+        h.record(-1); // ignored
+        final FrameTimeHistogram.Snapshot s = h.getSnapshot();
+        System.err.println(s);
+        Assert.assertEquals(1000, s.getCount());
+        Assert.assertEquals(1 * ms, s.getMin());
+        Assert.assertEquals(1000 * ms, s.getMax());
+        Assert.assertEquals(500.5 * ms, s.getMean(), 1.0);
+        assertNear(500 * ms, s.getP50());
+        assertNear(990 * ms, s.getP99());
+        assertNear(999 * ms, s.getP999());
+        Assert.assertEquals(s.getMin(), s.getPercentile(0));
+        Assert.assertEquals(s.getMax(), s.getPercentile(100));
+
+        h.reset();
+        Assert.assertEquals(0, h.getSnapshot().getCount());
+    }
+
+    @Test
+    public void test03Stutter() {
+        final FrameTimeHistogram h = new FrameTimeHistogram();
+        final long frame = 16666667L;
+        for(int i=0; i<10000; i++) {
+            h.record( 0 == i % 200 ? 5 * frame : frame );
+        }
+        final FrameTimeHistogram.Snapshot s = h.getSnapshot();
+        System.err.println(s);
+        assertNear(frame, s.getP50());
+        assertNear(frame, s.getP99());
+        assertNear(5 * frame, s.getP999());
+        Assert.assertEquals(5 * frame, s.getMax());
+    }
+
+    @Test
+    public void test04Concurrent() throws InterruptedException {
+        final FrameTimeHistogram h = new FrameTimeHistogram();
+        final int threadCount = 4;
+        final int loops = 100000;
+        final Thread[] threads = new Thread[threadCount];
+        for(int t=0; t<threadCount; t++) {
+            final long v = ( t + 1 ) * 1000L;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int i=0; i<loops; i++) {
+                        h.record(v);
+                    }
+                } }, "Recorder-"+t);
+            threads[t].start();
+        }
+        for(int t=0; t<threadCount; t++) {
+            h.getSnapshot(); // concurrent read
+        }
+        for(int t=0; t<threadCount; t++) {
+            threads[t].join();
+        }
+        final FrameTimeHistogram.Snapshot s = h.getSnapshot();
+        Assert.assertEquals(threadCount * loops, s.getCount());
+        Assert.assertEquals(1000L, s.getMin());
+        Assert.assertEquals(threadCount * 1000L, s.getMax());
+        Assert.assertEquals(2500.0, s.getMean(), 0.001);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFrameTimeHistogramNOUI.class.getName());
+    }
+}
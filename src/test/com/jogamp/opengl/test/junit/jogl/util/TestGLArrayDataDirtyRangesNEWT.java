@@ -0,0 +1,204 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.TraceGL2;
+import com.jogamp.opengl.test.junit.util.NEWTGLContext;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.GLArrayDataServer;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the sub-range VBO uploads of {@link GLArrayDataServer#setSubRangeUpload(boolean)}
+ * against the GL buffer object, i.e. the issued <code>glBufferData</code> and <code>glBufferSubData</code> calls
+ * and the buffer content read back.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLArrayDataDirtyRangesNEWT extends UITestCase {
+
+    /** Records <code>glBufferData</code> and <code>glBufferSubData</code> calls as <code>{ size }</code> and <code>{ offset, size }</code>. */
+    static class BufferUploadTraceGL2 extends TraceGL2 {
+        final ArrayList<long[]> bufferData = new ArrayList<long[]>();
+        final ArrayList<long[]> bufferSubData = new ArrayList<long[]>();
+
+        BufferUploadTraceGL2(final GL2 downstreamGL2) {
+            super(downstreamGL2, new PrintStream(new OutputStream(){ public void write(final int b){}}));
+        }
+        void clear() {
+            bufferData.clear();
+            bufferSubData.clear();
+        }
+        @Override
+        public void glBufferData(final int target, final long size, final Buffer data, final int usage) {
+            bufferData.add(new long[] { size });
+            super.glBufferData(target, size, data, usage);
+        }
+        @Override
+        public void glBufferSubData(final int target, final long offset, final long size, final Buffer data) {
+            bufferSubData.add(new long[] { offset, size });
+            super.glBufferSubData(target, offset, size, data);
+        }
+    }
+
+    static void upload(final GL gl, final GLArrayDataServer ad) {
+        ad.bindBuffer(gl, true);
+        ad.bindBuffer(gl, false);
+    }
+
+    static int getBufferSize(final GL2 gl, final GLArrayDataServer ad) {
+        final int[] res = { 0 };
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ad.getVBOName());
+        gl.glGetBufferParameteriv(GL.GL_ARRAY_BUFFER, GL.GL_BUFFER_SIZE, res, 0);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+        return res[0];
+    }
+
+    static float[] readBack(final GL2 gl, final GLArrayDataServer ad, final int count) {
+        final FloatBuffer fb = Buffers.newDirectFloatBuffer(count);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ad.getVBOName());
+        gl.glGetBufferSubData(GL.GL_ARRAY_BUFFER, 0, count * Buffers.SIZEOF_FLOAT, fb);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+        final float[] res = new float[count];
+        fb.get(res);
+        return res;
+    }
+
+    static void assertSingleSubData(final BufferUploadTraceGL2 gl, final long offset, final long size) {
+        Assert.assertEquals(1, gl.bufferSubData.size());
+        Assert.assertEquals(offset, gl.bufferSubData.get(0)[0]);
+        Assert.assertEquals(size, gl.bufferSubData.get(0)[1]);
+    }
+
+    /** Sub-range upload w/o reallocating the buffer storage. */
+    static void assertSubData(final BufferUploadTraceGL2 gl, final long offset, final long size) {
+        Assert.assertEquals(0, gl.bufferData.size());
+        assertSingleSubData(gl, offset, size);
+    }
+
+    /** Whole buffer upload into newly allocated capacity sized buffer storage. */
+    static void assertFullUpload(final BufferUploadTraceGL2 gl, final GLArrayDataServer ad) {
+        final long capacityBytes = ad.getBuffer().capacity() * Buffers.SIZEOF_FLOAT;
+        Assert.assertEquals(1, gl.bufferData.size());
+        Assert.assertEquals(capacityBytes, gl.bufferData.get(0)[0]);
+        assertSingleSubData(gl, 0, ad.getBuffer().limit() * Buffers.SIZEOF_FLOAT);
+        Assert.assertEquals(capacityBytes, getBufferSize(gl, ad));
+    }
+
+    @Test
+    public void test01AppendPatchGrow() throws InterruptedException {
+        Assume.assumeTrue(GLProfile.isAvailable(GLProfile.GL2));
+        final GLCapabilities caps = new GLCapabilities(GLProfile.get(GLProfile.GL2));
+        final NEWTGLContext.WindowContext winctx = NEWTGLContext.createWindow(caps, 64, 64, false);
+        try {
+            final BufferUploadTraceGL2 gl = new BufferUploadTraceGL2(winctx.context.getGL().getGL2());
+            final GLArrayDataServer ad = GLArrayDataServer.createData(2, GL.GL_FLOAT, 4, GL.GL_DYNAMIC_DRAW, GL.GL_ARRAY_BUFFER);
+            ad.setSubRangeUpload(true);
+            for(int i=0; i<3; i++) {
+                ad.putf(i); ad.putf(i);
+            }
+            ad.seal(true);
+
+            // initial: capacity sized glBufferData, limit sized glBufferSubData
+            upload(gl, ad);
+            assertFullUpload(gl, ad);
+            Assert.assertEquals(6 * Buffers.SIZEOF_FLOAT, ad.getUploadedByteCount());
+            final int capacity = ad.getBuffer().capacity();
+            Assert.assertTrue(capacity >= 8);
+
+            // append one element within capacity
+            gl.clear();
+            ad.resetUploadStats();
+            ad.seal(false);
+            ad.putf(3); ad.putf(3);
+            ad.seal(true);
+            Assert.assertEquals(capacity, ad.getBuffer().capacity());
+            upload(gl, ad);
+            assertSubData(gl, 6 * Buffers.SIZEOF_FLOAT, 2 * Buffers.SIZEOF_FLOAT);
+            Assert.assertEquals(2 * Buffers.SIZEOF_FLOAT, ad.getUploadedByteCount());
+            Assert.assertEquals(1, ad.getUploadCount());
+
+            // patch element 1, modify element 3 w/o marking it dirty
+            gl.clear();
+            ad.resetUploadStats();
+            final FloatBuffer fb = (FloatBuffer) ad.getBuffer();
+            fb.put(2, 9f).put(3, 9f);
+            fb.put(6, 7f);
+            ad.markDirty(2, 2);
+            upload(gl, ad);
+            assertSubData(gl, 2 * Buffers.SIZEOF_FLOAT, 2 * Buffers.SIZEOF_FLOAT);
+            Assert.assertEquals(2 * Buffers.SIZEOF_FLOAT, ad.getUploadedByteCount());
+            Assert.assertArrayEquals(new float[] { 0, 0, 9, 9, 2, 2, 3, 3 }, readBack(gl, ad, 8), 0f);
+
+            // append beyond capacity, growing the client buffer: whole buffer uploaded
+            gl.clear();
+            ad.resetUploadStats();
+            ad.seal(false);
+            final int grownElements = capacity / 2 + 1;
+            for(int i=4; i<grownElements; i++) {
+                ad.putf(i); ad.putf(i);
+            }
+            ad.seal(true);
+            Assert.assertTrue(capacity < ad.getBuffer().capacity());
+            upload(gl, ad);
+            assertFullUpload(gl, ad);
+            Assert.assertEquals(2 * grownElements * Buffers.SIZEOF_FLOAT, ad.getUploadedByteCount());
+            final float[] expected = new float[2 * grownElements];
+            for(int i=0; i<grownElements; i++) {
+                expected[2*i] = expected[2*i+1] = i;
+            }
+            expected[2] = expected[3] = 9f;
+            expected[6] = 7f; // unmarked modification uploaded w/ the whole buffer
+            Assert.assertArrayEquals(expected, readBack(gl, ad, expected.length), 0f);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+
+            ad.destroy(gl);
+        } finally {
+            NEWTGLContext.destroyWindow(winctx);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLArrayDataDirtyRangesNEWT.class.getName());
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.util.GLArrayDataClient;
+import com.jogamp.opengl.util.GLArrayDataServer;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the {@link GLArrayDataClient} dirty range tracking used for sub-range uploads.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLArrayDataDirtyRangesNOUI extends JunitTracer {
+
+    static GLArrayDataServer create(final int elements) {
+        final GLArrayDataServer ad = GLArrayDataServer.createGLSL("vertices", 2, GL.GL_FLOAT, false, 4, GL.GL_DYNAMIC_DRAW);
+        ad.setSubRangeUpload(true);
+        for(int i=0; i<elements; i++) {
+            ad.putf(i); ad.putf(i);
+        }
+        return ad;
+    }
+
+    @Test
+    public void test01Coalesce() {
+        final GLArrayDataServer ad = create(5);
+        ad.seal(true);
+        Assert.assertTrue(ad.getSubRangeUpload());
+        Assert.assertFalse(ad.isVBOWritten());
+        Assert.assertEquals(1, ad.getDirtyRangeCount()); // [0, 10)
+
+        ad.markDirty(20, 2);
+        ad.markDirty(14, 2);
+        Assert.assertEquals(3, ad.getDirtyRangeCount());
+        ad.markDirty(16, 4); // adjacent to [14, 16) and [20, 22)
+        Assert.assertEquals(2, ad.getDirtyRangeCount());
+        ad.markDirty(5, 10); // overlapping all
+        Assert.assertEquals(1, ad.getDirtyRangeCount());
+    }
+
+    @Test
+    public void test02Fragmented() {
+        final GLArrayDataServer ad = create(1);
+        ad.seal(true);
+        Assert.assertEquals(1, ad.getDirtyRangeCount());
+        for(int i=1; i<GLArrayDataClient.MAX_DIRTY_RANGES; i++) {
+            ad.markDirty(10*i, 1);
+        }
+        Assert.assertEquals(GLArrayDataClient.MAX_DIRTY_RANGES, ad.getDirtyRangeCount());
+        ad.markDirty(1000, 1);
+        Assert.assertEquals(1, ad.getDirtyRangeCount());
+    }
+
+    @Test
+    public void test03Append() {
+        final GLArrayDataServer ad = create(3);
+        ad.seal(true);
+        ad.seal(false);
+        ad.putf(10); ad.putf(10);
+        ad.seal(true);
+        Assert.assertEquals(1, ad.getDirtyRangeCount()); // [0, 8) coalesced
+        Assert.assertEquals(8, ad.getBuffer().limit());
+
+        ad.clear();
+        Assert.assertEquals(0, ad.getDirtyRangeCount());
+        Assert.assertEquals(0, ad.getUploadedByteCount());
+        Assert.assertEquals(0, ad.getUploadCount());
+    }
+
+    @Test
+    public void test04Disabled() {
+        final GLArrayDataServer ad = create(2);
+        ad.setSubRangeUpload(false);
+        ad.seal(true);
+        ad.markDirty(0, 2);
+        Assert.assertEquals(0, ad.getDirtyRangeCount());
+        Assert.assertFalse(ad.isVBOWritten());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLArrayDataDirtyRangesNOUI.class.getName());
+    }
+}
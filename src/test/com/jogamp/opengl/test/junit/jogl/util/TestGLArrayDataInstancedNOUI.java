@@ -0,0 +1,96 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLArrayData;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.util.GLArrayDataServer;
+import com.jogamp.opengl.util.GLArrayDataWrapper;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the {@link GLArrayData#getVertexAttribDivisor() vertex attribute divisor} of per-instance {@link GLArrayDataServer}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLArrayDataInstancedNOUI extends JunitTracer {
+
+    @Test
+    public void test01Default() {
+        final GLArrayDataServer ad = GLArrayDataServer.createGLSL("vertices", 3, GL.GL_FLOAT, false, 4, GL.GL_STATIC_DRAW);
+        Assert.assertEquals(0, ad.getVertexAttribDivisor());
+    }
+
+    @Test
+    public void test02Instanced() {
+        final GLArrayDataServer ad = GLArrayDataServer.createGLSLInstanced("offsets", 3, GL.GL_FLOAT, false, 4, GL.GL_STATIC_DRAW, 2);
+        Assert.assertEquals(2, ad.getVertexAttribDivisor());
+        Assert.assertTrue(ad.isVertexAttribute());
+
+        final GLArrayDataServer copy = new GLArrayDataServer(ad);
+        Assert.assertEquals(2, copy.getVertexAttribDivisor());
+
+        ad.setVertexAttribDivisor(0);
+        Assert.assertEquals(0, ad.getVertexAttribDivisor());
+        Assert.assertEquals(2, copy.getVertexAttribDivisor());
+    }
+
+    @Test
+    public void test03InterleavedInherits() {
+        final GLArrayDataServer ad = GLArrayDataServer.createGLSLInterleavedInstanced(3+4, GL.GL_FLOAT, false, 4, GL.GL_STATIC_DRAW, 1);
+        final GLArrayDataWrapper offsets = ad.addGLSLSubArray("offsets", 3, GL.GL_ARRAY_BUFFER);
+        final GLArrayDataWrapper colors = ad.addGLSLSubArray("colors", 4, GL.GL_ARRAY_BUFFER);
+        Assert.assertEquals(1, offsets.getVertexAttribDivisor());
+        Assert.assertEquals(1, colors.getVertexAttribDivisor());
+    }
+
+    @Test
+    public void test04Invalid() {
+        try {
+            GLArrayDataServer.createGLSLInstanced("offsets", 3, GL.GL_FLOAT, false, 4, GL.GL_STATIC_DRAW, 0);
+            Assert.fail("zero divisor accepted");
+        } catch (final GLException e) { }
+
+        final GLArrayDataServer indices = GLArrayDataServer.createData(3, GL.GL_SHORT, 4, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
+        try {
+            indices.setVertexAttribDivisor(1);
+            Assert.fail("divisor accepted for non vertex attribute");
+        } catch (final GLException e) { }
+        Assert.assertEquals(0, indices.getVertexAttribDivisor());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLArrayDataInstancedNOUI.class.getName());
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.nio.ByteBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+import com.jogamp.opengl.util.PMVMatrix;
+import com.jogamp.opengl.util.gl2.GLUT;
+import com.jogamp.opengl.util.gl2.GLUTTextRenderer;
+import com.jogamp.opengl.test.junit.util.NEWTGLContext;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the {@link GLUTTextRenderer} follows a changed {@link PMVMatrix} between draws
+ * and leaves the matrix' synced buffer untouched.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLUTTextRenderer01NEWT extends UITestCase {
+
+    /** Returns the number of lit pixels within [x0, x1) of the current read buffer. */
+    static int countLitPixels(final GL gl, final ByteBuffer pixels, final int width, final int height, final int x0, final int x1) {
+        pixels.clear();
+        gl.glReadPixels(0, 0, width, height, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, pixels);
+        int count = 0;
+        for(int y=0; y<height; y++) {
+            for(int x=x0; x<x1; x++) {
+                if( 0 != ( pixels.get( ( y*width + x ) * 4 ) & 0xff ) ) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void test01ChangedMatrix() throws InterruptedException {
+        final NEWTGLContext.WindowContext winctx = NEWTGLContext.createWindow(
+                new GLCapabilities(GLProfile.getGL2ES2()), 256, 128, true);
+        final GLDrawable drawable = winctx.context.getGLDrawable();
+        final GL2ES2 gl = winctx.context.getGL().getGL2ES2();
+        final int width = drawable.getSurfaceWidth();
+        final int height = drawable.getSurfaceHeight();
+        final int half = width / 2;
+        final ByteBuffer pixels = Buffers.newDirectByteBuffer(width * height * 4);
+
+        final GLUTTextRenderer renderer = new GLUTTextRenderer(0);
+        renderer.init(gl);
+        renderer.setColor(1f, 1f, 1f, 1f);
+
+        final PMVMatrix pmv = new PMVMatrix();
+        pmv.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        pmv.glLoadIdentity();
+        pmv.glOrthof(0f, width, 0f, height, -1f, 1f);
+        pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        gl.glViewport(0, 0, width, height);
+        gl.glClearColor(0f, 0f, 0f, 1f);
+        final float scale = ( half - 8f ) / GLUTTextRenderer.glutStrokeLengthf(GLUT.STROKE_ROMAN, "M");
+
+        for(int i=0; i<3; i++) {
+            final boolean left = 0 == i % 2;
+            pmv.glLoadIdentity();
+            pmv.glTranslatef(left ? 4f : half + 4f, 4f, 0f);
+            pmv.glScalef(scale, scale, 1f);
+
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+            renderer.drawStrokeString(gl, pmv, GLUT.STROKE_ROMAN, 0f, 0f, "M");
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            Assert.assertTrue(0 < renderer.getLastDrawCount());
+            Assert.assertEquals(0, pmv.getSyncPMvMat().getSyncFloats().position());
+
+            final int litLeft = countLitPixels(gl, pixels, width, height, 0, half);
+            final int litRight = countLitPixels(gl, pixels, width, height, half, width);
+            System.err.println("Frame "+i+": left "+litLeft+", right "+litRight);
+            if( left ) {
+                Assert.assertTrue(0 < litLeft);
+                Assert.assertEquals(0, litRight);
+            } else {
+                Assert.assertEquals(0, litLeft);
+                Assert.assertTrue(0 < litRight);
+            }
+            drawable.swapBuffers();
+        }
+
+        renderer.destroy(gl);
+        NEWTGLContext.destroyWindow(winctx);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLUTTextRenderer01NEWT.class.getName());
+    }
+}
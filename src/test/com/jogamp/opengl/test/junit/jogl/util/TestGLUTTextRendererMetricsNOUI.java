@@ -0,0 +1,82 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import com.jogamp.opengl.util.gl2.GLUT;
+import com.jogamp.opengl.util.gl2.GLUTTextRenderer;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the {@link GLUTTextRenderer} metrics, which must match the {@link GLUT} ones.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLUTTextRendererMetricsNOUI extends JunitTracer {
+    static final String text = "The quick brown fox, 0123456789!";
+
+    @Test
+    public void test01StrokeMetrics() {
+        for(final int font : new int[] { GLUT.STROKE_ROMAN, GLUT.STROKE_MONO_ROMAN }) {
+            float sum = 0;
+            for(int i=0; i<text.length(); i++) {
+                final float w = GLUTTextRenderer.glutStrokeWidthf(font, text.charAt(i));
+                Assert.assertTrue(w > 0f);
+                sum += w;
+            }
+            Assert.assertEquals(sum, GLUTTextRenderer.glutStrokeLengthf(font, text), 0.001f);
+            Assert.assertEquals((int)sum, GLUTTextRenderer.glutStrokeLength(font, text));
+        }
+        // mono font: fixed advance
+        Assert.assertEquals(GLUTTextRenderer.glutStrokeWidthf(GLUT.STROKE_MONO_ROMAN, 'i'),
+                            GLUTTextRenderer.glutStrokeWidthf(GLUT.STROKE_MONO_ROMAN, 'W'), 0f);
+    }
+
+    @Test
+    public void test02BitmapMetrics() {
+        for(int font = GLUT.BITMAP_9_BY_15; font <= GLUT.BITMAP_HELVETICA_18; font++) {
+            int sum = 0;
+            for(int i=0; i<text.length(); i++) {
+                final int w = GLUTTextRenderer.glutBitmapWidth(font, text.charAt(i));
+                Assert.assertTrue(w > 0);
+                sum += w;
+            }
+            Assert.assertEquals(sum, GLUTTextRenderer.glutBitmapLength(font, text));
+        }
+        Assert.assertEquals(9, GLUTTextRenderer.glutBitmapWidth(GLUT.BITMAP_9_BY_15, 'x'));
+        Assert.assertEquals(0, GLUTTextRenderer.glutBitmapWidth(GLUT.BITMAP_9_BY_15, '\u2603'));
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLUTTextRendererMetricsNOUI.class.getName());
+    }
+}
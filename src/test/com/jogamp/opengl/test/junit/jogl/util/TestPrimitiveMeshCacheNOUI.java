@@ -0,0 +1,117 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import com.jogamp.opengl.util.PrimitiveMeshCache;
+import com.jogamp.opengl.util.PrimitiveMeshCache.Geometry;
+
+import com.jogamp.junit.util.JunitTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the {@link PrimitiveMeshCache} geometry: counts, unit normals
+ * and counter-clockwise outward facing triangles.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPrimitiveMeshCacheNOUI extends JunitTracer {
+    static final int N = PrimitiveMeshCache.VERTEX_COMPONENTS;
+
+    static void validate(final Geometry g, final int expVertices, final int expTriangles) {
+        Assert.assertEquals(expVertices, g.getVertexCount());
+        Assert.assertEquals(expTriangles, g.getTriangleCount());
+        final float[] v = g.vertices;
+        for(int i=0; i<g.getVertexCount(); i++) {
+            final float nx = v[i*N+3], ny = v[i*N+4], nz = v[i*N+5];
+            Assert.assertEquals(1f, (float)Math.sqrt(nx*nx + ny*ny + nz*nz), 0.0001f);
+        }
+        int facing = 0, degenerated = 0;
+        for(int t=0; t<g.getTriangleCount(); t++) {
+            final int a = g.indices[t*3]*N, b = g.indices[t*3+1]*N, c = g.indices[t*3+2]*N;
+            final float e1x = v[b]-v[a], e1y = v[b+1]-v[a+1], e1z = v[b+2]-v[a+2];
+            final float e2x = v[c]-v[a], e2y = v[c+1]-v[a+1], e2z = v[c+2]-v[a+2];
+            final float cx = e1y*e2z - e1z*e2y, cy = e1z*e2x - e1x*e2z, cz = e1x*e2y - e1y*e2x;
+            final float len = (float)Math.sqrt(cx*cx + cy*cy + cz*cz);
+            if( len < 1e-6f ) {
+                degenerated++; // pole or center triangles
+                continue;
+            }
+            final float nx = v[a+3]+v[b+3]+v[c+3], ny = v[a+4]+v[b+4]+v[c+4], nz = v[a+5]+v[b+5]+v[c+5];
+            if( cx*nx + cy*ny + cz*nz > 0f ) {
+                facing++;
+            }
+        }
+        Assert.assertEquals(g.getTriangleCount() - degenerated, facing);
+    }
+
+    @Test
+    public void test01Sphere() {
+        validate(PrimitiveMeshCache.createSphere(16, 8), 17*9, 16*8*2);
+    }
+
+    @Test
+    public void test02Cylinder() {
+        validate(PrimitiveMeshCache.createCylinder(1f, 0.5f, 2f, 12, 3), 13*4, 12*3*2);
+        validate(PrimitiveMeshCache.createCylinder(1f, 0f, 2f, 12, 1), 13*2, 12*2); // cone
+    }
+
+    @Test
+    public void test03Disk() {
+        validate(PrimitiveMeshCache.createDisk(0.25f, 1f, 10, 2), 11*3, 10*2*2);
+        validate(PrimitiveMeshCache.createDisk(0f, 1f, 10, 1), 11*2, 10*2);
+    }
+
+    @Test
+    public void test04Torus() {
+        validate(PrimitiveMeshCache.createTorus(0.25f, 1f, 8, 12), 9*13, 8*12*2);
+    }
+
+    @Test
+    public void test05Cube() {
+        validate(PrimitiveMeshCache.createCube(), 24, 12);
+    }
+
+    @Test
+    public void test10InvalidArguments() {
+        final float[][] cylinders = { { 1f, 1f, 0f, 8, 1 }, { 1f, 1f, -1f, 8, 1 }, { 1f, 1f, Float.NaN, 8, 1 },
+                                      { 1f, 1f, 1f, 2, 1 }, { 1f, 1f, 1f, 8, 0 } };
+        for(final float[] c : cylinders) {
+            try {
+                PrimitiveMeshCache.createCylinder(c[0], c[1], c[2], (int)c[3], (int)c[4]);
+                Assert.fail("Accepted cylinder "+java.util.Arrays.toString(c));
+            } catch (final IllegalArgumentException e) { }
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPrimitiveMeshCacheNOUI.class.getName());
+    }
+}
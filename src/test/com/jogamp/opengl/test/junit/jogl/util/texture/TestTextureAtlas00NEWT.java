@@ -0,0 +1,209 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.util.texture.TextureAtlas;
+import com.jogamp.opengl.util.texture.TextureCoords;
+import com.jogamp.opengl.util.texture.TextureData;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Testing {@link TextureAtlas} packing, texture coordinates and LRU page eviction.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextureAtlas00NEWT extends UITestCase {
+
+    static TextureData createImage(final GLProfile glp, final int w, final int h, final boolean flip) {
+        final ByteBuffer bb = Buffers.newDirectByteBuffer(w * h * 4);
+        for(int i=0; i<w*h; i++) {
+            bb.put((byte)0xff).put((byte)i).put((byte)0).put((byte)0xff);
+        }
+        bb.flip();
+        return new TextureData(glp, GL.GL_RGBA, w, h, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, false, false, flip, bb, null);
+    }
+
+    static GLAutoDrawable createDrawable() {
+        return createDrawable(GLProfile.getGL2ES2());
+    }
+
+    static GLAutoDrawable createDrawable(final GLProfile glp) {
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLAutoDrawable glad = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        Assert.assertNotNull(glad);
+        glad.display(); // realize
+        glad.getContext().makeCurrent();
+        return glad;
+    }
+
+    @Test
+    public void test01Packing() {
+        final GLAutoDrawable glad = createDrawable();
+        final GL gl = glad.getGL();
+        try {
+            final TextureAtlas atlas = new TextureAtlas(256, 256, 2, 2, false);
+            final TextureAtlas.SubImage a = atlas.add(gl, "a", createImage(gl.getGLProfile(), 32, 16, false));
+            final TextureAtlas.SubImage b = atlas.add(gl, "b", createImage(gl.getGLProfile(), 16, 32, true));
+            System.err.println(atlas);
+            Assert.assertEquals(1, atlas.getPageCount());
+            Assert.assertEquals(2, atlas.getSubImageCount());
+            Assert.assertSame(a.getTexture(), b.getTexture());
+            Assert.assertSame(a, atlas.get("a"));
+
+            final TextureCoords ta = a.getTexCoords();
+            Assert.assertEquals(32f/256f, ta.right() - ta.left(), 0.0001f);
+            Assert.assertEquals(16f/256f, ta.top() - ta.bottom(), 0.0001f);
+            Assert.assertTrue(ta.left() >= 2f/256f);
+            final TextureCoords tb = b.getTexCoords();
+            Assert.assertEquals(16f/256f, tb.right() - tb.left(), 0.0001f);
+            Assert.assertEquals(32f/256f, tb.bottom() - tb.top(), 0.0001f); // flipped
+            // no overlap incl. padding
+            Assert.assertTrue( ta.right() + 4f/256f <= tb.left() + 0.0001f || tb.right() + 4f/256f <= ta.left() + 0.0001f ||
+                               ta.top() + 4f/256f <= tb.top() + 0.0001f || tb.bottom() + 4f/256f <= ta.bottom() + 0.0001f );
+
+            Assert.assertTrue(atlas.remove("a"));
+            Assert.assertFalse(a.isValid());
+            Assert.assertNull(atlas.get("a"));
+            Assert.assertFalse(atlas.remove("a"));
+
+            try {
+                atlas.add(gl, "c", createImage(gl.getGLProfile(), 254, 16, false));
+                Assert.fail("Image incl. padding exceeding page size accepted");
+            } catch(final IllegalArgumentException iae) { }
+            atlas.destroy(gl);
+            Assert.assertFalse(b.isValid());
+            Assert.assertEquals(0, atlas.getPageCount());
+        } finally {
+            glad.getContext().release();
+            glad.destroy();
+        }
+    }
+
+    @Test
+    public void test02Eviction() {
+        final GLAutoDrawable glad = createDrawable();
+        final GL gl = glad.getGL();
+        try {
+            // one image per page
+            final TextureAtlas atlas = new TextureAtlas(64, 64, 2, 2, true);
+            final TextureAtlas.SubImage a = atlas.add(gl, "a", createImage(gl.getGLProfile(), 40, 40, false));
+            final TextureAtlas.SubImage b = atlas.add(gl, "b", createImage(gl.getGLProfile(), 40, 40, false));
+            Assert.assertEquals(2, atlas.getPageCount());
+            Assert.assertNotSame(a.getTexture(), b.getTexture());
+            atlas.validate(gl);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+
+            atlas.touch(a); // b becomes LRU
+            final TextureAtlas.SubImage c = atlas.add(gl, "c", createImage(gl.getGLProfile(), 40, 40, false));
+            System.err.println(atlas);
+            Assert.assertEquals(2, atlas.getPageCount());
+            Assert.assertEquals(1, atlas.getEvictedPageCount());
+            Assert.assertEquals(1, atlas.getEvictedImageCount());
+            Assert.assertTrue(a.isValid());
+            Assert.assertFalse(b.isValid());
+            Assert.assertTrue(c.isValid());
+            Assert.assertSame(b.getTexture(), c.getTexture());
+
+            final TextureAtlas.Sequence seq = atlas.createSequence(a, 0);
+            Assert.assertTrue(seq.isTextureAvailable());
+            Assert.assertSame(a, seq.getNextTexture(gl));
+            Assert.assertEquals(seq.getTextureFragmentShaderHashCode(), atlas.createSequence(c, 0).getTextureFragmentShaderHashCode());
+            Assert.assertFalse(atlas.createSequence(b, 0).isTextureAvailable());
+            atlas.destroy(gl);
+        } finally {
+            glad.getContext().release();
+            glad.destroy();
+        }
+    }
+
+    static void testMipmap(final GLAutoDrawable glad) {
+        final GL gl = glad.getGL();
+        try {
+            final TextureAtlas atlas = new TextureAtlas(64, 64, 2, 4, true);
+            Assert.assertEquals(2, atlas.getMaxMipmapLevel());
+            final TextureAtlas.SubImage a = atlas.add(gl, "a", createImage(gl.getGLProfile(), 16, 16, false));
+            System.err.println(atlas);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            Assert.assertEquals(gl.isGL2ES3(), atlas.usesMipmap());
+            final int[] minMag = atlas.createSequence(a, 0).getTextureMinMagFilter();
+            Assert.assertEquals(atlas.usesMipmap() ? GL.GL_LINEAR_MIPMAP_LINEAR : GL.GL_LINEAR, minMag[0]);
+            if( atlas.usesMipmap() ) {
+                final IntBuffer maxLevel = Buffers.newDirectIntBuffer(1);
+                a.getTexture().bind(gl);
+                gl.glGetTexParameteriv(GL.GL_TEXTURE_2D, GL2ES3.GL_TEXTURE_MAX_LEVEL, maxLevel);
+                Assert.assertEquals(2, maxLevel.get(0));
+            }
+            atlas.validate(gl);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            atlas.destroy(gl);
+
+            // padding allows no mipmap level w/o bleeding
+            final TextureAtlas atlas1 = new TextureAtlas(64, 64, 1, 1, true);
+            Assert.assertEquals(0, atlas1.getMaxMipmapLevel());
+            atlas1.add(gl, "a", createImage(gl.getGLProfile(), 16, 16, false));
+            Assert.assertFalse(atlas1.usesMipmap());
+            atlas1.validate(gl);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            atlas1.destroy(gl);
+        } finally {
+            glad.getContext().release();
+            glad.destroy();
+        }
+    }
+
+    @Test
+    public void test03MipmapLevels() {
+        testMipmap(createDrawable());
+    }
+
+    @Test
+    public void test04MipmapES2() {
+        Assume.assumeTrue(GLProfile.isAvailable(GLProfile.GLES2));
+        testMipmap(createDrawable(GLProfile.get(GLProfile.GLES2)));
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestTextureAtlas00NEWT.class.getName());
+    }
+}